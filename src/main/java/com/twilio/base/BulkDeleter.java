@@ -0,0 +1,382 @@
+package com.twilio.base;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.RetryPolicy;
+import com.twilio.http.TwilioRestClient;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes large numbers of resources while keeping a bounded number of requests in flight.
+ *
+ * <p>
+ *     SIDs are taken from the iterator only when a slot is free, so a {@link ResourceSet} can be purged while it is
+ *     being read. A resource that no longer exists is counted as already deleted rather than as a failure, so a purge
+ *     can be rerun after it was interrupted.
+ * </p>
+ *
+ * <p>
+ *     Deletes are paced by scheduling their start times, so no thread waits on the pacer. Throttled deletes, server
+ *     errors and connection failures are retried as a {@link RetryPolicy} decides for {@code DELETE} requests.
+ * </p>
+ *
+ * <pre>
+ *     Function&lt;String, Deleter&lt;Recording&gt;&gt; recordings = new Function&lt;String, Deleter&lt;Recording&gt;&gt;() {
+ *         public Deleter&lt;Recording&gt; apply(String sid) {
+ *             return Recording.deleter(sid);
+ *         }
+ *     };
+ *     BulkDeleter&lt;Recording&gt; deleter = new BulkDeleter.Builder&lt;&gt;(recordings).maxInFlight(20).build();
+ * </pre>
+ *
+ * @param <T> type of the resource
+ */
+public class BulkDeleter<T extends Resource> {
+
+    private final TwilioRestClient client;
+    private final Function<String, ? extends Deleter<T>> deleters;
+    private final int maxInFlight;
+    private final double ratePerSecond;
+    private final RetryPolicy retryPolicy;
+    private final long metricsIntervalMillis;
+    private final Listener listener;
+
+    private BulkDeleter(final Builder<T> b) {
+        this.client = b.client;
+        this.deleters = b.deleters;
+        this.maxInFlight = b.maxInFlight;
+        this.ratePerSecond = b.ratePerSecond;
+        this.retryPolicy = b.retryPolicy != null
+            ? b.retryPolicy
+            : new RetryPolicy.Builder()
+                .maxRetries(b.maxAttempts - 1)
+                .backoff(b.baseDelayMillis, b.maxDelayMillis)
+                .retryBudget(Double.MAX_VALUE, 0)
+                .build();
+        this.metricsIntervalMillis = b.metricsIntervalMillis;
+        this.listener = b.listener;
+    }
+
+    /**
+     * Delete every resource of an iterable, returning once all of them have been deleted or have failed.
+     *
+     * @param resources resources to delete
+     * @param sidOf function returning the SID of a resource
+     * @param <R> type of the resources iterated
+     * @return final metrics of the run
+     */
+    public <R> Metrics delete(final Iterable<R> resources, final Function<? super R, String> sidOf) {
+        return delete(Iterators.transform(resources.iterator(), sidOf));
+    }
+
+    /**
+     * Delete every SID of an iterator, returning once all of them have been deleted or have failed.
+     *
+     * @param sids SIDs of the resources to delete
+     * @return final metrics of the run
+     */
+    public Metrics delete(final Iterator<String> sids) {
+        final AtomicLong deleted = new AtomicLong();
+        final AtomicLong notFound = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final BulkDispatcher<String, Boolean> dispatcher = new BulkDispatcher<>(
+            new BulkDispatcher.Handler<String, Boolean>() {
+                @Override
+                public ListenableFuture<Boolean> start(final String sid) {
+                    return deleters.apply(sid).deleteAsync(client);
+                }
+
+                @Override
+                public String paceKey(final String sid) {
+                    return "";
+                }
+
+                @Override
+                public void onSuccess(final String sid, final Boolean result) {
+                    deleted.incrementAndGet();
+                    listener.onDeleted(sid, true);
+                }
+
+                @Override
+                public boolean handled(final String sid, final Throwable cause) {
+                    if (!isNotFound(cause)) {
+                        return false;
+                    }
+
+                    notFound.incrementAndGet();
+                    listener.onDeleted(sid, false);
+                    return true;
+                }
+
+                @Override
+                public void onFailure(final String sid, final Throwable cause, final int attempts) {
+                    failed.incrementAndGet();
+                    listener.onFailed(sid, cause, attempts);
+                }
+            },
+            maxInFlight,
+            ratePerSecond,
+            retryPolicy,
+            HttpMethod.DELETE,
+            "twilio-bulk-deleter-%d"
+        );
+
+        dispatcher.run(sids, new Runnable() {
+            @Override
+            public void run() {
+                listener.onMetrics(snapshot(dispatcher, deleted, notFound, failed));
+            }
+        }, metricsIntervalMillis);
+
+        return snapshot(dispatcher, deleted, notFound, failed);
+    }
+
+    /**
+     * Decide whether a failed delete means the resource no longer exists.
+     *
+     * @param t failure of the delete
+     * @return true for a not found response
+     */
+    protected boolean isNotFound(final Throwable t) {
+        if (t instanceof ApiException) {
+            Integer status = ((ApiException) t).getStatusCode();
+            return status != null && status == 404;
+        }
+
+        return false;
+    }
+
+    private static Metrics snapshot(final BulkDispatcher<?, ?> dispatcher, final AtomicLong deleted,
+                                    final AtomicLong notFound, final AtomicLong failed) {
+        return new Metrics(
+            dispatcher.getSubmitted(),
+            deleted.get(),
+            notFound.get(),
+            failed.get(),
+            dispatcher.getRetried(),
+            dispatcher.getInFlight(),
+            dispatcher.getElapsedMillis()
+        );
+    }
+
+    /**
+     * Receives the outcome of each delete and periodic metrics. Methods are called from request threads and must
+     * not block for long.
+     */
+    public abstract static class Listener {
+
+        /**
+         * Called when a resource is gone.
+         *
+         * @param sid SID of the resource
+         * @param existed false if the resource had already been deleted
+         */
+        public void onDeleted(final String sid, final boolean existed) {
+        }
+
+        /**
+         * Called when a delete failed and will not be retried.
+         *
+         * @param sid SID of the resource
+         * @param cause failure of the last attempt
+         * @param attempts number of attempts made
+         */
+        public void onFailed(final String sid, final Throwable cause, final int attempts) {
+        }
+
+        /**
+         * Called periodically while resources are deleted.
+         *
+         * @param metrics metrics so far
+         */
+        public void onMetrics(final Metrics metrics) {
+        }
+    }
+
+    /**
+     * Counts of a bulk delete.
+     */
+    public static class Metrics {
+        private final long submitted;
+        private final long deleted;
+        private final long notFound;
+        private final long failed;
+        private final long retried;
+        private final int inFlight;
+        private final long elapsedMillis;
+
+        /**
+         * Create new metrics.
+         *
+         * @param submitted SIDs taken from the iterator
+         * @param deleted resources deleted
+         * @param notFound resources that had already been deleted
+         * @param failed deletes that failed without further retries
+         * @param retried retries made
+         * @param inFlight deletes in progress or waiting to be retried
+         * @param elapsedMillis time since deleting started
+         */
+        public Metrics(final long submitted, final long deleted, final long notFound, final long failed,
+                       final long retried, final int inFlight, final long elapsedMillis) {
+            this.submitted = submitted;
+            this.deleted = deleted;
+            this.notFound = notFound;
+            this.failed = failed;
+            this.retried = retried;
+            this.inFlight = inFlight;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getDeleted() {
+            return deleted;
+        }
+
+        public long getNotFound() {
+            return notFound;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRetried() {
+            return retried;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Resources removed per second since deleting started, including those already deleted.
+         *
+         * @return throughput
+         */
+        public double getThroughput() {
+            return elapsedMillis == 0 ? 0 : (deleted + notFound) * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{submitted=" + submitted + ", deleted=" + deleted + ", notFound=" + notFound
+                + ", failed=" + failed + ", retried=" + retried + ", inFlight=" + inFlight
+                + ", elapsedMillis=" + elapsedMillis + "}";
+        }
+    }
+
+    public static class Builder<T extends Resource> {
+        private final TwilioRestClient client;
+        private final Function<String, ? extends Deleter<T>> deleters;
+        private int maxInFlight = 20;
+        private double ratePerSecond;
+        private int maxAttempts = 5;
+        private long baseDelayMillis = 500L;
+        private long maxDelayMillis = 30000L;
+        private RetryPolicy retryPolicy;
+        private long metricsIntervalMillis;
+        private Listener listener = new Listener() {
+        };
+
+        /**
+         * Create a builder for a deleter using the default client.
+         *
+         * @param deleters function creating the deleter for a SID
+         */
+        public Builder(final Function<String, ? extends Deleter<T>> deleters) {
+            this(Twilio.getRestClient(), deleters);
+        }
+
+        /**
+         * Create a builder for a deleter using specified client.
+         *
+         * @param client client used to delete resources
+         * @param deleters function creating the deleter for a SID
+         */
+        public Builder(final TwilioRestClient client, final Function<String, ? extends Deleter<T>> deleters) {
+            this.client = client;
+            this.deleters = deleters;
+        }
+
+        /**
+         * Set the maximum number of deletes in progress or waiting to be retried at once.
+         *
+         * @param maxInFlight number of deletes
+         * @return this
+         */
+        public Builder<T> maxInFlight(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Set the rate deletes are started at, including retries.
+         *
+         * @param ratePerSecond deletes per second, 0 for no pacing
+         * @return this
+         */
+        public Builder<T> ratePerSecond(final double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+            return this;
+        }
+
+        /**
+         * Set how retryable failures are retried.
+         *
+         * @param maxAttempts maximum attempts per resource, including the first
+         * @param baseDelayMillis upper bound of the first retry delay, doubled on each further retry
+         * @param maxDelayMillis cap on the retry delay
+         * @return this
+         */
+        public Builder<T> retry(final int maxAttempts, final long baseDelayMillis, final long maxDelayMillis) {
+            this.maxAttempts = maxAttempts;
+            this.baseDelayMillis = baseDelayMillis;
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Decide retries with a policy instead of the settings of {@link #retry}.
+         *
+         * @param retryPolicy policy deciding which failures are retried and when
+         * @return this
+         */
+        public Builder<T> retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder<T> listener(final Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Set how often the listener receives metrics.
+         *
+         * @param metricsIntervalMillis interval in milliseconds, 0 to disable
+         * @return this
+         */
+        public Builder<T> metricsInterval(final long metricsIntervalMillis) {
+            this.metricsIntervalMillis = metricsIntervalMillis;
+            return this;
+        }
+
+        public BulkDeleter<T> build() {
+            return new BulkDeleter<>(this);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.twilio.base;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.RetryPolicy;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs one asynchronous request per item of an iterator, keeping a bounded number of requests in flight.
+ *
+ * <p>
+ *     Items are taken from the iterator only when a slot is free, so the source is consumed at the rate requests
+ *     complete. Items can be paced per key: an item reserves the next start time of its key and is started by a
+ *     scheduler at that time. No thread waits on a pacer, so items of other keys are started while one key is paced.
+ * </p>
+ *
+ * <p>
+ *     Failed requests are retried as a {@link RetryPolicy} decides for the HTTP method of the requests, so creates
+ *     are only retried when throttled while deletes also retry server errors and connection failures. Failures that
+ *     are not API errors are not retried.
+ * </p>
+ *
+ * <p>
+ *     A dispatcher runs once; create one per batch of items.
+ * </p>
+ *
+ * @param <I> type of the items
+ * @param <R> type of the request results
+ */
+public class BulkDispatcher<I, R> {
+
+    /**
+     * Starts the request of an item and receives its outcome. Methods other than {@link #start} are called from
+     * request threads and must not block for long.
+     *
+     * @param <I> type of the items
+     * @param <R> type of the request results
+     */
+    public interface Handler<I, R> {
+
+        /**
+         * Start the request of an item.
+         *
+         * @param item item to make the request for
+         * @return future that resolves to the result of the request
+         */
+        ListenableFuture<R> start(I item);
+
+        /**
+         * Key an item is paced by, such as its sender.
+         *
+         * @param item item about to be started
+         * @return pacing key, or null to start the item without pacing
+         */
+        String paceKey(I item);
+
+        /**
+         * Called when the request of an item succeeded.
+         *
+         * @param item item of the request
+         * @param result result of the request
+         */
+        void onSuccess(I item, R result);
+
+        /**
+         * Handle a failure that completes the item, such as a resource that was already deleted.
+         *
+         * @param item item of the request
+         * @param cause failure of the request
+         * @return true if the failure was handled and must not be retried
+         */
+        boolean handled(I item, Throwable cause);
+
+        /**
+         * Called when the request of an item failed and will not be retried.
+         *
+         * @param item item of the request
+         * @param cause failure of the last attempt
+         * @param attempts number of attempts made
+         */
+        void onFailure(I item, Throwable cause, int attempts);
+    }
+
+    private final Handler<I, R> handler;
+    private final int maxInFlight;
+    private final double ratePerSecond;
+    private final RetryPolicy retryPolicy;
+    private final Request retryRequest;
+
+    private final Semaphore slots;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, Pacer> pacers = new ConcurrentHashMap<>();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private volatile long startNanos;
+
+    /**
+     * Create a new dispatcher.
+     *
+     * @param handler handler starting the requests
+     * @param maxInFlight maximum number of items not yet completed at once
+     * @param ratePerSecond rate items of each pacing key are started at, 0 for no pacing
+     * @param retryPolicy policy deciding which failures are retried and when
+     * @param method HTTP method of the requests, used to decide retries
+     * @param threadNameFormat name format of the scheduler thread
+     */
+    public BulkDispatcher(final Handler<I, R> handler, final int maxInFlight, final double ratePerSecond,
+                          final RetryPolicy retryPolicy, final HttpMethod method, final String threadNameFormat) {
+        this.handler = handler;
+        this.maxInFlight = maxInFlight;
+        this.ratePerSecond = ratePerSecond;
+        this.retryPolicy = retryPolicy;
+        this.retryRequest = new Request(method, "");
+        this.slots = new Semaphore(maxInFlight);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat(threadNameFormat).build()
+        );
+    }
+
+    /**
+     * Request every item of an iterator, returning once all of them have succeeded or failed.
+     *
+     * @param items items to request
+     * @param reporter task run periodically while items are requested, or null
+     * @param reportIntervalMillis interval of the reporter in milliseconds, 0 to disable
+     */
+    public void run(final Iterator<? extends I> items, final Runnable reporter, final long reportIntervalMillis) {
+        startNanos = System.nanoTime();
+        ScheduledFuture<?> reporting = null;
+        if (reporter != null && reportIntervalMillis > 0) {
+            reporting = scheduler.scheduleAtFixedRate(
+                reporter, reportIntervalMillis, reportIntervalMillis, TimeUnit.MILLISECONDS
+            );
+        }
+
+        try {
+            while (items.hasNext()) {
+                I item = items.next();
+                slots.acquire();
+                submitted.incrementAndGet();
+                dispatch(item, 1);
+            }
+
+            slots.acquire(maxInFlight);
+            slots.release(maxInFlight);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (reporting != null) {
+                reporting.cancel(false);
+            }
+            scheduler.shutdown();
+        }
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getRetried() {
+        return retried.get();
+    }
+
+    /**
+     * Number of items not yet completed, including those waiting to be started or retried.
+     *
+     * @return items in flight
+     */
+    public int getInFlight() {
+        return maxInFlight - slots.availablePermits();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void dispatch(final I item, final int attempt) {
+        long delayNanos = pace(handler.paceKey(item));
+        if (delayNanos <= 0) {
+            start(item, attempt);
+            return;
+        }
+
+        try {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    start(item, attempt);
+                }
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            fail(item, e, attempt);
+        }
+    }
+
+    private long pace(final String key) {
+        if (key == null || ratePerSecond <= 0) {
+            return 0;
+        }
+
+        Pacer pacer = pacers.get(key);
+        if (pacer == null) {
+            Pacer created = new Pacer((long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+            pacer = pacers.putIfAbsent(key, created);
+            if (pacer == null) {
+                pacer = created;
+            }
+        }
+        return pacer.reserve();
+    }
+
+    private void start(final I item, final int attempt) {
+        ListenableFuture<R> future;
+        try {
+            future = handler.start(item);
+        } catch (final RuntimeException e) {
+            future = Futures.immediateFailedFuture(e);
+        }
+
+        Futures.addCallback(future, new FutureCallback<R>() {
+            @Override
+            public void onSuccess(final R result) {
+                try {
+                    handler.onSuccess(item, result);
+                } finally {
+                    slots.release();
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                retryOrFail(item, t, attempt);
+            }
+        });
+    }
+
+    private void retryOrFail(final I item, final Throwable t, final int attempt) {
+        // A handler that throws has completed the item as far as the slots are concerned
+        boolean handled = true;
+        try {
+            handled = handler.handled(item, t);
+        } finally {
+            if (handled) {
+                slots.release();
+            }
+        }
+        if (handled) {
+            return;
+        }
+
+        long delayMillis = retryDelayMillis(t, attempt);
+        if (delayMillis != RetryPolicy.NO_RETRY) {
+            try {
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        dispatch(item, attempt + 1);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+                retried.incrementAndGet();
+                return;
+            } catch (final RejectedExecutionException e) {
+                // Dispatching was stopped, report the failure
+            }
+        }
+
+        fail(item, t, attempt);
+    }
+
+    private void fail(final I item, final Throwable t, final int attempt) {
+        try {
+            handler.onFailure(item, t, attempt);
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * Ask the retry policy about a failure, as a response with its status or as a connection failure.
+     */
+    private long retryDelayMillis(final Throwable t, final int attempt) {
+        Response response;
+        if (t instanceof ApiConnectionException) {
+            response = null;
+        } else if (t instanceof ApiException && ((ApiException) t).getStatusCode() != null) {
+            response = new Response("", ((ApiException) t).getStatusCode());
+        } else {
+            return RetryPolicy.NO_RETRY;
+        }
+
+        return retryPolicy.nextRetryDelayMillis(retryRequest, response, attempt - 1);
+    }
+
+    /**
+     * Hands out start times spaced by a fixed interval.
+     */
+    private static class Pacer {
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        private Pacer(final long intervalNanos) {
+            this.intervalNanos = intervalNanos;
+        }
+
+        /**
+         * Reserve the next start time.
+         *
+         * @return nanoseconds until the reserved start time
+         */
+        private synchronized long reserve() {
+            long now = System.nanoTime();
+            long at = Math.max(now, next);
+            next = at + intervalNanos;
+            return at - now;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.twilio.base;
+
+/**
+ * Position of a read that can be resumed.
+ */
+public class Checkpoint {
+
+    private final String pageUrl;
+    private final long processed;
+
+    /**
+     * Create a new checkpoint.
+     *
+     * @param pageUrl url of the first page that was not completely processed
+     * @param processed number of records processed before that page
+     */
+    public Checkpoint(final String pageUrl, final long processed) {
+        this.pageUrl = pageUrl;
+        this.processed = processed;
+    }
+
+    public String getPageUrl() {
+        return pageUrl;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Checkpoint other = (Checkpoint) o;
+        return processed == other.processed && pageUrl.equals(other.pageUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * pageUrl.hashCode() + (int) (processed ^ (processed >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{pageUrl=" + pageUrl + ", processed=" + processed + "}";
+    }
+}
@@ -0,0 +1,30 @@
+package com.twilio.base;
+
+/**
+ * Storage for the checkpoints of resumable reads.
+ */
+public interface CheckpointStore {
+
+    /**
+     * Load the last checkpoint of a read.
+     *
+     * @param key key identifying the read
+     * @return last checkpoint, or null if there is none
+     */
+    Checkpoint load(final String key);
+
+    /**
+     * Save the checkpoint of a read, replacing any previous one.
+     *
+     * @param key key identifying the read
+     * @param checkpoint checkpoint to save
+     */
+    void save(final String key, final Checkpoint checkpoint);
+
+    /**
+     * Remove the checkpoint of a read.
+     *
+     * @param key key identifying the read
+     */
+    void clear(final String key);
+}
@@ -1,7 +1,11 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
 import java.util.concurrent.Callable;
@@ -29,11 +33,20 @@ public abstract class Deleter<T extends Resource> {
      * @return future that resolves to true if the object was deleted
      */
     public ListenableFuture<Boolean> deleteAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<Boolean>() {
-            public Boolean call() {
-                return delete(client);
+        Request request = buildRequest(client);
+        if (request == null) {
+            return Twilio.getExecutorService().submit(new Callable<Boolean>() {
+                public Boolean call() {
+                    return delete(client);
+                }
+            });
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, Boolean>() {
+            public Boolean apply(final Response response) {
+                return parseResponse(client, response);
             }
-        });
+        }, Twilio.getExecutorService());
     }
 
     /**
@@ -51,5 +64,38 @@ public abstract class Deleter<T extends Resource> {
      * @param client client used to make request
      * @return true if the object was deleted
      */
-    public abstract boolean delete(final TwilioRestClient client);
+    public boolean delete(final TwilioRestClient client) {
+        return parseResponse(client, client.request(requireRequest(client)));
+    }
+
+    /**
+     * Build the request to perform the delete.
+     *
+     * @param client client the request will be made with
+     * @return request to make, or null if {@link #delete(TwilioRestClient)} is overridden instead
+     */
+    protected Request buildRequest(final TwilioRestClient client) {
+        return null;
+    }
+
+    private Request requireRequest(final TwilioRestClient client) {
+        Request request = buildRequest(client);
+        if (request == null) {
+            throw new UnsupportedOperationException(
+                getClass().getName() + " must override delete(TwilioRestClient) or buildRequest(TwilioRestClient)"
+            );
+        }
+        return request;
+    }
+
+    /**
+     * Read the result of the delete from a response.
+     *
+     * @param client client the request was made with
+     * @param response response to the request
+     * @return true if the object was deleted
+     */
+    protected boolean parseResponse(final TwilioRestClient client, final Response response) {
+        throw new UnsupportedOperationException(getClass().getName() + " must override parseResponse");
+    }
 }
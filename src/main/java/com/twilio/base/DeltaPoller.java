@@ -0,0 +1,161 @@
+package com.twilio.base;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Range;
+import com.twilio.Twilio;
+import com.twilio.http.TwilioRestClient;
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Polls for resources that are new or changed since the last poll.
+ *
+ * <p>
+ *     A date watermark is kept per account: the latest date of any record seen. Each poll reads only records dated
+ *     at or after the watermark minus an overlap, which absorbs clock skew and records that become visible late.
+ *     The overlap makes polls read some records again, so the version of each recently seen record is kept in a
+ *     bounded set and records are only returned when they are new or their version changed. Changes to records
+ *     dated before the overlap window are not seen.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+public abstract class DeltaPoller<T extends Resource> {
+
+    private final DateTime since;
+    private final Map<String, DateTime> watermarks = new HashMap<>();
+    private final Map<String, String> versions;
+    private long overlapMillis = 60000L;
+
+    /**
+     * Initialize the poller.
+     *
+     * @param since date the first poll of each account reads from
+     * @param capacity maximum number of record versions remembered
+     */
+    protected DeltaPoller(final DateTime since, final int capacity) {
+        this.since = since;
+        this.versions = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Create a reader for the records of an account dated within a range.
+     *
+     * @param accountSid account to read
+     * @param range date range to read
+     * @return reader limited to the range
+     */
+    protected abstract Reader<T> reader(final String accountSid, final Range<DateTime> range);
+
+    /**
+     * Get the date the watermark is kept on.
+     *
+     * @param record record to get the date of
+     * @return date of the record, or null if it has none yet
+     */
+    protected abstract DateTime dateOf(final T record);
+
+    /**
+     * Get the unique identifier of a record.
+     *
+     * @param record record to get the identifier of
+     * @return SID of the record
+     */
+    protected abstract String sidOf(final T record);
+
+    /**
+     * Get a value that changes whenever the record changes.
+     *
+     * @param record record to get the version of
+     * @return version of the record
+     */
+    protected abstract String versionOf(final T record);
+
+    /**
+     * Poll the account of the default client.
+     *
+     * @return records that are new or changed since the last poll
+     */
+    public List<T> poll() {
+        return poll(Twilio.getRestClient());
+    }
+
+    /**
+     * Poll the account of the specified client.
+     *
+     * @param client client used to make requests
+     * @return records that are new or changed since the last poll
+     */
+    public List<T> poll(final TwilioRestClient client) {
+        return poll(client.getAccountSid(), client);
+    }
+
+    /**
+     * Poll an account.
+     *
+     * @param accountSid account to poll
+     * @param client client used to make requests
+     * @return records that are new or changed since the last poll
+     */
+    public synchronized List<T> poll(final String accountSid, final TwilioRestClient client) {
+        DateTime watermark = getWatermark(accountSid);
+        Range<DateTime> range = Range.atLeast(watermark.minus(overlapMillis));
+
+        List<T> changed = new ArrayList<>();
+        DateTime latest = watermark;
+        for (T record : reader(accountSid, range).read(client)) {
+            DateTime date = dateOf(record);
+            if (date != null && date.isAfter(latest)) {
+                latest = date;
+            }
+
+            String sid = sidOf(record);
+            String version = versionOf(record);
+            if (!versions.containsKey(sid) || !Objects.equal(versions.get(sid), version)) {
+                changed.add(record);
+            }
+            versions.put(sid, version);
+        }
+
+        watermarks.put(accountSid, latest);
+        return changed;
+    }
+
+    /**
+     * Get the watermark of an account.
+     *
+     * @param accountSid account to get the watermark of
+     * @return latest date seen for the account
+     */
+    public synchronized DateTime getWatermark(final String accountSid) {
+        DateTime watermark = watermarks.get(accountSid);
+        return watermark == null ? since : watermark;
+    }
+
+    public long getOverlapMillis() {
+        return overlapMillis;
+    }
+
+    /**
+     * Set how far before the watermark each poll starts reading.
+     *
+     * @param overlapMillis overlap in milliseconds
+     * @return this
+     */
+    public DeltaPoller<T> overlap(final long overlapMillis) {
+        this.overlapMillis = overlapMillis;
+        return this;
+    }
+}
@@ -1,7 +1,11 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 
 import java.util.concurrent.Callable;
@@ -29,11 +33,26 @@ public abstract class Fetcher<T extends Resource> {
      * @return future that resolves to requested object
      */
     public ListenableFuture<T> fetchAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<T>() {
-            public T call() {
-                return fetch(client);
+        Request request = buildRequest(client);
+        if (request == null) {
+            return Twilio.getExecutorService().submit(new Callable<T>() {
+                public T call() {
+                    return fetch(client);
+                }
+            });
+        }
+
+        Function<Response, T> parser = new Function<Response, T>() {
+            public T apply(final Response response) {
+                return parseResponse(client, response);
             }
-        });
+        };
+
+        if (client.isSingleFlight()) {
+            return client.requestAsync(request, getClass(), parser);
+        }
+
+        return Futures.transform(client.requestAsync(request), parser, Twilio.getExecutorService());
     }
 
     /**
@@ -51,5 +70,43 @@ public abstract class Fetcher<T extends Resource> {
      * @param client client used to make request
      * @return Requested object
      */
-    public abstract T fetch(final TwilioRestClient client);
+    public T fetch(final TwilioRestClient client) {
+        Request request = buildRequest(client);
+        if (request == null) {
+            throw new UnsupportedOperationException(
+                getClass().getName() + " must override fetch(TwilioRestClient) or buildRequest(TwilioRestClient)"
+            );
+        }
+
+        if (client.isSingleFlight()) {
+            return client.request(request, getClass(), new Function<Response, T>() {
+                public T apply(final Response response) {
+                    return parseResponse(client, response);
+                }
+            });
+        }
+
+        return parseResponse(client, client.request(request));
+    }
+
+    /**
+     * Build the request to perform the fetch.
+     *
+     * @param client client the request will be made with
+     * @return request to make, or null if {@link #fetch(TwilioRestClient)} is overridden instead
+     */
+    protected Request buildRequest(final TwilioRestClient client) {
+        return null;
+    }
+
+    /**
+     * Read the result of the fetch from a response.
+     *
+     * @param client client the request was made with
+     * @param response response to the request
+     * @return Fetched object
+     */
+    protected T parseResponse(final TwilioRestClient client, final Response response) {
+        throw new UnsupportedOperationException(getClass().getName() + " must override parseResponse");
+    }
 }
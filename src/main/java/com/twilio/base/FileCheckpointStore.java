@@ -0,0 +1,110 @@
+package com.twilio.base;
+
+import com.twilio.exception.ApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Stores each checkpoint in a properties file in a directory.
+ *
+ * <p>
+ *     Checkpoints are written to a temporary file first and then moved into place, so a crash while saving leaves
+ *     the previous checkpoint intact.
+ * </p>
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private static final String PAGE_URL = "page_url";
+    private static final String PROCESSED = "processed";
+
+    private final Path directory;
+
+    /**
+     * Create a store in {@code ~/.twilio/checkpoints}.
+     */
+    public FileCheckpointStore() {
+        this(Paths.get(System.getProperty("user.home"), ".twilio", "checkpoints"));
+    }
+
+    /**
+     * Create a store in a directory.
+     *
+     * @param directory directory the checkpoints are stored in, created when needed
+     */
+    public FileCheckpointStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Checkpoint load(final String key) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file(key))) {
+            properties.load(in);
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException e) {
+            throw new ApiException("Failed to load checkpoint " + key, e);
+        }
+
+        return new Checkpoint(
+            properties.getProperty(PAGE_URL),
+            Long.parseLong(properties.getProperty(PROCESSED))
+        );
+    }
+
+    @Override
+    public void save(final String key, final Checkpoint checkpoint) {
+        Properties properties = new Properties();
+        properties.setProperty(PAGE_URL, checkpoint.getPageUrl());
+        properties.setProperty(PROCESSED, Long.toString(checkpoint.getProcessed()));
+
+        try {
+            Files.createDirectories(directory);
+            Path target = file(key);
+            Path temp = Files.createTempFile(directory, ".checkpoint", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            throw new ApiException("Failed to save checkpoint " + key, e);
+        }
+    }
+
+    @Override
+    public void clear(final String key) {
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (final IOException e) {
+            throw new ApiException("Failed to clear checkpoint " + key, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path file(final String key) {
+        try {
+            return directory.resolve(URLEncoder.encode(key, "UTF-8") + ".properties");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
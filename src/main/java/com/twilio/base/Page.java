@@ -1,12 +1,15 @@
 package com.twilio.base;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.twilio.exception.ApiConnectionException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +24,7 @@ public class Page<T> {
     private final String url;
     private final String uri;
     private final int pageSize;
+    private final String requestUrl;
 
     private Page(Builder<T> b) {
         this.records = b.records;
@@ -33,6 +37,7 @@ public class Page<T> {
         this.uri = b.uri;
         this.url = b.url;
         this.pageSize = b.pageSize;
+        this.requestUrl = b.requestUrl;
     }
 
     private String urlFromUri(String domain, String region, String uri) {
@@ -107,6 +112,37 @@ public class Page<T> {
         return urlFromUri(domain, region, uri);
     }
 
+    /**
+     * Url of the request this page was fetched with, if known.
+     *
+     * @return request url, or null
+     */
+    String getRequestUrl() {
+        return requestUrl;
+    }
+
+    /**
+     * Copy this page, recording the url of the request it was fetched with.
+     *
+     * @param requestUrl request url
+     * @return page with the request url
+     */
+    Page<T> withRequestUrl(final String requestUrl) {
+        return new Builder<T>()
+            .records(records)
+            .firstPageUri(firstPageUri)
+            .firstPageUrl(firstPageUrl)
+            .nextPageUri(nextPageUri)
+            .nextPageUrl(nextPageUrl)
+            .previousPageUri(previousPageUri)
+            .previousPageUrl(previousPageUrl)
+            .uri(uri)
+            .url(url)
+            .pageSize(pageSize)
+            .requestUrl(requestUrl)
+            .build();
+    }
+
     public boolean hasNextPage() {
         return !Strings.isNullOrEmpty(nextPageUri) || !Strings.isNullOrEmpty(nextPageUrl);
     }
@@ -123,20 +159,7 @@ public class Page<T> {
      */
     public static <T> Page<T> fromJson(String recordKey, String json, Class<T> recordType, ObjectMapper mapper) {
         try {
-            List<T> results = new ArrayList<>();
-            JsonNode root = mapper.readTree(json);
-            JsonNode records = root.get(recordKey);
-            for (final JsonNode record : records) {
-                results.add(mapper.readValue(record.toString(), recordType));
-            }
-
-            JsonNode uriNode = root.get("uri");
-            if (uriNode != null) {
-                return buildPage(root, results);
-            } else {
-                return buildNextGenPage(root, results);
-            }
-
+            return fromParser(recordKey, mapper.getFactory().createParser(json), recordType, mapper);
         } catch (final IOException e) {
             throw new ApiConnectionException(
                 "Unable to deserialize response: " + e.getMessage() + "\nJSON: " + json, e
@@ -144,28 +167,84 @@ public class Page<T> {
         }
     }
 
-    private static <T> Page<T> buildPage(JsonNode root, List<T> results) {
-        Builder<T> builder = new Builder<T>()
-            .uri(root.get("uri").asText());
-
-        JsonNode nextPageNode = root.get("next_page_uri");
-        if (nextPageNode != null && !nextPageNode.isNull()) {
-            builder.nextPageUri(nextPageNode.asText());
+    /**
+     * Create a new page of data from a json stream.
+     *
+     * <p>
+     *     The stream is decoded in a single pass and closed once the page has been read.
+     * </p>
+     *
+     * @param recordKey key which holds the records
+     * @param json json stream
+     * @param recordType resource type
+     * @param mapper json parser
+     * @param <T> record class type
+     * @return a page of records of type T
+     */
+    public static <T> Page<T> fromJson(String recordKey, InputStream json, Class<T> recordType, ObjectMapper mapper) {
+        try {
+            return fromParser(recordKey, mapper.getFactory().createParser(json), recordType, mapper);
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to deserialize response: " + e.getMessage(), e);
         }
+    }
 
-        JsonNode previousPageNode = root.get("previous_page_uri");
-        if (previousPageNode != null && !previousPageNode.isNull()) {
-            builder.previousPageUri(previousPageNode.asText());
-        }
+    private static <T> Page<T> fromParser(
+        final String recordKey,
+        final JsonParser parser,
+        final Class<T> recordType,
+        final ObjectMapper mapper
+    ) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a page object");
+            }
 
-        JsonNode firstPageNode = root.get("first_page_uri");
-        if (firstPageNode != null && !firstPageNode.isNull()) {
-            builder.firstPageUri(firstPageNode.asText());
+            List<T> results = new ArrayList<>();
+            Metadata root = new Metadata();
+            Metadata meta = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+
+                if (field.equals(recordKey)) {
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            results.add(mapper.readValue(parser, recordType));
+                        }
+                    }
+                } else if ("meta".equals(field) && token == JsonToken.START_OBJECT) {
+                    meta = new Metadata();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String metaField = parser.getCurrentName();
+                        parser.nextToken();
+                        meta.read(metaField, parser);
+                    }
+                } else {
+                    root.read(field, parser);
+                }
+            }
+
+            if (root.hasUri) {
+                return buildPage(root, results);
+            } else {
+                return buildNextGenPage(meta == null ? new Metadata() : meta, results);
+            }
+        } finally {
+            parser.close();
         }
+    }
+
+    private static <T> Page<T> buildPage(Metadata root, List<T> results) {
+        Builder<T> builder = new Builder<T>()
+            .uri(root.uri)
+            .nextPageUri(root.nextPageUri)
+            .previousPageUri(root.previousPageUri)
+            .firstPageUri(root.firstPageUri);
 
-        JsonNode pageSizeNode = root.get("page_size");
-        if (pageSizeNode != null && !pageSizeNode.isNull()) {
-            builder.pageSize(pageSizeNode.asInt());
+        if (root.pageSize != null) {
+            builder.pageSize(root.pageSize);
         } else {
             builder.pageSize(results.size());
         }
@@ -173,28 +252,15 @@ public class Page<T> {
         return builder.records(results).build();
     }
 
-    private static <T> Page<T> buildNextGenPage(JsonNode root, List<T> results) {
-        JsonNode meta = root.get("meta");
-        Builder<T> builder = new Builder<T>().url(meta.get("url").asText());
-
-        JsonNode nextPageNode = meta.get("next_page_url");
-        if (!nextPageNode.isNull()) {
-            builder.nextPageUrl(nextPageNode.asText());
-        }
-
-        JsonNode previousPageNode = meta.get("previous_page_url");
-        if (!previousPageNode.isNull()) {
-            builder.previousPageUrl(previousPageNode.asText());
-        }
-
-        JsonNode firstPageNode = meta.get("first_page_url");
-        if (!firstPageNode.isNull()) {
-            builder.firstPageUrl(firstPageNode.asText());
-        }
+    private static <T> Page<T> buildNextGenPage(Metadata meta, List<T> results) {
+        Builder<T> builder = new Builder<T>()
+            .url(meta.url)
+            .nextPageUrl(meta.nextPageUrl)
+            .previousPageUrl(meta.previousPageUrl)
+            .firstPageUrl(meta.firstPageUrl);
 
-        JsonNode pageSizeNode = meta.get("page_size");
-        if (!pageSizeNode.isNull()) {
-            builder.pageSize(pageSizeNode.asInt());
+        if (meta.pageSize != null) {
+            builder.pageSize(meta.pageSize);
         } else {
             builder.pageSize(results.size());
         }
@@ -202,6 +268,60 @@ public class Page<T> {
         return builder.records(results).build();
     }
 
+    /**
+     * Paging fields collected while streaming through a page, either from the root object or its meta object.
+     */
+    private static class Metadata {
+        private boolean hasUri;
+        private String uri;
+        private String url;
+        private String nextPageUri;
+        private String nextPageUrl;
+        private String previousPageUri;
+        private String previousPageUrl;
+        private String firstPageUri;
+        private String firstPageUrl;
+        private Integer pageSize;
+
+        private void read(final String field, final JsonParser parser) throws IOException {
+            switch (field) {
+                case "uri":
+                    hasUri = true;
+                    uri = parser.getValueAsString();
+                    break;
+                case "url":
+                    url = parser.getValueAsString();
+                    break;
+                case "next_page_uri":
+                    nextPageUri = parser.getValueAsString();
+                    break;
+                case "next_page_url":
+                    nextPageUrl = parser.getValueAsString();
+                    break;
+                case "previous_page_uri":
+                    previousPageUri = parser.getValueAsString();
+                    break;
+                case "previous_page_url":
+                    previousPageUrl = parser.getValueAsString();
+                    break;
+                case "first_page_uri":
+                    firstPageUri = parser.getValueAsString();
+                    break;
+                case "first_page_url":
+                    firstPageUrl = parser.getValueAsString();
+                    break;
+                case "page_size":
+                    if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                        pageSize = parser.getValueAsInt();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
     private static class Builder<T> {
         private List<T> records;
         private String firstPageUrl;
@@ -213,6 +333,7 @@ public class Page<T> {
         private String uri;
         private String url;
         private int pageSize;
+        private String requestUrl;
 
         public Builder<T> records(List<T> records) {
             this.records = records;
@@ -264,6 +385,11 @@ public class Page<T> {
             return this;
         }
 
+        public Builder<T> requestUrl(String requestUrl) {
+            this.requestUrl = requestUrl;
+            return this;
+        }
+
         public Page<T> build() {
             return new Page<>(this);
         }
@@ -0,0 +1,401 @@
+package com.twilio.base;
+
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
+import org.joda.time.DateTime;
+
+import java.io.Closeable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a date range of resources by splitting it into partitions that are read concurrently.
+ *
+ * <p>
+ *     Adjacent partitions share their boundary, so records dated within the edge window of a boundary are
+ *     de-duplicated by SID. With ordering enabled, partitions are returned newest first and each partition in the
+ *     order the API returns it, which keeps the merged results ordered by date, newest first. Without ordering,
+ *     records are returned as soon as any partition reads them.
+ * </p>
+ *
+ * <p>
+ *     Partitions are read by background threads, so always close the iterator, which stops them as soon as
+ *     possible:
+ * </p>
+ *
+ * <pre>
+ * try (PartitionedReader.PartitionIterator&lt;Message&gt; messages = reader.read(client)) {
+ *     while (messages.hasNext()) {
+ *         process(messages.next());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> type of the resource
+ */
+public abstract class PartitionedReader<T extends Resource> {
+
+    private static final Object END = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final Range<DateTime> range;
+    private int partitions = 4;
+    private int parallelism = 4;
+    private int bufferSize = 1000;
+    private boolean ordered;
+    private long edgeWindowMillis = 1000L;
+    private Integer pageSize;
+
+    /**
+     * Initialize the partitioned reader.
+     *
+     * @param range date range to read, must be bounded
+     */
+    protected PartitionedReader(final Range<DateTime> range) {
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            throw new IllegalArgumentException("Partitioned reads require a bounded date range");
+        }
+
+        this.range = range;
+    }
+
+    /**
+     * Create a reader for one partition of the range.
+     *
+     * @param partition date range of the partition
+     * @return reader limited to the partition
+     */
+    protected abstract Reader<T> reader(final Range<DateTime> partition);
+
+    /**
+     * Get the date a record is partitioned by.
+     *
+     * @param record record to get the date of
+     * @return date of the record
+     */
+    protected abstract DateTime dateOf(final T record);
+
+    /**
+     * Get the unique identifier of a record.
+     *
+     * @param record record to get the identifier of
+     * @return SID of the record
+     */
+    protected abstract String sidOf(final T record);
+
+    /**
+     * Execute the reads using default client.
+     *
+     * @return iterator, which must be closed over the merged records
+     */
+    public PartitionIterator<T> read() {
+        return read(Twilio.getRestClient());
+    }
+
+    /**
+     * Execute the reads using specified client.
+     *
+     * @param client client used to make requests
+     * @return iterator over the merged records, which must be closed
+     */
+    public PartitionIterator<T> read(final TwilioRestClient client) {
+        List<Range<DateTime>> ranges = split();
+        List<DateTime> boundaries = new ArrayList<>();
+        for (int i = 0; i < ranges.size() - 1; i++) {
+            boundaries.add(ranges.get(i).lowerEndpoint());
+        }
+
+        List<BlockingQueue<Object>> queues = new ArrayList<>();
+        for (int i = 0; i < (ordered ? ranges.size() : 1); i++) {
+            queues.add(new ArrayBlockingQueue<>(bufferSize));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(parallelism, ranges.size()),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-partitioned-reader-%d").build()
+        );
+        PartitionIterator<T> iterator =
+            new PartitionIterator<>(this, queues, ordered ? 1 : ranges.size(), boundaries, executor);
+
+        // Workers only hold the iterator weakly, so they also stop once an unclosed iterator is discarded
+        final WeakReference<PartitionIterator<T>> consumer = new WeakReference<>(iterator);
+
+        for (int i = 0; i < ranges.size(); i++) {
+            final BlockingQueue<Object> queue = queues.get(ordered ? i : 0);
+            final Reader<T> reader = reader(ranges.get(i));
+            if (pageSize != null) {
+                reader.pageSize(pageSize);
+            }
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        Object last = END;
+                        try {
+                            for (T record : reader.read(client)) {
+                                if (!offer(queue, record, consumer)) {
+                                    return;
+                                }
+                            }
+                        } catch (final RuntimeException e) {
+                            last = e;
+                        }
+                        offer(queue, last, consumer);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        return iterator;
+    }
+
+    /**
+     * Hand an item to the consumer, waiting while its buffer is full.
+     *
+     * @param queue buffer of the consumer
+     * @param item item to add
+     * @param consumer iterator reading the buffer
+     * @return false if the iterator was closed or discarded before the item was added
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static boolean offer(final BlockingQueue<Object> queue, final Object item,
+                                 final WeakReference<? extends PartitionIterator<?>> consumer)
+        throws InterruptedException {
+        while (!queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            PartitionIterator<?> iterator = consumer.get();
+            if (iterator == null || iterator.closed) {
+                return false;
+            }
+        }
+
+        PartitionIterator<?> iterator = consumer.get();
+        return iterator != null && !iterator.closed;
+    }
+
+    /**
+     * Split the range into partitions of equal length, newest first.
+     *
+     * @return partition ranges
+     */
+    List<Range<DateTime>> split() {
+        long start = range.lowerEndpoint().getMillis();
+        long end = range.upperEndpoint().getMillis();
+        int count = (int) Math.max(1, Math.min(partitions, end - start));
+
+        List<Range<DateTime>> ranges = new ArrayList<>();
+        for (int i = count - 1; i >= 0; i--) {
+            long lower = start + (end - start) * i / count;
+            long upper = start + (end - start) * (i + 1) / count;
+            ranges.add(Range.closed(
+                new DateTime(lower, range.lowerEndpoint().getZone()),
+                new DateTime(upper, range.upperEndpoint().getZone())
+            ));
+        }
+
+        return ranges;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Set the number of partitions the range is split into.
+     *
+     * @param partitions number of partitions
+     * @return this
+     */
+    public PartitionedReader<T> partitions(final int partitions) {
+        this.partitions = partitions;
+        return this;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of partitions read at the same time.
+     *
+     * @param parallelism number of concurrent reads
+     * @return this
+     */
+    public PartitionedReader<T> parallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Set whether records are returned ordered by date, newest first.
+     *
+     * @param ordered true to order records
+     * @return this
+     */
+    public PartitionedReader<T> ordered(final boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Set the number of records buffered ahead of the consumer, per partition when ordered.
+     *
+     * @param bufferSize number of records
+     * @return this
+     */
+    public PartitionedReader<T> bufferSize(final int bufferSize) {
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Set how close to a partition boundary a record must be dated to be checked for duplicates.
+     *
+     * @param edgeWindowMillis window in milliseconds
+     * @return this
+     */
+    public PartitionedReader<T> edgeWindow(final long edgeWindowMillis) {
+        this.edgeWindowMillis = edgeWindowMillis;
+        return this;
+    }
+
+    /**
+     * Set the page size of each partition's reads.
+     *
+     * @param pageSize page size
+     * @return this
+     */
+    public PartitionedReader<T> pageSize(final int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Iterator over the records of all partitions.
+     *
+     * <p>
+     *     The iterator must be closed, including when it is not read to the end, to stop the partition reads.
+     * </p>
+     *
+     * @param <T> type of the resource
+     */
+    public static class PartitionIterator<T extends Resource> implements Iterator<T>, Closeable {
+        private final PartitionedReader<T> reader;
+        private final List<BlockingQueue<Object>> queues;
+        private final int endsPerQueue;
+        private final List<DateTime> boundaries;
+        private final ExecutorService executor;
+        private final Set<String> edgeSids = new HashSet<>();
+
+        private volatile boolean closed;
+        private int queue;
+        private int ends;
+        private T next;
+
+        private PartitionIterator(final PartitionedReader<T> reader, final List<BlockingQueue<Object>> queues,
+                                  final int endsPerQueue, final List<DateTime> boundaries,
+                                  final ExecutorService executor) {
+            this.reader = reader;
+            this.queues = queues;
+            this.endsPerQueue = endsPerQueue;
+            this.boundaries = boundaries;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && queue < queues.size()) {
+                Object item = take();
+
+                if (item == END) {
+                    if (++ends == endsPerQueue) {
+                        ends = 0;
+                        queue++;
+                    }
+                } else if (item instanceof RuntimeException) {
+                    close();
+                    throw (RuntimeException) item;
+                } else {
+                    @SuppressWarnings("unchecked")
+                    T record = (T) item;
+                    if (!isDuplicate(record)) {
+                        next = record;
+                    }
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            T record = next;
+            next = null;
+            return record;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Stop all partition reads.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            executor.shutdownNow();
+            queue = queues.size();
+        }
+
+        private Object take() {
+            try {
+                return queues.get(queue).take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new ApiException("Interrupted while reading partitions", e);
+            }
+        }
+
+        private boolean isDuplicate(final T record) {
+            DateTime date = reader.dateOf(record);
+            if (date == null) {
+                return false;
+            }
+
+            for (DateTime boundary : boundaries) {
+                if (Math.abs(date.getMillis() - boundary.getMillis()) <= reader.edgeWindowMillis) {
+                    return !edgeSids.add(reader.sidOf(record));
+                }
+            }
+
+            return false;
+        }
+    }
+}
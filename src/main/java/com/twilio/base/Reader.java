@@ -1,8 +1,13 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
+import org.reactivestreams.Publisher;
 
 import java.util.concurrent.Callable;
 
@@ -15,6 +20,10 @@ public abstract class Reader<T extends Resource> {
 
     private Integer pageSize;
     private Long limit;
+    private int prefetch;
+    private CheckpointStore checkpointStore;
+    private String checkpointKey;
+    private int checkpointInterval;
 
     /**
      * Execute a request using default client.
@@ -49,11 +58,79 @@ public abstract class Reader<T extends Resource> {
      * @return future that resolves to the ResourceSet of objects
      */
     public ListenableFuture<ResourceSet<T>> readAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<ResourceSet<T>>() {
-            public ResourceSet<T> call() {
-                return read(client);
+        Request request = firstPageRequest(client);
+        if (request == null) {
+            return Twilio.getExecutorService().submit(new Callable<ResourceSet<T>>() {
+                public ResourceSet<T> call() {
+                    return read(client);
+                }
+            });
+        }
+
+        return Futures.transform(client.requestAsync(request), new Function<Response, ResourceSet<T>>() {
+            public ResourceSet<T> apply(final Response response) {
+                return new ResourceSet<>(Reader.this, client, pageForResponse(client, response));
             }
-        });
+        }, Twilio.getExecutorService());
+    }
+
+    /**
+     * Continue a checkpointed read from its last checkpoint using default client.
+     *
+     * @return ResourceSet of the objects not yet processed
+     */
+    public ResourceSet<T> resume() {
+        return resume(Twilio.getRestClient());
+    }
+
+    /**
+     * Continue a checkpointed read from its last checkpoint using specified client.
+     *
+     * <p>
+     *     Starts from the first page if there is no checkpoint. Records of the page that was being processed when
+     *     the checkpoint was saved are read again.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return ResourceSet of the objects not yet processed
+     */
+    public ResourceSet<T> resume(final TwilioRestClient client) {
+        if (checkpointStore == null) {
+            throw new IllegalStateException("Checkpointing is not configured, call checkpoint() first");
+        }
+
+        Checkpoint checkpoint = checkpointStore.load(checkpointKey);
+        if (checkpoint == null) {
+            return read(client);
+        }
+
+        ResourceSet<T> set = new ResourceSet<>(this, client, getPage(checkpoint.getPageUrl(), client));
+        set.resumeAt(checkpoint.getProcessed());
+        return set;
+    }
+
+    /**
+     * Publish the resources as subscribers request them, using default client.
+     *
+     * @return publisher of the resources
+     */
+    public Publisher<T> publisher() {
+        return publisher(Twilio.getRestClient());
+    }
+
+    /**
+     * Publish the resources as subscribers request them, using specified client.
+     *
+     * <p>
+     *     Pages are fetched on the Twilio executor service, and only once subscribers have requested every
+     *     resource of the page before.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return publisher of the resources
+     */
+    public Publisher<T> publisher(final TwilioRestClient client) {
+        return new ReaderPublisher<>(this, client, Twilio.getExecutorService());
     }
 
     /**
@@ -71,7 +148,16 @@ public abstract class Reader<T extends Resource> {
      * @param client client used to fetch
      * @return Page containing the first pageSize of resources
      */
-    public abstract Page<T> firstPage(final TwilioRestClient client);
+    public Page<T> firstPage(final TwilioRestClient client) {
+        Request request = firstPageRequest(client);
+        if (request == null) {
+            throw new UnsupportedOperationException(
+                getClass().getName() + " must override firstPage(TwilioRestClient) or firstPageRequest(TwilioRestClient)"
+            );
+        }
+
+        return pageForRequest(client, request);
+    }
 
     /**
      * Retrieve the target page of resources.
@@ -130,6 +216,38 @@ public abstract class Reader<T extends Resource> {
      */
     public abstract Page<T> previousPage(final Page<T> page, final TwilioRestClient client);
 
+    /**
+     * Build the request for the first page of resources.
+     *
+     * @param client client the request will be made with
+     * @return request for the first page, or null if {@link #firstPage(TwilioRestClient)} is overridden instead
+     */
+    protected Request firstPageRequest(final TwilioRestClient client) {
+        return null;
+    }
+
+    /**
+     * Make a request for a page of resources.
+     *
+     * @param client client used to make the request
+     * @param request request for the page
+     * @return Page returned for the request
+     */
+    protected Page<T> pageForRequest(final TwilioRestClient client, final Request request) {
+        return pageForResponse(client, client.request(request)).withRequestUrl(request.constructURL().toString());
+    }
+
+    /**
+     * Read a page of resources from a response.
+     *
+     * @param client client the request was made with
+     * @param response response to the page request
+     * @return Page contained in the response
+     */
+    protected Page<T> pageForResponse(final TwilioRestClient client, final Response response) {
+        throw new UnsupportedOperationException(getClass().getName() + " must override pageForResponse");
+    }
+
     public Integer getPageSize() {
         return pageSize;
     }
@@ -159,4 +277,57 @@ public abstract class Reader<T extends Resource> {
         return this;
     }
 
+    public CheckpointStore getCheckpointStore() {
+        return checkpointStore;
+    }
+
+    public String getCheckpointKey() {
+        return checkpointKey;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Save the position of reads to a file in {@code ~/.twilio/checkpoints} so they can be resumed.
+     *
+     * @param key key identifying the read
+     * @param interval number of pages between checkpoints
+     * @return this reader
+     */
+    public Reader<T> checkpoint(final String key, final int interval) {
+        return checkpoint(new FileCheckpointStore(), key, interval);
+    }
+
+    /**
+     * Save the position of reads to a checkpoint store so they can be resumed.
+     *
+     * @param store store the checkpoints are saved to
+     * @param key key identifying the read
+     * @param interval number of pages between checkpoints
+     * @return this reader
+     */
+    public Reader<T> checkpoint(final CheckpointStore store, final String key, final int interval) {
+        this.checkpointStore = store;
+        this.checkpointKey = key;
+        this.checkpointInterval = interval;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the number of pages fetched in the background ahead of the page being read.
+     *
+     * @param pages number of pages to prefetch, 0 to fetch pages only when needed
+     * @return this reader
+     */
+    public Reader<T> prefetch(final int pages) {
+        this.prefetch = pages;
+        return this;
+    }
+
 }
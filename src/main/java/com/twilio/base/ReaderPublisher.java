@@ -0,0 +1,184 @@
+package com.twilio.base;
+
+import com.twilio.http.TwilioRestClient;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the resources of a reader as demand is signalled.
+ *
+ * <p>
+ *     A page is fetched only when every buffered resource has been requested and delivered and more are still
+ *     requested, so at most one page is held per subscriber regardless of the size of the list. Each subscriber
+ *     reads the list from the first page. Pages are fetched on the given executor and resources are delivered
+ *     on the thread that requested them or fetched their page.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+public class ReaderPublisher<T extends Resource> implements Publisher<T> {
+
+    private final Reader<T> reader;
+    private final TwilioRestClient client;
+    private final Executor executor;
+
+    /**
+     * Create a new publisher.
+     *
+     * @param reader reader used to fetch pages
+     * @param client client used to make requests
+     * @param executor executor the pages are fetched on
+     */
+    public ReaderPublisher(final Reader<T> reader, final TwilioRestClient client, final Executor executor) {
+        this.reader = reader;
+        this.client = client;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        ReaderSubscription subscription = new ReaderSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class ReaderSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Deque<T> buffer = new ArrayDeque<>();
+        private final Long limit = reader.getLimit();
+
+        private volatile boolean cancelled;
+        private volatile boolean fetching;
+        private volatile RuntimeException error;
+        private volatile IllegalArgumentException invalidRequest;
+        private volatile Page<T> fetched;
+        private Page<T> page;
+        private boolean done;
+        private long emitted;
+
+        private ReaderSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(
+                    "Requested " + n + " resources, must request at least one"
+                );
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void fetch() {
+            fetching = true;
+            final Page<T> previous = page;
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        fetched = previous == null ? reader.firstPage(client) : reader.nextPage(previous, client);
+                    } catch (final RuntimeException e) {
+                        error = e;
+                    }
+
+                    fetching = false;
+                    drain();
+                }
+            });
+        }
+
+        /**
+         * Deliver buffered resources and fetch pages, from one thread at a time.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (done || cancelled) {
+                    buffer.clear();
+                    done = true;
+                } else if (invalidRequest != null) {
+                    done = true;
+                    buffer.clear();
+                    subscriber.onError(invalidRequest);
+                } else if (fetching) {
+                    // Resumed once the page arrives
+                } else {
+                    if (fetched != null) {
+                        page = fetched;
+                        fetched = null;
+                        buffer.addAll(page.getRecords());
+                    }
+
+                    long demand = requested.get();
+                    long delivered = 0;
+
+                    while (delivered != demand && !buffer.isEmpty() && !cancelled) {
+                        subscriber.onNext(buffer.poll());
+                        delivered++;
+                        emitted++;
+
+                        if (limit != null && emitted >= limit) {
+                            complete();
+                            break;
+                        }
+                    }
+
+                    if (delivered != 0 && demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-delivered);
+                    }
+
+                    if (!done && !cancelled && buffer.isEmpty()) {
+                        if (error != null) {
+                            done = true;
+                            subscriber.onError(error);
+                        } else if (page != null && !page.hasNextPage()) {
+                            complete();
+                        } else if (requested.get() > 0) {
+                            fetch();
+                        }
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void complete() {
+            done = true;
+            buffer.clear();
+            subscriber.onComplete();
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package com.twilio.base;
 
+import com.google.common.base.Function;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
 import com.twilio.http.TwilioRestClient;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A collection of resources.
@@ -22,6 +39,19 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
     private Page<E> page;
     private Iterator<E> iterator;
 
+    private int prefetchPages;
+    private ListeningExecutorService prefetchExecutor;
+    private final Deque<ListenableFuture<Page<E>>> prefetched = new ArrayDeque<>();
+    private ListenableFuture<Page<E>> prefetchTail;
+    private long pagesRequested = 1;
+
+    private CheckpointStore checkpointStore;
+    private String checkpointKey;
+    private int checkpointInterval;
+    private int pagesSinceCheckpoint;
+    private boolean checkpointDue;
+    private boolean checkpointCleared;
+
     /**
      * Initialize the resource set.
      *
@@ -39,6 +69,14 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         if (reader.getLimit() != null) {
             this.pageLimit = (long)(Math.ceil((double)reader.getLimit() / (double)page.getPageSize()));
         }
+
+        if (reader.getPrefetch() > 0) {
+            setPrefetch(reader.getPrefetch());
+        }
+
+        if (reader.getCheckpointStore() != null) {
+            setCheckpoint(reader.getCheckpointStore(), reader.getCheckpointKey(), reader.getCheckpointInterval());
+        }
     }
 
     public boolean isAutoPaging() {
@@ -47,6 +85,43 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
 
     public ResourceSet setAutoPaging(final boolean autoPaging) {
         this.autoPaging = autoPaging;
+
+        if (autoPaging) {
+            prefetch();
+        } else {
+            cancelPrefetch();
+        }
+
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetchPages;
+    }
+
+    /**
+     * Fetch following pages in the background while the current page is consumed.
+     *
+     * @param pages number of pages to keep buffered ahead of the current page, 0 to disable
+     * @return this
+     */
+    public ResourceSet<E> setPrefetch(final int pages) {
+        return setPrefetch(pages, Twilio.getExecutorService());
+    }
+
+    /**
+     * Fetch following pages in the background while the current page is consumed.
+     *
+     * @param pages number of pages to keep buffered ahead of the current page, 0 to disable
+     * @param executor executor the pages are fetched on
+     * @return this
+     */
+    public ResourceSet<E> setPrefetch(final int pages, final ListeningExecutorService executor) {
+        cancelPrefetch();
+
+        this.prefetchPages = pages;
+        this.prefetchExecutor = executor;
+        prefetch();
         return this;
     }
 
@@ -72,12 +147,190 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return pageLimit;
     }
 
+    /**
+     * Save the position of the read to a checkpoint store every {@code interval} pages.
+     *
+     * <p>
+     *     A checkpoint is saved once every record of the pages before it has been handed out and the next record
+     *     is requested, so resuming never skips a record. The checkpoint is cleared once the last page has been
+     *     read, but kept when the read stops early or at its limit.
+     * </p>
+     *
+     * @param store store the checkpoints are saved to
+     * @param key key identifying the read
+     * @param interval number of pages between checkpoints
+     * @return this
+     */
+    public ResourceSet<E> setCheckpoint(final CheckpointStore store, final String key, final int interval) {
+        this.checkpointStore = store;
+        this.checkpointKey = key;
+        this.checkpointInterval = Math.max(1, interval);
+        return this;
+    }
+
+    /**
+     * Continue counting from the number of records processed before the current page.
+     */
+    void resumeAt(final long processed) {
+        this.processed = processed;
+        this.pages += processed / Math.max(1, page.getPageSize());
+        this.pagesRequested = this.pages;
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new ResourceSetIterator<>(this);
     }
 
+    /**
+     * Lazily iterate the resources.
+     *
+     * <p>
+     *     Pages are fetched only as the iteration reaches them, so operations that stop early, such as
+     *     {@code first()}, {@code anyMatch()} or {@code limit()}, do not fetch further pages.
+     * </p>
+     *
+     * @return fluent view of the resources
+     */
+    public FluentIterable<E> stream() {
+        return FluentIterable.from(this);
+    }
+
+    /**
+     * Lazily iterate the resources a page at a time.
+     *
+     * @return fluent view of the remaining resources of each page
+     */
+    public FluentIterable<List<E>> chunks() {
+        return new FluentIterable<List<E>>() {
+            @Override
+            public Iterator<List<E>> iterator() {
+                return new AbstractIterator<List<E>>() {
+                    @Override
+                    protected List<E> computeNext() {
+                        List<E> chunk = nextChunk();
+                        return chunk.isEmpty() ? endOfData() : chunk;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Apply a function to the resources on an executor, a page at a time, while following pages are fetched.
+     *
+     * <p>
+     *     Results are returned in the order of the resources. Up to {@code parallelism} pages are processed at
+     *     once; fetching waits when that many pages are waiting to be consumed. The returned view can be iterated
+     *     once.
+     * </p>
+     *
+     * @param function function to apply to each resource
+     * @param executor executor the function runs on
+     * @param parallelism number of pages processed at the same time
+     * @param <R> type of the result
+     * @return fluent view of the results
+     */
+    public <R> FluentIterable<R> parallelStream(final Function<? super E, ? extends R> function,
+                                                final ListeningExecutorService executor,
+                                                final int parallelism) {
+        final Iterator<List<E>> chunks = chunks().iterator();
+        final Deque<ListenableFuture<List<R>>> inFlight = new ArrayDeque<>();
+
+        final Iterator<List<R>> results = new AbstractIterator<List<R>>() {
+            @Override
+            protected List<R> computeNext() {
+                while (inFlight.size() < parallelism && chunks.hasNext()) {
+                    final List<E> chunk = chunks.next();
+                    inFlight.add(executor.submit(new Callable<List<R>>() {
+                        @Override
+                        public List<R> call() {
+                            return new ArrayList<R>(Lists.transform(chunk, function));
+                        }
+                    }));
+                }
+
+                ListenableFuture<List<R>> next = inFlight.poll();
+                return next == null ? endOfData() : await(next, "processing resources");
+            }
+        };
+
+        final Iterator<R> flattened = new AbstractIterator<R>() {
+            private Iterator<R> current = Collections.emptyIterator();
+
+            @Override
+            protected R computeNext() {
+                while (!current.hasNext()) {
+                    if (!results.hasNext()) {
+                        return endOfData();
+                    }
+                    current = results.next().iterator();
+                }
+                return current.next();
+            }
+        };
+
+        return new FluentIterable<R>() {
+            @Override
+            public Iterator<R> iterator() {
+                return flattened;
+            }
+        };
+    }
+
+    /**
+     * Estimate the number of resources left to iterate.
+     *
+     * <p>
+     *     Bounded by the limit when one is set, and by the size of the current page when it is the last.
+     * </p>
+     *
+     * @return estimated remaining resources, or Long.MAX_VALUE if unknown
+     */
+    public long estimateSize() {
+        if (getLimit() != null) {
+            return Math.max(0, getLimit() - processed);
+        }
+
+        if (autoPaging && page.hasNextPage()) {
+            return Long.MAX_VALUE;
+        }
+
+        return page.getRecords().size();
+    }
+
+    private List<E> nextChunk() {
+        saveCheckpointIfDue();
+
+        long remaining = getLimit() == null ? Long.MAX_VALUE : getLimit() - processed;
+        if (remaining <= 0 || !iterator.hasNext()) {
+            return Collections.emptyList();
+        }
+
+        List<E> chunk = new ArrayList<>();
+        while (chunk.size() < remaining && iterator.hasNext()) {
+            chunk.add(iterator.next());
+        }
+
+        processed += chunk.size();
+        if (autoPaging && chunk.size() < remaining) {
+            fetchNextPage();
+        }
+
+        return chunk;
+    }
+
     private void fetchNextPage() {
+        if (!page.hasNextPage()) {
+            // Every record of the last page has been handed out, so the read is complete
+            clearCheckpoint();
+        }
+
+        if (prefetchPages > 0) {
+            fetchPrefetchedPage();
+            return;
+        }
+
         if (!page.hasNextPage() || pages >= pageLimit) {
             return;
         }
@@ -85,6 +338,117 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         pages++;
         page = reader.nextPage(page, client);
         iterator = page.getRecords().iterator();
+        pageLoaded();
+    }
+
+    private void fetchPrefetchedPage() {
+        if (prefetched.isEmpty()) {
+            // Prefetching was cancelled, start again from the current page
+            prefetch();
+        }
+
+        ListenableFuture<Page<E>> future = prefetched.poll();
+        if (future == null) {
+            return;
+        }
+
+        Page<E> next = await(future, "fetching the next page");
+        if (next == null) {
+            cancelPrefetch();
+            return;
+        }
+
+        pages++;
+        page = next;
+        iterator = page.getRecords().iterator();
+        pageLoaded();
+        prefetch();
+    }
+
+    private void pageLoaded() {
+        if (checkpointStore != null && ++pagesSinceCheckpoint >= checkpointInterval && page.getRequestUrl() != null) {
+            checkpointDue = true;
+        }
+    }
+
+    /**
+     * Save a checkpoint at the start of the current page, once the records before it have been processed.
+     */
+    private void saveCheckpointIfDue() {
+        if (!checkpointDue) {
+            return;
+        }
+
+        checkpointDue = false;
+        pagesSinceCheckpoint = 0;
+        checkpointStore.save(checkpointKey, new Checkpoint(page.getRequestUrl(), processed));
+    }
+
+    private void clearCheckpoint() {
+        if (checkpointStore != null && autoPaging && !checkpointCleared) {
+            checkpointCleared = true;
+            checkpointDue = false;
+            checkpointStore.clear(checkpointKey);
+        }
+    }
+
+    /**
+     * Queue requests for following pages until the buffer is full or the page limit is reached. Each request
+     * starts once the page before it has arrived, since that page holds the next page url.
+     */
+    private void prefetch() {
+        if (!autoPaging || prefetchPages <= 0) {
+            return;
+        }
+
+        if (prefetchTail == null) {
+            prefetchTail = Futures.immediateFuture(page);
+            pagesRequested = pages;
+        }
+
+        while (prefetched.size() < prefetchPages && pagesRequested < pageLimit) {
+            prefetchTail = Futures.transform(prefetchTail, new AsyncFunction<Page<E>, Page<E>>() {
+                @Override
+                public ListenableFuture<Page<E>> apply(final Page<E> previous) {
+                    if (previous == null || !previous.hasNextPage()) {
+                        return Futures.immediateFuture(null);
+                    }
+
+                    return prefetchExecutor.submit(new Callable<Page<E>>() {
+                        @Override
+                        public Page<E> call() {
+                            return reader.nextPage(previous, client);
+                        }
+                    });
+                }
+            });
+
+            prefetched.add(prefetchTail);
+            pagesRequested++;
+        }
+    }
+
+    private static <V> V await(final ListenableFuture<V> future, final String action) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while " + action, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiException("Failed " + action, e.getCause());
+        }
+    }
+
+    private void cancelPrefetch() {
+        for (ListenableFuture<Page<E>> future : prefetched) {
+            future.cancel(true);
+        }
+
+        prefetched.clear();
+        prefetchTail = null;
     }
 
     private class ResourceSetIterator<E extends Resource> implements Iterator<E> {
@@ -109,6 +473,7 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
                 throw new NoSuchElementException();
             }
 
+            resourceSet.saveCheckpointIfDue();
             E element = resourceSet.iterator.next();
             if (resourceSet.isAutoPaging() && !resourceSet.iterator.hasNext()) {
                 resourceSet.fetchNextPage();
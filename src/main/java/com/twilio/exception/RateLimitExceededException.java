@@ -0,0 +1,23 @@
+package com.twilio.exception;
+
+public class RateLimitExceededException extends ApiException {
+
+    private static final long serialVersionUID = 4021794468309372815L;
+
+    private final String key;
+
+    /**
+     * Create a new Rate Limit Exceeded Exception.
+     *
+     * @param message exception message
+     * @param key rate limit key that was exhausted
+     */
+    public RateLimitExceededException(final String message, final String key) {
+        super(message, null, null, 429, null);
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,201 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link HttpClient}.
+ *
+ * <p>
+ *     Requests complete through callbacks on the returned futures, so in-flight requests do not hold a thread.
+ * </p>
+ */
+public abstract class AsyncHttpClient {
+
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-async-retry-%d").build()
+    );
+
+    /**
+     * Make a request, retrying server errors.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request) {
+        return reliableRequestAsync(request, HttpClient.RETRY_CODES, HttpClient.RETRIES, HttpClient.DELAY_MILLIS);
+    }
+
+    /**
+     * Make a request, retrying responses that match the retry codes.
+     *
+     * @param request request to make
+     * @param retryCodes codes used for retries
+     * @param retries max number of retries
+     * @param delayMillis delays between retries
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request, final int[] retryCodes,
+                                                           final int retries, final long delayMillis) {
+        SettableFuture<Response> result = SettableFuture.create();
+        attempt(request, retryCodes, retries, delayMillis, result);
+        return result;
+    }
+
+    private void attempt(final Request request, final int[] retryCodes, final int retries, final long delayMillis,
+                         final SettableFuture<Response> result) {
+        Futures.addCallback(makeRequestAsync(request), new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response response) {
+                if (retries <= 1 || !shouldRetry(response, retryCodes)) {
+                    result.set(response);
+                    return;
+                }
+
+                if (response != null) {
+                    // Release the connection held by a response that is about to be retried
+                    response.close();
+                }
+
+                RETRY_SCHEDULER.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        attempt(request, retryCodes, retries - 1, delayMillis, result);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                result.setException(t);
+            }
+        });
+    }
+
+    /**
+     * Make a request, retrying as the retry policy decides.
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding whether and when to retry
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request, final RetryPolicy retryPolicy) {
+        return reliableRequestAsync(request, retryPolicy, null);
+    }
+
+    /**
+     * Make a request, retrying as the retry policy decides and pacing every attempt with a rate limiter.
+     *
+     * <p>
+     *     The calling thread waits for permission for the first attempt. Retries wait for permission without
+     *     holding a thread. Every response is reported to the rate limiter, so it adapts to every throttled attempt.
+     * </p>
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding whether and when to retry
+     * @param rateLimiter rate limiter pacing the attempts, or null
+     * @return future that resolves to the Response of the HTTP request
+     * @throws com.twilio.exception.RateLimitExceededException if the rate limiter did not permit the first attempt
+     *     in time
+     */
+    public ListenableFuture<Response> reliableRequestAsync(final Request request, final RetryPolicy retryPolicy,
+                                                           final RateLimiter rateLimiter) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(request);
+        }
+
+        SettableFuture<Response> result = SettableFuture.create();
+        attempt(request, retryPolicy, rateLimiter, 0, result);
+        return result;
+    }
+
+    private void attempt(final Request request, final RetryPolicy retryPolicy, final RateLimiter rateLimiter,
+                         final int retries, final SettableFuture<Response> result) {
+        retryPolicy.recordAttempt();
+        Futures.addCallback(makeRequestAsync(request), new FutureCallback<Response>() {
+            @Override
+            public void onSuccess(final Response response) {
+                if (rateLimiter != null) {
+                    rateLimiter.record(request, response);
+                }
+
+                long delayMillis = retryPolicy.nextRetryDelayMillis(request, response, retries);
+                if (delayMillis == RetryPolicy.NO_RETRY) {
+                    result.set(response);
+                    return;
+                }
+
+                if (response != null) {
+                    // Release the connection held by a response that is about to be retried
+                    response.close();
+                }
+
+                RETRY_SCHEDULER.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        retry(request, retryPolicy, rateLimiter, retries + 1, result);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                // A connection failure is retried as the policy decides for a missing response
+                boolean connectionFailure = t instanceof RuntimeException &&
+                    HttpClient.isConnectionFailure((RuntimeException) t);
+                long delayMillis = connectionFailure ? retryPolicy.nextRetryDelayMillis(request, null, retries) :
+                    RetryPolicy.NO_RETRY;
+                if (delayMillis == RetryPolicy.NO_RETRY) {
+                    result.setException(t);
+                    return;
+                }
+
+                RETRY_SCHEDULER.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        retry(request, retryPolicy, rateLimiter, retries + 1, result);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private void retry(final Request request, final RetryPolicy retryPolicy, final RateLimiter rateLimiter,
+                       final int retries, final SettableFuture<Response> result) {
+        if (rateLimiter == null) {
+            attempt(request, retryPolicy, null, retries, result);
+            return;
+        }
+
+        Futures.addCallback(rateLimiter.acquireAsync(request, RETRY_SCHEDULER), new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void permitted) {
+                attempt(request, retryPolicy, rateLimiter, retries, result);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                result.setException(t);
+            }
+        });
+    }
+
+    protected boolean shouldRetry(final Response response, final int[] retryCodes) {
+        return response == null || HttpClient.matchesRetryCode(response.getStatusCode(), retryCodes);
+    }
+
+    /**
+     * Make a request without blocking the calling thread.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    public abstract ListenableFuture<Response> makeRequestAsync(final Request request);
+}
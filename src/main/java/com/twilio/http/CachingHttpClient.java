@@ -0,0 +1,474 @@
+package com.twilio.http;
+
+import com.google.common.base.Ticker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Http client caching the responses of GET requests made through another client.
+ *
+ * <p>
+ *     Only requests matching a TTL rule are cached, so nothing is cached unless rules or a default TTL are set.
+ *     Successful responses are kept in a bounded, least recently used store keyed by url, query parameters and
+ *     credentials. While fresh they are served without a request. Once stale, a response carrying an {@code ETag}
+ *     or {@code Last-Modified} header is revalidated with a conditional request, and kept if Twilio answers
+ *     {@code 304 Not Modified}.
+ * </p>
+ *
+ * <p>
+ *     Any other request to a url drops the responses cached for it and for its parent collection, so fetchers and
+ *     readers see their own updates.
+ * </p>
+ *
+ * <pre>
+ *     HttpClient cached = new CachingHttpClient.Builder(new NetworkHttpClient())
+ *         .ttl(Domains.PRICING.toString(), "/v1/", TimeUnit.HOURS.toMillis(12))
+ *         .ttl(Domains.TASKROUTER.toString(), "/v1/Workspaces/", TimeUnit.MINUTES.toMillis(5))
+ *         .build();
+ * </pre>
+ */
+public class CachingHttpClient extends HttpClient implements Closeable {
+
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final int NOT_MODIFIED = 304;
+
+    private final HttpClient delegate;
+    private final List<Rule> rules;
+    private final long defaultTtlMillis;
+    private final Ticker ticker;
+    private final Map<Key, Entry> entries;
+    // Keys of the cached responses by url without its query, guarded by the entries lock
+    private final Map<String, Set<Key>> keysByPath = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private CachingHttpClient(final Builder b) {
+        this.delegate = b.delegate;
+        this.rules = new ArrayList<>(b.rules);
+        this.defaultTtlMillis = b.defaultTtlMillis;
+        this.ticker = b.ticker;
+
+        final int maxEntries = b.maxEntries;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    unindex(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Make a request, answering it from the cache when possible.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    @Override
+    public Response makeRequest(final Request request) {
+        if (request.getMethod() != HttpMethod.GET) {
+            Response response = delegate.makeRequest(request);
+            invalidate(request.getUrl());
+            invalidate(collectionUrl(request.getUrl()));
+            return response;
+        }
+
+        long ttlMillis = ttlMillis(request);
+        if (ttlMillis <= 0) {
+            return delegate.makeRequest(request);
+        }
+
+        Key key = new Key(request);
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+
+        long now = ticker.read();
+        if (cached != null && now < cached.expiresAt) {
+            hits.incrementAndGet();
+            return cached.toResponse();
+        }
+
+        if (cached != null && cached.hasValidators()) {
+            Response response = delegate.makeRequest(cached.conditional(request));
+            if (response != null && response.getStatusCode() == NOT_MODIFIED) {
+                response.close();
+                revalidations.incrementAndGet();
+                store(key, cached.renew(now + TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+                return cached.toResponse();
+            }
+
+            misses.incrementAndGet();
+            return store(key, response, now, ttlMillis);
+        }
+
+        misses.incrementAndGet();
+        return store(key, delegate.makeRequest(request), now, ttlMillis);
+    }
+
+    /**
+     * Drop every cached response for a url, whatever its query parameters, including those in the url, and
+     * credentials.
+     *
+     * @param url url of the responses to drop
+     */
+    public void invalidate(final String url) {
+        synchronized (entries) {
+            Set<Key> keys = keysByPath.remove(path(url));
+            if (keys != null) {
+                entries.keySet().removeAll(keys);
+            }
+        }
+    }
+
+    /**
+     * Drop every cached response.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            keysByPath.clear();
+        }
+    }
+
+    public HttpClient getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Drop every cached response and close the wrapped client if it holds resources.
+     *
+     * @throws IOException if the wrapped client fails to shut down
+     */
+    @Override
+    public void close() throws IOException {
+        clear();
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+
+    /**
+     * Number of requests answered from the cache without a request.
+     *
+     * @return cache hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of cacheable requests that needed a full response.
+     *
+     * @return cache misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Number of stale responses confirmed unchanged by a conditional request.
+     *
+     * @return revalidations
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * Number of responses dropped to stay within the maximum number of entries.
+     *
+     * @return evictions
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Number of responses currently cached.
+     *
+     * @return cached responses
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Url of the collection a resource url belongs to, such as {@code .../Messages.json} for
+     * {@code .../Messages/SM123.json}.
+     */
+    static String collectionUrl(final String url) {
+        String path = path(url);
+        int slash = path.lastIndexOf('/');
+        if (slash < 0 || slash <= path.indexOf("//") + 1) {
+            return path;
+        }
+
+        int dot = path.lastIndexOf('.');
+        String extension = dot > slash ? path.substring(dot) : "";
+        return path.substring(0, slash) + extension;
+    }
+
+    /**
+     * Url without its query, such as {@code .../Messages.json} for {@code .../Messages.json?Page=1&PageToken=PA1}.
+     */
+    static String path(final String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+
+    private long ttlMillis(final Request request) {
+        URI uri = URI.create(request.getUrl());
+        String host = uri.getHost();
+        String domain = host == null ? "" : host.substring(0, Math.max(host.indexOf('.'), 0));
+        String path = uri.getPath() == null ? "" : uri.getPath();
+
+        for (final Rule rule : rules) {
+            if (rule.domain.equals(domain) && path.startsWith(rule.pathPrefix)) {
+                return rule.ttlMillis;
+            }
+        }
+
+        return defaultTtlMillis;
+    }
+
+    private Response store(final Key key, final Response response, final long now, final long ttlMillis) {
+        if (response == null || response.getStatusCode() != TwilioRestClient.HTTP_STATUS_CODE_OK) {
+            return response;
+        }
+
+        String cacheControl = response.getHeader(CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.toLowerCase().contains("no-store")) {
+            return response;
+        }
+
+        Entry entry = new Entry(
+            response.getContent(),
+            response.getHeaders(),
+            now + TimeUnit.MILLISECONDS.toNanos(ttlMillis)
+        );
+        store(key, entry);
+        return entry.toResponse();
+    }
+
+    private void store(final Key key, final Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            if (entries.containsKey(key)) {
+                Set<Key> keys = keysByPath.get(key.path);
+                if (keys == null) {
+                    keys = new HashSet<>();
+                    keysByPath.put(key.path, keys);
+                }
+                keys.add(key);
+            }
+        }
+    }
+
+    private void unindex(final Key key) {
+        Set<Key> keys = keysByPath.get(key.path);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByPath.remove(key.path);
+        }
+    }
+
+    /**
+     * Identity of a cached response.
+     */
+    private static final class Key {
+        private final String url;
+        private final String path;
+        private final Map<String, List<String>> queryParams;
+        private final String username;
+        private final String password;
+
+        private Key(final Request request) {
+            this.url = request.getUrl();
+            this.path = path(url);
+            this.queryParams = new HashMap<>(request.getQueryParams());
+            this.username = request.getUsername();
+            this.password = request.getPassword();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return url.equals(other.url) &&
+                   queryParams.equals(other.queryParams) &&
+                   Objects.equals(username, other.username) &&
+                   Objects.equals(password, other.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, queryParams, username, password);
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    private static final class Entry {
+        private final String content;
+        private final Map<String, String> headers;
+        private final long expiresAt;
+
+        private Entry(final String content, final Map<String, String> headers, final long expiresAt) {
+            this.content = content;
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean hasValidators() {
+            return headers.containsKey(ETAG) || headers.containsKey(LAST_MODIFIED);
+        }
+
+        private Request conditional(final Request request) {
+            Request conditional = new Request(request.getMethod(), request.getUrl());
+            for (final Map.Entry<String, List<String>> param : request.getQueryParams().entrySet()) {
+                for (final String value : param.getValue()) {
+                    conditional.addQueryParam(param.getKey(), value);
+                }
+            }
+            for (final Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                conditional.addHeader(header.getKey(), header.getValue());
+            }
+            conditional.setAuth(request.getUsername(), request.getPassword());
+
+            if (headers.containsKey(ETAG)) {
+                conditional.addHeader("If-None-Match", headers.get(ETAG));
+            }
+            if (headers.containsKey(LAST_MODIFIED)) {
+                conditional.addHeader("If-Modified-Since", headers.get(LAST_MODIFIED));
+            }
+            return conditional;
+        }
+
+        private Entry renew(final long expiresAt) {
+            return new Entry(content, headers, expiresAt);
+        }
+
+        private Response toResponse() {
+            return new Response(content, TwilioRestClient.HTTP_STATUS_CODE_OK, headers);
+        }
+    }
+
+    /**
+     * Time to live for responses of one domain and path prefix.
+     */
+    private static final class Rule {
+        private final String domain;
+        private final String pathPrefix;
+        private final long ttlMillis;
+
+        private Rule(final String domain, final String pathPrefix, final long ttlMillis) {
+            this.domain = domain;
+            this.pathPrefix = pathPrefix;
+            this.ttlMillis = ttlMillis;
+        }
+    }
+
+    public static class Builder {
+        private final HttpClient delegate;
+        private final List<Rule> rules = new ArrayList<>();
+        private int maxEntries = 1000;
+        private long defaultTtlMillis;
+        private Ticker ticker = Ticker.systemTicker();
+
+        /**
+         * Create a builder for a cache in front of a client.
+         *
+         * @param delegate client making the requests
+         */
+        public Builder(final HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Set the maximum number of responses kept, evicting the least recently used beyond it.
+         *
+         * @param maxEntries number of responses
+         * @return this
+         */
+        public Builder maxEntries(final int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Cache responses of a domain whose path starts with a prefix. The first matching rule applies.
+         *
+         * @param domain Twilio domain, such as {@code pricing}
+         * @param pathPrefix path prefix, such as {@code /v1/Voice/Countries}
+         * @param ttlMillis time responses are served without revalidation, 0 to not cache them
+         * @return this
+         */
+        public Builder ttl(final String domain, final String pathPrefix, final long ttlMillis) {
+            this.rules.add(new Rule(domain, pathPrefix, ttlMillis));
+            return this;
+        }
+
+        /**
+         * Cache every response of a domain.
+         *
+         * @param domain Twilio domain, such as {@code pricing}
+         * @param ttlMillis time responses are served without revalidation, 0 to not cache them
+         * @return this
+         */
+        public Builder ttl(final String domain, final long ttlMillis) {
+            return ttl(domain, "/", ttlMillis);
+        }
+
+        /**
+         * Set the time to live of responses no rule matches.
+         *
+         * @param defaultTtlMillis time responses are served without revalidation, 0 to not cache them
+         * @return this
+         */
+        public Builder defaultTtl(final long defaultTtlMillis) {
+            this.defaultTtlMillis = defaultTtlMillis;
+            return this;
+        }
+
+        public Builder ticker(final Ticker ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CachingHttpClient build() {
+            return new CachingHttpClient(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.twilio.http;
+
+import com.twilio.rest.Domains;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection pool settings for {@link NetworkHttpClient}.
+ *
+ * <p>
+ *     Every Twilio domain is a separate route in the pool, so a busy domain can be given more connections
+ *     without starving the others.
+ * </p>
+ */
+public class ConnectionPoolConfig {
+
+    private final int maxTotal;
+    private final int defaultMaxPerRoute;
+    private final Map<String, Integer> maxPerHost;
+    private final long timeToLiveMillis;
+    private final long maxIdleMillis;
+    private final int validateAfterInactivityMillis;
+
+    private ConnectionPoolConfig(final Builder b) {
+        this.maxTotal = b.maxTotal;
+        this.defaultMaxPerRoute = b.defaultMaxPerRoute;
+        this.maxPerHost = Collections.unmodifiableMap(new HashMap<>(b.maxPerHost));
+        this.timeToLiveMillis = b.timeToLiveMillis;
+        this.maxIdleMillis = b.maxIdleMillis;
+        this.validateAfterInactivityMillis = b.validateAfterInactivityMillis;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public int getDefaultMaxPerRoute() {
+        return defaultMaxPerRoute;
+    }
+
+    public Map<String, Integer> getMaxPerHost() {
+        return maxPerHost;
+    }
+
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    public long getMaxIdleMillis() {
+        return maxIdleMillis;
+    }
+
+    public int getValidateAfterInactivityMillis() {
+        return validateAfterInactivityMillis;
+    }
+
+    public static class Builder {
+        private int maxTotal = 20;
+        private int defaultMaxPerRoute = 10;
+        private final Map<String, Integer> maxPerHost = new HashMap<>();
+        private long timeToLiveMillis = -1;
+        private long maxIdleMillis = 0;
+        private int validateAfterInactivityMillis = 2000;
+
+        public Builder maxTotal(final int maxTotal) {
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        public Builder defaultMaxPerRoute(final int defaultMaxPerRoute) {
+            this.defaultMaxPerRoute = defaultMaxPerRoute;
+            return this;
+        }
+
+        /**
+         * Set the connection limit for a Twilio domain.
+         *
+         * @param domain Twilio domain
+         * @param max max connections to the domain
+         * @return this
+         */
+        public Builder maxPerDomain(final Domains domain, final int max) {
+            return maxPerDomain(domain, null, max);
+        }
+
+        /**
+         * Set the connection limit for a Twilio domain in a region.
+         *
+         * @param domain Twilio domain
+         * @param region region of the domain, or null
+         * @param max max connections to the domain
+         * @return this
+         */
+        public Builder maxPerDomain(final Domains domain, final String region, final int max) {
+            String host = domain.toString() + (region == null ? "" : "." + region) + ".twilio.com";
+            return maxPerHost(host, max);
+        }
+
+        /**
+         * Set the connection limit for a host.
+         *
+         * @param host host name
+         * @param max max connections to the host
+         * @return this
+         */
+        public Builder maxPerHost(final String host, final int max) {
+            this.maxPerHost.put(host, max);
+            return this;
+        }
+
+        /**
+         * Set how long a connection may be reused after it is opened.
+         *
+         * @param timeToLiveMillis connection time to live, or a non-positive value to keep connections indefinitely
+         * @return this
+         */
+        public Builder timeToLiveMillis(final long timeToLiveMillis) {
+            this.timeToLiveMillis = timeToLiveMillis;
+            return this;
+        }
+
+        /**
+         * Set how long a connection may sit idle before it is evicted.
+         *
+         * <p>
+         *     When set, a background thread also evicts connections past their time to live.
+         * </p>
+         *
+         * @param maxIdleMillis max idle time, or a non-positive value to disable eviction
+         * @return this
+         */
+        public Builder maxIdleMillis(final long maxIdleMillis) {
+            this.maxIdleMillis = maxIdleMillis;
+            return this;
+        }
+
+        /**
+         * Set the inactivity period after which a pooled connection is validated before it is leased.
+         *
+         * @param validateAfterInactivityMillis inactivity period, or a non-positive value to disable validation
+         * @return this
+         */
+        public Builder validateAfterInactivityMillis(final int validateAfterInactivityMillis) {
+            this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+            return this;
+        }
+
+        public ConnectionPoolConfig build() {
+            return new ConnectionPoolConfig(this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.twilio.http;
+
+/**
+ * Snapshot of connection pool usage for a route, or for the whole pool.
+ */
+public class ConnectionPoolStats {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+    private final long leaseCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    /**
+     * Create a connection pool snapshot.
+     *
+     * @param leased connections in use
+     * @param available idle connections ready to be leased
+     * @param pending requests waiting for a connection
+     * @param max connection limit
+     * @param leaseCount connections leased so far
+     * @param totalWaitNanos time spent waiting for connections so far
+     * @param maxWaitNanos longest wait for a connection so far
+     */
+    public ConnectionPoolStats(final int leased, final int available, final int pending, final int max,
+                               final long leaseCount, final long totalWaitNanos, final long maxWaitNanos) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+        this.leaseCount = leaseCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public int getLeased() {
+        return leased;
+    }
+
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Average time a request waited for a connection.
+     *
+     * @return average pool wait in nanoseconds
+     */
+    public long getAverageWaitNanos() {
+        return leaseCount == 0 ? 0 : totalWaitNanos / leaseCount;
+    }
+
+    @Override
+    public String toString() {
+        return "[leased: " + leased + "; available: " + available + "; pending: " + pending + "; max: " + max
+            + "; leases: " + leaseCount + "; average wait: " + getAverageWaitNanos() + "ns]";
+    }
+}
@@ -0,0 +1,127 @@
+package com.twilio.http;
+
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import okhttp3.ConnectionPool;
+import okhttp3.FormBody;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client that multiplexes concurrent requests over HTTP/2 connections.
+ *
+ * <p>
+ *     Each domain host is served by a single multiplexed connection when the server negotiates HTTP/2 through
+ *     ALPN. If negotiation fails, requests fall back to pooled HTTP/1.1 connections.
+ * </p>
+ *
+ * <p>
+ *     OkHttp is an optional dependency of this library, so applications using this client must add
+ *     {@code com.squareup.okhttp3:okhttp} to their own dependencies.
+ * </p>
+ */
+public class Http2HttpClient extends HttpClient {
+
+    private static final int CONNECTION_TIMEOUT = 10000;
+    private static final int SOCKET_TIMEOUT = 30500;
+    private static final int MAX_IDLE_CONNECTIONS = 10;
+    private static final long KEEP_ALIVE_MILLIS = 5 * 60 * 1000L;
+
+    private final OkHttpClient client;
+
+    /**
+     * Create a new HTTP/2 Client.
+     */
+    public Http2HttpClient() {
+        this(new OkHttpClient.Builder()
+            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS))
+            .connectTimeout(CONNECTION_TIMEOUT, TimeUnit.MILLISECONDS)
+            .readTimeout(SOCKET_TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Create a new HTTP/2 Client using custom configuration.
+     *
+     * @param clientBuilder an OkHttpClient.Builder.
+     */
+    public Http2HttpClient(final OkHttpClient.Builder clientBuilder) {
+        client = clientBuilder
+            .addInterceptor(new Interceptor() {
+                @Override
+                public okhttp3.Response intercept(final Chain chain) throws IOException {
+                    return chain.proceed(chain.request().newBuilder()
+                        .header("X-Twilio-Client", "java-" + Twilio.VERSION)
+                        .header("User-Agent", "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ")")
+                        .header("Accept", "application/json")
+                        .header("Accept-Encoding", "utf-8")
+                        .build());
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Make a request.
+     *
+     * @param request request to make
+     * @return Response of the HTTP request
+     */
+    public Response makeRequest(final Request request) {
+        HttpMethod method = request.getMethod();
+        okhttp3.Request.Builder builder = new okhttp3.Request.Builder()
+            .url(request.constructURL());
+
+        if (request.requiresAuthentication()) {
+            builder.header("Authorization", request.getAuthString());
+        }
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+
+        if (method == HttpMethod.POST || method == HttpMethod.PUT) {
+            FormBody.Builder form = new FormBody.Builder();
+
+            if (method == HttpMethod.POST) {
+                for (Map.Entry<String, List<String>> entry : request.getPostParams().entrySet()) {
+                    for (String value : entry.getValue()) {
+                        form.add(entry.getKey(), value);
+                    }
+                }
+            }
+
+            builder.method(method.toString(), form.build());
+        } else {
+            builder.method(method.toString(), (RequestBody) null);
+        }
+
+        try (okhttp3.Response response = client.newCall(builder.build()).execute()) {
+            ResponseBody body = response.body();
+            Map<String, String> headers = new HashMap<>();
+            for (final String name : response.headers().names()) {
+                headers.put(name, response.headers(name).get(0));
+            }
+
+            return new Response(
+                // Consume the entire HTTP response before the stream is released
+                body == null ? null : new ByteArrayInputStream(body.bytes()),
+                response.code(),
+                headers
+            );
+        } catch (IOException e) {
+            throw new ApiException(e.getMessage(), e);
+        }
+    }
+}
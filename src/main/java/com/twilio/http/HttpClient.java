@@ -1,5 +1,10 @@
 package com.twilio.http;
 
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+
+import java.io.IOException;
+
 public abstract class HttpClient {
 
     public static final int ANY_500 = -500;
@@ -45,6 +50,11 @@ public abstract class HttpClient {
                 break;
             }
 
+            if (response != null && retries > 1) {
+                // Release the connection held by a response that is about to be retried
+                response.close();
+            }
+
             try {
                 Thread.sleep(delayMillis);
             } catch (final InterruptedException e) {
@@ -60,6 +70,116 @@ public abstract class HttpClient {
         return response;
     }
 
+    /**
+     * Make a request, retrying as the retry policy decides.
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding whether and when to retry
+     * @return Response of the HTTP request
+     */
+    public Response reliableRequest(final Request request, final RetryPolicy retryPolicy) {
+        return reliableRequest(request, retryPolicy, null);
+    }
+
+    /**
+     * Make a request, retrying as the retry policy decides and pacing every attempt with a rate limiter.
+     *
+     * <p>
+     *     Each attempt, including retries, waits for permission from the rate limiter and reports its response to
+     *     it, so the limiter adapts to every throttled attempt.
+     * </p>
+     *
+     * <p>
+     *     A connection failure is passed to the policy as a missing response, and thrown once the policy stops
+     *     retrying.
+     * </p>
+     *
+     * @param request request to make
+     * @param retryPolicy policy deciding whether and when to retry
+     * @param rateLimiter rate limiter pacing the attempts, or null
+     * @return Response of the HTTP request
+     * @throws com.twilio.exception.RateLimitExceededException if the rate limiter did not permit an attempt in time
+     */
+    public Response reliableRequest(final Request request, final RetryPolicy retryPolicy,
+                                    final RateLimiter rateLimiter) {
+        lastRequest = request;
+
+        for (int retries = 0; ; retries++) {
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = limitedAttempt(request, retryPolicy, rateLimiter);
+            } catch (final ApiException | ApiConnectionException e) {
+                if (!isConnectionFailure(e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+
+            long delayMillis = retryPolicy.nextRetryDelayMillis(request, response, retries);
+            if (delayMillis != RetryPolicy.NO_RETRY) {
+                if (response != null) {
+                    // Release the connection held by a response that is about to be retried before waiting
+                    response = detach(response);
+                }
+
+                try {
+                    Thread.sleep(delayMillis);
+                    continue;
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+
+            lastResponse = response;
+
+            return response;
+        }
+    }
+
+    private Response limitedAttempt(final Request request, final RetryPolicy retryPolicy,
+                                    final RateLimiter rateLimiter) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(request);
+        }
+
+        retryPolicy.recordAttempt();
+        Response response = makeRequest(request);
+
+        if (rateLimiter != null) {
+            rateLimiter.record(request, response);
+        }
+        return response;
+    }
+
+    /**
+     * Decide whether a request failed because no response could be received, such as a refused or reset
+     * connection.
+     *
+     * @param e exception thrown by {@link #makeRequest}
+     * @return true for transport failures
+     */
+    static boolean isConnectionFailure(final RuntimeException e) {
+        return e instanceof ApiConnectionException ||
+            e instanceof ApiException && e.getCause() instanceof IOException;
+    }
+
+    /**
+     * Read the content of a response so it no longer holds a connection, keeping it readable in case it is returned.
+     */
+    private static Response detach(final Response response) {
+        try {
+            return new Response(response.getContent(), response.getStatusCode(), response.getHeaders());
+        } catch (final ApiException e) {
+            response.close();
+            return new Response("", response.getStatusCode(), response.getHeaders());
+        }
+    }
+
     public Response getLastResponse() {
         return lastResponse;
     }
@@ -73,7 +193,10 @@ public abstract class HttpClient {
             return true;
         }
 
-        int statusCode = response.getStatusCode();
+        return matchesRetryCode(response.getStatusCode(), retryCodes);
+    }
+
+    static boolean matchesRetryCode(final int statusCode, final int[] retryCodes) {
         int category = (int) Math.floor(statusCode / 100.0);
 
         for (final int retryCode : retryCodes) {
@@ -0,0 +1,178 @@
+package com.twilio.http;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooling connection manager that records how long each route waits to lease a connection.
+ *
+ * <p>
+ *     Per host limits are applied to a route the first time a connection is requested for it, since the route
+ *     planner decides the scheme, port and security of the routes actually used.
+ * </p>
+ */
+class InstrumentedConnectionManager implements HttpClientConnectionManager {
+
+    private final PoolingHttpClientConnectionManager pool;
+    private final Map<String, Integer> maxPerHost;
+    private final Set<HttpRoute> limitedRoutes = Collections.newSetFromMap(new ConcurrentHashMap<HttpRoute, Boolean>());
+    private final ConcurrentMap<String, WaitStats> waits = new ConcurrentHashMap<>();
+    private final WaitStats totalWaits = new WaitStats();
+
+    InstrumentedConnectionManager(final ConnectionPoolConfig config) {
+        pool = new PoolingHttpClientConnectionManager(config.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        pool.setMaxTotal(config.getMaxTotal());
+        pool.setDefaultMaxPerRoute(config.getDefaultMaxPerRoute());
+        pool.setValidateAfterInactivity(config.getValidateAfterInactivityMillis());
+        maxPerHost = config.getMaxPerHost();
+    }
+
+    ConnectionPoolStats getTotalStats() {
+        return stats(pool.getTotalStats(), totalWaits);
+    }
+
+    Map<String, ConnectionPoolStats> getRouteStats() {
+        Map<String, ConnectionPoolStats> stats = new HashMap<>();
+        for (final HttpRoute route : pool.getRoutes()) {
+            stats.put(target(route), stats(pool.getStats(route), waitStats(target(route))));
+        }
+        return stats;
+    }
+
+    private static ConnectionPoolStats stats(final PoolStats pool, final WaitStats waits) {
+        return new ConnectionPoolStats(
+            pool.getLeased(),
+            pool.getAvailable(),
+            pool.getPending(),
+            pool.getMax(),
+            waits.count.get(),
+            waits.totalNanos.get(),
+            waits.maxNanos.get()
+        );
+    }
+
+    /**
+     * Key a route by its target scheme, host and port, so plain and secure connections to a host are kept apart.
+     */
+    private static String target(final HttpRoute route) {
+        return route.getTargetHost().toURI();
+    }
+
+    private void limit(final HttpRoute route) {
+        Integer max = maxPerHost.get(route.getTargetHost().getHostName());
+        if (max != null && limitedRoutes.add(route)) {
+            pool.setMaxPerRoute(route, max);
+        }
+    }
+
+    private WaitStats waitStats(final String target) {
+        WaitStats stats = waits.get(target);
+        if (stats == null) {
+            WaitStats created = new WaitStats();
+            stats = waits.putIfAbsent(target, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        limit(route);
+        final ConnectionRequest request = pool.requestConnection(route, state);
+        final WaitStats routeWaits = waitStats(target(route));
+
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(final long timeout, final TimeUnit tunit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return request.get(timeout, tunit);
+                } finally {
+                    long waited = System.nanoTime() - start;
+                    routeWaits.record(waited);
+                    totalWaits.record(waited);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(final HttpClientConnection conn, final Object newState, final long validDuration,
+                                  final TimeUnit timeUnit) {
+        pool.releaseConnection(conn, newState, validDuration, timeUnit);
+    }
+
+    @Override
+    public void connect(final HttpClientConnection conn, final HttpRoute route, final int connectTimeout,
+                        final HttpContext context) throws IOException {
+        pool.connect(conn, route, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(final HttpClientConnection conn, final HttpRoute route, final HttpContext context)
+        throws IOException {
+        pool.upgrade(conn, route, context);
+    }
+
+    @Override
+    public void routeComplete(final HttpClientConnection conn, final HttpRoute route, final HttpContext context)
+        throws IOException {
+        pool.routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(final long idletime, final TimeUnit tunit) {
+        pool.closeIdleConnections(idletime, tunit);
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        pool.closeExpiredConnections();
+    }
+
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static class WaitStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(final long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+        }
+    }
+}
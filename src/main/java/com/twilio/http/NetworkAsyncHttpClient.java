@@ -0,0 +1,190 @@
+package com.twilio.http;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.message.BasicHeader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * {@link AsyncHttpClient} backed by the Apache HttpAsyncClient NIO reactor.
+ *
+ * <p>
+ *     Clients created with the default configuration run the reactor on daemon threads, so an application that
+ *     never closes the client can still exit.
+ * </p>
+ */
+public class NetworkAsyncHttpClient extends AsyncHttpClient implements Closeable {
+
+    private static final int CONNECTION_TIMEOUT = 10000;
+    private static final int SOCKET_TIMEOUT = 30500;
+
+    private final CloseableHttpAsyncClient client;
+
+    /**
+     * Create a new async HTTP Client.
+     */
+    public NetworkAsyncHttpClient() {
+        this(new ConnectionPoolConfig.Builder().build());
+    }
+
+    /**
+     * Create a new async HTTP Client with the pool sizes of a connection pool configuration.
+     *
+     * @param poolConfig configuration whose total and per route maximums bound the connections
+     */
+    public NetworkAsyncHttpClient(final ConnectionPoolConfig poolConfig) {
+        this(HttpAsyncClientBuilder.create()
+            .useSystemProperties()
+            .setThreadFactory(daemonThreads("twilio-async-reactor-%d"))
+            .setConnectionManager(connectionManager(poolConfig))
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(CONNECTION_TIMEOUT)
+                .setSocketTimeout(SOCKET_TIMEOUT)
+                .build()));
+    }
+
+    private static PoolingNHttpClientConnectionManager connectionManager(final ConnectionPoolConfig poolConfig) {
+        try {
+            PoolingNHttpClientConnectionManager manager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT, daemonThreads("twilio-async-io-%d"))
+            );
+            manager.setMaxTotal(poolConfig.getMaxTotal());
+            manager.setDefaultMaxPerRoute(poolConfig.getDefaultMaxPerRoute());
+            return manager;
+        } catch (final IOReactorException e) {
+            throw new ApiException("Failed to start the I/O reactor", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String nameFormat) {
+        return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(nameFormat).build();
+    }
+
+    /**
+     * Create a new async HTTP Client using custom configuration.
+     *
+     * @param clientBuilder an HttpAsyncClientBuilder.
+     */
+    public NetworkAsyncHttpClient(final HttpAsyncClientBuilder clientBuilder) {
+        Collection<Header> headers = Lists.<Header>newArrayList(
+            new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
+            new BasicHeader(HttpHeaders.USER_AGENT, "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ")"),
+            new BasicHeader(HttpHeaders.ACCEPT, "application/json"),
+            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "utf-8")
+        );
+
+        client = clientBuilder
+            .setDefaultHeaders(headers)
+            .build();
+        client.start();
+    }
+
+    /**
+     * Make a request without blocking the calling thread.
+     *
+     * @param request request to make
+     * @return future that resolves to the Response of the HTTP request
+     */
+    @Override
+    public ListenableFuture<Response> makeRequestAsync(final Request request) {
+        HttpMethod method = request.getMethod();
+        RequestBuilder builder = RequestBuilder.create(method.toString())
+            .setUri(request.constructURL().toString())
+            .setVersion(HttpVersion.HTTP_1_1)
+            .setCharset(StandardCharsets.UTF_8);
+
+        if (request.requiresAuthentication()) {
+            builder.addHeader(HttpHeaders.AUTHORIZATION, request.getAuthString());
+        }
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.addHeader(header.getKey(), header.getValue());
+        }
+
+        if (method == HttpMethod.POST) {
+            builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
+
+            for (Map.Entry<String, List<String>> entry : request.getPostParams().entrySet()) {
+                for (String value : entry.getValue()) {
+                    builder.addParameter(entry.getKey(), value);
+                }
+            }
+        }
+
+        final SettableFuture<Response> result = SettableFuture.create();
+        final Future<HttpResponse> execution = client.execute(builder.build(), new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(final HttpResponse response) {
+                try {
+                    // The async response consumer has already buffered the entity
+                    HttpEntity entity = response.getEntity();
+                    result.set(new Response(
+                        entity == null ? null : entity.getContent(),
+                        response.getStatusLine().getStatusCode(),
+                        NetworkHttpClient.headers(response)
+                    ));
+                } catch (final IOException e) {
+                    result.setException(new ApiException(e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public void failed(final Exception e) {
+                result.setException(new ApiException(e.getMessage(), e));
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+
+        result.addListener(new Runnable() {
+            @Override
+            public void run() {
+                if (result.isCancelled()) {
+                    execution.cancel(true);
+                }
+            }
+        }, MoreExecutors.sameThreadExecutor());
+
+        return result;
+    }
+
+    /**
+     * Shut down the I/O reactor and release pooled connections.
+     *
+     * @throws IOException if the client fails to shut down
+     */
+    @Override
+    public void close() throws IOException {
+        client.close();
+    }
+}
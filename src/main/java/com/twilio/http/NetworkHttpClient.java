@@ -13,27 +13,51 @@ import org.apache.http.client.utils.HttpClientUtils;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-public class NetworkHttpClient extends HttpClient {
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client backed by a pool of blocking connections.
+ *
+ * <p>
+ *     A client configured to evict idle connections runs a background thread for it, which is stopped along with
+ *     the pooled connections by {@link #close()}.
+ * </p>
+ */
+public class NetworkHttpClient extends HttpClient implements Closeable {
 
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int SOCKET_TIMEOUT = 30500;
 
-    private final org.apache.http.client.HttpClient client;
+    private final CloseableHttpClient client;
+    private final InstrumentedConnectionManager connectionManager;
+
+    private boolean streaming;
 
     /**
      * Create a new HTTP Client.
      */
     public NetworkHttpClient() {
+        this(new ConnectionPoolConfig.Builder().build());
+    }
+
+    /**
+     * Create a new HTTP Client with a configured connection pool.
+     *
+     * @param poolConfig connection pool configuration
+     */
+    public NetworkHttpClient(final ConnectionPoolConfig poolConfig) {
         RequestConfig config = RequestConfig.custom()
             .setConnectTimeout(CONNECTION_TIMEOUT)
             .setSocketTimeout(SOCKET_TIMEOUT)
@@ -55,15 +79,19 @@ public class NetworkHttpClient extends HttpClient {
             clientBuilder.useSystemProperties();
         }
 
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-	      connectionManager.setDefaultMaxPerRoute(10);
-	      connectionManager.setMaxTotal(10*2);
+        connectionManager = new InstrumentedConnectionManager(poolConfig);
 
         clientBuilder
             .setConnectionManager(connectionManager)
             .setDefaultRequestConfig(config)
             .setDefaultHeaders(headers);
 
+        if (poolConfig.getMaxIdleMillis() > 0) {
+            clientBuilder
+                .evictExpiredConnections()
+                .evictIdleConnections(poolConfig.getMaxIdleMillis(), TimeUnit.MILLISECONDS);
+        }
+
         client = clientBuilder.build();
     }
 
@@ -84,6 +112,49 @@ public class NetworkHttpClient extends HttpClient {
         client = clientBuilder
                 .setDefaultHeaders(headers)
                 .build();
+        connectionManager = null;
+    }
+
+    /**
+     * Get usage of the whole connection pool.
+     *
+     * @return pool statistics, or null if the client was built from a custom HttpClientBuilder
+     */
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return connectionManager == null ? null : connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get usage of the connection pool for each target that has been connected to.
+     *
+     * @return pool statistics keyed by target, such as {@code https://api.twilio.com:443}, empty if the client was
+     *     built from a custom HttpClientBuilder
+     */
+    public Map<String, ConnectionPoolStats> getConnectionPoolRouteStats() {
+        return connectionManager == null
+            ? Collections.<String, ConnectionPoolStats>emptyMap()
+            : connectionManager.getRouteStats();
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Enable or disable streaming responses.
+     *
+     * <p>
+     *     When streaming, responses are not buffered in memory. The response stream reads directly from the
+     *     connection, which is released back to the pool once the stream is fully read or closed, so callers
+     *     must always consume or close {@link Response#getStream()}.
+     * </p>
+     *
+     * @param streaming true to stream responses from the connection
+     * @return this
+     */
+    public NetworkHttpClient setStreaming(final boolean streaming) {
+        this.streaming = streaming;
+        return this;
     }
 
     /**
@@ -104,6 +175,10 @@ public class NetworkHttpClient extends HttpClient {
             builder.addHeader(HttpHeaders.AUTHORIZATION, request.getAuthString());
         }
 
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.addHeader(header.getKey(), header.getValue());
+        }
+
         if (method == HttpMethod.POST) {
             builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded");
 
@@ -115,23 +190,58 @@ public class NetworkHttpClient extends HttpClient {
         }
 
         HttpResponse response = null;
+        boolean release = true;
 
         try {
             response = client.execute(builder.build());
             HttpEntity entity = response.getEntity();
+
+            if (streaming && entity != null) {
+                // The connection is released when the stream is exhausted or closed by the caller
+                release = false;
+                return new Response(
+                    entity.getContent(),
+                    response.getStatusLine().getStatusCode(),
+                    headers(response)
+                );
+            }
+
             return new Response(
                 // Consume the entire HTTP response before returning the stream
                 entity == null ? null : new BufferedHttpEntity(entity).getContent(),
-                response.getStatusLine().getStatusCode()
+                response.getStatusLine().getStatusCode(),
+                headers(response)
             );
         } catch (IOException e) {
-            throw new ApiException(e.getMessage());
+            throw new ApiException(e.getMessage(), e);
         } finally {
 
             // Ensure this response is properly closed
-            HttpClientUtils.closeQuietly(response);
+            if (release) {
+                HttpClientUtils.closeQuietly(response);
+            }
+
+        }
+
+    }
 
+    static Map<String, String> headers(final HttpResponse response) {
+        Map<String, String> headers = new HashMap<>();
+        for (final Header header : response.getAllHeaders()) {
+            if (!headers.containsKey(header.getName())) {
+                headers.put(header.getName(), header.getValue());
+            }
         }
+        return headers;
+    }
 
+    /**
+     * Stop the idle connection evictor and release pooled connections.
+     *
+     * @throws IOException if the client fails to shut down
+     */
+    @Override
+    public void close() throws IOException {
+        client.close();
     }
 }
@@ -0,0 +1,381 @@
+package com.twilio.http;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.twilio.exception.RateLimitExceededException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Paces requests to Twilio on the client side.
+ *
+ * <p>
+ *     Requests are limited by a token bucket per account SID and domain. Messages and calls additionally take a
+ *     permit from a bucket per {@code From} number or messaging service, so each sender gets its own sender rate
+ *     while still counting against its account. A sender permit taken for a request the account bucket then refuses
+ *     is given back. Buckets left idle for the configured expiry are dropped.
+ * </p>
+ *
+ * <p>
+ *     Rates adapt with additive increase, multiplicative decrease: each {@code 429} response cuts the rates of its
+ *     buckets, at most once per decrease interval, and each success raises them again until the configured rate is
+ *     reached. Throughput settles just under the server limit instead of bursting into it and backing off.
+ * </p>
+ */
+public class RateLimiter {
+
+    private static final String MESSAGES = "/Messages.json";
+    private static final String CALLS = "/Calls.json";
+    private static final String ACCOUNTS = "/Accounts/";
+
+    private final double ratePerSecond;
+    private final double senderRatePerSecond;
+    private final double minRatePerSecond;
+    private final double increasePerSecond;
+    private final double decreaseFactor;
+    private final long decreaseIntervalNanos;
+    private final long maxWaitMillis;
+
+    private final LoadingCache<String, AdaptiveRate> rates;
+
+    private RateLimiter(final Builder b) {
+        this.ratePerSecond = b.ratePerSecond;
+        this.senderRatePerSecond = b.senderRatePerSecond;
+        this.minRatePerSecond = b.minRatePerSecond;
+        this.increasePerSecond = b.increasePerSecond;
+        this.decreaseFactor = b.decreaseFactor;
+        this.decreaseIntervalNanos = TimeUnit.MILLISECONDS.toNanos(b.decreaseIntervalMillis);
+        this.maxWaitMillis = b.maxWaitMillis;
+        this.rates = CacheBuilder.newBuilder()
+            .expireAfterAccess(b.expireAfterIdleMillis, TimeUnit.MILLISECONDS)
+            .build(new CacheLoader<String, AdaptiveRate>() {
+                @Override
+                public AdaptiveRate load(final String key) {
+                    return new AdaptiveRate(key.endsWith("|") ? ratePerSecond : senderRatePerSecond);
+                }
+            });
+    }
+
+    /**
+     * Wait for permission to make a request, up to the configured maximum wait.
+     *
+     * @param request request about to be made
+     * @throws RateLimitExceededException if the request could not be permitted in time
+     */
+    public void acquire(final Request request) {
+        String key = key(request);
+        long start = System.currentTimeMillis();
+        if (!rateFor(key).tryAcquire(maxWaitMillis)) {
+            throw new RateLimitExceededException("Client rate limit exceeded for " + key, key);
+        }
+
+        String accountKey = accountKey(key);
+        if (!accountKey.equals(key)) {
+            long waited = System.currentTimeMillis() - start;
+            long remaining = maxWaitMillis == Long.MAX_VALUE ? maxWaitMillis : Math.max(0L, maxWaitMillis - waited);
+            if (!rateFor(accountKey).tryAcquire(remaining)) {
+                rateFor(key).refund();
+                throw new RateLimitExceededException("Client rate limit exceeded for " + accountKey, accountKey);
+            }
+        }
+    }
+
+    /**
+     * Wait for permission to make a request without holding a thread, up to the configured maximum wait.
+     *
+     * @param request request about to be made
+     * @param scheduler scheduler polling for permission
+     * @return future that resolves once the request may be made, or fails with a
+     *     {@link RateLimitExceededException} if it could not be permitted in time
+     */
+    public ListenableFuture<Void> acquireAsync(final Request request, final ScheduledExecutorService scheduler) {
+        SettableFuture<Void> result = SettableFuture.create();
+        long deadline = maxWaitMillis == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + maxWaitMillis;
+        poll(request, scheduler, deadline, result);
+        return result;
+    }
+
+    private void poll(final Request request, final ScheduledExecutorService scheduler, final long deadline,
+                      final SettableFuture<Void> result) {
+        if (result.isCancelled()) {
+            return;
+        }
+
+        if (tryAcquire(request)) {
+            result.set(null);
+            return;
+        }
+
+        String key = key(request);
+        long now = System.currentTimeMillis();
+        if (now >= deadline) {
+            result.setException(new RateLimitExceededException("Client rate limit exceeded for " + key, key));
+            return;
+        }
+
+        double rate = Math.max(rateFor(key).getRate(), rateFor(accountKey(key)).getRate());
+        long interval = Math.min(Math.max(1L, (long) (1000 / rate)), deadline - now);
+        try {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    poll(request, scheduler, deadline, result);
+                }
+            }, interval, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            result.setException(e);
+        }
+    }
+
+    /**
+     * Take permission to make a request only if it is available right away.
+     *
+     * @param request request about to be made
+     * @return true if the request may be made
+     */
+    public boolean tryAcquire(final Request request) {
+        String key = key(request);
+        String accountKey = accountKey(key);
+        AdaptiveRate rate = rateFor(key);
+        if (!rate.tryAcquire(0)) {
+            return false;
+        }
+
+        if (accountKey.equals(key) || rateFor(accountKey).tryAcquire(0)) {
+            return true;
+        }
+
+        rate.refund();
+        return false;
+    }
+
+    /**
+     * Adjust the rates of a request's buckets based on its response.
+     *
+     * @param request request that was made
+     * @param response response received, or null if the request failed to connect
+     */
+    public void record(final Request request, final Response response) {
+        if (response == null) {
+            return;
+        }
+
+        String key = key(request);
+        String accountKey = accountKey(key);
+        record(rateFor(key), response);
+        if (!accountKey.equals(key)) {
+            record(rateFor(accountKey), response);
+        }
+    }
+
+    private static void record(final AdaptiveRate rate, final Response response) {
+        if (response.getStatusCode() == RetryPolicy.TOO_MANY_REQUESTS) {
+            rate.decrease();
+        } else if (TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
+            rate.increase();
+        }
+    }
+
+    /**
+     * Current rate of the bucket a request falls in.
+     *
+     * @param request request to look up
+     * @return permitted requests per second
+     */
+    public double getRate(final Request request) {
+        return rateFor(key(request)).getRate();
+    }
+
+    private AdaptiveRate rateFor(final String key) {
+        return rates.getUnchecked(key);
+    }
+
+    /**
+     * Key of the account and domain bucket, from the key of a request.
+     */
+    static String accountKey(final String key) {
+        return key.substring(0, key.lastIndexOf('|') + 1);
+    }
+
+    static String key(final Request request) {
+        URI uri = URI.create(request.getUrl());
+        String path = Strings.nullToEmpty(uri.getPath());
+
+        String account = request.getUsername();
+        int accounts = path.indexOf(ACCOUNTS);
+        if (accounts >= 0) {
+            int start = accounts + ACCOUNTS.length();
+            int end = path.indexOf('/', start);
+            account = end < 0 ? path.substring(start) : path.substring(start, end);
+        }
+
+        String sender = "";
+        if (request.getMethod() == HttpMethod.POST && (path.endsWith(MESSAGES) || path.endsWith(CALLS))) {
+            sender = firstValue(request, "MessagingServiceSid");
+            if (sender.isEmpty()) {
+                sender = firstValue(request, "From");
+            }
+        }
+
+        return Strings.nullToEmpty(account) + "|" + uri.getHost() + "|" + sender;
+    }
+
+    private static String firstValue(final Request request, final String name) {
+        List<String> values = request.getPostParams().get(name);
+        return values == null || values.isEmpty() ? "" : Strings.nullToEmpty(values.get(0));
+    }
+
+    private class AdaptiveRate {
+        private final double ceiling;
+        private final com.google.common.util.concurrent.RateLimiter limiter;
+        private final AtomicInteger refunded = new AtomicInteger();
+        private long lastDecrease;
+
+        private AdaptiveRate(final double ceiling) {
+            this.ceiling = ceiling;
+            this.limiter = com.google.common.util.concurrent.RateLimiter.create(ceiling);
+            this.lastDecrease = System.nanoTime() - decreaseIntervalNanos;
+        }
+
+        private boolean tryAcquire(final long timeoutMillis) {
+            for (int credit = refunded.get(); credit > 0; credit = refunded.get()) {
+                if (refunded.compareAndSet(credit, credit - 1)) {
+                    return true;
+                }
+            }
+            return limiter.tryAcquire(1, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Give back a permit that was taken for a request that was not made.
+         */
+        private void refund() {
+            refunded.incrementAndGet();
+        }
+
+        private double getRate() {
+            return limiter.getRate();
+        }
+
+        private synchronized void increase() {
+            double rate = limiter.getRate();
+            if (rate < ceiling) {
+                limiter.setRate(Math.min(ceiling, rate + increasePerSecond / rate));
+            }
+        }
+
+        private synchronized void decrease() {
+            long now = System.nanoTime();
+            if (now - lastDecrease < decreaseIntervalNanos) {
+                return;
+            }
+
+            lastDecrease = now;
+            limiter.setRate(Math.max(minRatePerSecond, limiter.getRate() * decreaseFactor));
+        }
+    }
+
+    public static class Builder {
+        private double ratePerSecond = 100;
+        private double senderRatePerSecond = 1;
+        private double minRatePerSecond = 0.1;
+        private double increasePerSecond = 1;
+        private double decreaseFactor = 0.5;
+        private long decreaseIntervalMillis = 1000L;
+        private long maxWaitMillis = Long.MAX_VALUE;
+        private long expireAfterIdleMillis = TimeUnit.MINUTES.toMillis(10);
+
+        /**
+         * Set the highest rate for each account and domain.
+         *
+         * @param ratePerSecond requests per second
+         * @return this
+         */
+        public Builder ratePerSecond(final double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+            return this;
+        }
+
+        /**
+         * Set the highest rate for each message or call sender.
+         *
+         * @param senderRatePerSecond requests per second
+         * @return this
+         */
+        public Builder senderRatePerSecond(final double senderRatePerSecond) {
+            this.senderRatePerSecond = senderRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Set how the rate adapts to throttling.
+         *
+         * @param increasePerSecond rate recovered per second of successful requests
+         * @param decreaseFactor factor the rate is multiplied by on a 429 response
+         * @param minRatePerSecond lowest rate a bucket is cut to
+         * @return this
+         */
+        public Builder adapt(final double increasePerSecond, final double decreaseFactor,
+                             final double minRatePerSecond) {
+            this.increasePerSecond = increasePerSecond;
+            this.decreaseFactor = decreaseFactor;
+            this.minRatePerSecond = minRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Set the shortest time between two rate decreases of the same bucket.
+         *
+         * @param decreaseIntervalMillis interval in milliseconds
+         * @return this
+         */
+        public Builder decreaseInterval(final long decreaseIntervalMillis) {
+            this.decreaseIntervalMillis = decreaseIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Set how long a request waits for permission before failing.
+         *
+         * @param maxWaitMillis wait in milliseconds
+         * @return this
+         */
+        public Builder maxWait(final long maxWaitMillis) {
+            this.maxWaitMillis = maxWaitMillis;
+            return this;
+        }
+
+        /**
+         * Set how long a bucket is kept without requests before it is dropped.
+         *
+         * @param expireAfterIdleMillis idle time in milliseconds
+         * @return this
+         */
+        public Builder expireAfterIdle(final long expireAfterIdleMillis) {
+            this.expireAfterIdleMillis = expireAfterIdleMillis;
+            return this;
+        }
+
+        /**
+         * Fail requests right away when their bucket is empty.
+         *
+         * @return this
+         */
+        public Builder failFast() {
+            return maxWait(0L);
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class Request {
     private final String url;
     private final Map<String, List<String>> queryParams;
     private final Map<String, List<String>> postParams;
+    private final Map<String, String> headers;
 
     private String username;
     private String password;
@@ -44,6 +45,7 @@ public class Request {
         this.url = url;
         this.queryParams = new HashMap<>();
         this.postParams = new HashMap<>();
+        this.headers = new HashMap<>();
     }
 
     /**
@@ -74,6 +76,7 @@ public class Request {
         this.url = "https://" + Joiner.on(".").skipNulls().join(domain, region, "twilio", "com") + uri;
         this.queryParams = new HashMap<>();
         this.postParams = new HashMap<>();
+        this.headers = new HashMap<>();
     }
 
     public HttpMethod getMethod() {
@@ -200,6 +203,16 @@ public class Request {
         addParam(postParams, name, value);
     }
 
+    /**
+     * Add a header, replacing any previous value.
+     *
+     * @param name name of header
+     * @param value value of header
+     */
+    public void addHeader(final String name, final String value) {
+        headers.put(name, value);
+    }
+
     private void addParam(final Map<String, List<String>> params, final String name, final String value) {
         if (!params.containsKey(name)) {
             params.put(name, new ArrayList<String>());
@@ -255,6 +268,10 @@ public class Request {
         return postParams;
     }
 
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -271,6 +288,12 @@ public class Request {
                Objects.equals(this.username, other.username) &&
                Objects.equals(this.password, other.password) &&
                Objects.equals(this.queryParams, other.queryParams) &&
-               Objects.equals(this.postParams, other.postParams);
+               Objects.equals(this.postParams, other.postParams) &&
+               Objects.equals(this.headers, other.headers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, url, username, password, queryParams, postParams, headers);
     }
 }
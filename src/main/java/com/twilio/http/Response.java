@@ -1,18 +1,25 @@
 package com.twilio.http;
 
+import com.google.common.io.CharStreams;
 import com.twilio.exception.ApiException;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.util.Scanner;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class Response {
 
     private final InputStream stream;
     private final String content;
     private final int statusCode;
+    private final Map<String, String> headers;
 
     /**
      * Create a Response from content string and status code.
@@ -21,9 +28,21 @@ public class Response {
      * @param statusCode status code
      */
     public Response(final String content, final int statusCode) {
+        this(content, statusCode, Collections.<String, String>emptyMap());
+    }
+
+    /**
+     * Create a Response from content string, status code and headers.
+     *
+     * @param content content string
+     * @param statusCode status code
+     * @param headers response headers
+     */
+    public Response(final String content, final int statusCode, final Map<String, String> headers) {
         this.stream = null;
         this.content = content;
         this.statusCode = statusCode;
+        this.headers = caseInsensitive(headers);
     }
 
     /**
@@ -33,9 +52,27 @@ public class Response {
      * @param statusCode status code
      */
     public Response(final InputStream stream, final int statusCode) {
+        this(stream, statusCode, Collections.<String, String>emptyMap());
+    }
+
+    /**
+     * Create a Response from input stream, status code and headers.
+     *
+     * @param stream input stream
+     * @param statusCode status code
+     * @param headers response headers
+     */
+    public Response(final InputStream stream, final int statusCode, final Map<String, String> headers) {
         this.stream = stream;
         this.content = null;
         this.statusCode = statusCode;
+        this.headers = caseInsensitive(headers);
+    }
+
+    private static Map<String, String> caseInsensitive(final Map<String, String> headers) {
+        Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.putAll(headers);
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -54,16 +91,11 @@ public class Response {
         }
 
         if (stream != null) {
-            Scanner scanner = new Scanner(stream, "UTF-8").useDelimiter("\\A");
-
-            if (!scanner.hasNext()) {
-                return "";
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                return CharStreams.toString(reader);
+            } catch (final IOException e) {
+                throw new ApiException("Unable to read response content: " + e.getMessage(), e);
             }
-
-            String data = scanner.next();
-            scanner.close();
-
-            return data;
         }
 
         return "";
@@ -88,4 +120,31 @@ public class Response {
     public int getStatusCode() {
         return statusCode;
     }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get a response header.
+     *
+     * @param name case insensitive header name
+     * @return the header value, or null if the header is not present
+     */
+    public String getHeader(final String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * Discard the response data, releasing any connection still streaming it.
+     */
+    public void close() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (final IOException e) {
+                // Nothing left to release
+            }
+        }
+    }
 }
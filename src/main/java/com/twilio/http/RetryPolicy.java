@@ -0,0 +1,279 @@
+package com.twilio.http;
+
+import com.google.common.base.Strings;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether and when failed requests are retried.
+ *
+ * <p>
+ *     Retries back off exponentially with full jitter, so clients that fail together do not retry in lock-step.
+ *     A {@code Retry-After} header from the server takes precedence over the backoff. Every retry spends a token
+ *     from a retry budget that refills at a fixed rate; once the budget is empty the failed response is returned
+ *     as is. The budget is shared by every client the policy is set on.
+ * </p>
+ *
+ * <p>
+ *     Idempotent methods retry on {@code 429} and server errors. {@code POST} requests only retry on {@code 429},
+ *     since a server error does not guarantee the request was not processed.
+ * </p>
+ */
+public class RetryPolicy {
+
+    public static final long NO_RETRY = -1L;
+    public static final int TOO_MANY_REQUESTS = 429;
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+        HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE
+    );
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long maxRetryAfterMillis;
+    private final boolean honorRetryAfter;
+    private final int[] retryCodes;
+    private final int[] nonIdempotentRetryCodes;
+    private final TokenBucket budget;
+
+    private final AtomicLong attempted = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    private RetryPolicy(final Builder b) {
+        this.maxRetries = b.maxRetries;
+        this.baseDelayMillis = b.baseDelayMillis;
+        this.maxDelayMillis = b.maxDelayMillis;
+        this.maxRetryAfterMillis = b.maxRetryAfterMillis;
+        this.honorRetryAfter = b.honorRetryAfter;
+        this.retryCodes = b.retryCodes;
+        this.nonIdempotentRetryCodes = b.nonIdempotentRetryCodes;
+        this.budget = new TokenBucket(b.budgetTokens, b.budgetTokensPerSecond);
+    }
+
+    /**
+     * Record that a request was sent.
+     */
+    public void recordAttempt() {
+        attempted.incrementAndGet();
+    }
+
+    /**
+     * Decide whether a request should be retried, spending a token from the retry budget if it should.
+     *
+     * @param request request that was made
+     * @param response response received, or null if none was received
+     * @param retries number of retries already made for the request
+     * @return delay before the next attempt in milliseconds, or {@link #NO_RETRY}
+     */
+    public long nextRetryDelayMillis(final Request request, final Response response, final int retries) {
+        if (retries >= maxRetries || !isRetryable(request, response)) {
+            return NO_RETRY;
+        }
+
+        long delay = backoffMillis(retries);
+        if (honorRetryAfter && response != null) {
+            Long retryAfter = retryAfterMillis(response.getHeader("Retry-After"));
+            if (retryAfter != null) {
+                if (retryAfter > maxRetryAfterMillis) {
+                    return NO_RETRY;
+                }
+                delay = retryAfter;
+            }
+        }
+
+        if (!budget.tryAcquire()) {
+            budgetExhausted.incrementAndGet();
+            return NO_RETRY;
+        }
+
+        retried.incrementAndGet();
+        return delay;
+    }
+
+    protected boolean isRetryable(final Request request, final Response response) {
+        boolean idempotent = IDEMPOTENT_METHODS.contains(request.getMethod());
+
+        if (response == null) {
+            return idempotent;
+        }
+
+        return HttpClient.matchesRetryCode(
+            response.getStatusCode(),
+            idempotent ? retryCodes : nonIdempotentRetryCodes
+        );
+    }
+
+    private long backoffMillis(final int retries) {
+        long ceiling = baseDelayMillis << Math.min(retries, 30);
+        if (ceiling <= 0 || ceiling > maxDelayMillis) {
+            ceiling = maxDelayMillis;
+        }
+
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    static Long retryAfterMillis(final String retryAfter) {
+        if (Strings.isNullOrEmpty(retryAfter)) {
+            return null;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0L, Long.parseLong(retryAfter.trim())));
+        } catch (final NumberFormatException e) {
+            Date date = DateUtils.parseDate(retryAfter.trim());
+            if (date == null) {
+                return null;
+            }
+
+            return Math.max(0L, date.getTime() - System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Number of requests sent, including retries.
+     *
+     * @return attempted request count
+     */
+    public long getAttemptedCount() {
+        return attempted.get();
+    }
+
+    /**
+     * Number of retries made.
+     *
+     * @return retried request count
+     */
+    public long getRetriedCount() {
+        return retried.get();
+    }
+
+    /**
+     * Number of retries skipped because the retry budget was empty.
+     *
+     * @return budget exhausted count
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhausted.get();
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    private static class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(final double capacity, final double tokensPerSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+
+            tokens--;
+            return true;
+        }
+    }
+
+    public static class Builder {
+        private int maxRetries = 3;
+        private long baseDelayMillis = 100L;
+        private long maxDelayMillis = 10000L;
+        private long maxRetryAfterMillis = 60000L;
+        private boolean honorRetryAfter = true;
+        private int[] retryCodes = new int[]{TOO_MANY_REQUESTS, HttpClient.ANY_500};
+        private int[] nonIdempotentRetryCodes = new int[]{TOO_MANY_REQUESTS};
+        private double budgetTokens = 100;
+        private double budgetTokensPerSecond = 10;
+
+        public Builder maxRetries(final int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set the backoff delays.
+         *
+         * @param baseDelayMillis upper bound of the first retry delay, doubled on each further retry
+         * @param maxDelayMillis cap on the retry delay
+         * @return this
+         */
+        public Builder backoff(final long baseDelayMillis, final long maxDelayMillis) {
+            this.baseDelayMillis = baseDelayMillis;
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Set whether the Retry-After header is honored.
+         *
+         * @param honorRetryAfter true to wait as long as the server asks
+         * @param maxRetryAfterMillis longest wait to accept, requests asking for more are not retried
+         * @return this
+         */
+        public Builder retryAfter(final boolean honorRetryAfter, final long maxRetryAfterMillis) {
+            this.honorRetryAfter = honorRetryAfter;
+            this.maxRetryAfterMillis = maxRetryAfterMillis;
+            return this;
+        }
+
+        /**
+         * Set the codes retried for idempotent methods, such as GET and DELETE.
+         *
+         * @param retryCodes status codes or HttpClient.ANY_* categories
+         * @return this
+         */
+        public Builder retryCodes(final int... retryCodes) {
+            this.retryCodes = retryCodes;
+            return this;
+        }
+
+        /**
+         * Set the codes retried for POST requests.
+         *
+         * @param nonIdempotentRetryCodes status codes or HttpClient.ANY_* categories
+         * @return this
+         */
+        public Builder nonIdempotentRetryCodes(final int... nonIdempotentRetryCodes) {
+            this.nonIdempotentRetryCodes = nonIdempotentRetryCodes;
+            return this;
+        }
+
+        /**
+         * Set the retry budget.
+         *
+         * @param tokens maximum number of retries that can be made in a burst
+         * @param tokensPerSecond rate at which retries are allowed once the burst is spent
+         * @return this
+         */
+        public Builder retryBudget(final double tokens, final double tokensPerSecond) {
+            this.budgetTokens = tokens;
+            this.budgetTokensPerSecond = tokensPerSecond;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.twilio.http;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.twilio.exception.ApiException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces identical calls that are in flight at the same time.
+ *
+ * <p>
+ *     The first caller for a key runs the call; callers arriving with an equal key before it completes wait for,
+ *     and receive, the same result or failure. Once the call completes the key is released, so later callers start
+ *     a new call. Nothing is cached.
+ * </p>
+ *
+ * <p>
+ *     Futures returned to callers are independent: cancelling one does not cancel the shared call.
+ * </p>
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, SettableFuture<Object>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * Run a call, or wait for an identical call already in flight.
+     *
+     * @param key key of the call, compared with equals
+     * @param call call to run if none is in flight for the key
+     * @param <T> type of the result
+     * @return result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final Object key, final Callable<T> call) {
+        SettableFuture<Object> created = SettableFuture.create();
+        SettableFuture<Object> existing = calls.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        executed.incrementAndGet();
+        T result;
+        try {
+            result = call.call();
+        } catch (final Exception e) {
+            calls.remove(key, created);
+            created.setException(e);
+            throw Throwables.propagate(e);
+        } catch (final Error e) {
+            calls.remove(key, created);
+            created.setException(e);
+            throw e;
+        }
+
+        calls.remove(key, created);
+        created.set(result);
+        return result;
+    }
+
+    /**
+     * Start an asynchronous call, or join an identical call already in flight.
+     *
+     * @param key key of the call, compared with equals
+     * @param call call to start if none is in flight for the key
+     * @param <T> type of the result
+     * @return future that resolves to the result of the call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ListenableFuture<T> executeAsync(final Object key, final Callable<ListenableFuture<T>> call) {
+        final SettableFuture<Object> created = SettableFuture.create();
+        SettableFuture<Object> existing = calls.putIfAbsent(key, created);
+        if (existing != null) {
+            shared.incrementAndGet();
+            return view((ListenableFuture<T>) (ListenableFuture<?>) existing);
+        }
+
+        executed.incrementAndGet();
+        ListenableFuture<T> future;
+        try {
+            future = call.call();
+        } catch (final Exception e) {
+            future = Futures.immediateFailedFuture(e);
+        }
+
+        Futures.addCallback(future, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(final T result) {
+                calls.remove(key, created);
+                created.set(result);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                calls.remove(key, created);
+                created.setException(t);
+            }
+        });
+
+        return view((ListenableFuture<T>) (ListenableFuture<?>) created);
+    }
+
+    /**
+     * Number of calls run.
+     *
+     * @return calls run
+     */
+    public long getExecuted() {
+        return executed.get();
+    }
+
+    /**
+     * Number of callers that received the result of another caller's call.
+     *
+     * @return callers served by a shared call
+     */
+    public long getShared() {
+        return shared.get();
+    }
+
+    /**
+     * Number of calls currently in flight.
+     *
+     * @return calls in flight
+     */
+    public int getInFlight() {
+        return calls.size();
+    }
+
+    private static Object await(final ListenableFuture<Object> future) {
+        try {
+            return Uninterruptibles.getUninterruptibly(future);
+        } catch (final ExecutionException e) {
+            Throwable cause = e.getCause();
+            Throwables.propagateIfPossible(cause);
+            throw new ApiException(cause.getMessage(), cause);
+        }
+    }
+
+    private static <T> ListenableFuture<T> view(final ListenableFuture<T> shared) {
+        final SettableFuture<T> view = SettableFuture.create();
+        Futures.addCallback(shared, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(final T result) {
+                view.set(result);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                view.setException(t);
+            }
+        });
+        return view;
+    }
+}
@@ -1,9 +1,19 @@
 package com.twilio.http;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.Twilio;
 
-public class TwilioRestClient {
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+public class TwilioRestClient implements Closeable {
 
     public static final int HTTP_STATUS_CODE_CREATED = 201;
     public static final int HTTP_STATUS_CODE_NO_CONTENT = 204;
@@ -15,12 +25,25 @@ public class TwilioRestClient {
         }
     };
 
+    private static final Function<Response, Response> BUFFER = new Function<Response, Response>() {
+        @Override
+        public Response apply(final Response response) {
+            return response == null
+                ? null
+                : new Response(response.getContent(), response.getStatusCode(), response.getHeaders());
+        }
+    };
+
     private final ObjectMapper objectMapper;
     private final String username;
     private final String password;
     private final String accountSid;
     private final String region;
     private final HttpClient httpClient;
+    private final AsyncHttpClient asyncHttpClient;
+    private final RetryPolicy retryPolicy;
+    private final RateLimiter rateLimiter;
+    private final SingleFlight singleFlight;
 
     private TwilioRestClient(Builder b) {
         this.username = b.username;
@@ -28,18 +51,184 @@ public class TwilioRestClient {
         this.accountSid = b.accountSid;
         this.region = b.region;
         this.httpClient = b.httpClient;
+        this.asyncHttpClient = b.asyncHttpClient;
+        this.retryPolicy = b.retryPolicy;
+        this.rateLimiter = b.rateLimiter;
+        this.singleFlight = b.singleFlight ? new SingleFlight() : null;
         this.objectMapper = new ObjectMapper();
     }
 
     /**
      * Make a request to Twilio.
      *
+     * <p>
+     *     When single flight is enabled, a GET identical to one already in flight waits for and shares its response.
+     * </p>
+     *
      * @param request request to make
      * @return Response object
+     * @throws com.twilio.exception.RateLimitExceededException if the rate limiter did not permit the request in time
      */
     public Response request(final Request request) {
         request.setAuth(username, password);
-        return httpClient.reliableRequest(request);
+
+        if (coalesces(request)) {
+            return singleFlight.execute(request, new Callable<Response>() {
+                @Override
+                public Response call() {
+                    return BUFFER.apply(limitedRequest(request));
+                }
+            });
+        }
+
+        return limitedRequest(request);
+    }
+
+    /**
+     * Make a request to Twilio and parse its response.
+     *
+     * <p>
+     *     When single flight is enabled, a GET identical to one already in flight for the same scope waits for and
+     *     shares its parsed result, or the exception thrown while parsing.
+     * </p>
+     *
+     * @param request request to make
+     * @param scope scope of the parsed result, such as the class parsing it
+     * @param parser function parsing the response
+     * @param <T> type of the parsed result
+     * @return parsed result
+     */
+    public <T> T request(final Request request, final Object scope, final Function<Response, T> parser) {
+        request.setAuth(username, password);
+
+        if (coalesces(request)) {
+            return singleFlight.execute(Arrays.asList(scope, request), new Callable<T>() {
+                @Override
+                public T call() {
+                    return parser.apply(limitedRequest(request));
+                }
+            });
+        }
+
+        return parser.apply(limitedRequest(request));
+    }
+
+    private boolean coalesces(final Request request) {
+        return singleFlight != null && request.getMethod() == HttpMethod.GET;
+    }
+
+    private Response limitedRequest(final Request request) {
+        if (retryPolicy != null) {
+            // Every attempt is paced and recorded by the rate limiter
+            return httpClient.reliableRequest(request, retryPolicy, rateLimiter);
+        }
+
+        if (rateLimiter == null) {
+            return httpClient.reliableRequest(request);
+        }
+
+        rateLimiter.acquire(request);
+        Response response = httpClient.reliableRequest(request);
+        rateLimiter.record(request, response);
+        return response;
+    }
+
+    /**
+     * Make an asynchronous request to Twilio.
+     *
+     * <p>
+     *     Uses the {@link AsyncHttpClient} when present, so no thread is held while the request is in flight. Clients
+     *     built without a custom {@link HttpClient} get a {@link NetworkAsyncHttpClient} by default. Otherwise the
+     *     blocking {@link HttpClient} is run on the Twilio executor service.
+     * </p>
+     *
+     * <p>
+     *     When a {@link RateLimiter} is set and an asynchronous client is used, the calling thread waits for
+     *     permission before the request is sent.
+     * </p>
+     *
+     * <p>
+     *     When single flight is enabled, a GET identical to one already in flight joins it and shares its response.
+     * </p>
+     *
+     * @param request request to make
+     * @return future that resolves to the Response object
+     */
+    public ListenableFuture<Response> requestAsync(final Request request) {
+        request.setAuth(username, password);
+
+        if (coalesces(request)) {
+            return singleFlight.executeAsync(request, new Callable<ListenableFuture<Response>>() {
+                @Override
+                public ListenableFuture<Response> call() {
+                    return Futures.transform(dispatch(request), BUFFER, Twilio.getExecutorService());
+                }
+            });
+        }
+
+        return dispatch(request);
+    }
+
+    /**
+     * Make an asynchronous request to Twilio and parse its response.
+     *
+     * @param request request to make
+     * @param scope scope of the parsed result, such as the class parsing it
+     * @param parser function parsing the response
+     * @param <T> type of the parsed result
+     * @return future that resolves to the parsed result
+     * @see #request(Request, Object, Function)
+     */
+    public <T> ListenableFuture<T> requestAsync(final Request request, final Object scope,
+                                                final Function<Response, T> parser) {
+        request.setAuth(username, password);
+
+        if (coalesces(request)) {
+            return singleFlight.executeAsync(Arrays.asList(scope, request), new Callable<ListenableFuture<T>>() {
+                @Override
+                public ListenableFuture<T> call() {
+                    return Futures.transform(dispatch(request), parser, Twilio.getExecutorService());
+                }
+            });
+        }
+
+        return Futures.transform(dispatch(request), parser, Twilio.getExecutorService());
+    }
+
+    private ListenableFuture<Response> dispatch(final Request request) {
+        if (asyncHttpClient == null) {
+            return Twilio.getExecutorService().submit(new Callable<Response>() {
+                public Response call() {
+                    return limitedRequest(request);
+                }
+            });
+        }
+
+        if (retryPolicy != null) {
+            return asyncHttpClient.reliableRequestAsync(request, retryPolicy, rateLimiter);
+        }
+
+        if (rateLimiter != null) {
+            rateLimiter.acquire(request);
+        }
+
+        ListenableFuture<Response> response = asyncHttpClient.reliableRequestAsync(request);
+
+        if (rateLimiter != null) {
+            Futures.addCallback(response, new FutureCallback<Response>() {
+                @Override
+                public void onSuccess(final Response result) {
+                    rateLimiter.record(request, result);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    // Nothing to learn about the rate from a failed connection
+                }
+            });
+        }
+
+        return response;
     }
 
     public String getAccountSid() {
@@ -58,12 +247,60 @@ public class TwilioRestClient {
         return httpClient;
     }
 
+    public AsyncHttpClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public boolean isSingleFlight() {
+        return singleFlight != null;
+    }
+
+    /**
+     * Get the single flight coalescing identical GETs.
+     *
+     * @return single flight, or null if disabled
+     */
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Close the HTTP clients, stopping their background threads and releasing pooled connections.
+     *
+     * @throws IOException if a client fails to shut down
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (httpClient instanceof Closeable) {
+                ((Closeable) httpClient).close();
+            }
+        } finally {
+            if (asyncHttpClient instanceof Closeable) {
+                ((Closeable) asyncHttpClient).close();
+            }
+        }
+    }
+
     public static class Builder {
         private String username;
         private String password;
         private String accountSid;
         private String region;
         private HttpClient httpClient;
+        private AsyncHttpClient asyncHttpClient;
+        private RetryPolicy retryPolicy;
+        private ConnectionPoolConfig connectionPoolConfig;
+        private RateLimiter rateLimiter;
+        private boolean singleFlight;
 
         /**
          * Create a new Twilio Rest Client.
@@ -92,6 +329,63 @@ public class TwilioRestClient {
             return this;
         }
 
+        /**
+         * Make asynchronous requests with a non-blocking client.
+         *
+         * <p>
+         *     Defaults to a {@link NetworkAsyncHttpClient} unless a custom http client is set, in which case
+         *     asynchronous requests run the http client on the Twilio executor service.
+         * </p>
+         *
+         * @param asyncHttpClient client making asynchronous requests
+         * @return this
+         */
+        public Builder asyncHttpClient(AsyncHttpClient asyncHttpClient) {
+            this.asyncHttpClient = asyncHttpClient;
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Configure the connection pool of the default http client.
+         *
+         * <p>
+         *     Has no effect when a custom http client is set.
+         * </p>
+         *
+         * @param connectionPoolConfig connection pool configuration
+         * @return this
+         */
+        public Builder connectionPoolConfig(ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+            return this;
+        }
+
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Coalesce identical GETs that are in flight at the same time into a single HTTP call.
+         *
+         * <p>
+         *     Requests are identical when their method, url, parameters and credentials are equal. Fetchers also
+         *     share the parsed resource.
+         * </p>
+         *
+         * @param singleFlight true to coalesce identical GETs
+         * @return this
+         */
+        public Builder singleFlight(boolean singleFlight) {
+            this.singleFlight = singleFlight;
+            return this;
+        }
+
         /**
          * Build new TwilioRestClient.
          * 
@@ -99,7 +393,15 @@ public class TwilioRestClient {
          */
         public TwilioRestClient build() {
             if (this.httpClient == null) {
-                this.httpClient = new NetworkHttpClient();
+                this.httpClient = this.connectionPoolConfig == null
+                    ? new NetworkHttpClient()
+                    : new NetworkHttpClient(this.connectionPoolConfig);
+
+                if (this.asyncHttpClient == null) {
+                    this.asyncHttpClient = this.connectionPoolConfig == null
+                        ? new NetworkAsyncHttpClient()
+                        : new NetworkAsyncHttpClient(this.connectionPoolConfig);
+                }
             }
             return new TwilioRestClient(this);
         }
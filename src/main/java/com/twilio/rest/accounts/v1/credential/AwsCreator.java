@@ -54,14 +54,14 @@ public class AwsCreator extends Creator<Aws> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Aws
+     * @return Request to perform the create
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Aws create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.POST,
             Domains.ACCOUNTS.toString(),
@@ -70,8 +70,18 @@ public class AwsCreator extends Creator<Aws> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the create from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Created Aws
+     */
+    @Override
+    protected Aws parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Aws creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -30,22 +30,32 @@ public class AwsDeleter extends Deleter<Aws> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the delete.
+     * Build the request to the Twilio API to perform the delete.
      * 
      * @param client TwilioRestClient with which to make the request
+     * @return Request to perform the delete
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public boolean delete(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.DELETE,
             Domains.ACCOUNTS.toString(),
             "/v1/Credentials/AWS/" + this.pathSid + "",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the delete from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return true if the object was deleted
+     */
+    @Override
+    protected boolean parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Aws delete failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
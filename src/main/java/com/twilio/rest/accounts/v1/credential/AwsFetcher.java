@@ -30,23 +30,32 @@ public class AwsFetcher extends Fetcher<Aws> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched Aws
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Aws fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.ACCOUNTS.toString(),
             "/v1/Credentials/AWS/" + this.pathSid + "",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched Aws
+     */
+    @Override
+    protected Aws parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Aws fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -42,14 +42,14 @@ public class AwsUpdater extends Updater<Aws> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Aws
+     * @return Request to perform the update
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Aws update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.POST,
             Domains.ACCOUNTS.toString(),
@@ -58,8 +58,18 @@ public class AwsUpdater extends Updater<Aws> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the update from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Updated Aws
+     */
+    @Override
+    protected Aws parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Aws update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -55,14 +55,14 @@ public class PublicKeyCreator extends Creator<PublicKey> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created PublicKey
+     * @return Request to perform the create
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public PublicKey create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.POST,
             Domains.ACCOUNTS.toString(),
@@ -71,8 +71,18 @@ public class PublicKeyCreator extends Creator<PublicKey> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the create from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Created PublicKey
+     */
+    @Override
+    protected PublicKey parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("PublicKey creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -30,23 +30,32 @@ public class PublicKeyFetcher extends Fetcher<PublicKey> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched PublicKey
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public PublicKey fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.ACCOUNTS.toString(),
             "/v1/Credentials/PublicKeys/" + this.pathSid + "",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched PublicKey
+     */
+    @Override
+    protected PublicKey parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("PublicKey fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
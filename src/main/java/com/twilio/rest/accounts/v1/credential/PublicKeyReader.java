@@ -32,14 +32,14 @@ public class PublicKeyReader extends Reader<PublicKey> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return PublicKey ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<PublicKey> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.ACCOUNTS.toString(),
@@ -48,7 +48,7 @@ public class PublicKeyReader extends Reader<PublicKey> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -110,15 +110,14 @@ public class PublicKeyReader extends Reader<PublicKey> {
     }
 
     /**
-     * Generate a Page of PublicKey Resources for a given request.
+     * Generate a Page of PublicKey Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<PublicKey> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<PublicKey> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("PublicKey read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -138,7 +137,7 @@ public class PublicKeyReader extends Reader<PublicKey> {
 
         return Page.fromJson(
             "credentials",
-            response.getContent(),
+            response.getStream(),
             PublicKey.class,
             client.getObjectMapper()
         );
@@ -42,14 +42,14 @@ public class PublicKeyUpdater extends Updater<PublicKey> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated PublicKey
+     * @return Request to perform the update
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public PublicKey update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.POST,
             Domains.ACCOUNTS.toString(),
@@ -58,8 +58,18 @@ public class PublicKeyUpdater extends Updater<PublicKey> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the update from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Updated PublicKey
+     */
+    @Override
+    protected PublicKey parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("PublicKey update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -33,14 +33,14 @@ public class AccountCreator extends Creator<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Account
+     * @return Request to perform the create
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Account create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.POST,
             Domains.API.toString(),
@@ -49,8 +49,18 @@ public class AccountCreator extends Creator<Account> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the create from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Created Account
+     */
+    @Override
+    protected Account parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Account creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -36,14 +36,14 @@ public class AccountFetcher extends Fetcher<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched Account
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Account fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathSid = this.pathSid == null ? client.getAccountSid() : this.pathSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -51,9 +51,18 @@ public class AccountFetcher extends Fetcher<Account> {
             "/2010-04-01/Accounts/" + this.pathSid + ".json",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched Account
+     */
+    @Override
+    protected Account parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Account fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
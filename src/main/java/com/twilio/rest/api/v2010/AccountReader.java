@@ -59,14 +59,14 @@ public class AccountReader extends Reader<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Account ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Account> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.API.toString(),
@@ -75,7 +75,7 @@ public class AccountReader extends Reader<Account> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -137,15 +137,14 @@ public class AccountReader extends Reader<Account> {
     }
 
     /**
-     * Generate a Page of Account Resources for a given request.
+     * Generate a Page of Account Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Account> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Account> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Account read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -165,7 +164,7 @@ public class AccountReader extends Reader<Account> {
 
         return Page.fromJson(
             "accounts",
-            response.getContent(),
+            response.getStream(),
             Account.class,
             client.getObjectMapper()
         );
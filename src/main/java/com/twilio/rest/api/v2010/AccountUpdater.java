@@ -62,14 +62,14 @@ public class AccountUpdater extends Updater<Account> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Account
+     * @return Request to perform the update
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Account update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathSid = this.pathSid == null ? client.getAccountSid() : this.pathSid;
         Request request = new Request(
             HttpMethod.POST,
@@ -79,8 +79,18 @@ public class AccountUpdater extends Updater<Account> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the update from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Updated Account
+     */
+    @Override
+    protected Account parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Account update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -121,14 +121,14 @@ public class AddressCreator extends Creator<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Address
+     * @return Request to perform the create
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Address create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.POST,
@@ -138,8 +138,18 @@ public class AddressCreator extends Creator<Address> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the create from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Created Address
+     */
+    @Override
+    protected Address parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Address creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -43,14 +43,14 @@ public class AddressFetcher extends Fetcher<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched Address
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Address fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -58,9 +58,18 @@ public class AddressFetcher extends Fetcher<Address> {
             "/2010-04-01/Accounts/" + this.pathAccountSid + "/Addresses/" + this.pathSid + ".json",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched Address
+     */
+    @Override
+    protected Address parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Address fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -89,14 +89,14 @@ public class AddressReader extends Reader<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Address ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Address> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -106,7 +106,7 @@ public class AddressReader extends Reader<Address> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -169,15 +169,14 @@ public class AddressReader extends Reader<Address> {
     }
 
     /**
-     * Generate a Page of Address Resources for a given request.
+     * Generate a Page of Address Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Address> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Address> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Address read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -197,7 +196,7 @@ public class AddressReader extends Reader<Address> {
 
         return Page.fromJson(
             "addresses",
-            response.getContent(),
+            response.getStream(),
             Address.class,
             client.getObjectMapper()
         );
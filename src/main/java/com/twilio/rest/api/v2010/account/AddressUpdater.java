@@ -145,14 +145,14 @@ public class AddressUpdater extends Updater<Address> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Address
+     * @return Request to perform the update
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Address update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.POST,
@@ -162,8 +162,18 @@ public class AddressUpdater extends Updater<Address> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the update from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Updated Address
+     */
+    @Override
+    protected Address parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Address update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
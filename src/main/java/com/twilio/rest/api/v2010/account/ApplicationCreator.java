@@ -314,14 +314,14 @@ public class ApplicationCreator extends Creator<Application> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the create.
+     * Build the request to the Twilio API to perform the create.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Created Application
+     * @return Request to perform the create
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Application create(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.POST,
@@ -331,8 +331,18 @@ public class ApplicationCreator extends Creator<Application> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the create from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Created Application
+     */
+    @Override
+    protected Application parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Application creation failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -43,14 +43,14 @@ public class ApplicationFetcher extends Fetcher<Application> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched Application
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Application fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -58,9 +58,18 @@ public class ApplicationFetcher extends Fetcher<Application> {
             "/2010-04-01/Accounts/" + this.pathAccountSid + "/Applications/" + this.pathSid + ".json",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched Application
+     */
+    @Override
+    protected Application parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Application fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
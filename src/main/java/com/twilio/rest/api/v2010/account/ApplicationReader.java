@@ -62,14 +62,14 @@ public class ApplicationReader extends Reader<Application> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Application ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Application> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -79,7 +79,7 @@ public class ApplicationReader extends Reader<Application> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -142,15 +142,14 @@ public class ApplicationReader extends Reader<Application> {
     }
 
     /**
-     * Generate a Page of Application Resources for a given request.
+     * Generate a Page of Application Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Application> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Application> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Application read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -170,7 +169,7 @@ public class ApplicationReader extends Reader<Application> {
 
         return Page.fromJson(
             "applications",
-            response.getContent(),
+            response.getStream(),
             Application.class,
             client.getObjectMapper()
         );
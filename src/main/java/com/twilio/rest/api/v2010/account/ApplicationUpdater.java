@@ -324,14 +324,14 @@ public class ApplicationUpdater extends Updater<Application> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the update.
+     * Build the request to the Twilio API to perform the update.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Updated Application
+     * @return Request to perform the update
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Application update(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.POST,
@@ -341,8 +341,18 @@ public class ApplicationUpdater extends Updater<Application> {
         );
 
         addPostParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the update from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Updated Application
+     */
+    @Override
+    protected Application parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Application update failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -50,14 +50,14 @@ public class AvailablePhoneNumberCountryReader extends Reader<AvailablePhoneNumb
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AvailablePhoneNumberCountry ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AvailablePhoneNumberCountry> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -67,7 +67,7 @@ public class AvailablePhoneNumberCountryReader extends Reader<AvailablePhoneNumb
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -130,15 +130,14 @@ public class AvailablePhoneNumberCountryReader extends Reader<AvailablePhoneNumb
     }
 
     /**
-     * Generate a Page of AvailablePhoneNumberCountry Resources for a given request.
+     * Generate a Page of AvailablePhoneNumberCountry Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AvailablePhoneNumberCountry> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AvailablePhoneNumberCountry> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AvailablePhoneNumberCountry read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -158,7 +157,7 @@ public class AvailablePhoneNumberCountryReader extends Reader<AvailablePhoneNumb
 
         return Page.fromJson(
             "countries",
-            response.getContent(),
+            response.getStream(),
             AvailablePhoneNumberCountry.class,
             client.getObjectMapper()
         );
@@ -0,0 +1,336 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.Twilio;
+import com.twilio.base.BulkDispatcher;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.RetryPolicy;
+import com.twilio.http.TwilioRestClient;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends large numbers of messages while keeping a bounded number of requests in flight.
+ *
+ * <p>
+ *     Messages are taken from the iterator only when a slot is free, so the source is consumed at the rate messages
+ *     are sent. Each sender, a from number or messaging service, is paced to its own rate. A message waiting for its
+ *     sender's turn holds a slot but no thread, so messages of other senders are sent meanwhile; interleaving senders
+ *     in the iterator keeps the pipeline full when senders are paced.
+ * </p>
+ *
+ * <p>
+ *     Throttled requests are retried with jittered exponential backoff. Server errors and connection failures are
+ *     reported without retrying, since the message may already have been accepted, as are other failures such as an
+ *     invalid number.
+ * </p>
+ */
+public class BulkMessageSender {
+
+    private final TwilioRestClient client;
+    private final String pathAccountSid;
+    private final int maxInFlight;
+    private final double senderRatePerSecond;
+    private final RetryPolicy retryPolicy;
+    private final long metricsIntervalMillis;
+    private final Listener listener;
+
+    private BulkMessageSender(final Builder b) {
+        this.client = b.client;
+        this.pathAccountSid = b.pathAccountSid;
+        this.maxInFlight = b.maxInFlight;
+        this.senderRatePerSecond = b.senderRatePerSecond;
+        this.retryPolicy = b.retryPolicy != null
+            ? b.retryPolicy
+            : new RetryPolicy.Builder()
+                .maxRetries(b.maxAttempts - 1)
+                .backoff(b.baseDelayMillis, b.maxDelayMillis)
+                .retryBudget(Double.MAX_VALUE, 0)
+                .build();
+        this.metricsIntervalMillis = b.metricsIntervalMillis;
+        this.listener = b.listener;
+    }
+
+    /**
+     * Send every message of an iterator, returning once all of them have been sent or have failed.
+     *
+     * @param messages messages to send
+     * @return final metrics of the run
+     */
+    public Metrics send(final Iterator<OutboundMessage> messages) {
+        final AtomicLong sent = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final BulkDispatcher<OutboundMessage, Message> dispatcher = new BulkDispatcher<>(
+            new BulkDispatcher.Handler<OutboundMessage, Message>() {
+                @Override
+                public ListenableFuture<Message> start(final OutboundMessage message) {
+                    return message.creator(pathAccountSid).createAsync(client);
+                }
+
+                @Override
+                public String paceKey(final OutboundMessage message) {
+                    return message.getSender();
+                }
+
+                @Override
+                public void onSuccess(final OutboundMessage outbound, final Message message) {
+                    sent.incrementAndGet();
+                    listener.onSent(outbound, message);
+                }
+
+                @Override
+                public boolean handled(final OutboundMessage message, final Throwable cause) {
+                    return false;
+                }
+
+                @Override
+                public void onFailure(final OutboundMessage message, final Throwable cause, final int attempts) {
+                    failed.incrementAndGet();
+                    listener.onFailed(message, cause, attempts);
+                }
+            },
+            maxInFlight,
+            senderRatePerSecond,
+            retryPolicy,
+            HttpMethod.POST,
+            "twilio-bulk-sender-%d"
+        );
+
+        dispatcher.run(messages, new Runnable() {
+            @Override
+            public void run() {
+                listener.onMetrics(snapshot(dispatcher, sent, failed));
+            }
+        }, metricsIntervalMillis);
+
+        return snapshot(dispatcher, sent, failed);
+    }
+
+    private static Metrics snapshot(final BulkDispatcher<?, ?> dispatcher, final AtomicLong sent,
+                                    final AtomicLong failed) {
+        return new Metrics(
+            dispatcher.getSubmitted(),
+            sent.get(),
+            failed.get(),
+            dispatcher.getRetried(),
+            dispatcher.getInFlight(),
+            dispatcher.getElapsedMillis()
+        );
+    }
+
+    /**
+     * Receives the outcome of each message and periodic metrics. Methods are called from request threads and must
+     * not block for long.
+     */
+    public abstract static class Listener {
+
+        /**
+         * Called when a message was accepted by Twilio.
+         *
+         * @param outbound message that was sent
+         * @param message created message resource
+         */
+        public void onSent(final OutboundMessage outbound, final Message message) {
+        }
+
+        /**
+         * Called when a message failed and will not be retried.
+         *
+         * @param outbound message that failed
+         * @param cause failure of the last attempt
+         * @param attempts number of attempts made
+         */
+        public void onFailed(final OutboundMessage outbound, final Throwable cause, final int attempts) {
+        }
+
+        /**
+         * Called periodically while messages are sent.
+         *
+         * @param metrics metrics so far
+         */
+        public void onMetrics(final Metrics metrics) {
+        }
+    }
+
+    /**
+     * Counts of a bulk send.
+     */
+    public static class Metrics {
+        private final long submitted;
+        private final long sent;
+        private final long failed;
+        private final long retried;
+        private final int inFlight;
+        private final long elapsedMillis;
+
+        /**
+         * Create new metrics.
+         *
+         * @param submitted messages taken from the iterator
+         * @param sent messages accepted by Twilio
+         * @param failed messages that failed without further retries
+         * @param retried retries made
+         * @param inFlight messages sent or waiting to be retried
+         * @param elapsedMillis time since sending started
+         */
+        public Metrics(final long submitted, final long sent, final long failed, final long retried,
+                       final int inFlight, final long elapsedMillis) {
+            this.submitted = submitted;
+            this.sent = sent;
+            this.failed = failed;
+            this.retried = retried;
+            this.inFlight = inFlight;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getSent() {
+            return sent;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRetried() {
+            return retried;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Messages accepted per second since sending started.
+         *
+         * @return throughput
+         */
+        public double getThroughput() {
+            return elapsedMillis == 0 ? 0 : sent * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{submitted=" + submitted + ", sent=" + sent + ", failed=" + failed + ", retried=" + retried
+                + ", inFlight=" + inFlight + ", elapsedMillis=" + elapsedMillis + "}";
+        }
+    }
+
+    public static class Builder {
+        private final TwilioRestClient client;
+        private String pathAccountSid;
+        private int maxInFlight = 50;
+        private double senderRatePerSecond;
+        private int maxAttempts = 5;
+        private long baseDelayMillis = 500L;
+        private long maxDelayMillis = 30000L;
+        private RetryPolicy retryPolicy;
+        private long metricsIntervalMillis;
+        private Listener listener = new Listener() {
+        };
+
+        /**
+         * Create a builder for a sender using the default client.
+         */
+        public Builder() {
+            this(Twilio.getRestClient());
+        }
+
+        /**
+         * Create a builder for a sender using specified client.
+         *
+         * @param client client used to send messages
+         */
+        public Builder(final TwilioRestClient client) {
+            this.client = client;
+        }
+
+        /**
+         * Send messages from an account other than the client's.
+         *
+         * @param pathAccountSid The account_sid
+         * @return this
+         */
+        public Builder accountSid(final String pathAccountSid) {
+            this.pathAccountSid = pathAccountSid;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of messages being sent or waiting to be retried at once.
+         *
+         * @param maxInFlight number of messages
+         * @return this
+         */
+        public Builder maxInFlight(final int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Set the rate each from number or messaging service sends at.
+         *
+         * @param senderRatePerSecond messages per second, 0 for no pacing
+         * @return this
+         */
+        public Builder senderRatePerSecond(final double senderRatePerSecond) {
+            this.senderRatePerSecond = senderRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Set how throttled messages are retried.
+         *
+         * @param maxAttempts maximum attempts per message, including the first
+         * @param baseDelayMillis upper bound of the first retry delay, doubled on each further retry
+         * @param maxDelayMillis cap on the retry delay
+         * @return this
+         */
+        public Builder retry(final int maxAttempts, final long baseDelayMillis, final long maxDelayMillis) {
+            this.maxAttempts = maxAttempts;
+            this.baseDelayMillis = baseDelayMillis;
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Decide retries with a policy instead of the settings of {@link #retry}. Messages are created with
+         * {@code POST}, so the policy's codes for non idempotent requests apply.
+         *
+         * @param retryPolicy policy deciding which failures are retried and when
+         * @return this
+         */
+        public Builder retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder listener(final Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Set how often the listener receives metrics.
+         *
+         * @param metricsIntervalMillis interval in milliseconds, 0 to disable
+         * @return this
+         */
+        public Builder metricsInterval(final long metricsIntervalMillis) {
+            this.metricsIntervalMillis = metricsIntervalMillis;
+            return this;
+        }
+
+        public BulkMessageSender build() {
+            return new BulkMessageSender(this);
+        }
+    }
+}
@@ -43,13 +43,14 @@ public class CallDeleter extends Deleter<Call> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the delete.
+     * Build the request to the Twilio API to perform the delete.
      * 
      * @param client TwilioRestClient with which to make the request
+     * @return Request to perform the delete
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public boolean delete(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.DELETE,
@@ -57,9 +58,18 @@ public class CallDeleter extends Deleter<Call> {
             "/2010-04-01/Accounts/" + this.pathAccountSid + "/Calls/" + this.pathSid + ".json",
             client.getRegion()
         );
+        return request;
+    }
 
-        Response response = client.request(request);
-
+    /**
+     * Read the result of the delete from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return true if the object was deleted
+     */
+    @Override
+    protected boolean parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Call delete failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -0,0 +1,52 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.collect.Range;
+import com.twilio.base.DeltaPoller;
+import com.twilio.base.Reader;
+import org.joda.time.DateTime;
+
+/**
+ * Polls for calls that started or changed status since the last poll.
+ */
+public class CallDeltaPoller extends DeltaPoller<Call> {
+    private static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * Construct a new CallDeltaPoller.
+     *
+     * @param since start time the first poll reads from
+     */
+    public CallDeltaPoller(final DateTime since) {
+        this(since, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new CallDeltaPoller.
+     *
+     * @param since start time the first poll reads from
+     * @param capacity maximum number of calls remembered
+     */
+    public CallDeltaPoller(final DateTime since, final int capacity) {
+        super(since, capacity);
+    }
+
+    @Override
+    protected Reader<Call> reader(final String accountSid, final Range<DateTime> range) {
+        return new CallReader(accountSid).setStartTime(range);
+    }
+
+    @Override
+    protected DateTime dateOf(final Call record) {
+        return record.getStartTime();
+    }
+
+    @Override
+    protected String sidOf(final Call record) {
+        return record.getSid();
+    }
+
+    @Override
+    protected String versionOf(final Call record) {
+        return record.getStatus() + "|" + record.getDuration() + "|" + record.getDateUpdated();
+    }
+}
@@ -0,0 +1,115 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.collect.Range;
+import com.twilio.base.PartitionedReader;
+import com.twilio.base.Reader;
+import org.joda.time.DateTime;
+
+/**
+ * Reads calls started within a date range by reading partitions of the range concurrently.
+ */
+public class CallPartitionedReader extends PartitionedReader<Call> {
+    private final String pathAccountSid;
+    private com.twilio.type.PhoneNumber to;
+    private com.twilio.type.PhoneNumber from;
+    private String parentCallSid;
+    private Call.Status status;
+
+    /**
+     * Construct a new CallPartitionedReader.
+     *
+     * @param rangeStartTime bounded range of the time the calls started
+     */
+    public CallPartitionedReader(final Range<DateTime> rangeStartTime) {
+        this(null, rangeStartTime);
+    }
+
+    /**
+     * Construct a new CallPartitionedReader.
+     *
+     * @param pathAccountSid The account_sid
+     * @param rangeStartTime bounded range of the time the calls started
+     */
+    public CallPartitionedReader(final String pathAccountSid, final Range<DateTime> rangeStartTime) {
+        super(rangeStartTime);
+        this.pathAccountSid = pathAccountSid;
+    }
+
+    /**
+     * Only read calls to this phone number, SIP address, Client identifier or SIM SID.
+     *
+     * @param to Phone number or Client identifier to filter `to` on
+     * @return this
+     */
+    public CallPartitionedReader setTo(final com.twilio.type.PhoneNumber to) {
+        this.to = to;
+        return this;
+    }
+
+    /**
+     * Only read calls from this phone number, SIP address, Client identifier or SIM SID.
+     *
+     * @param from Phone number or Client identifier to filter `from` on
+     * @return this
+     */
+    public CallPartitionedReader setFrom(final com.twilio.type.PhoneNumber from) {
+        this.from = from;
+        return this;
+    }
+
+    /**
+     * Only read calls spawned by the given call.
+     *
+     * @param parentCallSid Parent Call Sid to filter on
+     * @return this
+     */
+    public CallPartitionedReader setParentCallSid(final String parentCallSid) {
+        this.parentCallSid = parentCallSid;
+        return this;
+    }
+
+    /**
+     * Only read calls currently in this status.
+     *
+     * @param status Status to filter on
+     * @return this
+     */
+    public CallPartitionedReader setStatus(final Call.Status status) {
+        this.status = status;
+        return this;
+    }
+
+    @Override
+    protected Reader<Call> reader(final Range<DateTime> partition) {
+        CallReader reader = pathAccountSid == null ? new CallReader() : new CallReader(pathAccountSid);
+        reader.setStartTime(partition);
+
+        if (to != null) {
+            reader.setTo(to);
+        }
+
+        if (from != null) {
+            reader.setFrom(from);
+        }
+
+        if (parentCallSid != null) {
+            reader.setParentCallSid(parentCallSid);
+        }
+
+        if (status != null) {
+            reader.setStatus(status);
+        }
+
+        return reader;
+    }
+
+    @Override
+    protected DateTime dateOf(final Call record) {
+        return record.getStartTime();
+    }
+
+    @Override
+    protected String sidOf(final Call record) {
+        return record.getSid();
+    }
+}
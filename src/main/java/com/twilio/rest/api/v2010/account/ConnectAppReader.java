@@ -49,14 +49,14 @@ public class ConnectAppReader extends Reader<ConnectApp> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return ConnectApp ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<ConnectApp> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -66,7 +66,7 @@ public class ConnectAppReader extends Reader<ConnectApp> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -129,15 +129,14 @@ public class ConnectAppReader extends Reader<ConnectApp> {
     }
 
     /**
-     * Generate a Page of ConnectApp Resources for a given request.
+     * Generate a Page of ConnectApp Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<ConnectApp> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<ConnectApp> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ConnectApp read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -157,7 +156,7 @@ public class ConnectAppReader extends Reader<ConnectApp> {
 
         return Page.fromJson(
             "connect_apps",
-            response.getContent(),
+            response.getStream(),
             ConnectApp.class,
             client.getObjectMapper()
         );
@@ -114,14 +114,14 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return IncomingPhoneNumber ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<IncomingPhoneNumber> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -131,7 +131,7 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -194,15 +194,14 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
     }
 
     /**
-     * Generate a Page of IncomingPhoneNumber Resources for a given request.
+     * Generate a Page of IncomingPhoneNumber Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<IncomingPhoneNumber> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<IncomingPhoneNumber> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("IncomingPhoneNumber read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -222,7 +221,7 @@ public class IncomingPhoneNumberReader extends Reader<IncomingPhoneNumber> {
 
         return Page.fromJson(
             "incoming_phone_numbers",
-            response.getContent(),
+            response.getStream(),
             IncomingPhoneNumber.class,
             client.getObjectMapper()
         );
@@ -0,0 +1,52 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.collect.Range;
+import com.twilio.base.DeltaPoller;
+import com.twilio.base.Reader;
+import org.joda.time.DateTime;
+
+/**
+ * Polls for messages that were sent or changed status since the last poll.
+ */
+public class MessageDeltaPoller extends DeltaPoller<Message> {
+    private static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * Construct a new MessageDeltaPoller.
+     *
+     * @param since date sent the first poll reads from
+     */
+    public MessageDeltaPoller(final DateTime since) {
+        this(since, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new MessageDeltaPoller.
+     *
+     * @param since date sent the first poll reads from
+     * @param capacity maximum number of messages remembered
+     */
+    public MessageDeltaPoller(final DateTime since, final int capacity) {
+        super(since, capacity);
+    }
+
+    @Override
+    protected Reader<Message> reader(final String accountSid, final Range<DateTime> range) {
+        return new MessageReader(accountSid).setDateSent(range);
+    }
+
+    @Override
+    protected DateTime dateOf(final Message record) {
+        return record.getDateSent();
+    }
+
+    @Override
+    protected String sidOf(final Message record) {
+        return record.getSid();
+    }
+
+    @Override
+    protected String versionOf(final Message record) {
+        return record.getStatus() + "|" + record.getErrorCode() + "|" + record.getDateUpdated();
+    }
+}
@@ -0,0 +1,83 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.collect.Range;
+import com.twilio.base.PartitionedReader;
+import com.twilio.base.Reader;
+import org.joda.time.DateTime;
+
+/**
+ * Reads messages sent within a date range by reading partitions of the range concurrently.
+ */
+public class MessagePartitionedReader extends PartitionedReader<Message> {
+    private final String pathAccountSid;
+    private com.twilio.type.PhoneNumber to;
+    private com.twilio.type.PhoneNumber from;
+
+    /**
+     * Construct a new MessagePartitionedReader.
+     *
+     * @param rangeDateSent bounded range of the date the messages were sent
+     */
+    public MessagePartitionedReader(final Range<DateTime> rangeDateSent) {
+        this(null, rangeDateSent);
+    }
+
+    /**
+     * Construct a new MessagePartitionedReader.
+     *
+     * @param pathAccountSid The account_sid
+     * @param rangeDateSent bounded range of the date the messages were sent
+     */
+    public MessagePartitionedReader(final String pathAccountSid, final Range<DateTime> rangeDateSent) {
+        super(rangeDateSent);
+        this.pathAccountSid = pathAccountSid;
+    }
+
+    /**
+     * Only read messages sent to this number.
+     *
+     * @param to Filter by messages to this number
+     * @return this
+     */
+    public MessagePartitionedReader setTo(final com.twilio.type.PhoneNumber to) {
+        this.to = to;
+        return this;
+    }
+
+    /**
+     * Only read messages sent from this number.
+     *
+     * @param from Filter by from number
+     * @return this
+     */
+    public MessagePartitionedReader setFrom(final com.twilio.type.PhoneNumber from) {
+        this.from = from;
+        return this;
+    }
+
+    @Override
+    protected Reader<Message> reader(final Range<DateTime> partition) {
+        MessageReader reader = pathAccountSid == null ? new MessageReader() : new MessageReader(pathAccountSid);
+        reader.setDateSent(partition);
+
+        if (to != null) {
+            reader.setTo(to);
+        }
+
+        if (from != null) {
+            reader.setFrom(from);
+        }
+
+        return reader;
+    }
+
+    @Override
+    protected DateTime dateOf(final Message record) {
+        return record.getDateSent();
+    }
+
+    @Override
+    protected String sidOf(final Message record) {
+        return record.getSid();
+    }
+}
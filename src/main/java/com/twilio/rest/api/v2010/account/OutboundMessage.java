@@ -0,0 +1,156 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.google.common.base.MoreObjects;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A message to be sent by a {@link BulkMessageSender}.
+ */
+public class OutboundMessage {
+    private final com.twilio.type.PhoneNumber to;
+    private final com.twilio.type.PhoneNumber from;
+    private final String messagingServiceSid;
+    private final String body;
+    private final List<URI> mediaUrl;
+
+    private OutboundMessage(final com.twilio.type.PhoneNumber to,
+                            final com.twilio.type.PhoneNumber from,
+                            final String messagingServiceSid,
+                            final String body,
+                            final List<URI> mediaUrl) {
+        this.to = to;
+        this.from = from;
+        this.messagingServiceSid = messagingServiceSid;
+        this.body = body;
+        this.mediaUrl = mediaUrl == null ? Collections.<URI>emptyList() : mediaUrl;
+    }
+
+    /**
+     * Create a message sent from a phone number.
+     *
+     * @param to The phone number to receive the message
+     * @param from The phone number that initiated the message
+     * @param body The text of the message you want to send.
+     * @return message to send
+     */
+    public static OutboundMessage from(final com.twilio.type.PhoneNumber to,
+                                       final com.twilio.type.PhoneNumber from,
+                                       final String body) {
+        return new OutboundMessage(to, from, null, body, null);
+    }
+
+    /**
+     * Create a message with media sent from a phone number.
+     *
+     * @param to The phone number to receive the message
+     * @param from The phone number that initiated the message
+     * @param body The text of the message you want to send, or null
+     * @param mediaUrl The URL of the media you wish to send out with the message.
+     * @return message to send
+     */
+    public static OutboundMessage from(final com.twilio.type.PhoneNumber to,
+                                       final com.twilio.type.PhoneNumber from,
+                                       final String body,
+                                       final List<URI> mediaUrl) {
+        return new OutboundMessage(to, from, null, body, mediaUrl);
+    }
+
+    /**
+     * Create a message sent through a messaging service.
+     *
+     * @param to The phone number to receive the message
+     * @param messagingServiceSid The 34 character unique id of the Messaging Service you want to associate with this
+     *                            Message.
+     * @param body The text of the message you want to send.
+     * @return message to send
+     */
+    public static OutboundMessage fromService(final com.twilio.type.PhoneNumber to,
+                                              final String messagingServiceSid,
+                                              final String body) {
+        return new OutboundMessage(to, null, messagingServiceSid, body, null);
+    }
+
+    /**
+     * Create a message with media sent through a messaging service.
+     *
+     * @param to The phone number to receive the message
+     * @param messagingServiceSid The 34 character unique id of the Messaging Service you want to associate with this
+     *                            Message.
+     * @param body The text of the message you want to send, or null
+     * @param mediaUrl The URL of the media you wish to send out with the message.
+     * @return message to send
+     */
+    public static OutboundMessage fromService(final com.twilio.type.PhoneNumber to,
+                                              final String messagingServiceSid,
+                                              final String body,
+                                              final List<URI> mediaUrl) {
+        return new OutboundMessage(to, null, messagingServiceSid, body, mediaUrl);
+    }
+
+    public com.twilio.type.PhoneNumber getTo() {
+        return to;
+    }
+
+    public com.twilio.type.PhoneNumber getFrom() {
+        return from;
+    }
+
+    public String getMessagingServiceSid() {
+        return messagingServiceSid;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public List<URI> getMediaUrl() {
+        return mediaUrl;
+    }
+
+    /**
+     * Get the sender the message is paced by: its messaging service, or else its from number.
+     *
+     * @return sender of the message
+     */
+    public String getSender() {
+        return messagingServiceSid != null ? messagingServiceSid : String.valueOf(from);
+    }
+
+    /**
+     * Create the creator that sends this message.
+     *
+     * @param pathAccountSid The account_sid, or null for the account of the client
+     * @return MessageCreator for the message
+     */
+    public MessageCreator creator(final String pathAccountSid) {
+        MessageCreator creator;
+        if (messagingServiceSid != null) {
+            creator = pathAccountSid == null
+                ? new MessageCreator(to, messagingServiceSid, mediaUrl)
+                : new MessageCreator(pathAccountSid, to, messagingServiceSid, mediaUrl);
+        } else {
+            creator = pathAccountSid == null
+                ? new MessageCreator(to, from, mediaUrl)
+                : new MessageCreator(pathAccountSid, to, from, mediaUrl);
+        }
+
+        if (body != null) {
+            creator.setBody(body);
+        }
+
+        return creator;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("to", to)
+                          .add("from", from)
+                          .add("messagingServiceSid", messagingServiceSid)
+                          .add("mediaUrl", mediaUrl)
+                          .toString();
+    }
+}
@@ -84,14 +84,14 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return OutgoingCallerId ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<OutgoingCallerId> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -101,7 +101,7 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -164,15 +164,14 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
     }
 
     /**
-     * Generate a Page of OutgoingCallerId Resources for a given request.
+     * Generate a Page of OutgoingCallerId Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<OutgoingCallerId> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<OutgoingCallerId> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("OutgoingCallerId read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -192,7 +191,7 @@ public class OutgoingCallerIdReader extends Reader<OutgoingCallerId> {
 
         return Page.fromJson(
             "outgoing_caller_ids",
-            response.getContent(),
+            response.getStream(),
             OutgoingCallerId.class,
             client.getObjectMapper()
         );
@@ -75,14 +75,14 @@ public class ShortCodeReader extends Reader<ShortCode> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return ShortCode ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<ShortCode> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -92,7 +92,7 @@ public class ShortCodeReader extends Reader<ShortCode> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -155,15 +155,14 @@ public class ShortCodeReader extends Reader<ShortCode> {
     }
 
     /**
-     * Generate a Page of ShortCode Resources for a given request.
+     * Generate a Page of ShortCode Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<ShortCode> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<ShortCode> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("ShortCode read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -183,7 +182,7 @@ public class ShortCodeReader extends Reader<ShortCode> {
 
         return Page.fromJson(
             "short_codes",
-            response.getContent(),
+            response.getStream(),
             ShortCode.class,
             client.getObjectMapper()
         );
@@ -49,14 +49,14 @@ public class SigningKeyReader extends Reader<SigningKey> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SigningKey ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SigningKey> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -66,7 +66,7 @@ public class SigningKeyReader extends Reader<SigningKey> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -129,15 +129,14 @@ public class SigningKeyReader extends Reader<SigningKey> {
     }
 
     /**
-     * Generate a Page of SigningKey Resources for a given request.
+     * Generate a Page of SigningKey Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SigningKey> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SigningKey> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SigningKey read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -157,7 +156,7 @@ public class SigningKeyReader extends Reader<SigningKey> {
 
         return Page.fromJson(
             "signing_keys",
-            response.getContent(),
+            response.getStream(),
             SigningKey.class,
             client.getObjectMapper()
         );
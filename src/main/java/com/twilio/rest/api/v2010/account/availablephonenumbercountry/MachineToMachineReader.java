@@ -284,14 +284,14 @@ public class MachineToMachineReader extends Reader<MachineToMachine> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return MachineToMachine ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<MachineToMachine> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -301,7 +301,7 @@ public class MachineToMachineReader extends Reader<MachineToMachine> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -364,15 +364,14 @@ public class MachineToMachineReader extends Reader<MachineToMachine> {
     }
 
     /**
-     * Generate a Page of MachineToMachine Resources for a given request.
+     * Generate a Page of MachineToMachine Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<MachineToMachine> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<MachineToMachine> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MachineToMachine read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -392,7 +391,7 @@ public class MachineToMachineReader extends Reader<MachineToMachine> {
 
         return Page.fromJson(
             "available_phone_numbers",
-            response.getContent(),
+            response.getStream(),
             MachineToMachine.class,
             client.getObjectMapper()
         );
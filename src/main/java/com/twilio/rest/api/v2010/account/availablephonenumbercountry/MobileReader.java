@@ -334,14 +334,14 @@ public class MobileReader extends Reader<Mobile> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Mobile ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Mobile> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -351,7 +351,7 @@ public class MobileReader extends Reader<Mobile> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -414,15 +414,14 @@ public class MobileReader extends Reader<Mobile> {
     }
 
     /**
-     * Generate a Page of Mobile Resources for a given request.
+     * Generate a Page of Mobile Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Mobile> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Mobile> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Mobile read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -442,7 +441,7 @@ public class MobileReader extends Reader<Mobile> {
 
         return Page.fromJson(
             "available_phone_numbers",
-            response.getContent(),
+            response.getStream(),
             Mobile.class,
             client.getObjectMapper()
         );
@@ -284,14 +284,14 @@ public class SharedCostReader extends Reader<SharedCost> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SharedCost ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SharedCost> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -301,7 +301,7 @@ public class SharedCostReader extends Reader<SharedCost> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -364,15 +364,14 @@ public class SharedCostReader extends Reader<SharedCost> {
     }
 
     /**
-     * Generate a Page of SharedCost Resources for a given request.
+     * Generate a Page of SharedCost Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SharedCost> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SharedCost> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SharedCost read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -392,7 +391,7 @@ public class SharedCostReader extends Reader<SharedCost> {
 
         return Page.fromJson(
             "available_phone_numbers",
-            response.getContent(),
+            response.getStream(),
             SharedCost.class,
             client.getObjectMapper()
         );
@@ -60,14 +60,14 @@ public class AssignedAddOnReader extends Reader<AssignedAddOn> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AssignedAddOn ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AssignedAddOn> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -77,7 +77,7 @@ public class AssignedAddOnReader extends Reader<AssignedAddOn> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -140,15 +140,14 @@ public class AssignedAddOnReader extends Reader<AssignedAddOn> {
     }
 
     /**
-     * Generate a Page of AssignedAddOn Resources for a given request.
+     * Generate a Page of AssignedAddOn Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AssignedAddOn> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AssignedAddOn> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AssignedAddOn read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -168,7 +167,7 @@ public class AssignedAddOnReader extends Reader<AssignedAddOn> {
 
         return Page.fromJson(
             "assigned_add_ons",
-            response.getContent(),
+            response.getStream(),
             AssignedAddOn.class,
             client.getObjectMapper()
         );
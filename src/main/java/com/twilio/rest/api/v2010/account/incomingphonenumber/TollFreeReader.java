@@ -117,14 +117,14 @@ public class TollFreeReader extends Reader<TollFree> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return TollFree ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<TollFree> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -134,7 +134,7 @@ public class TollFreeReader extends Reader<TollFree> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -197,15 +197,14 @@ public class TollFreeReader extends Reader<TollFree> {
     }
 
     /**
-     * Generate a Page of TollFree Resources for a given request.
+     * Generate a Page of TollFree Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<TollFree> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<TollFree> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("TollFree read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -225,7 +224,7 @@ public class TollFreeReader extends Reader<TollFree> {
 
         return Page.fromJson(
             "incoming_phone_numbers",
-            response.getContent(),
+            response.getStream(),
             TollFree.class,
             client.getObjectMapper()
         );
@@ -67,14 +67,14 @@ public class AssignedAddOnExtensionReader extends Reader<AssignedAddOnExtension>
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AssignedAddOnExtension ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AssignedAddOnExtension> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -84,7 +84,7 @@ public class AssignedAddOnExtensionReader extends Reader<AssignedAddOnExtension>
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -147,15 +147,14 @@ public class AssignedAddOnExtensionReader extends Reader<AssignedAddOnExtension>
     }
 
     /**
-     * Generate a Page of AssignedAddOnExtension Resources for a given request.
+     * Generate a Page of AssignedAddOnExtension Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AssignedAddOnExtension> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AssignedAddOnExtension> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AssignedAddOnExtension read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -175,7 +174,7 @@ public class AssignedAddOnExtensionReader extends Reader<AssignedAddOnExtension>
 
         return Page.fromJson(
             "extensions",
-            response.getContent(),
+            response.getStream(),
             AssignedAddOnExtension.class,
             client.getObjectMapper()
         );
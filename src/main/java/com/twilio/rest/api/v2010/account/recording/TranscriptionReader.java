@@ -56,14 +56,14 @@ public class TranscriptionReader extends Reader<Transcription> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Transcription ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Transcription> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -73,7 +73,7 @@ public class TranscriptionReader extends Reader<Transcription> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -136,15 +136,14 @@ public class TranscriptionReader extends Reader<Transcription> {
     }
 
     /**
-     * Generate a Page of Transcription Resources for a given request.
+     * Generate a Page of Transcription Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Transcription> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Transcription> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Transcription read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -164,7 +163,7 @@ public class TranscriptionReader extends Reader<Transcription> {
 
         return Page.fromJson(
             "transcriptions",
-            response.getContent(),
+            response.getStream(),
             Transcription.class,
             client.getObjectMapper()
         );
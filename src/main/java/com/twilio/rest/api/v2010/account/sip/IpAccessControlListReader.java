@@ -49,14 +49,14 @@ public class IpAccessControlListReader extends Reader<IpAccessControlList> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return IpAccessControlList ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<IpAccessControlList> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -66,7 +66,7 @@ public class IpAccessControlListReader extends Reader<IpAccessControlList> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -129,15 +129,14 @@ public class IpAccessControlListReader extends Reader<IpAccessControlList> {
     }
 
     /**
-     * Generate a Page of IpAccessControlList Resources for a given request.
+     * Generate a Page of IpAccessControlList Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<IpAccessControlList> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<IpAccessControlList> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("IpAccessControlList read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -157,7 +156,7 @@ public class IpAccessControlListReader extends Reader<IpAccessControlList> {
 
         return Page.fromJson(
             "ip_access_control_lists",
-            response.getContent(),
+            response.getStream(),
             IpAccessControlList.class,
             client.getObjectMapper()
         );
@@ -56,14 +56,14 @@ public class AuthCallsIpAccessControlListMappingReader extends Reader<AuthCallsI
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AuthCallsIpAccessControlListMapping ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AuthCallsIpAccessControlListMapping> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -73,7 +73,7 @@ public class AuthCallsIpAccessControlListMappingReader extends Reader<AuthCallsI
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -137,15 +137,14 @@ public class AuthCallsIpAccessControlListMappingReader extends Reader<AuthCallsI
 
     /**
      * Generate a Page of AuthCallsIpAccessControlListMapping Resources for a given
-     * request.
+     * response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AuthCallsIpAccessControlListMapping> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AuthCallsIpAccessControlListMapping> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthCallsIpAccessControlListMapping read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -165,7 +164,7 @@ public class AuthCallsIpAccessControlListMappingReader extends Reader<AuthCallsI
 
         return Page.fromJson(
             "contents",
-            response.getContent(),
+            response.getStream(),
             AuthCallsIpAccessControlListMapping.class,
             client.getObjectMapper()
         );
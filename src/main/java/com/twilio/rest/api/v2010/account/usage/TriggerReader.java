@@ -91,14 +91,14 @@ public class TriggerReader extends Reader<Trigger> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Trigger ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Trigger> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -108,7 +108,7 @@ public class TriggerReader extends Reader<Trigger> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -171,15 +171,14 @@ public class TriggerReader extends Reader<Trigger> {
     }
 
     /**
-     * Generate a Page of Trigger Resources for a given request.
+     * Generate a Page of Trigger Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Trigger> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Trigger> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Trigger read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -199,7 +198,7 @@ public class TriggerReader extends Reader<Trigger> {
 
         return Page.fromJson(
             "usage_triggers",
-            response.getContent(),
+            response.getStream(),
             Trigger.class,
             client.getObjectMapper()
         );
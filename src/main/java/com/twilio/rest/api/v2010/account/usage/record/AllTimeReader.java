@@ -106,14 +106,14 @@ public class AllTimeReader extends Reader<AllTime> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AllTime ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AllTime> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -123,7 +123,7 @@ public class AllTimeReader extends Reader<AllTime> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -186,15 +186,14 @@ public class AllTimeReader extends Reader<AllTime> {
     }
 
     /**
-     * Generate a Page of AllTime Resources for a given request.
+     * Generate a Page of AllTime Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AllTime> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AllTime> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AllTime read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -214,7 +213,7 @@ public class AllTimeReader extends Reader<AllTime> {
 
         return Page.fromJson(
             "usage_records",
-            response.getContent(),
+            response.getStream(),
             AllTime.class,
             client.getObjectMapper()
         );
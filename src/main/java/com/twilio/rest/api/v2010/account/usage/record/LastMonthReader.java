@@ -106,14 +106,14 @@ public class LastMonthReader extends Reader<LastMonth> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return LastMonth ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<LastMonth> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -123,7 +123,7 @@ public class LastMonthReader extends Reader<LastMonth> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -186,15 +186,14 @@ public class LastMonthReader extends Reader<LastMonth> {
     }
 
     /**
-     * Generate a Page of LastMonth Resources for a given request.
+     * Generate a Page of LastMonth Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<LastMonth> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<LastMonth> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("LastMonth read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -214,7 +213,7 @@ public class LastMonthReader extends Reader<LastMonth> {
 
         return Page.fromJson(
             "usage_records",
-            response.getContent(),
+            response.getStream(),
             LastMonth.class,
             client.getObjectMapper()
         );
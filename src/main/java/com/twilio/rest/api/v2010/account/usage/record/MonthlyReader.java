@@ -106,14 +106,14 @@ public class MonthlyReader extends Reader<Monthly> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Monthly ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Monthly> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         this.pathAccountSid = this.pathAccountSid == null ? client.getAccountSid() : this.pathAccountSid;
         Request request = new Request(
             HttpMethod.GET,
@@ -123,7 +123,7 @@ public class MonthlyReader extends Reader<Monthly> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -186,15 +186,14 @@ public class MonthlyReader extends Reader<Monthly> {
     }
 
     /**
-     * Generate a Page of Monthly Resources for a given request.
+     * Generate a Page of Monthly Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Monthly> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Monthly> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Monthly read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -214,7 +213,7 @@ public class MonthlyReader extends Reader<Monthly> {
 
         return Page.fromJson(
             "usage_records",
-            response.getContent(),
+            response.getStream(),
             Monthly.class,
             client.getObjectMapper()
         );
@@ -47,14 +47,14 @@ public class UserChannelReader extends Reader<UserChannel> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return UserChannel ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<UserChannel> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.CHAT.toString(),
@@ -63,7 +63,7 @@ public class UserChannelReader extends Reader<UserChannel> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -125,15 +125,14 @@ public class UserChannelReader extends Reader<UserChannel> {
     }
 
     /**
-     * Generate a Page of UserChannel Resources for a given request.
+     * Generate a Page of UserChannel Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<UserChannel> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<UserChannel> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("UserChannel read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -153,7 +152,7 @@ public class UserChannelReader extends Reader<UserChannel> {
 
         return Page.fromJson(
             "channels",
-            response.getContent(),
+            response.getStream(),
             UserChannel.class,
             client.getObjectMapper()
         );
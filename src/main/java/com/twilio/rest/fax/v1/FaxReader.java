@@ -91,14 +91,14 @@ public class FaxReader extends Reader<Fax> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fax ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Fax> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.FAX.toString(),
@@ -107,7 +107,7 @@ public class FaxReader extends Reader<Fax> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -169,15 +169,14 @@ public class FaxReader extends Reader<Fax> {
     }
 
     /**
-     * Generate a Page of Fax Resources for a given request.
+     * Generate a Page of Fax Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Fax> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Fax> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Fax read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -197,7 +196,7 @@ public class FaxReader extends Reader<Fax> {
 
         return Page.fromJson(
             "faxes",
-            response.getContent(),
+            response.getStream(),
             Fax.class,
             client.getObjectMapper()
         );
@@ -68,14 +68,14 @@ public class ChannelReader extends Reader<Channel> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Channel ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Channel> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.IPMESSAGING.toString(),
@@ -84,7 +84,7 @@ public class ChannelReader extends Reader<Channel> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -146,15 +146,14 @@ public class ChannelReader extends Reader<Channel> {
     }
 
     /**
-     * Generate a Page of Channel Resources for a given request.
+     * Generate a Page of Channel Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Channel> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Channel> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Channel read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -174,7 +173,7 @@ public class ChannelReader extends Reader<Channel> {
 
         return Page.fromJson(
             "channels",
-            response.getContent(),
+            response.getStream(),
             Channel.class,
             client.getObjectMapper()
         );
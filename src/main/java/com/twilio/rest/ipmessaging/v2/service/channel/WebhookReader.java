@@ -47,14 +47,14 @@ public class WebhookReader extends Reader<Webhook> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Webhook ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Webhook> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.IPMESSAGING.toString(),
@@ -63,7 +63,7 @@ public class WebhookReader extends Reader<Webhook> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -125,15 +125,14 @@ public class WebhookReader extends Reader<Webhook> {
     }
 
     /**
-     * Generate a Page of Webhook Resources for a given request.
+     * Generate a Page of Webhook Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Webhook> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Webhook> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Webhook read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -153,7 +152,7 @@ public class WebhookReader extends Reader<Webhook> {
 
         return Page.fromJson(
             "webhooks",
-            response.getContent(),
+            response.getStream(),
             Webhook.class,
             client.getObjectMapper()
         );
@@ -76,14 +76,14 @@ public class UserBindingReader extends Reader<UserBinding> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return UserBinding ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<UserBinding> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.IPMESSAGING.toString(),
@@ -92,7 +92,7 @@ public class UserBindingReader extends Reader<UserBinding> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -154,15 +154,14 @@ public class UserBindingReader extends Reader<UserBinding> {
     }
 
     /**
-     * Generate a Page of UserBinding Resources for a given request.
+     * Generate a Page of UserBinding Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<UserBinding> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<UserBinding> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("UserBinding read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -182,7 +181,7 @@ public class UserBindingReader extends Reader<UserBinding> {
 
         return Page.fromJson(
             "bindings",
-            response.getContent(),
+            response.getStream(),
             UserBinding.class,
             client.getObjectMapper()
         );
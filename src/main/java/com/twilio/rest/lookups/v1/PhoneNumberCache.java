@@ -0,0 +1,548 @@
+package com.twilio.rest.lookups.v1;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Joiner;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of phone number lookups kept in a memory-mapped file, so entries stay off the heap and survive restarts.
+ *
+ * <p>
+ *     Lookups are keyed by the phone number and every query parameter, so the same number looked up with another
+ *     type or add-on is a separate entry. Each entry expires after its own time to live.
+ * </p>
+ *
+ * <p>
+ *     The file holds an open addressing hash table of fixed size slots, followed by a data region of records
+ *     appended as they are stored. A slot holds the 64 bit hash of its key, the offset of its record and its expiry
+ *     time; a record holds the key and the JSON returned by Twilio. When the table or data region is full, expired
+ *     and replaced entries are compacted away; if that does not free enough room, the entries closest to expiry are
+ *     evicted as well.
+ * </p>
+ *
+ * <p>
+ *     The file is locked while the cache is open, so only one cache uses it at a time. A file whose header, slots or
+ *     records point outside of it, such as one left by a crash, is emptied when opened.
+ * </p>
+ *
+ * <pre>
+ *     PhoneNumberCache cache = new PhoneNumberCache.Builder(Paths.get("lookups.cache"))
+ *         .ttl(TimeUnit.DAYS.toMillis(30))
+ *         .build();
+ *     PhoneNumber number = cache.fetch(PhoneNumber.fetcher(new com.twilio.type.PhoneNumber("+15108675309"))
+ *         .setType("carrier"));
+ * </pre>
+ */
+public class PhoneNumberCache implements Closeable {
+
+    private static final int MAGIC = 0x54574c4b;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOTS_OFFSET = 8;
+    private static final int DATA_CAPACITY_OFFSET = 12;
+    private static final int DATA_END_OFFSET = 16;
+    private static final int ENTRIES_OFFSET = 20;
+
+    private static final int SLOT_SIZE = 20;
+    private static final int SLOT_RECORD = 8;
+    private static final int SLOT_EXPIRY = 12;
+    private static final int RECORD_HEADER = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final int dataStart;
+    private final int dataCapacity;
+    private final long ttlMillis;
+
+    private int dataEnd;
+    private int entries;
+    private long hits;
+    private long misses;
+
+    private PhoneNumberCache(final Builder b) throws IOException {
+        this.ttlMillis = b.ttlMillis;
+        this.channel = FileChannel.open(
+            b.path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        try {
+            lock(b.path);
+
+            MappedByteBuffer existing = null;
+            if (channel.size() >= HEADER_SIZE) {
+                existing = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            }
+
+            if (existing != null && existing.getInt(MAGIC_OFFSET) == MAGIC
+                && existing.getInt(VERSION_OFFSET) == VERSION
+                && isValidSize(existing.getInt(SLOTS_OFFSET), existing.getInt(DATA_CAPACITY_OFFSET))
+                && channel.size() == size(existing.getInt(SLOTS_OFFSET), existing.getInt(DATA_CAPACITY_OFFSET))) {
+                this.slots = existing.getInt(SLOTS_OFFSET);
+                this.dataCapacity = existing.getInt(DATA_CAPACITY_OFFSET);
+                this.dataStart = HEADER_SIZE + slots * SLOT_SIZE;
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(slots, dataCapacity));
+                this.dataEnd = buffer.getInt(DATA_END_OFFSET);
+                this.entries = buffer.getInt(ENTRIES_OFFSET);
+                if (!isConsistent()) {
+                    reset();
+                }
+            } else {
+                this.slots = b.slots();
+                this.dataCapacity = b.dataCapacity;
+                this.dataStart = HEADER_SIZE + slots * SLOT_SIZE;
+                channel.truncate(0);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(slots, dataCapacity));
+                buffer.putInt(SLOTS_OFFSET, slots);
+                buffer.putInt(DATA_CAPACITY_OFFSET, dataCapacity);
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                reset();
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+            }
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void lock(final Path path) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (final OverlappingFileLockException e) {
+            lock = null;
+        }
+
+        if (lock == null) {
+            throw new ApiException("Phone number cache " + path + " is already open");
+        }
+    }
+
+    private static boolean isValidSize(final int slots, final int dataCapacity) {
+        return slots >= 4 && Integer.bitCount(slots) == 1 && dataCapacity >= 0
+            && size(slots, dataCapacity) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Check that the counters, slots and records of an existing file stay within it.
+     */
+    private boolean isConsistent() {
+        if (dataEnd < 0 || dataEnd > dataCapacity || entries < 0 || entries >= slots) {
+            return false;
+        }
+
+        int used = 0;
+        for (int slot = HEADER_SIZE; slot < dataStart; slot += SLOT_SIZE) {
+            if (buffer.getLong(slot) == 0) {
+                continue;
+            }
+
+            used++;
+            long record = buffer.getInt(slot + SLOT_RECORD);
+            if (record < dataStart || record + RECORD_HEADER > dataStart + dataEnd) {
+                return false;
+            }
+
+            long keyLength = buffer.getInt((int) record);
+            long valueLength = buffer.getInt((int) record + 4);
+            if (keyLength < 0 || valueLength < 0 || record + RECORD_HEADER + keyLength + valueLength > dataStart + dataEnd) {
+                return false;
+            }
+        }
+        return used == entries;
+    }
+
+    private static long size(final int slots, final int dataCapacity) {
+        return HEADER_SIZE + (long) slots * SLOT_SIZE + dataCapacity;
+    }
+
+    /**
+     * Fetch a phone number using the default client, from the cache if present.
+     *
+     * @param fetcher fetcher of the phone number
+     * @return fetched phone number
+     */
+    public PhoneNumber fetch(final PhoneNumberFetcher fetcher) {
+        return fetch(fetcher, Twilio.getRestClient());
+    }
+
+    /**
+     * Fetch a phone number using specified client, from the cache if present.
+     *
+     * @param fetcher fetcher of the phone number
+     * @param client client used to make the request on a miss
+     * @return fetched phone number
+     */
+    public PhoneNumber fetch(final PhoneNumberFetcher fetcher, final TwilioRestClient client) {
+        return fetch(fetcher, client, ttlMillis);
+    }
+
+    /**
+     * Fetch a phone number using specified client, from the cache if present, caching it for a specific time.
+     *
+     * @param fetcher fetcher of the phone number
+     * @param client client used to make the request on a miss
+     * @param ttlMillis time a fetched phone number is cached
+     * @return fetched phone number
+     */
+    public PhoneNumber fetch(final PhoneNumberFetcher fetcher, final TwilioRestClient client, final long ttlMillis) {
+        Request request = fetcher.buildRequest(client);
+        byte[] key = key(request);
+
+        byte[] json = get(key);
+        if (json != null) {
+            return PhoneNumber.fromJson(new ByteArrayInputStream(json), client.getObjectMapper());
+        }
+
+        Response response = client.request(request);
+        if (response == null || response.getStatusCode() != TwilioRestClient.HTTP_STATUS_CODE_OK) {
+            return fetcher.parseResponse(client, response);
+        }
+
+        String content = response.getContent();
+        PhoneNumber number = fetcher.parseResponse(
+            client,
+            new Response(content, response.getStatusCode(), response.getHeaders())
+        );
+        put(key, content.getBytes(Charsets.UTF_8), System.currentTimeMillis() + ttlMillis);
+        return number;
+    }
+
+    /**
+     * Get the JSON cached for a key.
+     *
+     * @param key key of the entry
+     * @return cached JSON, or null if absent or expired
+     */
+    synchronized byte[] get(final byte[] key) {
+        long hash = hash(key);
+        long now = System.currentTimeMillis();
+        int slot = find(hash, key);
+        if (buffer.getLong(slot) == 0 || buffer.getLong(slot + SLOT_EXPIRY) <= now) {
+            misses++;
+            return null;
+        }
+
+        int record = buffer.getInt(slot + SLOT_RECORD);
+        byte[] value = new byte[buffer.getInt(record + 4)];
+        read(record + RECORD_HEADER + key.length, value);
+        hits++;
+        return value;
+    }
+
+    /**
+     * Store the JSON for a key, replacing any previous entry.
+     *
+     * @param key key of the entry
+     * @param value JSON to cache
+     * @param expiresAt time in milliseconds since the epoch the entry expires at
+     */
+    synchronized void put(final byte[] key, final byte[] value, final long expiresAt) {
+        int length = RECORD_HEADER + key.length + value.length;
+        if (length > dataCapacity) {
+            return;
+        }
+
+        if (dataEnd + length > dataCapacity || !hasRoomForEntry()) {
+            compact(key, length);
+        }
+
+        long hash = hash(key);
+        int slot = find(hash, key);
+        if (buffer.getLong(slot) == 0) {
+            entries++;
+        }
+
+        int record = dataStart + dataEnd;
+        buffer.putInt(record, key.length);
+        buffer.putInt(record + 4, value.length);
+        write(record + RECORD_HEADER, key);
+        write(record + RECORD_HEADER + key.length, value);
+        dataEnd += length;
+
+        buffer.putInt(slot + SLOT_RECORD, record);
+        buffer.putLong(slot + SLOT_EXPIRY, expiresAt);
+        buffer.putLong(slot, hash);
+        buffer.putInt(DATA_END_OFFSET, dataEnd);
+        buffer.putInt(ENTRIES_OFFSET, entries);
+    }
+
+    /**
+     * Drop every cached lookup.
+     */
+    public synchronized void clear() {
+        reset();
+    }
+
+    /**
+     * Number of entries in the cache, including expired entries not yet compacted.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Flush the cache to disk and close the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private boolean hasRoomForEntry() {
+        return entries < slots - slots / 4;
+    }
+
+    /**
+     * Find the slot holding a key, or the empty slot ending its probe sequence.
+     */
+    private int find(final long hash, final byte[] key) {
+        int mask = slots - 1;
+        int index = (int) (hash ^ (hash >>> 32)) & mask;
+        while (true) {
+            int slot = HEADER_SIZE + index * SLOT_SIZE;
+            long slotHash = buffer.getLong(slot);
+            if (slotHash == 0 || (slotHash == hash && matches(buffer.getInt(slot + SLOT_RECORD), key))) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private boolean matches(final int record, final byte[] key) {
+        if (buffer.getInt(record) != key.length) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(record + RECORD_HEADER + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rewrite the live entries to the start of the data region, dropping expired and replaced records and the
+     * entries closest to expiry until there is room for an entry.
+     *
+     * @param incoming key of the entry being stored, whose previous record is dropped
+     * @param length size of the record being stored
+     */
+    private void compact(final byte[] incoming, final int length) {
+        long now = System.currentTimeMillis();
+        List<Entry> live = new ArrayList<>();
+
+        for (int i = 0; i < slots; i++) {
+            int slot = HEADER_SIZE + i * SLOT_SIZE;
+            long expiresAt = buffer.getLong(slot + SLOT_EXPIRY);
+            if (buffer.getLong(slot) == 0 || expiresAt <= now || matches(buffer.getInt(slot + SLOT_RECORD), incoming)) {
+                continue;
+            }
+
+            int record = buffer.getInt(slot + SLOT_RECORD);
+            byte[] key = new byte[buffer.getInt(record)];
+            byte[] value = new byte[buffer.getInt(record + 4)];
+            read(record + RECORD_HEADER, key);
+            read(record + RECORD_HEADER + key.length, value);
+            live.add(new Entry(key, value, expiresAt));
+        }
+
+        // Keep the entries that live longest
+        Collections.sort(live, new Comparator<Entry>() {
+            @Override
+            public int compare(final Entry a, final Entry b) {
+                return Long.compare(b.expiresAt, a.expiresAt);
+            }
+        });
+
+        reset();
+        for (final Entry entry : live) {
+            if (entries + 1 >= slots - slots / 4) {
+                break;
+            }
+
+            int entryLength = RECORD_HEADER + entry.key.length + entry.value.length;
+            if (dataEnd + entryLength + length <= dataCapacity) {
+                put(entry.key, entry.value, entry.expiresAt);
+            }
+        }
+    }
+
+    private void reset() {
+        for (int slot = HEADER_SIZE; slot < dataStart; slot += SLOT_SIZE) {
+            buffer.putLong(slot, 0);
+        }
+        dataEnd = 0;
+        entries = 0;
+        buffer.putInt(DATA_END_OFFSET, dataEnd);
+        buffer.putInt(ENTRIES_OFFSET, entries);
+    }
+
+    private void read(final int offset, final byte[] bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+    }
+
+    private void write(final int offset, final byte[] bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    /**
+     * Key a lookup by its path, holding the phone number, and its sorted query parameters.
+     */
+    static byte[] key(final Request request) {
+        Map<String, List<String>> params = new TreeMap<>(request.getQueryParams());
+        StringBuilder key = new StringBuilder(request.getUrl());
+        for (final Map.Entry<String, List<String>> param : params.entrySet()) {
+            List<String> values = new ArrayList<>(param.getValue());
+            values.remove(null);
+            Collections.sort(values);
+            key.append('|').append(param.getKey()).append('=');
+            Joiner.on(',').appendTo(key, values);
+        }
+        return key.toString().getBytes(Charsets.UTF_8);
+    }
+
+    /**
+     * 64 bit FNV-1a hash, never 0 as 0 marks an empty slot.
+     */
+    private static long hash(final byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * A live entry read out of the file while compacting.
+     */
+    private static class Entry {
+        private final byte[] key;
+        private final byte[] value;
+        private final long expiresAt;
+
+        private Entry(final byte[] key, final byte[] value, final long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Builder {
+        private final Path path;
+        private int maxEntries = 100000;
+        private int dataCapacity = 64 * 1024 * 1024;
+        private long ttlMillis = TimeUnit.DAYS.toMillis(7);
+
+        /**
+         * Create a builder for a cache kept in a file. An existing cache file is reused with its own sizes.
+         *
+         * @param path path of the cache file
+         */
+        public Builder(final Path path) {
+            this.path = path;
+        }
+
+        /**
+         * Set the number of entries the hash table is sized for.
+         *
+         * @param maxEntries number of entries
+         * @return this
+         */
+        public Builder maxEntries(final int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set the size of the data region holding keys and JSON.
+         *
+         * @param dataCapacity size in bytes
+         * @return this
+         */
+        public Builder dataCapacity(final int dataCapacity) {
+            this.dataCapacity = dataCapacity;
+            return this;
+        }
+
+        /**
+         * Set how long fetched phone numbers are cached by default.
+         *
+         * @param ttlMillis time to live in milliseconds
+         * @return this
+         */
+        public Builder ttl(final long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+            return this;
+        }
+
+        private int slots() {
+            int slots = Integer.highestOneBit(Math.max(maxEntries + maxEntries / 3, 2) - 1) << 1;
+            return Math.max(slots, 4);
+        }
+
+        /**
+         * Open the cache file, creating it if needed.
+         *
+         * @return the cache
+         */
+        public PhoneNumberCache build() {
+            if (size(slots(), dataCapacity) > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Cache file must be smaller than 2GB");
+            }
+
+            try {
+                return new PhoneNumberCache(this);
+            } catch (final IOException e) {
+                throw new ApiException("Failed to open phone number cache " + path, e);
+            }
+        }
+    }
+}
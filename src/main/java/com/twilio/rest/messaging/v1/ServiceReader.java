@@ -36,14 +36,14 @@ public class ServiceReader extends Reader<Service> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Service ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Service> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.MESSAGING.toString(),
@@ -52,7 +52,7 @@ public class ServiceReader extends Reader<Service> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -114,15 +114,14 @@ public class ServiceReader extends Reader<Service> {
     }
 
     /**
-     * Generate a Page of Service Resources for a given request.
+     * Generate a Page of Service Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Service> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Service> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Service read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -142,7 +141,7 @@ public class ServiceReader extends Reader<Service> {
 
         return Page.fromJson(
             "services",
-            response.getContent(),
+            response.getStream(),
             Service.class,
             client.getObjectMapper()
         );
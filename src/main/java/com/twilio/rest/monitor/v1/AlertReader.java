@@ -80,14 +80,14 @@ public class AlertReader extends Reader<Alert> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Alert ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Alert> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.MONITOR.toString(),
@@ -96,7 +96,7 @@ public class AlertReader extends Reader<Alert> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -158,15 +158,14 @@ public class AlertReader extends Reader<Alert> {
     }
 
     /**
-     * Generate a Page of Alert Resources for a given request.
+     * Generate a Page of Alert Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Alert> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Alert> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Alert read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -186,7 +185,7 @@ public class AlertReader extends Reader<Alert> {
 
         return Page.fromJson(
             "alerts",
-            response.getContent(),
+            response.getStream(),
             Alert.class,
             client.getObjectMapper()
         );
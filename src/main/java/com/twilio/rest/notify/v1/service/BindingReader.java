@@ -126,14 +126,14 @@ public class BindingReader extends Reader<Binding> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Binding ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Binding> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.NOTIFY.toString(),
@@ -142,7 +142,7 @@ public class BindingReader extends Reader<Binding> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -204,15 +204,14 @@ public class BindingReader extends Reader<Binding> {
     }
 
     /**
-     * Generate a Page of Binding Resources for a given request.
+     * Generate a Page of Binding Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Binding> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Binding> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Binding read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -232,7 +231,7 @@ public class BindingReader extends Reader<Binding> {
 
         return Page.fromJson(
             "bindings",
-            response.getContent(),
+            response.getStream(),
             Binding.class,
             client.getObjectMapper()
         );
@@ -0,0 +1,279 @@
+package com.twilio.rest.preview.bulkExports.export;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Message;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Downloads the files of exported days to a directory.
+ *
+ * <p>
+ *     Days are downloaded concurrently, streamed to disk through a {@link FileChannel}. A download is written to a
+ *     {@code .part} file that is renamed once complete, so an interrupted download is resumed from where it stopped
+ *     with a byte range request. Completed days are not downloaded again.
+ * </p>
+ */
+public class DayDownloader implements Closeable {
+
+    private static final int CONNECTION_TIMEOUT = 10000;
+    private static final int SOCKET_TIMEOUT = 30500;
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final String PART = ".part";
+
+    private final Path directory;
+    private final CloseableHttpClient client;
+    private final ListeningExecutorService executor;
+
+    /**
+     * Create a downloader that downloads four days at a time.
+     *
+     * @param directory directory the files are written to
+     */
+    public DayDownloader(final Path directory) {
+        this(directory, 4);
+    }
+
+    /**
+     * Create a downloader.
+     *
+     * @param directory directory the files are written to
+     * @param parallelism number of days downloaded at the same time
+     */
+    public DayDownloader(final Path directory, final int parallelism) {
+        this(directory, parallelism, HttpClientBuilder.create()
+            .useSystemProperties()
+            .setMaxConnPerRoute(parallelism)
+            .setMaxConnTotal(parallelism)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(CONNECTION_TIMEOUT)
+                .setSocketTimeout(SOCKET_TIMEOUT)
+                .build())
+            .build());
+    }
+
+    /**
+     * Create a downloader using a custom http client.
+     *
+     * @param directory directory the files are written to
+     * @param parallelism number of days downloaded at the same time
+     * @param client client used to download, closed with the downloader
+     */
+    public DayDownloader(final Path directory, final int parallelism, final CloseableHttpClient client) {
+        this.directory = directory;
+        this.client = client;
+        this.executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-day-downloader-%d").build()
+        ));
+    }
+
+    /**
+     * Download the file of a day.
+     *
+     * @param day day to download
+     * @return future that resolves to the downloaded file
+     */
+    public ListenableFuture<Path> download(final Day day) {
+        return executor.submit(new Callable<Path>() {
+            @Override
+            public Path call() {
+                return downloadNow(day);
+            }
+        });
+    }
+
+    /**
+     * Download the files of several days.
+     *
+     * @param days days to download
+     * @return future that resolves to the downloaded files, in the order of the days
+     */
+    public ListenableFuture<List<Path>> downloadAll(final Iterable<Day> days) {
+        List<ListenableFuture<Path>> downloads = new ArrayList<>();
+        for (Day day : days) {
+            downloads.add(download(day));
+        }
+
+        return Futures.allAsList(downloads);
+    }
+
+    /**
+     * Get the file a day is downloaded to.
+     *
+     * @param day day to get the file of
+     * @return path of the downloaded file
+     */
+    public Path fileFor(final Day day) {
+        String prefix = day.getResourceType() == null ? "" : day.getResourceType() + "-";
+        return directory.resolve(prefix + day.getDay() + ".json.gz");
+    }
+
+    private Path downloadNow(final Day day) {
+        Path target = fileFor(day);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        Path part = target.resolveSibling(target.getFileName() + PART);
+        try {
+            Files.createDirectories(directory);
+
+            long size;
+            boolean rangeRejected = false;
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long offset = channel.size();
+                if (day.getSize() != null && offset > day.getSize().longValue()) {
+                    // A part file larger than the day cannot be resumed
+                    channel.truncate(0);
+                    offset = 0;
+                }
+                boolean complete = day.getSize() != null && offset == day.getSize().longValue();
+
+                if (!complete) {
+                    HttpGet get = new HttpGet(day.getRedirectTo());
+                    if (offset > 0) {
+                        get.setHeader(HttpHeaders.RANGE, "bytes=" + offset + "-");
+                    }
+
+                    try (CloseableHttpResponse response = client.execute(get)) {
+                        rangeRejected = !transfer(day, response, channel, offset);
+                    }
+                }
+
+                channel.force(true);
+                size = channel.size();
+            }
+
+            // Without a size, a rejected range cannot tell a finished download from a corrupt part file
+            if (day.getSize() == null ? rangeRejected : size != day.getSize().longValue()) {
+                Files.deleteIfExists(part);
+                throw new ApiException(
+                    "Failed to download " + day.getDay() + ": got " + size + " bytes, expected " + day.getSize()
+                );
+            }
+
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Failed to download " + day.getDay() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write the body of a response to the part file.
+     *
+     * @return false if the server rejected the requested range, which leaves the part file as it was
+     */
+    private static boolean transfer(final Day day, final CloseableHttpResponse response, final FileChannel channel,
+                                    final long offset) throws IOException {
+        int status = response.getStatusLine().getStatusCode();
+        if (status == HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE && offset > 0) {
+            return false;
+        }
+
+        long position;
+        if (status == HttpStatus.SC_PARTIAL_CONTENT) {
+            position = offset;
+        } else if (status == HttpStatus.SC_OK) {
+            position = 0;
+            channel.truncate(0);
+        } else {
+            throw new ApiException(
+                "Failed to download " + day.getDay(), null, null, status, null
+            );
+        }
+
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return true;
+        }
+
+        try (ReadableByteChannel source = Channels.newChannel(entity.getContent())) {
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the messages of a downloaded file one at a time, without loading the file into memory.
+     *
+     * @param file downloaded file of gzipped, newline delimited JSON
+     * @param objectMapper mapper used to parse the messages
+     * @return iterator over the messages, close it to close the file
+     */
+    public static MappingIterator<Message> messages(final Path file, final ObjectMapper objectMapper) {
+        return records(file, Message.class, objectMapper);
+    }
+
+    /**
+     * Read the records of a downloaded file one at a time, without loading the file into memory.
+     *
+     * @param file downloaded file of gzipped, newline delimited JSON
+     * @param recordType type of the records
+     * @param objectMapper mapper used to parse the records
+     * @param <T> record class type
+     * @return iterator over the records, close it to close the file
+     */
+    public static <T> MappingIterator<T> records(final Path file, final Class<T> recordType,
+                                                 final ObjectMapper objectMapper) {
+        InputStream in = null;
+        try {
+            in = new GZIPInputStream(Files.newInputStream(file), 64 * 1024);
+            return objectMapper.readerFor(recordType).readValues(in);
+        } catch (final IOException e) {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (final IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new ApiException("Failed to read " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stop downloading and release the http client.
+     *
+     * @throws IOException if the client could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        client.close();
+    }
+}
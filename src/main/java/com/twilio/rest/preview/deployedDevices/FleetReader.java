@@ -37,14 +37,14 @@ public class FleetReader extends Reader<Fleet> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fleet ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Fleet> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -53,7 +53,7 @@ public class FleetReader extends Reader<Fleet> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -115,15 +115,14 @@ public class FleetReader extends Reader<Fleet> {
     }
 
     /**
-     * Generate a Page of Fleet Resources for a given request.
+     * Generate a Page of Fleet Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Fleet> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Fleet> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Fleet read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -143,7 +142,7 @@ public class FleetReader extends Reader<Fleet> {
 
         return Page.fromJson(
             "fleets",
-            response.getContent(),
+            response.getStream(),
             Fleet.class,
             client.getObjectMapper()
         );
@@ -61,14 +61,14 @@ public class CertificateReader extends Reader<Certificate> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Certificate ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Certificate> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -77,7 +77,7 @@ public class CertificateReader extends Reader<Certificate> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -139,15 +139,14 @@ public class CertificateReader extends Reader<Certificate> {
     }
 
     /**
-     * Generate a Page of Certificate Resources for a given request.
+     * Generate a Page of Certificate Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Certificate> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Certificate> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Certificate read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -167,7 +166,7 @@ public class CertificateReader extends Reader<Certificate> {
 
         return Page.fromJson(
             "certificates",
-            response.getContent(),
+            response.getStream(),
             Certificate.class,
             client.getObjectMapper()
         );
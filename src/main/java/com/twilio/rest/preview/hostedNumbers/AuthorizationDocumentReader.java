@@ -65,14 +65,14 @@ public class AuthorizationDocumentReader extends Reader<AuthorizationDocument> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AuthorizationDocument ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AuthorizationDocument> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -81,7 +81,7 @@ public class AuthorizationDocumentReader extends Reader<AuthorizationDocument> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -143,15 +143,14 @@ public class AuthorizationDocumentReader extends Reader<AuthorizationDocument> {
     }
 
     /**
-     * Generate a Page of AuthorizationDocument Resources for a given request.
+     * Generate a Page of AuthorizationDocument Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AuthorizationDocument> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AuthorizationDocument> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AuthorizationDocument read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -171,7 +170,7 @@ public class AuthorizationDocumentReader extends Reader<AuthorizationDocument> {
 
         return Page.fromJson(
             "items",
-            response.getContent(),
+            response.getStream(),
             AuthorizationDocument.class,
             client.getObjectMapper()
         );
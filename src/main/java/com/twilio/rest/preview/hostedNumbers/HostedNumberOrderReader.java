@@ -115,14 +115,14 @@ public class HostedNumberOrderReader extends Reader<HostedNumberOrder> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return HostedNumberOrder ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<HostedNumberOrder> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -131,7 +131,7 @@ public class HostedNumberOrderReader extends Reader<HostedNumberOrder> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -193,15 +193,14 @@ public class HostedNumberOrderReader extends Reader<HostedNumberOrder> {
     }
 
     /**
-     * Generate a Page of HostedNumberOrder Resources for a given request.
+     * Generate a Page of HostedNumberOrder Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<HostedNumberOrder> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<HostedNumberOrder> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("HostedNumberOrder read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -221,7 +220,7 @@ public class HostedNumberOrderReader extends Reader<HostedNumberOrder> {
 
         return Page.fromJson(
             "items",
-            response.getContent(),
+            response.getStream(),
             HostedNumberOrder.class,
             client.getObjectMapper()
         );
@@ -126,14 +126,14 @@ public class DependentHostedNumberOrderReader extends Reader<DependentHostedNumb
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return DependentHostedNumberOrder ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<DependentHostedNumberOrder> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -142,7 +142,7 @@ public class DependentHostedNumberOrderReader extends Reader<DependentHostedNumb
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -204,15 +204,14 @@ public class DependentHostedNumberOrderReader extends Reader<DependentHostedNumb
     }
 
     /**
-     * Generate a Page of DependentHostedNumberOrder Resources for a given request.
+     * Generate a Page of DependentHostedNumberOrder Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<DependentHostedNumberOrder> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<DependentHostedNumberOrder> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("DependentHostedNumberOrder read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -232,7 +231,7 @@ public class DependentHostedNumberOrderReader extends Reader<DependentHostedNumb
 
         return Page.fromJson(
             "items",
-            response.getContent(),
+            response.getStream(),
             DependentHostedNumberOrder.class,
             client.getObjectMapper()
         );
@@ -37,14 +37,14 @@ public class AvailableAddOnReader extends Reader<AvailableAddOn> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return AvailableAddOn ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<AvailableAddOn> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -53,7 +53,7 @@ public class AvailableAddOnReader extends Reader<AvailableAddOn> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -115,15 +115,14 @@ public class AvailableAddOnReader extends Reader<AvailableAddOn> {
     }
 
     /**
-     * Generate a Page of AvailableAddOn Resources for a given request.
+     * Generate a Page of AvailableAddOn Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<AvailableAddOn> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<AvailableAddOn> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("AvailableAddOn read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -143,7 +142,7 @@ public class AvailableAddOnReader extends Reader<AvailableAddOn> {
 
         return Page.fromJson(
             "available_add_ons",
-            response.getContent(),
+            response.getStream(),
             AvailableAddOn.class,
             client.getObjectMapper()
         );
@@ -37,14 +37,14 @@ public class InstalledAddOnReader extends Reader<InstalledAddOn> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return InstalledAddOn ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<InstalledAddOn> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -53,7 +53,7 @@ public class InstalledAddOnReader extends Reader<InstalledAddOn> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -115,15 +115,14 @@ public class InstalledAddOnReader extends Reader<InstalledAddOn> {
     }
 
     /**
-     * Generate a Page of InstalledAddOn Resources for a given request.
+     * Generate a Page of InstalledAddOn Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<InstalledAddOn> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<InstalledAddOn> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("InstalledAddOn read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -143,7 +142,7 @@ public class InstalledAddOnReader extends Reader<InstalledAddOn> {
 
         return Page.fromJson(
             "installed_add_ons",
-            response.getContent(),
+            response.getStream(),
             InstalledAddOn.class,
             client.getObjectMapper()
         );
@@ -48,14 +48,14 @@ public class InstalledAddOnExtensionReader extends Reader<InstalledAddOnExtensio
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return InstalledAddOnExtension ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<InstalledAddOnExtension> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -64,7 +64,7 @@ public class InstalledAddOnExtensionReader extends Reader<InstalledAddOnExtensio
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -126,15 +126,14 @@ public class InstalledAddOnExtensionReader extends Reader<InstalledAddOnExtensio
     }
 
     /**
-     * Generate a Page of InstalledAddOnExtension Resources for a given request.
+     * Generate a Page of InstalledAddOnExtension Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<InstalledAddOnExtension> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<InstalledAddOnExtension> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("InstalledAddOnExtension read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -154,7 +153,7 @@ public class InstalledAddOnExtensionReader extends Reader<InstalledAddOnExtensio
 
         return Page.fromJson(
             "extensions",
-            response.getContent(),
+            response.getStream(),
             InstalledAddOnExtension.class,
             client.getObjectMapper()
         );
@@ -88,14 +88,14 @@ public class SyncListItemReader extends Reader<SyncListItem> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SyncListItem ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SyncListItem> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -104,7 +104,7 @@ public class SyncListItemReader extends Reader<SyncListItem> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -166,15 +166,14 @@ public class SyncListItemReader extends Reader<SyncListItem> {
     }
 
     /**
-     * Generate a Page of SyncListItem Resources for a given request.
+     * Generate a Page of SyncListItem Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SyncListItem> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SyncListItem> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SyncListItem read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -194,7 +193,7 @@ public class SyncListItemReader extends Reader<SyncListItem> {
 
         return Page.fromJson(
             "items",
-            response.getContent(),
+            response.getStream(),
             SyncListItem.class,
             client.getObjectMapper()
         );
@@ -88,14 +88,14 @@ public class SyncMapItemReader extends Reader<SyncMapItem> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SyncMapItem ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SyncMapItem> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -104,7 +104,7 @@ public class SyncMapItemReader extends Reader<SyncMapItem> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -166,15 +166,14 @@ public class SyncMapItemReader extends Reader<SyncMapItem> {
     }
 
     /**
-     * Generate a Page of SyncMapItem Resources for a given request.
+     * Generate a Page of SyncMapItem Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SyncMapItem> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SyncMapItem> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SyncMapItem read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -194,7 +193,7 @@ public class SyncMapItemReader extends Reader<SyncMapItem> {
 
         return Page.fromJson(
             "items",
-            response.getContent(),
+            response.getStream(),
             SyncMapItem.class,
             client.getObjectMapper()
         );
@@ -65,14 +65,14 @@ public class FieldValueReader extends Reader<FieldValue> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return FieldValue ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<FieldValue> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PREVIEW.toString(),
@@ -81,7 +81,7 @@ public class FieldValueReader extends Reader<FieldValue> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -143,15 +143,14 @@ public class FieldValueReader extends Reader<FieldValue> {
     }
 
     /**
-     * Generate a Page of FieldValue Resources for a given request.
+     * Generate a Page of FieldValue Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<FieldValue> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<FieldValue> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("FieldValue read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -171,7 +170,7 @@ public class FieldValueReader extends Reader<FieldValue> {
 
         return Page.fromJson(
             "field_values",
-            response.getContent(),
+            response.getStream(),
             FieldValue.class,
             client.getObjectMapper()
         );
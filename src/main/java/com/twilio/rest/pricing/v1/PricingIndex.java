@@ -0,0 +1,399 @@
+package com.twilio.rest.pricing.v1;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.Twilio;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.type.InboundSmsPrice;
+import com.twilio.type.OutboundPrefixPrice;
+import com.twilio.type.OutboundSmsPrice;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estimates outbound prices locally, from voice and messaging prices loaded once.
+ *
+ * <p>
+ *     Voice prefixes are held in a trie over primitive arrays: each node has ten child slots, one per digit, and the
+ *     price and country of the longest prefix ending there. A lookup walks the digits of the number once, so it takes
+ *     time proportional to the number of digits and allocates nothing.
+ * </p>
+ *
+ * <p>
+ *     Messaging prices are listed per carrier rather than per prefix, so a number is matched to its country through
+ *     the voice prefixes, and the highest outbound SMS price of that country is returned.
+ * </p>
+ */
+public class PricingIndex {
+
+    private static final int DIGITS = 10;
+    private static final int NONE = -1;
+    private static final int FETCH_CONCURRENCY = 10;
+
+    private final int[] children;
+    private final double[] voicePrices;
+    private final int[] countries;
+    private final String[] isoCountries;
+    private final Currency[] priceUnits;
+    private final double[] messagingPrices;
+
+    private PricingIndex(final Builder b) {
+        this.children = Arrays.copyOf(b.children, b.nodes * DIGITS);
+        this.voicePrices = Arrays.copyOf(b.voicePrices, b.nodes);
+        this.countries = Arrays.copyOf(b.countries, b.nodes);
+        this.isoCountries = b.isoCountries.toArray(new String[b.isoCountries.size()]);
+        this.priceUnits = b.priceUnits.toArray(new Currency[b.priceUnits.size()]);
+        this.messagingPrices = new double[isoCountries.length];
+        for (int i = 0; i < isoCountries.length; i++) {
+            Double price = b.messagingPrices.get(isoCountries[i]);
+            messagingPrices[i] = price == null ? Double.NaN : price;
+        }
+    }
+
+    /**
+     * Load the prices of every country using the default client.
+     *
+     * @return index of the prices
+     */
+    public static PricingIndex load() {
+        return load(Twilio.getRestClient());
+    }
+
+    /**
+     * Load the prices of every country using specified client.
+     *
+     * @param client client used to fetch prices
+     * @return index of the prices
+     */
+    public static PricingIndex load(final TwilioRestClient client) {
+        List<String> isoCountries = new ArrayList<>();
+        for (final com.twilio.rest.pricing.v1.voice.Country country
+            : com.twilio.rest.pricing.v1.voice.Country.reader().read(client)) {
+            isoCountries.add(country.getIsoCountry());
+        }
+
+        Builder builder = new Builder();
+        for (int i = 0; i < isoCountries.size(); i += FETCH_CONCURRENCY) {
+            List<String> batch = isoCountries.subList(i, Math.min(i + FETCH_CONCURRENCY, isoCountries.size()));
+            List<ListenableFuture<com.twilio.rest.pricing.v1.voice.Country>> voice = new ArrayList<>();
+            List<ListenableFuture<com.twilio.rest.pricing.v1.messaging.Country>> messaging = new ArrayList<>();
+            for (final String isoCountry : batch) {
+                voice.add(com.twilio.rest.pricing.v1.voice.Country.fetcher(isoCountry).fetchAsync(client));
+                messaging.add(com.twilio.rest.pricing.v1.messaging.Country.fetcher(isoCountry).fetchAsync(client));
+            }
+
+            for (final com.twilio.rest.pricing.v1.voice.Country country : Futures.getUnchecked(Futures.allAsList(voice))) {
+                builder.voice(country);
+            }
+            for (final com.twilio.rest.pricing.v1.messaging.Country country
+                : Futures.getUnchecked(Futures.successfulAsList(messaging))) {
+                if (country != null) {
+                    builder.messaging(country);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Keep an index up to date with the default client, reloading it in the background.
+     *
+     * @param intervalMillis time between reloads
+     * @return refresher holding the latest index
+     */
+    public static Refresher refreshing(final long intervalMillis) {
+        return refreshing(Twilio.getRestClient(), intervalMillis);
+    }
+
+    /**
+     * Keep an index up to date with specified client, reloading it in the background.
+     *
+     * @param client client used to fetch prices
+     * @param intervalMillis time between reloads
+     * @return refresher holding the latest index
+     */
+    public static Refresher refreshing(final TwilioRestClient client, final long intervalMillis) {
+        return new Refresher(new Supplier<PricingIndex>() {
+            @Override
+            public PricingIndex get() {
+                return load(client);
+            }
+        }, intervalMillis);
+    }
+
+    /**
+     * Current price per minute of a call to a number.
+     *
+     * @param number number in E.164 format; characters other than digits are skipped
+     * @return price in the unit of the number's country, or NaN if no prefix matches
+     */
+    public double voicePrice(final String number) {
+        int node = match(number);
+        return node == NONE ? Double.NaN : voicePrices[node];
+    }
+
+    /**
+     * Highest current price of an outbound message to a number's country.
+     *
+     * @param number number in E.164 format; characters other than digits are skipped
+     * @return price in the unit of the number's country, or NaN if unknown
+     */
+    public double messagingPrice(final String number) {
+        int node = match(number);
+        return node == NONE ? Double.NaN : messagingPrices[countries[node]];
+    }
+
+    /**
+     * Country of a number.
+     *
+     * @param number number in E.164 format; characters other than digits are skipped
+     * @return ISO country code, or null if no prefix matches
+     */
+    public String isoCountry(final String number) {
+        int node = match(number);
+        return node == NONE ? null : isoCountries[countries[node]];
+    }
+
+    /**
+     * Currency the prices of a number are in.
+     *
+     * @param number number in E.164 format; characters other than digits are skipped
+     * @return currency, or null if no prefix matches
+     */
+    public Currency priceUnit(final String number) {
+        int node = match(number);
+        return node == NONE ? null : priceUnits[countries[node]];
+    }
+
+    /**
+     * Number of trie nodes, a measure of the memory used.
+     *
+     * @return number of nodes
+     */
+    public int size() {
+        return voicePrices.length;
+    }
+
+    /**
+     * Walk the digits of a number, returning the deepest node holding a price.
+     */
+    private int match(final String number) {
+        int node = 0;
+        int matched = NONE;
+        for (int i = 0; i < number.length(); i++) {
+            int digit = number.charAt(i) - '0';
+            if (digit < 0 || digit >= DIGITS) {
+                continue;
+            }
+
+            node = children[node * DIGITS + digit];
+            if (node == 0) {
+                break;
+            }
+            if (countries[node] != NONE) {
+                matched = node;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Holds an index, replacing it with a fresh one at a fixed interval. A failed reload keeps the previous index.
+     */
+    public static class Refresher implements Closeable {
+        private final Supplier<PricingIndex> loader;
+        private final ScheduledExecutorService scheduler;
+        private final AtomicLong failures = new AtomicLong();
+        private volatile PricingIndex index;
+        private volatile RuntimeException lastFailure;
+
+        /**
+         * Load an index, then reload it in the background.
+         *
+         * @param loader loader of the index
+         * @param intervalMillis time between reloads
+         */
+        public Refresher(final Supplier<PricingIndex> loader, final long intervalMillis) {
+            this.loader = loader;
+            this.index = loader.get();
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("twilio-pricing-index-%d").build()
+            );
+            scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    refresh();
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Reload the index now.
+         *
+         * @return true if the index was replaced
+         */
+        public boolean refresh() {
+            try {
+                index = loader.get();
+                return true;
+            } catch (final RuntimeException e) {
+                failures.incrementAndGet();
+                lastFailure = e;
+                return false;
+            }
+        }
+
+        public PricingIndex get() {
+            return index;
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        public RuntimeException getLastFailure() {
+            return lastFailure;
+        }
+
+        @Override
+        public void close() {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public static class Builder {
+        private int[] children = new int[64 * DIGITS];
+        private double[] voicePrices = new double[64];
+        private int[] countries = new int[64];
+        private int nodes;
+
+        private final List<String> isoCountries = new ArrayList<>();
+        private final List<Currency> priceUnits = new ArrayList<>();
+        private final Map<String, Integer> countryIndexes = new HashMap<>();
+        private final Map<String, Double> messagingPrices = new HashMap<>();
+
+        /**
+         * Create a builder for an empty index.
+         */
+        public Builder() {
+            newNode();
+        }
+
+        /**
+         * Add the outbound voice prices of a country.
+         *
+         * @param country voice pricing of the country
+         * @return this
+         */
+        public Builder voice(final com.twilio.rest.pricing.v1.voice.Country country) {
+            int countryIndex = countryIndex(country.getIsoCountry(), country.getPriceUnit());
+            if (country.getOutboundPrefixPrices() == null) {
+                return this;
+            }
+
+            for (final OutboundPrefixPrice price : country.getOutboundPrefixPrices()) {
+                if (price.getPrefixes() == null) {
+                    continue;
+                }
+                for (final String prefix : price.getPrefixes()) {
+                    insert(prefix, price.getCurrentPrice(), countryIndex);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Add the outbound messaging prices of a country.
+         *
+         * @param country messaging pricing of the country
+         * @return this
+         */
+        public Builder messaging(final com.twilio.rest.pricing.v1.messaging.Country country) {
+            countryIndex(country.getIsoCountry(), country.getPriceUnit());
+            if (country.getOutboundSmsPrices() == null) {
+                return this;
+            }
+
+            double max = Double.NaN;
+            for (final OutboundSmsPrice carrier : country.getOutboundSmsPrices()) {
+                if (carrier.getPrices() == null) {
+                    continue;
+                }
+                for (final InboundSmsPrice price : carrier.getPrices()) {
+                    if (Double.isNaN(max) || price.getCurrentPrice() > max) {
+                        max = price.getCurrentPrice();
+                    }
+                }
+            }
+
+            if (!Double.isNaN(max)) {
+                messagingPrices.put(country.getIsoCountry(), max);
+            }
+            return this;
+        }
+
+        public PricingIndex build() {
+            return new PricingIndex(this);
+        }
+
+        private int countryIndex(final String isoCountry, final Currency priceUnit) {
+            Integer index = countryIndexes.get(isoCountry);
+            if (index == null) {
+                index = isoCountries.size();
+                countryIndexes.put(isoCountry, index);
+                isoCountries.add(isoCountry);
+                priceUnits.add(priceUnit);
+            } else if (priceUnits.get(index) == null) {
+                priceUnits.set(index, priceUnit);
+            }
+            return index;
+        }
+
+        private void insert(final String prefix, final double price, final int countryIndex) {
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                int digit = prefix.charAt(i) - '0';
+                if (digit < 0 || digit >= DIGITS) {
+                    continue;
+                }
+
+                int child = children[node * DIGITS + digit];
+                if (child == 0) {
+                    child = newNode();
+                    children[node * DIGITS + digit] = child;
+                }
+                node = child;
+            }
+
+            if (node != 0) {
+                voicePrices[node] = price;
+                countries[node] = countryIndex;
+            }
+        }
+
+        private int newNode() {
+            if (nodes == voicePrices.length) {
+                children = Arrays.copyOf(children, nodes * 2 * DIGITS);
+                voicePrices = Arrays.copyOf(voicePrices, nodes * 2);
+                countries = Arrays.copyOf(countries, nodes * 2);
+            }
+
+            voicePrices[nodes] = Double.NaN;
+            countries[nodes] = NONE;
+            return nodes++;
+        }
+    }
+}
@@ -75,14 +75,14 @@ public class InteractionReader extends Reader<Interaction> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Interaction ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Interaction> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PROXY.toString(),
@@ -91,7 +91,7 @@ public class InteractionReader extends Reader<Interaction> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -153,15 +153,14 @@ public class InteractionReader extends Reader<Interaction> {
     }
 
     /**
-     * Generate a Page of Interaction Resources for a given request.
+     * Generate a Page of Interaction Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Interaction> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Interaction> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Interaction read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -181,7 +180,7 @@ public class InteractionReader extends Reader<Interaction> {
 
         return Page.fromJson(
             "interactions",
-            response.getContent(),
+            response.getStream(),
             Interaction.class,
             client.getObjectMapper()
         );
@@ -55,14 +55,14 @@ public class MessageInteractionReader extends Reader<MessageInteraction> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return MessageInteraction ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<MessageInteraction> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.PROXY.toString(),
@@ -71,7 +71,7 @@ public class MessageInteractionReader extends Reader<MessageInteraction> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -133,15 +133,14 @@ public class MessageInteractionReader extends Reader<MessageInteraction> {
     }
 
     /**
-     * Generate a Page of MessageInteraction Resources for a given request.
+     * Generate a Page of MessageInteraction Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<MessageInteraction> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<MessageInteraction> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("MessageInteraction read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -161,7 +160,7 @@ public class MessageInteractionReader extends Reader<MessageInteraction> {
 
         return Page.fromJson(
             "interactions",
-            response.getContent(),
+            response.getStream(),
             MessageInteraction.class,
             client.getObjectMapper()
         );
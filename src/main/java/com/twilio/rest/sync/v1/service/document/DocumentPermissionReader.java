@@ -51,14 +51,14 @@ public class DocumentPermissionReader extends Reader<DocumentPermission> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return DocumentPermission ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<DocumentPermission> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.SYNC.toString(),
@@ -67,7 +67,7 @@ public class DocumentPermissionReader extends Reader<DocumentPermission> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -129,15 +129,14 @@ public class DocumentPermissionReader extends Reader<DocumentPermission> {
     }
 
     /**
-     * Generate a Page of DocumentPermission Resources for a given request.
+     * Generate a Page of DocumentPermission Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<DocumentPermission> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<DocumentPermission> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("DocumentPermission read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -157,7 +156,7 @@ public class DocumentPermissionReader extends Reader<DocumentPermission> {
 
         return Page.fromJson(
             "permissions",
-            response.getContent(),
+            response.getStream(),
             DocumentPermission.class,
             client.getObjectMapper()
         );
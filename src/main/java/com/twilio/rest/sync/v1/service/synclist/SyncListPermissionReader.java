@@ -51,14 +51,14 @@ public class SyncListPermissionReader extends Reader<SyncListPermission> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SyncListPermission ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SyncListPermission> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.SYNC.toString(),
@@ -67,7 +67,7 @@ public class SyncListPermissionReader extends Reader<SyncListPermission> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -129,15 +129,14 @@ public class SyncListPermissionReader extends Reader<SyncListPermission> {
     }
 
     /**
-     * Generate a Page of SyncListPermission Resources for a given request.
+     * Generate a Page of SyncListPermission Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SyncListPermission> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SyncListPermission> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SyncListPermission read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -157,7 +156,7 @@ public class SyncListPermissionReader extends Reader<SyncListPermission> {
 
         return Page.fromJson(
             "permissions",
-            response.getContent(),
+            response.getStream(),
             SyncListPermission.class,
             client.getObjectMapper()
         );
@@ -69,14 +69,14 @@ public class ActivityReader extends Reader<Activity> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Activity ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Activity> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -85,7 +85,7 @@ public class ActivityReader extends Reader<Activity> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -147,15 +147,14 @@ public class ActivityReader extends Reader<Activity> {
     }
 
     /**
-     * Generate a Page of Activity Resources for a given request.
+     * Generate a Page of Activity Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Activity> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Activity> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Activity read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -175,7 +174,7 @@ public class ActivityReader extends Reader<Activity> {
 
         return Page.fromJson(
             "activities",
-            response.getContent(),
+            response.getStream(),
             Activity.class,
             client.getObjectMapper()
         );
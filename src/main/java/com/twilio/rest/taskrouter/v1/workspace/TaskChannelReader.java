@@ -43,14 +43,14 @@ public class TaskChannelReader extends Reader<TaskChannel> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return TaskChannel ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<TaskChannel> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -59,7 +59,7 @@ public class TaskChannelReader extends Reader<TaskChannel> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -121,15 +121,14 @@ public class TaskChannelReader extends Reader<TaskChannel> {
     }
 
     /**
-     * Generate a Page of TaskChannel Resources for a given request.
+     * Generate a Page of TaskChannel Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<TaskChannel> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<TaskChannel> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("TaskChannel read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -149,7 +148,7 @@ public class TaskChannelReader extends Reader<TaskChannel> {
 
         return Page.fromJson(
             "channels",
-            response.getContent(),
+            response.getStream(),
             TaskChannel.class,
             client.getObjectMapper()
         );
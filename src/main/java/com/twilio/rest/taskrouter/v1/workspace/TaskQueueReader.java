@@ -84,14 +84,14 @@ public class TaskQueueReader extends Reader<TaskQueue> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return TaskQueue ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<TaskQueue> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -100,7 +100,7 @@ public class TaskQueueReader extends Reader<TaskQueue> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -162,15 +162,14 @@ public class TaskQueueReader extends Reader<TaskQueue> {
     }
 
     /**
-     * Generate a Page of TaskQueue Resources for a given request.
+     * Generate a Page of TaskQueue Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<TaskQueue> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<TaskQueue> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("TaskQueue read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -190,7 +189,7 @@ public class TaskQueueReader extends Reader<TaskQueue> {
 
         return Page.fromJson(
             "task_queues",
-            response.getContent(),
+            response.getStream(),
             TaskQueue.class,
             client.getObjectMapper()
         );
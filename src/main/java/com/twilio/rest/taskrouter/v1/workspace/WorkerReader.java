@@ -134,14 +134,14 @@ public class WorkerReader extends Reader<Worker> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Worker ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Worker> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -150,7 +150,7 @@ public class WorkerReader extends Reader<Worker> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -212,15 +212,14 @@ public class WorkerReader extends Reader<Worker> {
     }
 
     /**
-     * Generate a Page of Worker Resources for a given request.
+     * Generate a Page of Worker Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Worker> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Worker> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Worker read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -240,7 +239,7 @@ public class WorkerReader extends Reader<Worker> {
 
         return Page.fromJson(
             "workers",
-            response.getContent(),
+            response.getStream(),
             Worker.class,
             client.getObjectMapper()
         );
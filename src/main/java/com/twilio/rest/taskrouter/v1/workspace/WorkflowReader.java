@@ -56,14 +56,14 @@ public class WorkflowReader extends Reader<Workflow> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Workflow ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Workflow> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -72,7 +72,7 @@ public class WorkflowReader extends Reader<Workflow> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -134,15 +134,14 @@ public class WorkflowReader extends Reader<Workflow> {
     }
 
     /**
-     * Generate a Page of Workflow Resources for a given request.
+     * Generate a Page of Workflow Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Workflow> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Workflow> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Workflow read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -162,7 +161,7 @@ public class WorkflowReader extends Reader<Workflow> {
 
         return Page.fromJson(
             "workflows",
-            response.getContent(),
+            response.getStream(),
             Workflow.class,
             client.getObjectMapper()
         );
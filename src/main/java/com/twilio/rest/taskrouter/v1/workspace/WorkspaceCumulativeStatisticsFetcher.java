@@ -103,14 +103,14 @@ public class WorkspaceCumulativeStatisticsFetcher extends Fetcher<WorkspaceCumul
     }
 
     /**
-     * Make the request to the Twilio API to perform the fetch.
+     * Build the request to the Twilio API to perform the fetch.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Fetched WorkspaceCumulativeStatistics
+     * @return Request to perform the fetch
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public WorkspaceCumulativeStatistics fetch(final TwilioRestClient client) {
+    protected Request buildRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -119,8 +119,18 @@ public class WorkspaceCumulativeStatisticsFetcher extends Fetcher<WorkspaceCumul
         );
 
         addQueryParams(request);
-        Response response = client.request(request);
+        return request;
+    }
 
+    /**
+     * Read the result of the fetch from the Twilio API response.
+     * 
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to the request
+     * @return Fetched WorkspaceCumulativeStatistics
+     */
+    @Override
+    protected WorkspaceCumulativeStatistics parseResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("WorkspaceCumulativeStatistics fetch failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -129,14 +129,14 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return TaskQueuesStatistics ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<TaskQueuesStatistics> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -145,7 +145,7 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -207,15 +207,14 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
     }
 
     /**
-     * Generate a Page of TaskQueuesStatistics Resources for a given request.
+     * Generate a Page of TaskQueuesStatistics Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<TaskQueuesStatistics> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<TaskQueuesStatistics> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("TaskQueuesStatistics read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -235,7 +234,7 @@ public class TaskQueuesStatisticsReader extends Reader<TaskQueuesStatistics> {
 
         return Page.fromJson(
             "task_queues_statistics",
-            response.getContent(),
+            response.getStream(),
             TaskQueuesStatistics.class,
             client.getObjectMapper()
         );
@@ -60,14 +60,14 @@ public class ReservationReader extends Reader<Reservation> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Reservation ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Reservation> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.TASKROUTER.toString(),
@@ -76,7 +76,7 @@ public class ReservationReader extends Reader<Reservation> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -138,15 +138,14 @@ public class ReservationReader extends Reader<Reservation> {
     }
 
     /**
-     * Generate a Page of Reservation Resources for a given request.
+     * Generate a Page of Reservation Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Reservation> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Reservation> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Reservation read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -166,7 +165,7 @@ public class ReservationReader extends Reader<Reservation> {
 
         return Page.fromJson(
             "reservations",
-            response.getContent(),
+            response.getStream(),
             Reservation.class,
             client.getObjectMapper()
         );
@@ -92,14 +92,14 @@ public class CompositionReader extends Reader<Composition> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Composition ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Composition> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.VIDEO.toString(),
@@ -108,7 +108,7 @@ public class CompositionReader extends Reader<Composition> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -170,15 +170,14 @@ public class CompositionReader extends Reader<Composition> {
     }
 
     /**
-     * Generate a Page of Composition Resources for a given request.
+     * Generate a Page of Composition Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Composition> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Composition> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Composition read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -198,7 +197,7 @@ public class CompositionReader extends Reader<Composition> {
 
         return Page.fromJson(
             "compositions",
-            response.getContent(),
+            response.getStream(),
             Composition.class,
             client.getObjectMapper()
         );
@@ -115,14 +115,14 @@ public class RecordingReader extends Reader<Recording> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Recording ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Recording> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.VIDEO.toString(),
@@ -131,7 +131,7 @@ public class RecordingReader extends Reader<Recording> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -193,15 +193,14 @@ public class RecordingReader extends Reader<Recording> {
     }
 
     /**
-     * Generate a Page of Recording Resources for a given request.
+     * Generate a Page of Recording Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Recording> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Recording> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Recording read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -221,7 +220,7 @@ public class RecordingReader extends Reader<Recording> {
 
         return Page.fromJson(
             "recordings",
-            response.getContent(),
+            response.getStream(),
             Recording.class,
             client.getObjectMapper()
         );
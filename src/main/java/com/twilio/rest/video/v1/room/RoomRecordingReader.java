@@ -93,14 +93,14 @@ public class RoomRecordingReader extends Reader<RoomRecording> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return RoomRecording ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<RoomRecording> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.VIDEO.toString(),
@@ -109,7 +109,7 @@ public class RoomRecordingReader extends Reader<RoomRecording> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -171,15 +171,14 @@ public class RoomRecordingReader extends Reader<RoomRecording> {
     }
 
     /**
-     * Generate a Page of RoomRecording Resources for a given request.
+     * Generate a Page of RoomRecording Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<RoomRecording> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<RoomRecording> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("RoomRecording read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -199,7 +198,7 @@ public class RoomRecordingReader extends Reader<RoomRecording> {
 
         return Page.fromJson(
             "recordings",
-            response.getContent(),
+            response.getStream(),
             RoomRecording.class,
             client.getObjectMapper()
         );
@@ -109,14 +109,14 @@ public class SubscribedTrackReader extends Reader<SubscribedTrack> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return SubscribedTrack ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<SubscribedTrack> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.VIDEO.toString(),
@@ -125,7 +125,7 @@ public class SubscribedTrackReader extends Reader<SubscribedTrack> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -187,15 +187,14 @@ public class SubscribedTrackReader extends Reader<SubscribedTrack> {
     }
 
     /**
-     * Generate a Page of SubscribedTrack Resources for a given request.
+     * Generate a Page of SubscribedTrack Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<SubscribedTrack> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<SubscribedTrack> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("SubscribedTrack read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -215,7 +214,7 @@ public class SubscribedTrackReader extends Reader<SubscribedTrack> {
 
         return Page.fromJson(
             "subscribed_tracks",
-            response.getContent(),
+            response.getStream(),
             SubscribedTrack.class,
             client.getObjectMapper()
         );
@@ -69,14 +69,14 @@ public class CommandReader extends Reader<Command> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return Command ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<Command> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.WIRELESS.toString(),
@@ -85,7 +85,7 @@ public class CommandReader extends Reader<Command> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -147,15 +147,14 @@ public class CommandReader extends Reader<Command> {
     }
 
     /**
-     * Generate a Page of Command Resources for a given request.
+     * Generate a Page of Command Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<Command> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<Command> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("Command read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -175,7 +174,7 @@ public class CommandReader extends Reader<Command> {
 
         return Page.fromJson(
             "commands",
-            response.getContent(),
+            response.getStream(),
             Command.class,
             client.getObjectMapper()
         );
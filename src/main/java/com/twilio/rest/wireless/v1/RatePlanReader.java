@@ -32,14 +32,14 @@ public class RatePlanReader extends Reader<RatePlan> {
     }
 
     /**
-     * Make the request to the Twilio API to perform the read.
+     * Build the request to the Twilio API for the first page of the read.
      * 
      * @param client TwilioRestClient with which to make the request
-     * @return RatePlan ResourceSet
+     * @return Request for the first page
      */
     @Override
     @SuppressWarnings("checkstyle:linelength")
-    public Page<RatePlan> firstPage(final TwilioRestClient client) {
+    protected Request firstPageRequest(final TwilioRestClient client) {
         Request request = new Request(
             HttpMethod.GET,
             Domains.WIRELESS.toString(),
@@ -48,7 +48,7 @@ public class RatePlanReader extends Reader<RatePlan> {
         );
 
         addQueryParams(request);
-        return pageForRequest(client, request);
+        return request;
     }
 
     /**
@@ -110,15 +110,14 @@ public class RatePlanReader extends Reader<RatePlan> {
     }
 
     /**
-     * Generate a Page of RatePlan Resources for a given request.
+     * Generate a Page of RatePlan Resources for a given response.
      * 
-     * @param client TwilioRestClient with which to make the request
-     * @param request Request to generate a page for
-     * @return Page for the Request
+     * @param client TwilioRestClient with which the request was made
+     * @param response Response to generate a page for
+     * @return Page for the Response
      */
-    private Page<RatePlan> pageForRequest(final TwilioRestClient client, final Request request) {
-        Response response = client.request(request);
-
+    @Override
+    protected Page<RatePlan> pageForResponse(final TwilioRestClient client, final Response response) {
         if (response == null) {
             throw new ApiConnectionException("RatePlan read failed: Unable to connect to server");
         } else if (!TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
@@ -138,7 +137,7 @@ public class RatePlanReader extends Reader<RatePlan> {
 
         return Page.fromJson(
             "rate_plans",
-            response.getContent(),
+            response.getStream(),
             RatePlan.class,
             client.getObjectMapper()
         );
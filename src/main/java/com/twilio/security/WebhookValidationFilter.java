@@ -0,0 +1,361 @@
+package com.twilio.security;
+
+import com.google.common.base.Splitter;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Servlet filter rejecting webhook requests without a valid {@value WebhookValidator#SIGNATURE_HEADER} header.
+ *
+ * <p>
+ *     Form posts are validated with their form parameters, other posts with the {@code bodySHA256} query parameter,
+ *     and other requests with their url alone. The body is read once, and requests passed down the chain can read it
+ *     again, as a stream or as parameters. Rejected requests get a 403 response, and posts with a body larger than
+ *     the maximum body size get a 413 response without the rest of the body being read.
+ * </p>
+ *
+ * <p>
+ *     When declared in {@code web.xml}, the filter reads its auth tokens from the comma separated {@code authTokens}
+ *     init parameter. Set {@code baseUrl} to the scheme and host Twilio calls, such as {@code https://example.com},
+ *     when a proxy in front of the server changes them, and {@code maxBodySize} to the largest body in bytes
+ *     accepted, 1 MB by default.
+ * </p>
+ */
+public class WebhookValidationFilter implements Filter {
+
+    public static final String AUTH_TOKENS_PARAM = "authTokens";
+    public static final String BASE_URL_PARAM = "baseUrl";
+    public static final String MAX_BODY_SIZE_PARAM = "maxBodySize";
+    public static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    private WebhookValidator validator;
+    private String baseUrl;
+    private int maxBodySize = DEFAULT_MAX_BODY_SIZE;
+
+    /**
+     * Create a filter configured from its init parameters.
+     */
+    public WebhookValidationFilter() {
+    }
+
+    /**
+     * Create a filter validating with a validator.
+     *
+     * @param validator validator holding the auth tokens
+     * @param baseUrl scheme and host Twilio calls, or null to use those of the request
+     */
+    public WebhookValidationFilter(final WebhookValidator validator, final String baseUrl) {
+        this(validator, baseUrl, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Create a filter validating with a validator, accepting bodies up to a size.
+     *
+     * @param validator validator holding the auth tokens
+     * @param baseUrl scheme and host Twilio calls, or null to use those of the request
+     * @param maxBodySize largest body accepted, in bytes
+     */
+    public WebhookValidationFilter(final WebhookValidator validator, final String baseUrl, final int maxBodySize) {
+        this.validator = validator;
+        this.baseUrl = baseUrl;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public void init(final FilterConfig config) throws ServletException {
+        if (validator != null) {
+            return;
+        }
+
+        String authTokens = config.getInitParameter(AUTH_TOKENS_PARAM);
+        if (authTokens == null) {
+            throw new ServletException("Missing init parameter: " + AUTH_TOKENS_PARAM);
+        }
+        validator = new WebhookValidator(Splitter.on(',').trimResults().omitEmptyStrings().splitToList(authTokens));
+        baseUrl = config.getInitParameter(BASE_URL_PARAM);
+
+        String maxBodySize = config.getInitParameter(MAX_BODY_SIZE_PARAM);
+        if (maxBodySize != null) {
+            try {
+                this.maxBodySize = Integer.parseInt(maxBodySize.trim());
+            } catch (final NumberFormatException e) {
+                throw new ServletException("Invalid init parameter: " + MAX_BODY_SIZE_PARAM, e);
+            }
+        }
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+        throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest http = (HttpServletRequest) request;
+        String signature = http.getHeader(WebhookValidator.SIGNATURE_HEADER);
+        String url = url(http);
+
+        if (!"POST".equalsIgnoreCase(http.getMethod())) {
+            if (validator.validate(url, (Map<String, String>) null, signature)) {
+                chain.doFilter(request, response);
+            } else {
+                reject(response);
+            }
+            return;
+        }
+
+        byte[] body = http.getContentLengthLong() > maxBodySize ? null : read(http.getInputStream(), maxBodySize);
+        if (body == null) {
+            tooLarge(response);
+            return;
+        }
+
+        BufferedRequest buffered;
+        try {
+            buffered = new BufferedRequest(http, body);
+        } catch (final IllegalArgumentException e) {
+            // Malformed form encoding, which Twilio never sends
+            reject(response);
+            return;
+        }
+
+        boolean valid;
+        if (buffered.form != null) {
+            valid = buffered.sign(validator.begin(url)).match(signature) >= 0;
+        } else {
+            valid = validator.validate(url, new ByteArrayInputStream(buffered.body), signature);
+        }
+
+        if (valid) {
+            chain.doFilter(buffered, response);
+        } else {
+            reject(response);
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    private String url(final HttpServletRequest request) {
+        StringBuilder url = new StringBuilder(256);
+        if (baseUrl == null) {
+            url.append(request.getRequestURL());
+        } else {
+            url.append(baseUrl).append(request.getRequestURI());
+        }
+        if (request.getQueryString() != null) {
+            url.append('?').append(request.getQueryString());
+        }
+        return url.toString();
+    }
+
+    private static void reject(final ServletResponse response) throws IOException {
+        if (response instanceof HttpServletResponse) {
+            ((HttpServletResponse) response).sendError(HttpServletResponse.SC_FORBIDDEN);
+        }
+    }
+
+    private static void tooLarge(final ServletResponse response) throws IOException {
+        if (response instanceof HttpServletResponse) {
+            ((HttpServletResponse) response).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        }
+    }
+
+    /**
+     * Read a body, or return null once it grows past a maximum size.
+     */
+    private static byte[] read(final InputStream in, final int maxSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        byte[] buffer = new byte[4096];
+        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            if (out.size() + read > maxSize) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode form encoded parameters, appending the values of each name in order.
+     */
+    static void decodeForm(final String form, final Map<String, List<String>> params) {
+        if (form == null || form.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (final String pair : Splitter.on('&').omitEmptyStrings().split(form)) {
+                int equals = pair.indexOf('=');
+                String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), "UTF-8");
+                String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), "UTF-8");
+
+                List<String> values = params.get(name);
+                if (values == null) {
+                    values = new ArrayList<>(1);
+                    params.put(name, values);
+                }
+                values.add(value);
+            }
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Request whose body has been read, serving it again to the rest of the chain.
+     */
+    private static class BufferedRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+        private final Map<String, List<String>> form;
+        private Map<String, String[]> parameters;
+
+        private BufferedRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+
+            String contentType = request.getContentType();
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(FORM_CONTENT_TYPE)) {
+                this.form = new LinkedHashMap<>();
+                decodeForm(new String(body, StandardCharsets.UTF_8), form);
+            } else {
+                this.form = null;
+            }
+        }
+
+        /**
+         * Add the form parameters to a signature: sorted by name, with each value of a repeated name in order.
+         */
+        private WebhookValidator.Signature sign(final WebhookValidator.Signature signature) {
+            for (final Map.Entry<String, List<String>> param : new TreeMap<>(form).entrySet()) {
+                List<String> values = param.getValue();
+                if (values.size() > 1) {
+                    values = new ArrayList<>(values);
+                    Collections.sort(values);
+                }
+                for (final String value : values) {
+                    signature.param(param.getKey(), value);
+                }
+            }
+            return signature;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    // The body is already in memory, so all of it can be read right away
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (final IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(body),
+                encoding == null ? StandardCharsets.UTF_8.name() : encoding
+            ));
+        }
+
+        @Override
+        public String getParameter(final String name) {
+            String[] values = getParameterMap().get(name);
+            return values == null ? null : values[0];
+        }
+
+        @Override
+        public String[] getParameterValues(final String name) {
+            return getParameterMap().get(name);
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(getParameterMap().keySet());
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            if (parameters == null) {
+                Map<String, List<String>> values = new LinkedHashMap<>();
+                decodeForm(getQueryString(), values);
+                if (form != null) {
+                    for (final Map.Entry<String, List<String>> param : form.entrySet()) {
+                        if (values.containsKey(param.getKey())) {
+                            values.get(param.getKey()).addAll(param.getValue());
+                        } else {
+                            values.put(param.getKey(), new ArrayList<>(param.getValue()));
+                        }
+                    }
+                }
+
+                Map<String, String[]> parameters = new LinkedHashMap<>();
+                for (final Map.Entry<String, List<String>> param : values.entrySet()) {
+                    parameters.put(param.getKey(), param.getValue().toArray(new String[param.getValue().size()]));
+                }
+                this.parameters = Collections.unmodifiableMap(parameters);
+            }
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.twilio.security;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Validates the signatures of webhook requests against one or more auth tokens.
+ *
+ * <p>
+ *     Computes the same signatures as {@link RequestValidator}, but each thread keeps its own initialized {@link Mac}
+ *     per auth token and its own SHA-256 digest, and the signed data is encoded into a reusable buffer instead of
+ *     being concatenated into a string. Bodies are hashed as they are read from a stream.
+ * </p>
+ *
+ * <p>
+ *     While rotating auth tokens, pass the new token and the ones still in use; a request is valid if it was signed
+ *     with any of them, and {@link #matchToken(String, Map, String)} tells which one.
+ * </p>
+ */
+public class WebhookValidator {
+
+    public static final String SIGNATURE_HEADER = "X-Twilio-Signature";
+
+    static final String BODY_HASH_PARAM = "bodySHA256";
+
+    private static final String HMAC = "HmacSHA1";
+    private static final int HMAC_LENGTH = 20;
+    private static final int HMAC_BASE64_LENGTH = 28;
+    private static final int SHA256_LENGTH = 32;
+    private static final int SHA256_BASE64_LENGTH = 44;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final List<SecretKeySpec> keys;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<Signature>() {
+        @Override
+        protected Signature initialValue() {
+            return new Signature(keys);
+        }
+    };
+
+    /**
+     * Create a validator accepting signatures made with any of the auth tokens.
+     *
+     * @param authTokens current auth token, followed by any still in use during rotation
+     */
+    public WebhookValidator(final String... authTokens) {
+        this(Arrays.asList(authTokens));
+    }
+
+    /**
+     * Create a validator accepting signatures made with any of the auth tokens.
+     *
+     * @param authTokens current auth token, followed by any still in use during rotation
+     */
+    public WebhookValidator(final List<String> authTokens) {
+        if (authTokens.isEmpty()) {
+            throw new IllegalArgumentException("At least one auth token is required");
+        }
+
+        List<SecretKeySpec> keys = new ArrayList<>(authTokens.size());
+        for (final String authToken : authTokens) {
+            keys.add(new SecretKeySpec(authToken.getBytes(StandardCharsets.UTF_8), HMAC));
+        }
+        this.keys = Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Validate a request signed with its url and form parameters.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param params form parameters of the request, null or empty for none
+     * @param expectedSignature value of the {@value #SIGNATURE_HEADER} header
+     * @return true if the signature was made with one of the auth tokens
+     */
+    public boolean validate(final String url, final Map<String, String> params, final String expectedSignature) {
+        return matchToken(url, params, expectedSignature) >= 0;
+    }
+
+    /**
+     * Validate a request whose body is signed through a {@value #BODY_HASH_PARAM} query parameter.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param body body of the request, read to the end but not closed
+     * @param expectedSignature value of the {@value #SIGNATURE_HEADER} header
+     * @return true if the url was signed with one of the auth tokens and the body matches its hash
+     * @throws IOException if the body cannot be read
+     */
+    public boolean validate(final String url, final InputStream body, final String expectedSignature)
+        throws IOException {
+        String bodyHash = queryParam(url, BODY_HASH_PARAM);
+        if (bodyHash == null || matchToken(url, null, expectedSignature) < 0) {
+            return false;
+        }
+        return validateBody(body, bodyHash);
+    }
+
+    /**
+     * Find the auth token a request was signed with.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param params form parameters of the request, null or empty for none
+     * @param expectedSignature value of the {@value #SIGNATURE_HEADER} header
+     * @return index of the auth token that signed the request, or -1 if none did
+     */
+    public int matchToken(final String url, final Map<String, String> params, final String expectedSignature) {
+        Signature signature = begin(url);
+        if (params == null || params.isEmpty()) {
+            return signature.match(expectedSignature);
+        }
+
+        if (params instanceof SortedMap && ((SortedMap<String, String>) params).comparator() == null) {
+            for (final Map.Entry<String, String> param : params.entrySet()) {
+                signature.param(param.getKey(), param.getValue());
+            }
+        } else {
+            String[] keys = params.keySet().toArray(new String[params.size()]);
+            Arrays.sort(keys);
+            for (final String key : keys) {
+                signature.param(key, params.get(key));
+            }
+        }
+        return signature.match(expectedSignature);
+    }
+
+    /**
+     * Check a body against its SHA-256 hash, hashing it as it is read.
+     *
+     * @param body body of the request, read to the end but not closed
+     * @param expectedHash base64 encoded SHA-256 hash of the body
+     * @return true if the body matches the hash
+     * @throws IOException if the body cannot be read
+     */
+    public boolean validateBody(final InputStream body, final String expectedHash) throws IOException {
+        return signatures.get().validateBody(body, expectedHash);
+    }
+
+    /**
+     * Start computing the signature of a request, to feed parameters to as they are decoded.
+     *
+     * <p>
+     *     The returned signature belongs to the calling thread and is reset by the next call to this method on the same
+     *     thread, so it must be matched before starting another.
+     * </p>
+     *
+     * @param url full url the request was made to, including the query string
+     * @return signature of the request so far
+     */
+    public Signature begin(final String url) {
+        Signature signature = signatures.get();
+        signature.reset();
+        signature.update(url);
+        return signature;
+    }
+
+    /**
+     * Number of auth tokens accepted.
+     *
+     * @return number of auth tokens
+     */
+    public int getTokenCount() {
+        return keys.size();
+    }
+
+    /**
+     * Decoded value of the first query parameter with a name, or null if there is none.
+     */
+    static String queryParam(final String url, final String name) {
+        int query = url.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+
+        int start = query + 1;
+        while (start < url.length()) {
+            int end = url.indexOf('&', start);
+            if (end < 0) {
+                end = url.length();
+            }
+            if (url.startsWith(name, start) && start + name.length() < end && url.charAt(start + name.length()) == '=') {
+                try {
+                    return URLDecoder.decode(url.substring(start + name.length() + 1, end), "UTF-8");
+                } catch (final UnsupportedEncodingException | IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Signature of a request being computed, holding the initialized MACs of one thread.
+     */
+    public static class Signature {
+        private final Mac[] macs;
+        private final MessageDigest sha256;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] result = new byte[SHA256_LENGTH];
+        private int position;
+
+        private Signature(final List<SecretKeySpec> keys) {
+            try {
+                this.macs = new Mac[keys.size()];
+                for (int i = 0; i < macs.length; i++) {
+                    macs[i] = Mac.getInstance(HMAC);
+                    macs[i].init(keys.get(i));
+                }
+                this.sha256 = MessageDigest.getInstance(MessageDigestAlgorithms.SHA_256);
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to initialize webhook signature algorithms", e);
+            }
+        }
+
+        /**
+         * Add a form parameter. Parameters must be added in ascending order of name.
+         *
+         * @param name name of the parameter
+         * @param value value of the parameter, null for an empty value
+         * @return this
+         */
+        public Signature param(final CharSequence name, final CharSequence value) {
+            update(name);
+            if (value != null) {
+                update(value);
+            }
+            return this;
+        }
+
+        /**
+         * Add characters to the signed data, encoded as UTF-8.
+         *
+         * @param chars characters to add
+         * @return this
+         */
+        public Signature update(final CharSequence chars) {
+            int length = chars.length();
+            for (int i = 0; i < length; i++) {
+                if (buffer.length - position < 4) {
+                    flush();
+                }
+
+                char ch = chars.charAt(i);
+                if (ch < 0x80) {
+                    buffer[position++] = (byte) ch;
+                } else if (ch < 0x800) {
+                    buffer[position++] = (byte) (0xc0 | (ch >> 6));
+                    buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+                } else if (Character.isSurrogate(ch)) {
+                    if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(ch, chars.charAt(++i));
+                        buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                        buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                    } else {
+                        buffer[position++] = '?';
+                    }
+                } else {
+                    buffer[position++] = (byte) (0xe0 | (ch >> 12));
+                    buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+                    buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Add bytes to the signed data.
+         *
+         * @param bytes bytes to add
+         * @param offset offset of the first byte
+         * @param length number of bytes
+         * @return this
+         */
+        public Signature update(final byte[] bytes, final int offset, final int length) {
+            flush();
+            for (final Mac mac : macs) {
+                mac.update(bytes, offset, length);
+            }
+            return this;
+        }
+
+        /**
+         * Finish the signature and compare it with the one the request was sent with.
+         *
+         * @param expectedSignature value of the {@value WebhookValidator#SIGNATURE_HEADER} header
+         * @return index of the auth token that signed the request, or -1 if none did
+         */
+        public int match(final String expectedSignature) {
+            flush();
+            byte[] expected = decode(expectedSignature, HMAC_BASE64_LENGTH, HMAC_LENGTH);
+
+            int matched = -1;
+            for (int i = 0; i < macs.length; i++) {
+                try {
+                    macs[i].doFinal(result, 0);
+                } catch (final GeneralSecurityException e) {
+                    throw new IllegalStateException("Unable to compute webhook signature", e);
+                }
+                if (matched < 0 && expected != null && equal(expected, result, HMAC_LENGTH)) {
+                    matched = i;
+                }
+            }
+            return matched;
+        }
+
+        private boolean validateBody(final InputStream body, final String expectedHash) throws IOException {
+            sha256.reset();
+            for (int read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+                sha256.update(buffer, 0, read);
+            }
+
+            try {
+                sha256.digest(result, 0, SHA256_LENGTH);
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to compute body hash", e);
+            }
+            byte[] expected = decode(expectedHash, SHA256_BASE64_LENGTH, SHA256_LENGTH);
+            return expected != null && equal(expected, result, SHA256_LENGTH);
+        }
+
+        private void reset() {
+            position = 0;
+            for (final Mac mac : macs) {
+                mac.reset();
+            }
+        }
+
+        private void flush() {
+            if (position > 0) {
+                for (final Mac mac : macs) {
+                    mac.update(buffer, 0, position);
+                }
+                position = 0;
+            }
+        }
+
+        private static byte[] decode(final String encoded, final int encodedLength, final int length) {
+            if (encoded == null || encoded.length() != encodedLength) {
+                return null;
+            }
+            byte[] decoded = Base64.decodeBase64(encoded);
+            return decoded.length == length ? decoded : null;
+        }
+
+        /**
+         * Compare in time independent of where the arrays differ.
+         */
+        private static boolean equal(final byte[] a, final byte[] b, final int length) {
+            int mismatch = 0;
+            for (int i = 0; i < length; i++) {
+                mismatch |= a[i] ^ b[i];
+            }
+            return mismatch == 0;
+        }
+    }
+}
@@ -11,6 +11,10 @@ public class Text extends TwiML {
         this.text = text;
     }
 
+    String getText() {
+        return this.text;
+    }
+
     @Override
     protected Node buildXmlElement(final Document parentDoc) {
         return parentDoc.createTextNode(this.text);
@@ -7,22 +7,15 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
-import java.io.StringWriter;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
 @SuppressWarnings("checkstyle:abbreviationaswordinname")
 public abstract class TwiML {
     private final String tagName;
@@ -106,27 +99,10 @@ public abstract class TwiML {
      *
      * @return XML string of TwiML object
      * @throws TwiMLException if cannot generate XML
+     * @see TwiMLWriter
      */
     public String toXml() throws TwiMLException {
-        try {
-            Document doc = DocumentBuilderFactory
-                .newInstance()
-                .newDocumentBuilder()
-                .newDocument();
-            doc.setXmlStandalone(true);
-            doc.appendChild(this.buildXmlElement(doc));
-
-            Transformer transformer = TransformerFactory.newInstance().newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "no");
-            DOMSource source = new DOMSource(doc);
-            StreamResult output = new StreamResult(new StringWriter());
-            transformer.transform(source, output);
-            return output.getWriter().toString().trim();
-        } catch (TransformerException te) {
-            throw new TwiMLException("Exception serializing TwiML: " + te.getMessage());
-        } catch (Exception e) {
-            throw new TwiMLException("Unhandled exception: " + e.getMessage());
-        }
+        return TwiMLWriter.toXml(this);
     }
 
     /**
@@ -136,11 +112,57 @@ public abstract class TwiML {
      * @throws TwiMLException if cannot generate URL
      */
     public String toUrl() throws TwiMLException {
+        StringBuilder url = new StringBuilder(512);
         try {
-            return URLEncoder.encode(toXml(), "UTF-8");
-        } catch (UnsupportedEncodingException e) {
+            TwiMLWriter.writeUrl(this, url);
+        } catch (IOException e) {
             throw new TwiMLException(e.getMessage());
         }
+        return url.toString();
+    }
+
+    /**
+     * Write TwiML object as XML to a byte stream, UTF-8 encoded, without building a string.
+     *
+     * @param out stream to write to, flushed but not closed
+     * @throws IOException if the stream cannot be written
+     * @throws TwiMLException if cannot generate XML
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        TwiMLWriter.write(this, out);
+    }
+
+    /**
+     * Write TwiML object as XML to a character stream without building a string.
+     *
+     * @param out stream to write to, not flushed or closed
+     * @throws IOException if the stream cannot be written
+     * @throws TwiMLException if cannot generate XML
+     */
+    public void writeTo(Writer out) throws IOException {
+        TwiMLWriter.write(this, out);
+    }
+
+    /**
+     * Write TwiML object as XML to a channel, UTF-8 encoded, without building a string.
+     *
+     * @param channel channel to write to, not closed
+     * @throws IOException if the channel cannot be written
+     * @throws TwiMLException if cannot generate XML
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        TwiMLWriter.write(this, channel);
+    }
+
+    /**
+     * Write TwiML object URL encoded, as returned by {@link #toUrl()}, without building the XML string first.
+     *
+     * @param out sink to append the encoded XML to
+     * @throws IOException if the sink cannot be written
+     * @throws TwiMLException if cannot generate XML
+     */
+    public void writeUrlTo(Appendable out) throws IOException {
+        TwiMLWriter.writeUrl(this, out);
     }
 
     @Override
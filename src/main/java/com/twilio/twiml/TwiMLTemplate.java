@@ -0,0 +1,213 @@
+package com.twilio.twiml;
+
+import com.google.common.base.Charsets;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * TwiML serialized once, with named placeholders filled in on every render.
+ *
+ * <p>
+ *     Build the TwiML with {@link #var(String)} wherever a value changes between requests, in the body of any verb or
+ *     in any string or URL attribute, then compile it:
+ * </p>
+ *
+ * <pre>
+ * TwiMLTemplate template = TwiMLTemplate.compile(new VoiceResponse.Builder()
+ *     .say(new Say.Builder(TwiMLTemplate.var("greeting")).build())
+ *     .dial(new Dial.Builder(TwiMLTemplate.var("number")).action(TwiMLTemplate.var("action")).build())
+ *     .build());
+ *
+ * template.render(ImmutableMap.of("greeting", "Hello", "number", "+14155551212", "action", "/dialed"), out);
+ * </pre>
+ *
+ * <p>
+ *     The static XML between placeholders is encoded to UTF-8 when the template is compiled, so rendering writes those
+ *     bytes as they are and only escapes the values. Values are XML escaped for the text or attribute they appear in,
+ *     and are not URL encoded. Templates are immutable and may be shared between threads.
+ * </p>
+ */
+@SuppressWarnings("checkstyle:abbreviationaswordinname")
+public class TwiMLTemplate {
+
+    private static final String MARKER = "twimlvar:";
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final String[] fragments;
+    private final byte[][] encodedFragments;
+    private final String[] names;
+    private final boolean[] attributes;
+    private final Set<String> nameSet;
+    private final int staticLength;
+
+    private TwiMLTemplate(
+        final List<String> fragments,
+        final List<String> names,
+        final List<Boolean> attributes
+    ) {
+        this.fragments = fragments.toArray(new String[fragments.size()]);
+        this.names = names.toArray(new String[names.size()]);
+        this.attributes = new boolean[attributes.size()];
+        this.encodedFragments = new byte[this.fragments.length][];
+
+        int length = 0;
+        for (int i = 0; i < this.fragments.length; i++) {
+            encodedFragments[i] = this.fragments[i].getBytes(Charsets.UTF_8);
+            length += encodedFragments[i].length;
+        }
+        for (int i = 0; i < this.attributes.length; i++) {
+            this.attributes[i] = attributes.get(i);
+        }
+
+        this.staticLength = length;
+        this.nameSet = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    /**
+     * Placeholder for a value given when the template is rendered.
+     *
+     * <p>
+     *     The placeholder is a valid URI, so it can be passed to setters taking a URL as well as to those taking text.
+     * </p>
+     *
+     * @param name name of the value, made of letters, digits and underscores
+     * @return placeholder to use in place of the value
+     */
+    public static String var(final String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Placeholder names must be letters, digits and underscores: " + name);
+        }
+        return MARKER + name + ":";
+    }
+
+    /**
+     * Compile TwiML containing placeholders into a template.
+     *
+     * @param twiml TwiML to compile
+     * @return template rendering the TwiML with placeholders filled in
+     * @throws TwiMLException if the TwiML cannot be serialized
+     */
+    public static TwiMLTemplate compile(final TwiML twiml) {
+        String xml = TwiMLWriter.toXml(twiml);
+
+        List<String> fragments = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Boolean> attributes = new ArrayList<>();
+
+        boolean inTag = false;
+        int fragmentStart = 0;
+        int scanned = 0;
+        int marker = xml.indexOf(MARKER);
+        while (marker >= 0) {
+            int nameStart = marker + MARKER.length();
+            int nameEnd = nameStart;
+            while (nameEnd < xml.length() && isNameChar(xml.charAt(nameEnd))) {
+                nameEnd++;
+            }
+
+            if (nameEnd > nameStart && nameEnd < xml.length() && xml.charAt(nameEnd) == ':') {
+                inTag = inTag(xml, scanned, marker, inTag);
+                scanned = marker;
+
+                fragments.add(xml.substring(fragmentStart, marker));
+                names.add(xml.substring(nameStart, nameEnd));
+                attributes.add(inTag);
+                fragmentStart = nameEnd + 1;
+            }
+            marker = xml.indexOf(MARKER, nameStart);
+        }
+        fragments.add(xml.substring(fragmentStart));
+
+        return new TwiMLTemplate(fragments, names, attributes);
+    }
+
+    /**
+     * Names of the placeholders, in the order they first appear.
+     *
+     * @return placeholder names
+     */
+    public Set<String> getNames() {
+        return nameSet;
+    }
+
+    /**
+     * Render the template to an XML string.
+     *
+     * @param values values of the placeholders, converted with {@code toString()}
+     * @return XML document
+     * @throws TwiMLException if a value is missing or cannot be escaped
+     */
+    public String render(final Map<String, ?> values) {
+        StringBuilder xml = new StringBuilder(staticLength + 16 * names.length);
+        try {
+            for (int i = 0; i < names.length; i++) {
+                xml.append(fragments[i]);
+                escape(i, values, xml);
+            }
+        } catch (final IOException e) {
+            throw new TwiMLException("Exception rendering TwiML: " + e.getMessage());
+        }
+        xml.append(fragments[names.length]);
+        return xml.toString();
+    }
+
+    /**
+     * Render the template to a byte stream as UTF-8.
+     *
+     * @param values values of the placeholders, converted with {@code toString()}
+     * @param out stream the XML is written to, flushed but not closed
+     * @throws IOException if the stream cannot be written
+     * @throws TwiMLException if a value is missing or cannot be escaped
+     */
+    public void render(final Map<String, ?> values, final OutputStream out) throws IOException {
+        try (Utf8Output utf8 = Utf8Output.open(out)) {
+            for (int i = 0; i < names.length; i++) {
+                utf8.write(encodedFragments[i]);
+                escape(i, values, utf8);
+            }
+            utf8.write(encodedFragments[names.length]);
+        }
+    }
+
+    private void escape(final int index, final Map<String, ?> values, final Appendable out) throws IOException {
+        Object value = values.get(names[index]);
+        if (value == null) {
+            throw new TwiMLException("Missing value for TwiML placeholder: " + names[index]);
+        }
+
+        String text = value.toString();
+        if (attributes[index]) {
+            TwiMLWriter.escapeAttribute(text, out);
+        } else {
+            TwiMLWriter.escapeText(text, out);
+        }
+    }
+
+    private static boolean isNameChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Whether the end of a span is inside a tag. Markup is escaped everywhere else, so only tags contain '<' and '>'.
+     */
+    private static boolean inTag(final String xml, final int start, final int end, final boolean inTag) {
+        boolean result = inTag;
+        for (int i = start; i < end; i++) {
+            char c = xml.charAt(i);
+            if (c == '<') {
+                result = true;
+            } else if (c == '>') {
+                result = false;
+            }
+        }
+        return result;
+    }
+}
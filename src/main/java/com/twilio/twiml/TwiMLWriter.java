@@ -0,0 +1,280 @@
+package com.twilio.twiml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serializes TwiML by walking the tree and writing escaped XML directly, without building a DOM.
+ *
+ * <p>
+ *     The output is the same as the DOM serializer's: attributes are sorted by name, with options overriding
+ *     attributes of the same name, elements without content are self-closed, and characters are escaped as the JDK
+ *     transformer escapes them.
+ * </p>
+ */
+@SuppressWarnings("checkstyle:abbreviationaswordinname")
+public class TwiMLWriter {
+
+    static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+
+    private final Appendable out;
+    private boolean startTagOpen;
+
+    /**
+     * Create a writer appending to a character sink.
+     *
+     * @param out sink the XML is appended to
+     */
+    public TwiMLWriter(final Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Serialize TwiML to an XML string.
+     *
+     * @param twiml TwiML to serialize
+     * @return XML document
+     */
+    public static String toXml(final TwiML twiml) {
+        StringBuilder xml = new StringBuilder(256);
+        try {
+            new TwiMLWriter(xml).writeDocument(twiml);
+        } catch (final IOException e) {
+            throw new TwiMLException("Exception serializing TwiML: " + e.getMessage());
+        }
+        return xml.toString();
+    }
+
+    /**
+     * Serialize TwiML to a character stream.
+     *
+     * @param twiml TwiML to serialize
+     * @param out stream the XML is written to, not flushed or closed
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(final TwiML twiml, final Writer out) throws IOException {
+        new TwiMLWriter(new WriterOutput(out)).writeDocument(twiml);
+    }
+
+    /**
+     * Serialize TwiML to a byte stream as UTF-8, through a buffer reused by the calling thread.
+     *
+     * @param twiml TwiML to serialize
+     * @param out stream the XML is written to, flushed but not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(final TwiML twiml, final OutputStream out) throws IOException {
+        try (Utf8Output utf8 = Utf8Output.open(out)) {
+            new TwiMLWriter(utf8).writeDocument(twiml);
+        }
+    }
+
+    /**
+     * Serialize TwiML to a channel as UTF-8, through a buffer reused by the calling thread.
+     *
+     * @param twiml TwiML to serialize
+     * @param channel channel the XML is written to, not closed
+     * @throws IOException if the channel cannot be written
+     */
+    public static void write(final TwiML twiml, final WritableByteChannel channel) throws IOException {
+        try (Utf8Output utf8 = Utf8Output.open(channel)) {
+            new TwiMLWriter(utf8).writeDocument(twiml);
+        }
+    }
+
+    /**
+     * Serialize TwiML and URL encode it as it is written, giving the same characters as {@link TwiML#toUrl()}.
+     *
+     * @param twiml TwiML to serialize
+     * @param out sink the encoded XML is appended to
+     * @throws IOException if the sink cannot be written
+     */
+    public static void writeUrl(final TwiML twiml, final Appendable out) throws IOException {
+        UrlEncodedOutput encoded = new UrlEncodedOutput(out);
+        new TwiMLWriter(encoded).writeDocument(twiml);
+        encoded.finish();
+    }
+
+    /**
+     * Write the XML declaration followed by an element.
+     *
+     * @param twiml root element
+     * @throws IOException if the sink cannot be written
+     */
+    public void writeDocument(final TwiML twiml) throws IOException {
+        out.append(XML_DECLARATION);
+        writeNode(twiml);
+    }
+
+    /**
+     * Write an element and its children, or a text node.
+     *
+     * @param node element or text to write
+     * @throws IOException if the sink cannot be written
+     */
+    public void writeNode(final TwiML node) throws IOException {
+        if (node instanceof Text) {
+            writeText(((Text) node).getText());
+            return;
+        }
+
+        closeStartTag();
+        String tag = node.getTagName();
+        out.append('<').append(tag);
+        for (Map.Entry<String, String> attribute : attributes(node).entrySet()) {
+            out.append(' ').append(attribute.getKey()).append("=\"");
+            escapeAttribute(attribute.getValue(), out);
+            out.append('"');
+        }
+        startTagOpen = true;
+
+        writeText(node.getElementBody());
+        for (TwiML child : node.getChildren()) {
+            writeNode(child);
+        }
+
+        if (startTagOpen) {
+            out.append("/>");
+            startTagOpen = false;
+        } else {
+            out.append("</").append(tag).append('>');
+        }
+    }
+
+    private void writeText(final String text) throws IOException {
+        if (text != null && !text.isEmpty()) {
+            closeStartTag();
+            escapeText(text, out);
+        }
+    }
+
+    private void closeStartTag() throws IOException {
+        if (startTagOpen) {
+            out.append('>');
+            startTagOpen = false;
+        }
+    }
+
+    /**
+     * Attributes of an element in the order they are written.
+     */
+    static Map<String, String> attributes(final TwiML node) {
+        Map<String, String> attributes = new TreeMap<>(node.getElementAttributes());
+        attributes.putAll(node.getOptions());
+        return attributes;
+    }
+
+    /**
+     * Escape character data.
+     *
+     * @param text text to escape
+     * @param out sink the escaped text is appended to
+     * @throws IOException if the sink cannot be written
+     */
+    static void escapeText(final CharSequence text, final Appendable out) throws IOException {
+        escape(text, out, false);
+    }
+
+    /**
+     * Escape the value of an attribute, to be written between double quotes.
+     *
+     * @param value value to escape, null for an empty value
+     * @param out sink the escaped value is appended to
+     * @throws IOException if the sink cannot be written
+     */
+    static void escapeAttribute(final CharSequence value, final Appendable out) throws IOException {
+        if (value != null) {
+            escape(value, out, true);
+        }
+    }
+
+    private static void escape(final CharSequence s, final Appendable out, final boolean attribute)
+        throws IOException {
+        int start = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            String entity = null;
+            int reference = -1;
+
+            if (c == '&') {
+                entity = "&amp;";
+            } else if (c == '<') {
+                entity = "&lt;";
+            } else if (c == '>') {
+                entity = "&gt;";
+            } else if (c == '"' && attribute) {
+                entity = "&quot;";
+            } else if (c < 0x20) {
+                if (attribute || (c != '\t' && c != '\n')) {
+                    reference = c;
+                }
+            } else if (c >= 0x7f && c <= 0x9f) {
+                if (!attribute) {
+                    reference = c;
+                }
+            } else if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= length || !Character.isLowSurrogate(s.charAt(i + 1))) {
+                    throw new TwiMLException(
+                        "Exception serializing TwiML: Invalid UTF-16 surrogate detected: " + Integer.toHexString(c)
+                    );
+                }
+                reference = Character.toCodePoint(c, s.charAt(i + 1));
+            } else if (Character.isLowSurrogate(c)) {
+                reference = c;
+            }
+
+            if (entity == null && reference < 0) {
+                continue;
+            }
+
+            out.append(s, start, i);
+            if (entity != null) {
+                out.append(entity);
+            } else {
+                out.append("&#").append(Integer.toString(reference)).append(';');
+                if (reference > Character.MAX_VALUE) {
+                    i++;
+                }
+            }
+            start = i + 1;
+        }
+        out.append(s, start, length);
+    }
+
+    /**
+     * Writes strings to a {@link Writer} by range, where {@link Writer#append(CharSequence, int, int)} would copy them.
+     */
+    private static class WriterOutput implements Appendable {
+        private final Writer out;
+
+        private WriterOutput(final Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+            if (csq instanceof String) {
+                out.write((String) csq, start, end - start);
+            } else {
+                out.append(csq, start, end);
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            out.write(c);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.twilio.twiml;
+
+import java.io.IOException;
+
+/**
+ * URL encodes characters as they are appended, the way {@link java.net.URLEncoder} encodes UTF-8.
+ */
+class UrlEncodedOutput implements Appendable {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final Appendable out;
+    private char highSurrogate;
+
+    UrlEncodedOutput(final Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                encode(0xf0 | (codePoint >> 18));
+                encode(0x80 | ((codePoint >> 12) & 0x3f));
+                encode(0x80 | ((codePoint >> 6) & 0x3f));
+                encode(0x80 | (codePoint & 0x3f));
+                return this;
+            }
+            encode('?');
+        }
+
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '_' || c == '.' || c == '*') {
+            out.append(c);
+        } else if (c == ' ') {
+            out.append('+');
+        } else if (c < 0x80) {
+            encode(c);
+        } else if (c < 0x800) {
+            encode(0xc0 | (c >> 6));
+            encode(0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            encode('?');
+        } else {
+            encode(0xe0 | (c >> 12));
+            encode(0x80 | ((c >> 6) & 0x3f));
+            encode(0x80 | (c & 0x3f));
+        }
+        return this;
+    }
+
+    /**
+     * Encode a high surrogate left without its pair at the end of the input.
+     *
+     * @throws IOException if the sink cannot be written
+     */
+    void finish() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            encode('?');
+        }
+    }
+
+    private void encode(final int b) throws IOException {
+        out.append('%').append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+    }
+}
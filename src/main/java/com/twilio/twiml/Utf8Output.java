@@ -0,0 +1,194 @@
+package com.twilio.twiml;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes characters as UTF-8 into a byte buffer, draining it to a stream or channel when full.
+ *
+ * <p>
+ *     Writers opened with {@link #open(OutputStream)} or {@link #open(WritableByteChannel)} borrow a buffer kept per
+ *     thread and give it back on {@link #close()}, so serializing repeatedly on a thread does not allocate buffers.
+ * </p>
+ */
+class Utf8Output implements Appendable, Flushable, Closeable {
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<byte[][]> BUFFERS = new ThreadLocal<byte[][]>() {
+        @Override
+        protected byte[][] initialValue() {
+            return new byte[1][];
+        }
+    };
+
+    private final OutputStream out;
+    private final WritableByteChannel channel;
+    private byte[] buffer;
+    private int position;
+    private char highSurrogate;
+
+    private Utf8Output(
+        final OutputStream out,
+        final WritableByteChannel channel,
+        final byte[] buffer
+    ) {
+        this.out = out;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Open a writer to a stream using this thread's buffer.
+     */
+    static Utf8Output open(final OutputStream out) {
+        return new Utf8Output(out, null, borrow());
+    }
+
+    /**
+     * Open a writer to a channel using this thread's buffer.
+     */
+    static Utf8Output open(final WritableByteChannel channel) {
+        return new Utf8Output(null, channel, borrow());
+    }
+
+    private static byte[] borrow() {
+        byte[][] slot = BUFFERS.get();
+        byte[] buffer = slot[0];
+        if (buffer == null) {
+            return new byte[DEFAULT_BUFFER_SIZE];
+        }
+
+        // Taken out while in use, so nested writers on the same thread get their own buffer
+        slot[0] = null;
+        return buffer;
+    }
+
+    /**
+     * Write bytes that are already UTF-8 encoded.
+     *
+     * @param bytes bytes to write
+     * @throws IOException if the stream cannot be written
+     */
+    void write(final byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            drain();
+            if (bytes.length > buffer.length) {
+                drain(bytes, bytes.length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        if (buffer.length - position < 4) {
+            drain();
+        }
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                return this;
+            }
+            buffer[position++] = '?';
+            return append(c);
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xc0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xe0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        }
+        return this;
+    }
+
+    /**
+     * Write the buffered bytes and flush the stream.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            buffer[position++] = '?';
+        }
+        drain();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Flush, then give the buffer back to the thread. The underlying stream or channel is not closed.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            BUFFERS.get()[0] = buffer;
+            buffer = null;
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            drain(buffer, position);
+            position = 0;
+        }
+    }
+
+    private void drain(final byte[] bytes, final int length) throws IOException {
+        if (out != null) {
+            out.write(bytes, 0, length);
+            return;
+        }
+
+        ByteBuffer bb = ByteBuffer.wrap(bytes, 0, length);
+        while (bb.hasRemaining()) {
+            channel.write(bb);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.twilio.webhook;
+
+import com.twilio.converter.DateConverter;
+import com.twilio.rest.api.v2010.account.Call;
+import org.joda.time.DateTime;
+
+import java.util.Map;
+
+/**
+ * Status callback of a call.
+ */
+public class CallStatusEvent extends WebhookEvent {
+
+    CallStatusEvent(final String[] fields, final Map<String, String> others) {
+        super(fields, others);
+    }
+
+    public String getCallSid() {
+        return get(WebhookField.CALL_SID);
+    }
+
+    public Call.Status getCallStatus() {
+        return Call.Status.forValue(get(WebhookField.CALL_STATUS));
+    }
+
+    public String getDirection() {
+        return get(WebhookField.DIRECTION);
+    }
+
+    /**
+     * Duration of the call in seconds, sent once it has completed.
+     *
+     * @return duration in seconds, or null if not sent
+     */
+    public Integer getCallDuration() {
+        return getInteger(WebhookField.CALL_DURATION);
+    }
+
+    public String getParentCallSid() {
+        return get(WebhookField.PARENT_CALL_SID);
+    }
+
+    public String getForwardedFrom() {
+        return get(WebhookField.FORWARDED_FROM);
+    }
+
+    public String getCallerName() {
+        return get(WebhookField.CALLER_NAME);
+    }
+
+    public String getAnsweredBy() {
+        return get(WebhookField.ANSWERED_BY);
+    }
+
+    public String getCallbackSource() {
+        return get(WebhookField.CALLBACK_SOURCE);
+    }
+
+    /**
+     * Order of the callback among those of the call, starting at 0.
+     *
+     * @return sequence number, or null if not sent
+     */
+    public Integer getSequenceNumber() {
+        return getInteger(WebhookField.SEQUENCE_NUMBER);
+    }
+
+    public DateTime getTimestamp() {
+        String timestamp = get(WebhookField.TIMESTAMP);
+        return timestamp == null ? null : DateConverter.rfc2822DateTimeFromString(timestamp);
+    }
+}
@@ -0,0 +1,103 @@
+package com.twilio.webhook;
+
+import com.twilio.rest.api.v2010.account.Message;
+
+import java.util.Map;
+
+/**
+ * Webhook for a message received by a Twilio number.
+ */
+public class InboundMessageEvent extends WebhookEvent {
+
+    InboundMessageEvent(final String[] fields, final Map<String, String> others) {
+        super(fields, others);
+    }
+
+    /**
+     * Sid of the message, from {@code MessageSid} or the older {@code SmsSid}.
+     *
+     * @return message sid
+     */
+    public String getMessageSid() {
+        String sid = get(WebhookField.MESSAGE_SID);
+        return sid == null ? get(WebhookField.SMS_SID) : sid;
+    }
+
+    public String getMessagingServiceSid() {
+        return get(WebhookField.MESSAGING_SERVICE_SID);
+    }
+
+    public String getBody() {
+        return get(WebhookField.BODY);
+    }
+
+    public Message.Status getStatus() {
+        return Message.Status.forValue(get(WebhookField.SMS_STATUS));
+    }
+
+    /**
+     * Number of media attached to the message.
+     *
+     * @return number of media, 0 if not sent
+     */
+    public int getNumMedia() {
+        Integer numMedia = getInteger(WebhookField.NUM_MEDIA);
+        return numMedia == null ? 0 : numMedia;
+    }
+
+    public Integer getNumSegments() {
+        return getInteger(WebhookField.NUM_SEGMENTS);
+    }
+
+    /**
+     * Url of an attached media.
+     *
+     * @param index index of the media, from 0 to {@link #getNumMedia()} exclusive
+     * @return url of the media, or null if not sent
+     */
+    public String getMediaUrl(final int index) {
+        return getOtherParameters().get("MediaUrl" + index);
+    }
+
+    /**
+     * Content type of an attached media.
+     *
+     * @param index index of the media, from 0 to {@link #getNumMedia()} exclusive
+     * @return content type of the media, or null if not sent
+     */
+    public String getMediaContentType(final int index) {
+        return getOtherParameters().get("MediaContentType" + index);
+    }
+
+    public String getFromCity() {
+        return get(WebhookField.FROM_CITY);
+    }
+
+    public String getFromState() {
+        return get(WebhookField.FROM_STATE);
+    }
+
+    public String getFromZip() {
+        return get(WebhookField.FROM_ZIP);
+    }
+
+    public String getFromCountry() {
+        return get(WebhookField.FROM_COUNTRY);
+    }
+
+    public String getToCity() {
+        return get(WebhookField.TO_CITY);
+    }
+
+    public String getToState() {
+        return get(WebhookField.TO_STATE);
+    }
+
+    public String getToZip() {
+        return get(WebhookField.TO_ZIP);
+    }
+
+    public String getToCountry() {
+        return get(WebhookField.TO_COUNTRY);
+    }
+}
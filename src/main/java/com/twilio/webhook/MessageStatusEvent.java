@@ -0,0 +1,41 @@
+package com.twilio.webhook;
+
+import com.twilio.rest.api.v2010.account.Message;
+
+import java.util.Map;
+
+/**
+ * Status callback of an outbound message.
+ */
+public class MessageStatusEvent extends WebhookEvent {
+
+    MessageStatusEvent(final String[] fields, final Map<String, String> others) {
+        super(fields, others);
+    }
+
+    /**
+     * Sid of the message, from {@code MessageSid} or the older {@code SmsSid}.
+     *
+     * @return message sid
+     */
+    public String getMessageSid() {
+        String sid = get(WebhookField.MESSAGE_SID);
+        return sid == null ? get(WebhookField.SMS_SID) : sid;
+    }
+
+    public String getMessagingServiceSid() {
+        return get(WebhookField.MESSAGING_SERVICE_SID);
+    }
+
+    public Message.Status getMessageStatus() {
+        return Message.Status.forValue(get(WebhookField.MESSAGE_STATUS));
+    }
+
+    public Integer getErrorCode() {
+        return getInteger(WebhookField.ERROR_CODE);
+    }
+
+    public String getErrorMessage() {
+        return get(WebhookField.ERROR_MESSAGE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.twilio.webhook;
+
+import com.twilio.converter.DateConverter;
+import com.twilio.rest.api.v2010.account.Recording;
+import org.joda.time.DateTime;
+
+import java.util.Map;
+
+/**
+ * Status callback of a recording.
+ */
+public class RecordingStatusEvent extends WebhookEvent {
+
+    RecordingStatusEvent(final String[] fields, final Map<String, String> others) {
+        super(fields, others);
+    }
+
+    public String getRecordingSid() {
+        return get(WebhookField.RECORDING_SID);
+    }
+
+    public String getRecordingUrl() {
+        return get(WebhookField.RECORDING_URL);
+    }
+
+    public Recording.Status getRecordingStatus() {
+        return Recording.Status.forValue(get(WebhookField.RECORDING_STATUS));
+    }
+
+    /**
+     * Duration of the recording in seconds.
+     *
+     * @return duration in seconds, or null if not sent
+     */
+    public Integer getRecordingDuration() {
+        return getInteger(WebhookField.RECORDING_DURATION);
+    }
+
+    public Integer getRecordingChannels() {
+        return getInteger(WebhookField.RECORDING_CHANNELS);
+    }
+
+    public Recording.Source getRecordingSource() {
+        return Recording.Source.forValue(get(WebhookField.RECORDING_SOURCE));
+    }
+
+    public DateTime getRecordingStartTime() {
+        String startTime = get(WebhookField.RECORDING_START_TIME);
+        return startTime == null ? null : DateConverter.rfc2822DateTimeFromString(startTime);
+    }
+
+    public String getCallSid() {
+        return get(WebhookField.CALL_SID);
+    }
+
+    public Integer getErrorCode() {
+        return getInteger(WebhookField.ERROR_CODE);
+    }
+}
@@ -0,0 +1,125 @@
+package com.twilio.webhook;
+
+import org.joda.time.DateTime;
+
+import java.util.Map;
+
+/**
+ * Event callback of a TaskRouter workspace.
+ */
+public class TaskRouterEvent extends WebhookEvent {
+
+    TaskRouterEvent(final String[] fields, final Map<String, String> others) {
+        super(fields, others);
+    }
+
+    /**
+     * Type of the event, such as {@code task.created} or {@code reservation.accepted}.
+     *
+     * @return event type
+     */
+    public String getEventType() {
+        return get(WebhookField.EVENT_TYPE);
+    }
+
+    public String getEventDescription() {
+        return get(WebhookField.EVENT_DESCRIPTION);
+    }
+
+    public String getWorkspaceSid() {
+        return get(WebhookField.WORKSPACE_SID);
+    }
+
+    public String getWorkspaceName() {
+        return get(WebhookField.WORKSPACE_NAME);
+    }
+
+    public String getResourceType() {
+        return get(WebhookField.RESOURCE_TYPE);
+    }
+
+    public String getResourceSid() {
+        return get(WebhookField.RESOURCE_SID);
+    }
+
+    /**
+     * Time of the event, sent in seconds since the epoch.
+     *
+     * @return time of the event, or null if not sent
+     */
+    public DateTime getTimestamp() {
+        String timestamp = get(WebhookField.TIMESTAMP);
+        if (timestamp == null) {
+            return null;
+        }
+
+        try {
+            return new DateTime(Long.parseLong(timestamp) * 1000);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String getTaskSid() {
+        return get(WebhookField.TASK_SID);
+    }
+
+    /**
+     * Attributes of the task, as JSON.
+     *
+     * @return task attributes
+     */
+    public String getTaskAttributes() {
+        return get(WebhookField.TASK_ATTRIBUTES);
+    }
+
+    /**
+     * Age of the task in seconds.
+     *
+     * @return age in seconds, or null if not sent
+     */
+    public Integer getTaskAge() {
+        return getInteger(WebhookField.TASK_AGE);
+    }
+
+    public String getTaskAssignmentStatus() {
+        return get(WebhookField.TASK_ASSIGNMENT_STATUS);
+    }
+
+    public String getTaskQueueSid() {
+        return get(WebhookField.TASK_QUEUE_SID);
+    }
+
+    public String getWorkerSid() {
+        return get(WebhookField.WORKER_SID);
+    }
+
+    public String getWorkerName() {
+        return get(WebhookField.WORKER_NAME);
+    }
+
+    /**
+     * Attributes of the worker, as JSON.
+     *
+     * @return worker attributes
+     */
+    public String getWorkerAttributes() {
+        return get(WebhookField.WORKER_ATTRIBUTES);
+    }
+
+    public String getWorkerActivitySid() {
+        return get(WebhookField.WORKER_ACTIVITY_SID);
+    }
+
+    public String getWorkerActivityName() {
+        return get(WebhookField.WORKER_ACTIVITY_NAME);
+    }
+
+    public String getReservationSid() {
+        return get(WebhookField.RESERVATION_SID);
+    }
+
+    public String getWorkflowSid() {
+        return get(WebhookField.WORKFLOW_SID);
+    }
+}
@@ -0,0 +1,108 @@
+package com.twilio.webhook;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Parameters of a webhook request, decoded by {@link WebhookParser}.
+ *
+ * <p>
+ *     Known parameters are held by {@link WebhookField}; others, such as the numbered {@code MediaUrl0} parameters of
+ *     inbound messages, are kept by name. Subclasses add typed getters for the webhooks they represent.
+ * </p>
+ */
+public class WebhookEvent {
+
+    private final String[] fields;
+    private final Map<String, String> others;
+
+    WebhookEvent(final String[] fields, final Map<String, String> others) {
+        this.fields = fields;
+        this.others = others == null ? Collections.<String, String>emptyMap() : Collections.unmodifiableMap(others);
+    }
+
+    /**
+     * Value of a known parameter.
+     *
+     * @param field parameter to get
+     * @return value, or null if the parameter was not sent
+     */
+    public final String get(final WebhookField field) {
+        return fields[field.ordinal()];
+    }
+
+    /**
+     * Value of any parameter.
+     *
+     * @param name name of the parameter
+     * @return value, or null if the parameter was not sent
+     */
+    public final String getParameter(final String name) {
+        String value = others.get(name);
+        if (value != null) {
+            return value;
+        }
+
+        for (final WebhookField field : WebhookField.values()) {
+            if (field.getName().equals(name)) {
+                return get(field);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parameters that are not known fields, by name.
+     *
+     * @return other parameters
+     */
+    public final Map<String, String> getOtherParameters() {
+        return others;
+    }
+
+    public final String getAccountSid() {
+        return get(WebhookField.ACCOUNT_SID);
+    }
+
+    public final String getApiVersion() {
+        return get(WebhookField.API_VERSION);
+    }
+
+    public final String getFrom() {
+        return get(WebhookField.FROM);
+    }
+
+    public final String getTo() {
+        return get(WebhookField.TO);
+    }
+
+    /**
+     * Integer value of a parameter.
+     */
+    final Integer getInteger(final WebhookField field) {
+        String value = get(field);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).omitNullValues();
+        for (final WebhookField field : WebhookField.values()) {
+            helper.add(field.getName(), get(field));
+        }
+        for (final Map.Entry<String, String> other : others.entrySet()) {
+            helper.add(other.getKey(), other.getValue());
+        }
+        return helper.toString();
+    }
+}
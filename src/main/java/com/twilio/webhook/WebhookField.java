@@ -0,0 +1,146 @@
+package com.twilio.webhook;
+
+/**
+ * Form parameters of the webhooks decoded into typed events.
+ *
+ * <p>
+ *     Names are resolved through an open addressing table built once, hashed and compared directly on the decoded
+ *     characters, so looking up a parameter does not create a string for its name.
+ * </p>
+ */
+public enum WebhookField {
+    ACCOUNT_SID("AccountSid"),
+    API_VERSION("ApiVersion"),
+    FROM("From"),
+    TO("To"),
+
+    MESSAGE_SID("MessageSid"),
+    SMS_SID("SmsSid"),
+    SMS_MESSAGE_SID("SmsMessageSid"),
+    SMS_STATUS("SmsStatus"),
+    MESSAGE_STATUS("MessageStatus"),
+    MESSAGING_SERVICE_SID("MessagingServiceSid"),
+    BODY("Body"),
+    NUM_MEDIA("NumMedia"),
+    NUM_SEGMENTS("NumSegments"),
+    FROM_CITY("FromCity"),
+    FROM_STATE("FromState"),
+    FROM_ZIP("FromZip"),
+    FROM_COUNTRY("FromCountry"),
+    TO_CITY("ToCity"),
+    TO_STATE("ToState"),
+    TO_ZIP("ToZip"),
+    TO_COUNTRY("ToCountry"),
+    ERROR_CODE("ErrorCode"),
+    ERROR_MESSAGE("ErrorMessage"),
+
+    CALL_SID("CallSid"),
+    CALL_STATUS("CallStatus"),
+    DIRECTION("Direction"),
+    CALL_DURATION("CallDuration"),
+    DURATION("Duration"),
+    PARENT_CALL_SID("ParentCallSid"),
+    FORWARDED_FROM("ForwardedFrom"),
+    CALLER_NAME("CallerName"),
+    ANSWERED_BY("AnsweredBy"),
+    CALLBACK_SOURCE("CallbackSource"),
+    SEQUENCE_NUMBER("SequenceNumber"),
+    TIMESTAMP("Timestamp"),
+
+    RECORDING_SID("RecordingSid"),
+    RECORDING_URL("RecordingUrl"),
+    RECORDING_STATUS("RecordingStatus"),
+    RECORDING_DURATION("RecordingDuration"),
+    RECORDING_CHANNELS("RecordingChannels"),
+    RECORDING_SOURCE("RecordingSource"),
+    RECORDING_START_TIME("RecordingStartTime"),
+
+    EVENT_TYPE("EventType"),
+    EVENT_DESCRIPTION("EventDescription"),
+    WORKSPACE_SID("WorkspaceSid"),
+    WORKSPACE_NAME("WorkspaceName"),
+    RESOURCE_TYPE("ResourceType"),
+    RESOURCE_SID("ResourceSid"),
+    TASK_SID("TaskSid"),
+    TASK_ATTRIBUTES("TaskAttributes"),
+    TASK_AGE("TaskAge"),
+    TASK_ASSIGNMENT_STATUS("TaskAssignmentStatus"),
+    TASK_QUEUE_SID("TaskQueueSid"),
+    WORKER_SID("WorkerSid"),
+    WORKER_NAME("WorkerName"),
+    WORKER_ATTRIBUTES("WorkerAttributes"),
+    WORKER_ACTIVITY_SID("WorkerActivitySid"),
+    WORKER_ACTIVITY_NAME("WorkerActivityName"),
+    RESERVATION_SID("ReservationSid"),
+    WORKFLOW_SID("WorkflowSid");
+
+    private static final WebhookField[] TABLE;
+    private static final int MASK;
+
+    static {
+        int size = Integer.highestOneBit(values().length * 4);
+        TABLE = new WebhookField[size];
+        MASK = size - 1;
+        for (final WebhookField field : values()) {
+            int slot = field.name.hashCode() & MASK;
+            while (TABLE[slot] != null) {
+                slot = (slot + 1) & MASK;
+            }
+            TABLE[slot] = field;
+        }
+    }
+
+    private final String name;
+
+    private WebhookField(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Name of the form parameter.
+     *
+     * @return parameter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Find the field named by a range of characters.
+     *
+     * @param chars characters holding the name
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return field, or null if the name is not a known field
+     */
+    static WebhookField find(final char[] chars, final int start, final int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        for (int slot = hash & MASK; TABLE[slot] != null; slot = (slot + 1) & MASK) {
+            if (TABLE[slot].matches(chars, start, end)) {
+                return TABLE[slot];
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(final char[] chars, final int start, final int end) {
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (chars[i] != name.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
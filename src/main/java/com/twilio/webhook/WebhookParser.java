@@ -0,0 +1,493 @@
+package com.twilio.webhook;
+
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.security.WebhookValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes {@code application/x-www-form-urlencoded} webhook bodies into typed events.
+ *
+ * <p>
+ *     The body is decoded once, from bytes into a character buffer kept per thread, and parameter names are resolved
+ *     through the {@link WebhookField} table without becoming strings. When validating, the decoded parameters are
+ *     fed to the signature straight from that buffer, and no strings are created for a request that fails.
+ * </p>
+ *
+ * <p>
+ *     Bodies larger than the maximum body size are rejected. Buffers grown for a large body are dropped once it has
+ *     been decoded, so each thread only keeps buffers of the default size.
+ * </p>
+ *
+ * <p>
+ *     The event type is told from the parameters sent:
+ * </p>
+ * <ul>
+ *     <li>{@link TaskRouterEvent} with {@code EventType} and {@code WorkspaceSid}</li>
+ *     <li>{@link RecordingStatusEvent} with {@code RecordingSid}</li>
+ *     <li>{@link CallStatusEvent} with {@code CallSid} and {@code CallStatus}</li>
+ *     <li>{@link MessageStatusEvent} with {@code MessageStatus}</li>
+ *     <li>{@link InboundMessageEvent} with {@code MessageSid} or {@code SmsSid}</li>
+ *     <li>{@link WebhookEvent} otherwise</li>
+ * </ul>
+ */
+public class WebhookParser {
+
+    public static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+    private static final int PARAMS = 64;
+    private static final int FIELD_COUNT = WebhookField.values().length;
+
+    private final WebhookValidator validator;
+    private final int maxBodySize;
+    private final ThreadLocal<Decoder> decoders = new ThreadLocal<Decoder>() {
+        @Override
+        protected Decoder initialValue() {
+            return new Decoder(maxBodySize);
+        }
+    };
+
+    /**
+     * Create a parser that does not validate signatures.
+     */
+    public WebhookParser() {
+        this(null);
+    }
+
+    /**
+     * Create a parser validating signatures while it decodes.
+     *
+     * @param validator validator holding the auth tokens
+     */
+    public WebhookParser(final WebhookValidator validator) {
+        this(validator, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Create a parser validating signatures while it decodes, rejecting large bodies.
+     *
+     * @param validator validator holding the auth tokens, or null to not validate signatures
+     * @param maxBodySize largest body accepted, in bytes
+     */
+    public WebhookParser(final WebhookValidator validator, final int maxBodySize) {
+        this.validator = validator;
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Decode a form body.
+     *
+     * @param body form encoded body
+     * @return event holding the parameters
+     */
+    public WebhookEvent parse(final byte[] body) {
+        return parse(body, 0, body.length);
+    }
+
+    /**
+     * Decode a form body.
+     *
+     * @param body buffer holding the form encoded body
+     * @param offset offset of the body in the buffer
+     * @param length length of the body
+     * @return event holding the parameters
+     * @throws InvalidRequestException if the body is larger than the maximum body size
+     */
+    public WebhookEvent parse(final byte[] body, final int offset, final int length) {
+        Decoder decoder = decoders.get();
+        try {
+            decoder.decode(body, offset, length);
+            return decoder.event();
+        } finally {
+            decoder.release();
+        }
+    }
+
+    /**
+     * Decode a form body.
+     *
+     * @param body form encoded body, read to the end but not closed
+     * @return event holding the parameters
+     * @throws IOException if the body cannot be read
+     * @throws InvalidRequestException if the body is larger than the maximum body size
+     */
+    public WebhookEvent parse(final InputStream body) throws IOException {
+        Decoder decoder = decoders.get();
+        try {
+            int length = decoder.read(body);
+            return parse(decoder.bytes, 0, length);
+        } finally {
+            decoder.release();
+        }
+    }
+
+    /**
+     * Decode a form body and validate the signature of the request.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param body form encoded body
+     * @param signature value of the {@value WebhookValidator#SIGNATURE_HEADER} header
+     * @return event holding the parameters
+     * @throws InvalidRequestException if the signature is not valid
+     */
+    public WebhookEvent parse(final String url, final byte[] body, final String signature) {
+        return parse(url, body, 0, body.length, signature);
+    }
+
+    /**
+     * Decode a form body and validate the signature of the request.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param body buffer holding the form encoded body
+     * @param offset offset of the body in the buffer
+     * @param length length of the body
+     * @param signature value of the {@value WebhookValidator#SIGNATURE_HEADER} header
+     * @return event holding the parameters
+     * @throws InvalidRequestException if the signature is not valid or the body is larger than the maximum body size
+     */
+    public WebhookEvent parse(
+        final String url,
+        final byte[] body,
+        final int offset,
+        final int length,
+        final String signature
+    ) {
+        if (validator == null) {
+            throw new IllegalStateException("Parser was created without a validator");
+        }
+
+        Decoder decoder = decoders.get();
+        try {
+            decoder.decode(body, offset, length);
+            if (decoder.sign(validator.begin(url)).match(signature) < 0) {
+                throw new InvalidRequestException("Invalid webhook signature", WebhookValidator.SIGNATURE_HEADER);
+            }
+            return decoder.event();
+        } finally {
+            decoder.release();
+        }
+    }
+
+    /**
+     * Decode a form body and validate the signature of the request.
+     *
+     * @param url full url the request was made to, including the query string
+     * @param body form encoded body, read to the end but not closed
+     * @param signature value of the {@value WebhookValidator#SIGNATURE_HEADER} header
+     * @return event holding the parameters
+     * @throws IOException if the body cannot be read
+     * @throws InvalidRequestException if the signature is not valid or the body is larger than the maximum body size
+     */
+    public WebhookEvent parse(final String url, final InputStream body, final String signature) throws IOException {
+        Decoder decoder = decoders.get();
+        try {
+            int length = decoder.read(body);
+            return parse(url, decoder.bytes, 0, length, signature);
+        } finally {
+            decoder.release();
+        }
+    }
+
+    /**
+     * Create the event matching the parameters sent.
+     */
+    static WebhookEvent create(final String[] fields, final Map<String, String> others) {
+        if (fields[WebhookField.EVENT_TYPE.ordinal()] != null && fields[WebhookField.WORKSPACE_SID.ordinal()] != null) {
+            return new TaskRouterEvent(fields, others);
+        }
+        if (fields[WebhookField.RECORDING_SID.ordinal()] != null) {
+            return new RecordingStatusEvent(fields, others);
+        }
+        if (fields[WebhookField.CALL_SID.ordinal()] != null && fields[WebhookField.CALL_STATUS.ordinal()] != null) {
+            return new CallStatusEvent(fields, others);
+        }
+        if (fields[WebhookField.MESSAGE_STATUS.ordinal()] != null) {
+            return new MessageStatusEvent(fields, others);
+        }
+        if (fields[WebhookField.MESSAGE_SID.ordinal()] != null || fields[WebhookField.SMS_SID.ordinal()] != null) {
+            return new InboundMessageEvent(fields, others);
+        }
+        return new WebhookEvent(fields, others);
+    }
+
+    /**
+     * Decoding state of one thread: the body, its decoded characters and the bounds of each parameter in them.
+     */
+    private static class Decoder {
+        private final int maxBodySize;
+
+        private byte[] bytes = new byte[BUFFER_SIZE];
+        private char[] chars = new char[BUFFER_SIZE];
+        private int length;
+
+        // Name start, name end, value start and value end of each parameter
+        private int[] bounds = new int[PARAMS * 4];
+        private int[] order = new int[PARAMS];
+        private int params;
+
+        private final Slice slice = new Slice();
+
+        private Decoder(final int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        private int read(final InputStream in) throws IOException {
+            int count = 0;
+            for (int read = in.read(bytes); read >= 0; read = in.read(bytes, count, bytes.length - count)) {
+                count += read;
+                checkSize(count);
+                if (count == bytes.length) {
+                    // Leave room for one byte past the maximum, so an oversized body is noticed
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(bytes.length * 2L, maxBodySize + 1L));
+                }
+            }
+            return count;
+        }
+
+        private void checkSize(final int count) {
+            if (count > maxBodySize) {
+                throw new InvalidRequestException("Webhook body is larger than " + maxBodySize + " bytes");
+            }
+        }
+
+        /**
+         * Drop buffers grown past the size kept per thread.
+         */
+        private void release() {
+            if (bytes.length > MAX_RETAINED_SIZE) {
+                bytes = new byte[BUFFER_SIZE];
+            }
+            if (chars.length > MAX_RETAINED_SIZE) {
+                chars = new char[BUFFER_SIZE];
+            }
+            if (order.length > MAX_RETAINED_SIZE / 4) {
+                bounds = new int[PARAMS * 4];
+                order = new int[PARAMS];
+            }
+        }
+
+        private void decode(final byte[] body, final int offset, final int count) {
+            checkSize(count);
+            length = 0;
+            params = 0;
+            // A byte never decodes to more than one char
+            if (chars.length < count) {
+                chars = new char[Math.max(count, chars.length * 2)];
+            }
+
+            int end = offset + count;
+            for (int start = offset; start < end; ) {
+                int paramEnd = indexOf(body, '&', start, end);
+                if (paramEnd > start) {
+                    if (params * 4 == bounds.length) {
+                        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                        order = Arrays.copyOf(order, order.length * 2);
+                    }
+
+                    int equals = indexOf(body, '=', start, paramEnd);
+                    int base = params * 4;
+                    bounds[base] = length;
+                    append(body, start, equals);
+                    bounds[base + 1] = length;
+                    bounds[base + 2] = length;
+                    append(body, equals + 1, paramEnd);
+                    bounds[base + 3] = length;
+                    params++;
+                }
+                start = paramEnd + 1;
+            }
+        }
+
+        /**
+         * Percent decode a range of bytes, then decode it as UTF-8, replacing malformed sequences.
+         */
+        private void append(final byte[] body, final int from, final int to) {
+            int codePoint = 0;
+            int needed = 0;
+            for (int i = from; i < to; i++) {
+                int b = body[i] & 0xff;
+                if (b == '+') {
+                    b = ' ';
+                } else if (b == '%' && i + 2 < to && hex(body[i + 1]) >= 0 && hex(body[i + 2]) >= 0) {
+                    b = (hex(body[i + 1]) << 4) | hex(body[i + 2]);
+                    i += 2;
+                }
+
+                if (needed > 0) {
+                    if ((b & 0xc0) == 0x80) {
+                        codePoint = (codePoint << 6) | (b & 0x3f);
+                        if (--needed == 0) {
+                            append(codePoint);
+                        }
+                        continue;
+                    }
+                    needed = 0;
+                    chars[length++] = '\ufffd';
+                }
+
+                if (b < 0x80) {
+                    chars[length++] = (char) b;
+                } else if ((b & 0xe0) == 0xc0) {
+                    codePoint = b & 0x1f;
+                    needed = 1;
+                } else if ((b & 0xf0) == 0xe0) {
+                    codePoint = b & 0x0f;
+                    needed = 2;
+                } else if ((b & 0xf8) == 0xf0) {
+                    codePoint = b & 0x07;
+                    needed = 3;
+                } else {
+                    chars[length++] = '\ufffd';
+                }
+            }
+
+            if (needed > 0) {
+                chars[length++] = '\ufffd';
+            }
+        }
+
+        private void append(final int codePoint) {
+            if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                chars[length++] = Character.highSurrogate(codePoint);
+                chars[length++] = Character.lowSurrogate(codePoint);
+            } else {
+                chars[length++] = (char) codePoint;
+            }
+        }
+
+        /**
+         * Feed the parameters to a signature, sorted by name and then by value.
+         */
+        private WebhookValidator.Signature sign(final WebhookValidator.Signature signature) {
+            for (int i = 0; i < params; i++) {
+                int param = i;
+                int j = i;
+                while (j > 0 && compare(order[j - 1], param) > 0) {
+                    order[j] = order[j - 1];
+                    j--;
+                }
+                order[j] = param;
+            }
+
+            for (int i = 0; i < params; i++) {
+                int base = order[i] * 4;
+                signature.update(slice.of(bounds[base], bounds[base + 1]));
+                signature.update(slice.of(bounds[base + 2], bounds[base + 3]));
+            }
+            return signature;
+        }
+
+        private int compare(final int a, final int b) {
+            int result = compare(bounds[a * 4], bounds[a * 4 + 1], bounds[b * 4], bounds[b * 4 + 1]);
+            if (result != 0) {
+                return result;
+            }
+            return compare(bounds[a * 4 + 2], bounds[a * 4 + 3], bounds[b * 4 + 2], bounds[b * 4 + 3]);
+        }
+
+        /**
+         * Compare two ranges of the decoded characters as {@link String#compareTo(String)} does.
+         */
+        private int compare(final int aStart, final int aEnd, final int bStart, final int bEnd) {
+            int aLength = aEnd - aStart;
+            int bLength = bEnd - bStart;
+            int common = Math.min(aLength, bLength);
+            for (int i = 0; i < common; i++) {
+                int diff = chars[aStart + i] - chars[bStart + i];
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return aLength - bLength;
+        }
+
+        private WebhookEvent event() {
+            String[] fields = new String[FIELD_COUNT];
+            Map<String, String> others = null;
+            for (int i = 0; i < params; i++) {
+                int base = i * 4;
+                int valueStart = bounds[base + 2];
+                int valueLength = bounds[base + 3] - valueStart;
+
+                WebhookField field = WebhookField.find(chars, bounds[base], bounds[base + 1]);
+                if (field != null) {
+                    if (fields[field.ordinal()] == null) {
+                        fields[field.ordinal()] = new String(chars, valueStart, valueLength);
+                    }
+                    continue;
+                }
+
+                if (others == null) {
+                    others = new LinkedHashMap<>();
+                }
+                String name = new String(chars, bounds[base], bounds[base + 1] - bounds[base]);
+                if (!others.containsKey(name)) {
+                    others.put(name, new String(chars, valueStart, valueLength));
+                }
+            }
+            return create(fields, others);
+        }
+
+        private static int indexOf(final byte[] bytes, final char c, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                if (bytes[i] == c) {
+                    return i;
+                }
+            }
+            return to;
+        }
+
+        private static int hex(final byte b) {
+            if (b >= '0' && b <= '9') {
+                return b - '0';
+            }
+            if (b >= 'A' && b <= 'F') {
+                return b - 'A' + 10;
+            }
+            if (b >= 'a' && b <= 'f') {
+                return b - 'a' + 10;
+            }
+            return -1;
+        }
+
+        /**
+         * View of a range of the decoded characters, reused to feed the signature.
+         */
+        private class Slice implements CharSequence {
+            private int start;
+            private int end;
+
+            private Slice of(final int start, final int end) {
+                this.start = start;
+                this.end = end;
+                return this;
+            }
+
+            @Override
+            public int length() {
+                return end - start;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return chars[start + index];
+            }
+
+            @Override
+            public CharSequence subSequence(final int from, final int to) {
+                return new String(chars, start + from, to - from);
+            }
+
+            @Override
+            public String toString() {
+                return new String(chars, start, end - start);
+            }
+        }
+    }
+}
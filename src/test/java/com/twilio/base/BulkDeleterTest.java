@@ -0,0 +1,204 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Recording;
+import mockit.Delegate;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BulkDeleterTest {
+
+    private static final String GONE = "RE404";
+    private static final String FORBIDDEN = "RE403";
+    private static final String FLAKY = "RE503";
+
+    private static final Function<String, Deleter<Recording>> RECORDINGS = new Function<String, Deleter<Recording>>() {
+        @Override
+        public Deleter<Recording> apply(final String sid) {
+            return Recording.deleter(sid);
+        }
+    };
+
+    @Mocked
+    private TwilioRestClient twilioRestClient;
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private static Response error(final int status) {
+        return new Response(
+            "{\"code\": 20" + status + ",\"message\": \"Error\",\"more_info\": \"\",\"status\": " + status + "}", status
+        );
+    }
+
+    private ListenableFuture<Response> respond(final Request request) {
+        String url = request.getUrl();
+        String sid = url.substring(url.lastIndexOf('/') + 1, url.lastIndexOf(".json"));
+        AtomicInteger count = attempts.get(sid);
+        if (count == null) {
+            attempts.put(sid, count = new AtomicInteger());
+        }
+        count.incrementAndGet();
+
+        if (GONE.equals(sid)) {
+            return Futures.immediateFuture(error(404));
+        }
+
+        if (FORBIDDEN.equals(sid)) {
+            return Futures.immediateFuture(error(403));
+        }
+
+        if (FLAKY.equals(sid) && count.get() < 2) {
+            return Futures.immediateFuture(error(503));
+        }
+
+        int current = inFlight.incrementAndGet();
+        int max;
+        while (current > (max = maxInFlight.get()) && !maxInFlight.compareAndSet(max, current)) {
+            continue;
+        }
+        try {
+            Thread.sleep(5);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+
+        return Futures.immediateFuture(new Response("", 204));
+    }
+
+    private void expectRequests() {
+        new NonStrictExpectations() {{
+            twilioRestClient.getAccountSid();
+            result = "AC123";
+            twilioRestClient.getObjectMapper();
+            result = new ObjectMapper();
+            twilioRestClient.requestAsync((Request) any);
+            result = new Delegate<ListenableFuture<Response>>() {
+                ListenableFuture<Response> requestAsync(final Request request) {
+                    return respond(request);
+                }
+            };
+        }};
+    }
+
+    @Test
+    public void testDeletesAndReportsOutcomes() {
+        expectRequests();
+
+        List<String> sids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sids.add("RE" + (1000 + i));
+        }
+        sids.add(GONE);
+        sids.add(FORBIDDEN);
+        sids.add(FLAKY);
+
+        final List<String> deleted = Collections.synchronizedList(new ArrayList<String>());
+        final List<String> missing = Collections.synchronizedList(new ArrayList<String>());
+        final List<String> failed = Collections.synchronizedList(new ArrayList<String>());
+        BulkDeleter<Recording> deleter = new BulkDeleter.Builder<>(twilioRestClient, RECORDINGS)
+            .maxInFlight(4)
+            .retry(3, 1, 10)
+            .listener(new BulkDeleter.Listener() {
+                @Override
+                public void onDeleted(final String sid, final boolean existed) {
+                    (existed ? deleted : missing).add(sid);
+                }
+
+                @Override
+                public void onFailed(final String sid, final Throwable cause, final int attempts) {
+                    failed.add(sid + "/" + attempts);
+                }
+            })
+            .build();
+
+        BulkDeleter.Metrics metrics = deleter.delete(sids.iterator());
+
+        assertEquals(23, metrics.getSubmitted());
+        assertEquals(21, metrics.getDeleted());
+        assertEquals(1, metrics.getNotFound());
+        assertEquals(1, metrics.getFailed());
+        assertEquals(1, metrics.getRetried());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(21, deleted.size());
+        assertTrue(deleted.contains(FLAKY));
+        assertEquals(Collections.singletonList(GONE), missing);
+        assertEquals(Collections.singletonList(FORBIDDEN + "/1"), failed);
+        assertEquals(1, attempts.get(GONE).get());
+        assertTrue(maxInFlight.get() <= 4);
+    }
+
+    @Test
+    public void testPacesDeletes() {
+        expectRequests();
+
+        List<String> sids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            sids.add("RE" + (1000 + i));
+        }
+
+        BulkDeleter.Metrics metrics = new BulkDeleter.Builder<>(twilioRestClient, RECORDINGS)
+            .ratePerSecond(20)
+            .build()
+            .delete(sids, new Function<String, String>() {
+                @Override
+                public String apply(final String sid) {
+                    return sid;
+                }
+            });
+
+        assertEquals(6, metrics.getDeleted());
+        assertTrue(metrics.getElapsedMillis() >= 200);
+    }
+
+    @Test
+    public void testPacedRetriesDoNotBlockScheduler() {
+        expectRequests();
+
+        List<String> sids = new ArrayList<>();
+        sids.add(FLAKY);
+        for (int i = 0; i < 3; i++) {
+            sids.add("RE" + (1000 + i));
+        }
+
+        final List<Long> reported = Collections.synchronizedList(new ArrayList<Long>());
+        BulkDeleter.Metrics metrics = new BulkDeleter.Builder<>(twilioRestClient, RECORDINGS)
+            .ratePerSecond(2)
+            .retry(3, 1, 1)
+            .metricsInterval(50)
+            .listener(new BulkDeleter.Listener() {
+                @Override
+                public void onMetrics(final BulkDeleter.Metrics metrics) {
+                    reported.add(System.nanoTime() / 1000000L);
+                }
+            })
+            .build()
+            .delete(sids.iterator());
+
+        assertEquals(4, metrics.getDeleted());
+        assertEquals(1, metrics.getRetried());
+        assertTrue(metrics.getElapsedMillis() >= 1500);
+        for (int i = 1; i < reported.size(); i++) {
+            assertTrue(reported.get(i) - reported.get(i - 1) < 300);
+        }
+    }
+}
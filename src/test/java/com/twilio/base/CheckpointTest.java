@@ -0,0 +1,213 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class CheckpointTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final String KEY = "messages/export";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private Page<Message> page(final int index, final int pages) {
+        StringBuilder json = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"sid\": \"SM").append(index).append('_').append(i).append("\"}");
+        }
+        json.append("],\"page_size\": ").append(PAGE_SIZE)
+            .append(",\"uri\": \"/Messages.json?Page=").append(index).append("\",\"next_page_uri\": ")
+            .append(index + 1 < pages ? "\"/Messages.json?Page=" + (index + 1) + "\"" : "null")
+            .append('}');
+
+        Page<Message> page = Page.fromJson("messages", json.toString(), Message.class, mapper);
+        return page.withRequestUrl(page.getUrl("api", null));
+    }
+
+    @Test
+    public void testFileStore() throws Exception {
+        FileCheckpointStore store = new FileCheckpointStore(folder.getRoot().toPath().resolve("checkpoints"));
+        Assert.assertNull(store.load(KEY));
+
+        Checkpoint checkpoint = new Checkpoint("https://api.twilio.com/Messages.json?Page=3&PageToken=PA1", 300);
+        store.save(KEY, checkpoint);
+        Assert.assertEquals(checkpoint, store.load(KEY));
+
+        store.save(KEY, new Checkpoint("https://api.twilio.com/Messages.json?Page=4", 400));
+        Assert.assertEquals(400, store.load(KEY).getProcessed());
+
+        store.clear(KEY);
+        Assert.assertNull(store.load(KEY));
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() {
+        MemoryStore store = new MemoryStore();
+        PagedReader reader = new PagedReader(5);
+        reader.checkpoint(store, KEY, 2);
+
+        Iterator<Message> iterator = reader.resume(null).iterator();
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+        }
+
+        Assert.assertEquals(1, store.saves);
+        Assert.assertEquals(new Checkpoint("https://api.twilio.com/Messages.json?Page=2", 4), store.checkpoints.get(KEY));
+
+        List<String> sids = new ArrayList<>();
+        for (Message message : reader.resume(null)) {
+            sids.add(message.getSid());
+        }
+
+        Assert.assertEquals(6, sids.size());
+        Assert.assertEquals("SM2_0", sids.get(0));
+        Assert.assertEquals("SM4_1", sids.get(5));
+        Assert.assertNull(store.checkpoints.get(KEY));
+    }
+
+    @Test
+    public void testResumeWithinLimit() {
+        MemoryStore store = new MemoryStore();
+        store.checkpoints.put(KEY, new Checkpoint("https://api.twilio.com/Messages.json?Page=2", 4));
+
+        PagedReader reader = new PagedReader(5);
+        reader.limit(7).pageSize(PAGE_SIZE);
+        reader.checkpoint(store, KEY, 1);
+
+        ResourceSet<Message> set = reader.resume(null);
+        List<String> sids = new ArrayList<>();
+        for (Message message : set) {
+            sids.add(message.getSid());
+        }
+
+        Assert.assertEquals(3, sids.size());
+        Assert.assertEquals("SM3_0", sids.get(2));
+        Assert.assertEquals(1, reader.fetched);
+    }
+
+    @Test
+    public void testLimitKeepsCheckpoint() {
+        MemoryStore store = new MemoryStore();
+        PagedReader reader = new PagedReader(5);
+        reader.limit(5).pageSize(PAGE_SIZE);
+        reader.checkpoint(store, KEY, 1);
+
+        Iterator<Message> iterator = reader.read(null).iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        Assert.assertFalse(iterator.hasNext());
+
+        Assert.assertEquals(new Checkpoint("https://api.twilio.com/Messages.json?Page=2", 4), store.checkpoints.get(KEY));
+    }
+
+    @Test
+    public void testChunksClearCheckpointAfterLastPage() {
+        MemoryStore store = new MemoryStore();
+        PagedReader reader = new PagedReader(3);
+        reader.checkpoint(store, KEY, 1);
+
+        int records = 0;
+        for (List<Message> chunk : reader.read(null).chunks()) {
+            records += chunk.size();
+            if (records == PAGE_SIZE) {
+                Assert.assertNull(store.checkpoints.get(KEY));
+            }
+        }
+
+        Assert.assertEquals(6, records);
+        Assert.assertEquals(2, store.saves);
+        Assert.assertNull(store.checkpoints.get(KEY));
+
+        store.saves = 0;
+        reader.limit(4);
+        for (List<Message> chunk : reader.read(null).chunks()) {
+            Assert.assertFalse(chunk.isEmpty());
+        }
+
+        Assert.assertEquals(1, store.saves);
+        Assert.assertEquals(new Checkpoint("https://api.twilio.com/Messages.json?Page=1", 2), store.checkpoints.get(KEY));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResumeWithoutCheckpointing() {
+        new PagedReader(1).resume(null);
+    }
+
+    private static class MemoryStore implements CheckpointStore {
+        private final Map<String, Checkpoint> checkpoints = new HashMap<>();
+        private int saves;
+
+        @Override
+        public Checkpoint load(final String key) {
+            return checkpoints.get(key);
+        }
+
+        @Override
+        public void save(final String key, final Checkpoint checkpoint) {
+            saves++;
+            checkpoints.put(key, checkpoint);
+        }
+
+        @Override
+        public void clear(final String key) {
+            checkpoints.remove(key);
+        }
+    }
+
+    private class PagedReader extends Reader<Message> {
+        private final int pages;
+        private int fetched;
+
+        private PagedReader(final int pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public ResourceSet<Message> read(final TwilioRestClient client) {
+            return new ResourceSet<>(this, client, page(0, pages));
+        }
+
+        @Override
+        public Page<Message> getPage(final String targetUrl, final TwilioRestClient client) {
+            return page(Integer.parseInt(targetUrl.substring(targetUrl.lastIndexOf('=') + 1)), pages);
+        }
+
+        @Override
+        public Page<Message> nextPage(final Page<Message> page, final TwilioRestClient client) {
+            fetched++;
+            return getPage(page.getNextPageUrl("api", null), client);
+        }
+
+        @Override
+        public Page<Message> previousPage(final Page<Message> page, final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Request firstPageRequest(final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<Message> pageForResponse(final TwilioRestClient client, final Response response) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
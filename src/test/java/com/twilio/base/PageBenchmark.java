@@ -0,0 +1,124 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the tree based page deserializer with the streaming one on 1000 record pages.
+ *
+ * <p>
+ *     Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.twilio.base.PageBenchmark}.
+ * </p>
+ */
+public class PageBenchmark {
+
+    private static final int RECORDS = 1000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"api_version\": \"2010-04-01\","
+        + "\"body\": \"O Slash: \\u00d8, PoP: \\ud83d\\udca9\",\"date_created\": \"Fri, 04 Sep 2015 22:54:39 +0000\","
+        + "\"date_sent\": \"Fri, 04 Sep 2015 22:54:41 +0000\",\"date_updated\": \"Fri, 04 Sep 2015 22:54:41 +0000\","
+        + "\"direction\": \"outbound-api\",\"error_code\": null,\"error_message\": null,\"from\": \"+14155552345\","
+        + "\"messaging_service_sid\": \"MGaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"num_media\": \"0\",\"num_segments\": \"1\","
+        + "\"price\": \"-0.00750\",\"price_unit\": \"USD\",\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\","
+        + "\"subresource_uris\": {\"media\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/"
+        + "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Media.json\"},\"to\": \"+14155552345\",\"uri\": \"/2010-04-01/Accounts/"
+        + "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+
+    private static final String CALL = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"annotation\": null,"
+        + "\"answered_by\": null,\"api_version\": \"2010-04-01\",\"caller_name\": null,"
+        + "\"date_created\": \"Fri, 18 Oct 2013 17:00:00 +0000\",\"date_updated\": \"Fri, 18 Oct 2013 17:01:00 +0000\","
+        + "\"direction\": \"outbound-api\",\"duration\": \"4\",\"end_time\": \"Fri, 18 Oct 2013 17:03:00 +0000\","
+        + "\"forwarded_from\": null,\"from\": \"+13051416799\",\"from_formatted\": \"(305) 141-6799\",\"group_sid\": null,"
+        + "\"parent_call_sid\": null,\"phone_number_sid\": \"PNaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"price\": \"-0.200\","
+        + "\"price_unit\": \"USD\",\"sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"start_time\": \"Fri, 18 Oct 2013 17:02:00 +0000\","
+        + "\"status\": \"completed\",\"subresource_uris\": {\"notifications\": \"/Notifications.json\","
+        + "\"recordings\": \"/Recordings.json\"},\"to\": \"+13051913581\",\"to_formatted\": \"(305) 191-3581\","
+        + "\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls/CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+
+    private PageBenchmark() {}
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args unused
+     * @throws IOException if the legacy path fails to parse
+     */
+    public static void main(final String[] args) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+
+        run("messages", page("messages", MESSAGE), Message.class, mapper);
+        run("calls", page("calls", CALL), Call.class, mapper);
+    }
+
+    private static <T> void run(
+        final String key,
+        final String json,
+        final Class<T> type,
+        final ObjectMapper mapper
+    ) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            treePage(key, json, type, mapper);
+            Page.fromJson(key, json, type, mapper);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            treePage(key, json, type, mapper);
+        }
+        long tree = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Page.fromJson(key, json, type, mapper);
+        }
+        long streaming = System.nanoTime() - start;
+
+        System.out.println(String.format(
+            "%s: tree %.2f ms/page, streaming %.2f ms/page",
+            key,
+            tree / 1e6 / ITERATIONS,
+            streaming / 1e6 / ITERATIONS
+        ));
+    }
+
+    /**
+     * The previous deserialization path: parse to a tree, then re-serialize and re-parse every record.
+     */
+    private static <T> List<T> treePage(
+        final String key,
+        final String json,
+        final Class<T> type,
+        final ObjectMapper mapper
+    ) throws IOException {
+        List<T> results = new ArrayList<>();
+        JsonNode root = mapper.readTree(json);
+        for (final JsonNode record : root.get(key)) {
+            results.add(mapper.readValue(record.toString(), type));
+        }
+        return results;
+    }
+
+    private static String page(final String key, final String record) {
+        StringBuilder builder = new StringBuilder("{\"first_page_uri\": \"/2010-04-01/Accounts/AC/List.json?Page=0\",\"");
+        builder.append(key).append("\": [");
+        for (int i = 0; i < RECORDS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(record);
+        }
+        builder.append("],\"next_page_uri\": \"/2010-04-01/Accounts/AC/List.json?Page=1\",\"page\": 0,\"page_size\": ")
+            .append(RECORDS)
+            .append(",\"previous_page_uri\": null,\"uri\": \"/2010-04-01/Accounts/AC/List.json?Page=0\"}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.chat.v2.Service;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class PageTest {
+
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"body\": \"O Slash: \\u00d8\","
+        + "\"date_created\": \"Fri, 04 Sep 2015 22:54:39 +0000\",\"direction\": \"outbound-api\",\"error_code\": null,"
+        + "\"price\": \"-0.00750\",\"price_unit\": \"USD\",\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\","
+        + "\"subresource_uris\": {\"media\": \"/Media.json\"},\"to\": \"+14155552345\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testPage() {
+        String json = "{\"first_page_uri\": \"/Messages.json?Page=0\",\"messages\": [" + MESSAGE + "," + MESSAGE + "],"
+            + "\"next_page_uri\": \"/Messages.json?Page=1\",\"page\": 0,\"page_size\": 2,\"previous_page_uri\": null,"
+            + "\"uri\": \"/Messages.json?Page=0\"}";
+
+        Page<Message> page = Page.fromJson("messages", json, Message.class, mapper);
+
+        Assert.assertEquals(2, page.getRecords().size());
+        Assert.assertEquals("SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", page.getRecords().get(1).getSid());
+        Assert.assertEquals("O Slash: \u00d8", page.getRecords().get(0).getBody());
+        Assert.assertEquals(2, page.getPageSize());
+        Assert.assertTrue(page.hasNextPage());
+        Assert.assertEquals("https://api.twilio.com/Messages.json?Page=1", page.getNextPageUrl("api", null));
+        Assert.assertEquals("https://api.twilio.com/Messages.json?Page=0", page.getFirstPageUrl("api", null));
+        Assert.assertEquals("https://api.twilio.com/Messages.json?Page=0", page.getUrl("api", null));
+    }
+
+    @Test
+    public void testPageMetadataAfterRecords() {
+        String json = "{\"messages\": [" + MESSAGE + "],\"end\": {\"nested\": [1, 2]},\"next_page_uri\": null,"
+            + "\"uri\": \"/Messages.json?Page=0\"}";
+
+        Page<Message> page = Page.fromJson("messages", json, Message.class, mapper);
+
+        Assert.assertEquals(1, page.getRecords().size());
+        Assert.assertEquals(1, page.getPageSize());
+        Assert.assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void testNextGenPage() {
+        String json = "{\"services\": [],\"meta\": {\"first_page_url\": \"https://chat.twilio.com/v2/Services?Page=0\","
+            + "\"key\": \"services\",\"next_page_url\": \"https://chat.twilio.com/v2/Services?Page=1\",\"page\": 0,"
+            + "\"page_size\": 50,\"previous_page_url\": null,\"url\": \"https://chat.twilio.com/v2/Services?Page=0\"}}";
+
+        Page<Service> page = Page.fromJson("services", json, Service.class, mapper);
+
+        Assert.assertTrue(page.getRecords().isEmpty());
+        Assert.assertEquals(50, page.getPageSize());
+        Assert.assertTrue(page.hasNextPage());
+        Assert.assertEquals("https://chat.twilio.com/v2/Services?Page=1", page.getNextPageUrl("chat", null));
+        Assert.assertEquals("https://chat.twilio.com/v2/Services?Page=0", page.getUrl("chat", null));
+    }
+
+    @Test
+    public void testPageFromStream() {
+        String json = "{\"messages\": [" + MESSAGE + "],\"page_size\": 50,\"uri\": \"/Messages.json\"}";
+        InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+        Page<Message> page = Page.fromJson("messages", stream, Message.class, mapper);
+
+        Assert.assertEquals(1, page.getRecords().size());
+        Assert.assertEquals(50, page.getPageSize());
+    }
+
+    @Test(expected = ApiConnectionException.class)
+    public void testInvalidPage() {
+        Page.fromJson("messages", "[]", Message.class, mapper);
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Range;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+public class PartitionedReaderTest {
+
+    private static final DateTime START = new DateTime(2017, 1, 1, 0, 0, DateTimeZone.UTC);
+    private static final DateTimeFormatter RFC_2822 = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z")
+        .withLocale(Locale.US);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static List<String> read(final PartitionedReader<Message> reader) {
+        List<String> sids = new ArrayList<>();
+        PartitionedReader.PartitionIterator<Message> iterator = reader.read(null);
+        while (iterator.hasNext()) {
+            sids.add(iterator.next().getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testSplit() {
+        List<Range<DateTime>> ranges = new MinuteReader(20).partitions(4).split();
+
+        Assert.assertEquals(4, ranges.size());
+        Assert.assertEquals(Range.closed(START.plusMinutes(15), START.plusMinutes(20)), ranges.get(0));
+        Assert.assertEquals(Range.closed(START, START.plusMinutes(5)), ranges.get(3));
+    }
+
+    @Test
+    public void testOrderedWithoutDuplicates() {
+        List<String> sids = read(new MinuteReader(20).partitions(4).parallelism(2).ordered(true).bufferSize(2));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 19; i >= 0; i--) {
+            expected.add("SM" + i);
+        }
+        Assert.assertEquals(expected, sids);
+    }
+
+    @Test
+    public void testUnorderedWithoutDuplicates() {
+        List<String> sids = read(new MinuteReader(20).partitions(5).parallelism(5));
+
+        Assert.assertEquals(20, sids.size());
+        Assert.assertEquals(20, new HashSet<>(sids).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnboundedRange() {
+        new MinuteReader(Range.atLeast(START));
+    }
+
+    @Test(expected = ApiException.class)
+    public void testPartitionFailure() {
+        MinuteReader reader = new MinuteReader(20);
+        reader.fail = true;
+        read(reader.partitions(2).ordered(true));
+    }
+
+    private static int readerThreads() {
+        int count = 0;
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("twilio-partitioned-reader-")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void awaitNoReaderThreads() throws InterruptedException {
+        for (int i = 0; i < 100 && readerThreads() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(0, readerThreads());
+    }
+
+    @Test
+    public void testCloseStopsReadsBlockedOnFullBuffer() throws InterruptedException {
+        PartitionedReader.PartitionIterator<Message> iterator =
+            new MinuteReader(20).partitions(2).parallelism(2).bufferSize(1).read(null);
+        Assert.assertTrue(iterator.hasNext());
+
+        iterator.close();
+        awaitNoReaderThreads();
+    }
+
+    @Test
+    public void testDiscardedIteratorStopsReads() throws InterruptedException {
+        PartitionedReader.PartitionIterator<Message> iterator =
+            new MinuteReader(20).partitions(2).parallelism(2).bufferSize(1).read(null);
+        Assert.assertTrue(iterator.hasNext());
+
+        iterator = null;
+        awaitNoReaderThreads();
+    }
+
+    private class MinuteReader extends PartitionedReader<Message> {
+        private final int minutes;
+        private volatile boolean fail;
+
+        private MinuteReader(final int minutes) {
+            super(Range.closed(START, START.plusMinutes(minutes)));
+            this.minutes = minutes;
+        }
+
+        private MinuteReader(final Range<DateTime> range) {
+            super(range);
+            this.minutes = 0;
+        }
+
+        @Override
+        protected Reader<Message> reader(final Range<DateTime> partition) {
+            StringBuilder json = new StringBuilder("{\"messages\": [");
+            boolean first = true;
+            for (int i = minutes - 1; i >= 0; i--) {
+                DateTime date = START.plusMinutes(i);
+                if (partition.contains(date)) {
+                    json.append(first ? "" : ",").append("{\"sid\": \"SM").append(i).append("\",\"date_sent\": \"")
+                        .append(RFC_2822.print(date)).append("\"}");
+                    first = false;
+                }
+            }
+            json.append("],\"uri\": \"/Messages.json\",\"next_page_uri\": null}");
+
+            final Page<Message> page = Page.fromJson("messages", json.toString(), Message.class, mapper);
+            final boolean failing = fail && partition.lowerEndpoint().equals(START);
+
+            return new Reader<Message>() {
+                @Override
+                public ResourceSet<Message> read(final TwilioRestClient client) {
+                    if (failing) {
+                        throw new ApiException("Partition failed");
+                    }
+                    return new ResourceSet<>(this, client, page);
+                }
+
+                @Override
+                public Page<Message> getPage(final String targetUrl, final TwilioRestClient client) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Page<Message> nextPage(final Page<Message> page, final TwilioRestClient client) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Page<Message> previousPage(final Page<Message> page, final TwilioRestClient client) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                protected Request firstPageRequest(final TwilioRestClient client) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                protected Page<Message> pageForResponse(final TwilioRestClient client, final Response response) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        protected DateTime dateOf(final Message record) {
+            return record.getDateSent();
+        }
+
+        @Override
+        protected String sidOf(final Message record) {
+            return record.getSid();
+        }
+    }
+}
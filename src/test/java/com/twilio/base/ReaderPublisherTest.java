@@ -0,0 +1,237 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ReaderPublisherTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private Page<Message> page(final int index, final int pages) {
+        StringBuilder json = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"sid\": \"SM").append(index).append('_').append(i).append("\"}");
+        }
+        json.append("],\"page_size\": ").append(PAGE_SIZE)
+            .append(",\"uri\": \"/Messages.json?Page=").append(index).append("\",\"next_page_uri\": ")
+            .append(index + 1 < pages ? "\"/Messages.json?Page=" + (index + 1) + "\"" : "null")
+            .append('}');
+        return Page.fromJson("messages", json.toString(), Message.class, mapper);
+    }
+
+    private ReaderPublisher<Message> publisher(final PagedReader reader) {
+        return new ReaderPublisher<>(reader, null, MoreExecutors.sameThreadExecutor());
+    }
+
+    @Test
+    public void testFetchesOnDemand() {
+        PagedReader reader = new PagedReader(3);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader).subscribe(subscriber);
+
+        Assert.assertEquals(0, reader.fetched);
+
+        subscriber.subscription.request(1);
+        Assert.assertEquals(1, reader.fetched);
+        Assert.assertEquals(1, subscriber.sids.size());
+
+        subscriber.subscription.request(1);
+        Assert.assertEquals(1, reader.fetched);
+        Assert.assertEquals(2, subscriber.sids.size());
+
+        subscriber.subscription.request(1);
+        Assert.assertEquals(2, reader.fetched);
+        Assert.assertEquals("SM1_0", subscriber.sids.get(2));
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testUnboundedDemand() {
+        PagedReader reader = new PagedReader(3);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        Assert.assertEquals(6, subscriber.sids.size());
+        Assert.assertEquals("SM2_1", subscriber.sids.get(5));
+        Assert.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testCancel() {
+        PagedReader reader = new PagedReader(3);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        subscriber.cancelAfter = 3;
+        publisher(reader).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(10);
+
+        Assert.assertEquals(3, subscriber.sids.size());
+        Assert.assertEquals(2, reader.fetched);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testLimit() {
+        PagedReader reader = new PagedReader(3);
+        reader.limit(3).pageSize(PAGE_SIZE);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader).subscribe(subscriber);
+
+        subscriber.subscription.request(100);
+
+        Assert.assertEquals(3, subscriber.sids.size());
+        Assert.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(new PagedReader(3)).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testFetchError() {
+        PagedReader reader = new PagedReader(3);
+        reader.failAt = 1;
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(reader).subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+
+        Assert.assertEquals(2, subscriber.sids.size());
+        Assert.assertTrue(subscriber.error instanceof ApiException);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testFetchesOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch done = new CountDownLatch(1);
+            RecordingSubscriber subscriber = new RecordingSubscriber() {
+                @Override
+                public void onComplete() {
+                    super.onComplete();
+                    done.countDown();
+                }
+            };
+            new ReaderPublisher<>(new PagedReader(5), null, executor).subscribe(subscriber);
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(10, subscriber.sids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Message> {
+        private final List<String> sids = new ArrayList<>();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+        private int cancelAfter = -1;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final Message message) {
+            sids.add(message.getSid());
+            if (sids.size() == cancelAfter) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private class PagedReader extends Reader<Message> {
+        private final int pages;
+        private int fetched;
+        private int failAt = -1;
+
+        private PagedReader(final int pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public ResourceSet<Message> read(final TwilioRestClient client) {
+            return new ResourceSet<>(this, client, firstPage(client));
+        }
+
+        @Override
+        public Page<Message> firstPage(final TwilioRestClient client) {
+            fetched++;
+            return page(0, pages);
+        }
+
+        @Override
+        public Page<Message> getPage(final String targetUrl, final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Message> nextPage(final Page<Message> page, final TwilioRestClient client) {
+            String url = page.getNextPageUrl("api", null);
+            int index = Integer.parseInt(url.substring(url.lastIndexOf('=') + 1));
+            if (index == failAt) {
+                throw new ApiException("Page " + index + " failed");
+            }
+
+            fetched++;
+            return page(index, pages);
+        }
+
+        @Override
+        public Page<Message> previousPage(final Page<Message> page, final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Request firstPageRequest(final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<Message> pageForResponse(final TwilioRestClient client, final Response response) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -89,4 +89,32 @@ public class ReaderTest {
         Assert.assertEquals(3, set.getPageLimit());
     }
 
+
+    @Test
+    public void testReadAsyncRunsReadersWithoutRequestHooks(@Mocked final TwilioRestClient client,
+                                                            @Mocked final ResourceSet<Call> set) throws Exception {
+        Reader<Call> reader = new Reader<Call>() {
+            @Override
+            public ResourceSet<Call> read(final TwilioRestClient client) {
+                return set;
+            }
+
+            @Override
+            public Page<Call> getPage(final String targetUrl, final TwilioRestClient client) {
+                return null;
+            }
+
+            @Override
+            public Page<Call> nextPage(final Page<Call> page, final TwilioRestClient client) {
+                return null;
+            }
+
+            @Override
+            public Page<Call> previousPage(final Page<Call> page, final TwilioRestClient client) {
+                return null;
+            }
+        };
+
+        Assert.assertSame(set, reader.readAsync(client).get());
+    }
 }
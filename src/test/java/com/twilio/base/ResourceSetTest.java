@@ -0,0 +1,246 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceSetTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ListeningExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(2));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Page<Message> page(final int index, final int pages) {
+        StringBuilder json = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"sid\": \"SM").append(index).append('_').append(i).append("\"}");
+        }
+        json.append("],\"page_size\": ").append(PAGE_SIZE)
+            .append(",\"uri\": \"/Messages.json?Page=").append(index).append("\",\"next_page_uri\": ")
+            .append(index + 1 < pages ? "\"/Messages.json?Page=" + (index + 1) + "\"" : "null")
+            .append('}');
+        return Page.fromJson("messages", json.toString(), Message.class, mapper);
+    }
+
+    private static List<String> sids(final Iterable<Message> messages) {
+        List<String> sids = new ArrayList<>();
+        for (Message message : messages) {
+            sids.add(message.getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testPrefetchReadsAllPagesInOrder() {
+        PagedReader reader = new PagedReader(5);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 5)).setPrefetch(2, executor);
+
+        List<String> sids = sids(set);
+
+        Assert.assertEquals(10, sids.size());
+        Assert.assertEquals("SM0_0", sids.get(0));
+        Assert.assertEquals("SM2_1", sids.get(5));
+        Assert.assertEquals("SM4_1", sids.get(9));
+        Assert.assertEquals(4, reader.fetched);
+    }
+
+    @Test
+    public void testPrefetchBeforeConsuming() throws InterruptedException {
+        PagedReader reader = new PagedReader(10);
+        new ResourceSet<>(reader, null, page(0, 10)).setPrefetch(3, executor);
+
+        Assert.assertTrue(reader.fetches.tryAcquire(3, 5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        Assert.assertEquals(3, reader.fetched);
+    }
+
+    @Test
+    public void testPrefetchConfiguredOnReader() {
+        PagedReader reader = new PagedReader(3);
+        reader.prefetch(1);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 3));
+
+        Assert.assertEquals(1, set.getPrefetch());
+        Assert.assertEquals(6, sids(set).size());
+    }
+
+    @Test
+    public void testPrefetchStaysWithinLimit() throws InterruptedException {
+        PagedReader reader = new PagedReader(10);
+        reader.limit(5).pageSize(PAGE_SIZE);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 10)).setPrefetch(4, executor);
+
+        Assert.assertEquals(5, sids(set).size());
+        Thread.sleep(100);
+        Assert.assertEquals(2, reader.fetched);
+    }
+
+    @Test
+    public void testPrefetchResumesWhenAutoPagingTurnedBackOn() {
+        PagedReader reader = new PagedReader(4);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 4)).setPrefetch(2, executor);
+
+        set.setAutoPaging(false);
+        set.setAutoPaging(true);
+
+        List<String> sids = sids(set);
+        Assert.assertEquals(8, sids.size());
+        Assert.assertEquals("SM1_0", sids.get(2));
+        Assert.assertEquals("SM3_1", sids.get(7));
+    }
+
+    @Test(expected = ApiException.class)
+    public void testPrefetchFailure() {
+        PagedReader reader = new PagedReader(3);
+        reader.failAt = 2;
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 3)).setPrefetch(2, executor);
+
+        sids(set);
+    }
+
+    @Test
+    public void testStreamShortCircuits() {
+        PagedReader reader = new PagedReader(5);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 5));
+
+        Assert.assertTrue(set.stream().anyMatch(new Predicate<Message>() {
+            @Override
+            public boolean apply(final Message message) {
+                return "SM1_0".equals(message.getSid());
+            }
+        }));
+        Assert.assertEquals(1, reader.fetched);
+    }
+
+    @Test
+    public void testStreamLimit() {
+        PagedReader reader = new PagedReader(5);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 5));
+
+        Assert.assertEquals(3, set.stream().limit(3).size());
+        Assert.assertEquals(1, reader.fetched);
+    }
+
+    @Test
+    public void testChunksStayWithinLimit() {
+        PagedReader reader = new PagedReader(5);
+        reader.limit(5).pageSize(PAGE_SIZE);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 5));
+
+        List<Integer> sizes = new ArrayList<>();
+        for (List<Message> chunk : set.chunks()) {
+            sizes.add(chunk.size());
+        }
+
+        Assert.assertEquals(Arrays.asList(2, 2, 1), sizes);
+        Assert.assertEquals(2, reader.fetched);
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() {
+        PagedReader reader = new PagedReader(6);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 6));
+
+        List<String> sids = set.parallelStream(new Function<Message, String>() {
+            @Override
+            public String apply(final Message message) {
+                return message.getSid();
+            }
+        }, executor, 3).toList();
+
+        Assert.assertEquals(12, sids.size());
+        Assert.assertEquals("SM0_0", sids.get(0));
+        Assert.assertEquals("SM3_1", sids.get(7));
+        Assert.assertEquals("SM5_1", sids.get(11));
+    }
+
+    @Test
+    public void testEstimateSize() {
+        PagedReader reader = new PagedReader(5);
+        Assert.assertEquals(Long.MAX_VALUE, new ResourceSet<>(reader, null, page(0, 5)).estimateSize());
+        Assert.assertEquals(2, new ResourceSet<>(reader, null, page(4, 5)).estimateSize());
+
+        reader.limit(7).pageSize(PAGE_SIZE);
+        ResourceSet<Message> set = new ResourceSet<>(reader, null, page(0, 5));
+        set.iterator().next();
+        Assert.assertEquals(6, set.estimateSize());
+    }
+
+    private class PagedReader extends Reader<Message> {
+        private final int pages;
+        private final Semaphore fetches = new Semaphore(0);
+        private volatile int fetched;
+        private volatile int failAt = -1;
+
+        private PagedReader(final int pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public ResourceSet<Message> read(final TwilioRestClient client) {
+            return new ResourceSet<>(this, client, page(0, pages));
+        }
+
+        @Override
+        public Page<Message> getPage(final String targetUrl, final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized Page<Message> nextPage(final Page<Message> page, final TwilioRestClient client) {
+            String url = page.getNextPageUrl("api", null);
+            int index = Integer.parseInt(url.substring(url.lastIndexOf('=') + 1));
+            if (index == failAt) {
+                throw new ApiException("Page " + index + " failed");
+            }
+
+            fetched++;
+            fetches.release();
+            return page(index, pages);
+        }
+
+        @Override
+        public Page<Message> previousPage(final Page<Message> page, final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Request firstPageRequest(final TwilioRestClient client) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<Message> pageForResponse(final TwilioRestClient client, final Response response) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.exception.ApiException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncHttpClientTest {
+
+    private static class QueuedAsyncHttpClient extends AsyncHttpClient {
+        private final Queue<ListenableFuture<Response>> responses;
+        private int requests;
+
+        @SafeVarargs
+        QueuedAsyncHttpClient(final ListenableFuture<Response>... responses) {
+            this.responses = new ArrayDeque<>(Arrays.asList(responses));
+        }
+
+        @Override
+        public ListenableFuture<Response> makeRequestAsync(final Request request) {
+            requests++;
+            return responses.remove();
+        }
+    }
+
+    @Test
+    public void testReliableRequestAsync() throws Exception {
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.immediateFuture(new Response("{}", TwilioRestClient.HTTP_STATUS_CODE_OK))
+        );
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, "/uri")).get();
+
+        assertEquals(TwilioRestClient.HTTP_STATUS_CODE_OK, response.getStatusCode());
+        assertEquals(1, client.requests);
+    }
+
+    @Test
+    public void testReliableRequestAsyncRetriesServerErrors() throws Exception {
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.immediateFuture(new Response("", 500)),
+            Futures.immediateFuture(new Response("", 503)),
+            Futures.immediateFuture(new Response("{}", TwilioRestClient.HTTP_STATUS_CODE_CREATED))
+        );
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, "/uri")).get();
+
+        assertEquals(TwilioRestClient.HTTP_STATUS_CODE_CREATED, response.getStatusCode());
+        assertEquals(3, client.requests);
+    }
+
+    @Test
+    public void testReliableRequestAsyncStopsAfterRetries() throws Exception {
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.immediateFuture(new Response("", 500)),
+            Futures.immediateFuture(new Response("", 500)),
+            Futures.immediateFuture(new Response("", 502))
+        );
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, "/uri")).get();
+
+        assertEquals(502, response.getStatusCode());
+        assertEquals(3, client.requests);
+    }
+
+    @Test
+    public void testReliableRequestAsyncFailure() throws InterruptedException {
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.<Response>immediateFailedFuture(new ApiException("connection refused"))
+        );
+
+        try {
+            client.reliableRequestAsync(new Request(HttpMethod.GET, "/uri")).get();
+            fail("ExecutionException was expected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+    }
+
+    @Test
+    public void testRestClientDefaultsToNonBlockingClient() throws Exception {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN").build();
+        assertTrue(client.getAsyncHttpClient() instanceof NetworkAsyncHttpClient);
+        ((NetworkAsyncHttpClient) client.getAsyncHttpClient()).close();
+
+        TwilioRestClient custom = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(new NetworkHttpClient())
+            .build();
+        assertNull(custom.getAsyncHttpClient());
+    }
+
+    @Test
+    public void testRateLimiterSeesEveryAsyncAttempt() throws Exception {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(100).decreaseInterval(0).build();
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.immediateFuture(new Response("", 429)),
+            Futures.immediateFuture(new Response("", 429)),
+            Futures.immediateFuture(new Response("{}", TwilioRestClient.HTTP_STATUS_CODE_OK))
+        );
+        Request request = new Request(HttpMethod.GET, "https://api.twilio.com/uri");
+
+        RetryPolicy policy = new RetryPolicy.Builder().backoff(0, 0).build();
+        Response response = client.reliableRequestAsync(request, policy, limiter).get();
+
+        assertEquals(TwilioRestClient.HTTP_STATUS_CODE_OK, response.getStatusCode());
+        assertEquals(3, client.requests);
+        assertTrue(limiter.getRate(request) < 30);
+    }
+
+    @Test
+    public void testRetriesAsyncConnectionFailures() throws Exception {
+        ApiException reset = new ApiException("Connection reset", new IOException("Connection reset"));
+        QueuedAsyncHttpClient client = new QueuedAsyncHttpClient(
+            Futures.<Response>immediateFailedFuture(reset),
+            Futures.immediateFuture(new Response("{}", TwilioRestClient.HTTP_STATUS_CODE_OK))
+        );
+        RetryPolicy policy = new RetryPolicy.Builder().backoff(0, 0).build();
+
+        Response response = client.reliableRequestAsync(new Request(HttpMethod.GET, "/uri"), policy, null).get();
+        assertEquals(TwilioRestClient.HTTP_STATUS_CODE_OK, response.getStatusCode());
+        assertEquals(2, client.requests);
+
+        client = new QueuedAsyncHttpClient(
+            Futures.<Response>immediateFailedFuture(reset),
+            Futures.immediateFuture(new Response("{}", 201))
+        );
+        try {
+            client.reliableRequestAsync(new Request(HttpMethod.POST, "/uri"), policy, null).get();
+            fail("ExecutionException was expected");
+        } catch (final ExecutionException e) {
+            assertEquals(reset, e.getCause());
+        }
+        assertEquals(1, client.requests);
+    }
+}
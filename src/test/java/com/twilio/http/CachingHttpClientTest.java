@@ -0,0 +1,248 @@
+package com.twilio.http;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.twilio.rest.Domains;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CachingHttpClientTest {
+
+    private static final long TTL = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Http client answering from a queue of responses and recording the requests made.
+     */
+    private static class RecordingHttpClient extends HttpClient {
+        private final List<Request> requests = new ArrayList<>();
+        private final List<Response> responses = new ArrayList<>();
+
+        @Override
+        public Response makeRequest(final Request request) {
+            requests.add(request);
+            return responses.remove(0);
+        }
+    }
+
+    /**
+     * Ticker advanced by hand.
+     */
+    private static class ManualTicker extends Ticker {
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        private void advance(final long millis) {
+            nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+
+    private final RecordingHttpClient delegate = new RecordingHttpClient();
+    private final ManualTicker ticker = new ManualTicker();
+
+    private static Request get(final String domain, final String uri) {
+        Request request = new Request(HttpMethod.GET, domain, uri);
+        request.setAuth("AC123", "AUTH TOKEN");
+        return request;
+    }
+
+    private static Response ok(final String content, final Map<String, String> headers) {
+        return new Response(content, 200, headers);
+    }
+
+    private CachingHttpClient.Builder builder() {
+        return new CachingHttpClient.Builder(delegate)
+            .ttl(Domains.PRICING.toString(), "/v1/", TTL)
+            .ticker(ticker);
+    }
+
+    @Test
+    public void testServesFreshResponsesFromCache() {
+        CachingHttpClient client = builder().build();
+        delegate.responses.add(ok("{\"country\": \"US\"}", Collections.<String, String>emptyMap()));
+
+        Request request = get(Domains.PRICING.toString(), "/v1/Voice/Countries/US");
+        assertEquals("{\"country\": \"US\"}", client.makeRequest(request).getContent());
+        ticker.advance(TTL - 1);
+        assertEquals("{\"country\": \"US\"}", client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/US"))
+            .getContent());
+
+        assertEquals(1, delegate.requests.size());
+        assertEquals(1, client.getHits());
+        assertEquals(1, client.getMisses());
+    }
+
+    @Test
+    public void testOnlyCachesRequestsMatchingRules() {
+        CachingHttpClient client = builder().build();
+        for (int i = 0; i < 4; i++) {
+            delegate.responses.add(ok("{}", Collections.<String, String>emptyMap()));
+        }
+
+        client.makeRequest(get(Domains.API.toString(), "/2010-04-01/Accounts/AC123.json"));
+        client.makeRequest(get(Domains.API.toString(), "/2010-04-01/Accounts/AC123.json"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v2/Voice/Countries/US"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v2/Voice/Countries/US"));
+
+        assertEquals(4, delegate.requests.size());
+        assertEquals(0, client.getSize());
+    }
+
+    @Test
+    public void testKeysIncludeQueryParamsAndCredentials() {
+        CachingHttpClient client = builder().build();
+        for (int i = 0; i < 3; i++) {
+            delegate.responses.add(ok("{}", Collections.<String, String>emptyMap()));
+        }
+
+        Request request = get(Domains.PRICING.toString(), "/v1/Voice/Countries");
+        client.makeRequest(request);
+
+        Request paged = get(Domains.PRICING.toString(), "/v1/Voice/Countries");
+        paged.addQueryParam("PageSize", "50");
+        client.makeRequest(paged);
+
+        Request subaccount = get(Domains.PRICING.toString(), "/v1/Voice/Countries");
+        subaccount.setAuth("AC456", "OTHER TOKEN");
+        client.makeRequest(subaccount);
+
+        assertEquals(3, delegate.requests.size());
+        assertEquals(3, client.getSize());
+    }
+
+    @Test
+    public void testRevalidatesStaleResponses() {
+        CachingHttpClient client = builder().build();
+        delegate.responses.add(ok("{\"v\": 1}", ImmutableMap.of("ETag", "\"v1\"")));
+        delegate.responses.add(new Response("", 304));
+        delegate.responses.add(ok("{\"v\": 2}", ImmutableMap.of("ETag", "\"v2\"")));
+
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/PhoneNumbers/Countries/US"));
+        ticker.advance(TTL);
+        assertEquals("{\"v\": 1}", client.makeRequest(get(Domains.PRICING.toString(), "/v1/PhoneNumbers/Countries/US"))
+            .getContent());
+        assertEquals("\"v1\"", delegate.requests.get(1).getHeaders().get("If-None-Match"));
+        assertEquals("AC123", delegate.requests.get(1).getUsername());
+
+        ticker.advance(TTL - 1);
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/PhoneNumbers/Countries/US"));
+        assertEquals(2, delegate.requests.size());
+
+        ticker.advance(1);
+        assertEquals("{\"v\": 2}", client.makeRequest(get(Domains.PRICING.toString(), "/v1/PhoneNumbers/Countries/US"))
+            .getContent());
+        assertEquals(3, delegate.requests.size());
+        assertEquals(1, client.getRevalidations());
+    }
+
+    @Test
+    public void testDoesNotCacheErrorsOrNoStore() {
+        CachingHttpClient client = builder().build();
+        delegate.responses.add(new Response("{}", 404));
+        delegate.responses.add(ok("{}", ImmutableMap.of("Cache-Control", "no-store")));
+
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/XX"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/XX"));
+
+        assertEquals(0, client.getSize());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        CachingHttpClient client = builder().maxEntries(2).build();
+        for (int i = 0; i < 4; i++) {
+            delegate.responses.add(ok("{}", Collections.<String, String>emptyMap()));
+        }
+
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/US"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/CA"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/US"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/GB"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/US"));
+        client.makeRequest(get(Domains.PRICING.toString(), "/v1/Voice/Countries/CA"));
+
+        assertEquals(4, delegate.requests.size());
+        assertEquals(2, client.getEvictions());
+        assertEquals(2, client.getSize());
+    }
+
+    @Test
+    public void testOtherMethodsInvalidateUrl() {
+        CachingHttpClient client = new CachingHttpClient.Builder(delegate).defaultTtl(TTL).ticker(ticker).build();
+        delegate.responses.add(ok("{\"friendly_name\": \"old\"}", Collections.<String, String>emptyMap()));
+        delegate.responses.add(ok("{\"friendly_name\": \"new\"}", Collections.<String, String>emptyMap()));
+        delegate.responses.add(ok("{\"friendly_name\": \"new\"}", Collections.<String, String>emptyMap()));
+
+        String uri = "/v1/Services/ISaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+        client.makeRequest(get(Domains.CHAT.toString(), uri));
+
+        Request update = new Request(HttpMethod.POST, Domains.CHAT.toString(), uri);
+        update.addPostParam("FriendlyName", "new");
+        client.makeRequest(update);
+
+        assertEquals("{\"friendly_name\": \"new\"}", client.makeRequest(get(Domains.CHAT.toString(), uri)).getContent());
+        assertEquals(3, delegate.requests.size());
+        assertNull(delegate.requests.get(2).getHeaders().get("If-None-Match"));
+    }
+
+    @Test
+    public void testOtherMethodsInvalidateCollection() {
+        CachingHttpClient client = new CachingHttpClient.Builder(delegate).defaultTtl(TTL).ticker(ticker).build();
+        delegate.responses.add(ok("{\"messages\": [{\"sid\": \"SM123\"}]}", Collections.<String, String>emptyMap()));
+        delegate.responses.add(new Response("", 204));
+        delegate.responses.add(ok("{\"messages\": []}", Collections.<String, String>emptyMap()));
+
+        String collection = "/2010-04-01/Accounts/AC123/Messages.json";
+        client.makeRequest(get(Domains.API.toString(), collection));
+        String message = "/2010-04-01/Accounts/AC123/Messages/SM123.json";
+        client.makeRequest(new Request(HttpMethod.DELETE, Domains.API.toString(), message));
+
+        assertEquals("{\"messages\": []}", client.makeRequest(get(Domains.API.toString(), collection)).getContent());
+        assertEquals(3, delegate.requests.size());
+    }
+
+    @Test
+    public void testOtherMethodsInvalidateFollowingPages() {
+        CachingHttpClient client = new CachingHttpClient.Builder(delegate).defaultTtl(TTL).ticker(ticker).build();
+        for (int i = 0; i < 4; i++) {
+            delegate.responses.add(ok("{\"messages\": []}", Collections.<String, String>emptyMap()));
+        }
+
+        String collection = "/2010-04-01/Accounts/AC123/Messages.json";
+        client.makeRequest(get(Domains.API.toString(), collection));
+        client.makeRequest(get(Domains.API.toString(), collection + "?PageSize=50&Page=1&PageToken=PASM123"));
+        client.makeRequest(get(Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json?Page=1"));
+        assertEquals(3, client.getSize());
+
+        String message = "/2010-04-01/Accounts/AC123/Messages/SM123.json";
+        client.makeRequest(new Request(HttpMethod.DELETE, Domains.API.toString(), message));
+        assertEquals(1, client.getSize());
+
+        client.invalidate("https://api.twilio.com/2010-04-01/Accounts/AC123/Calls.json?Page=2");
+        assertEquals(0, client.getSize());
+    }
+
+    @Test
+    public void testCollectionUrl() {
+        assertEquals(
+            "https://api.twilio.com/2010-04-01/Accounts/AC123/Messages.json",
+            CachingHttpClient.collectionUrl("https://api.twilio.com/2010-04-01/Accounts/AC123/Messages/SM123.json")
+        );
+        assertEquals(
+            "https://chat.twilio.com/v1/Services",
+            CachingHttpClient.collectionUrl("https://chat.twilio.com/v1/Services/ISaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa")
+        );
+        assertEquals("https://chat.twilio.com", CachingHttpClient.collectionUrl("https://chat.twilio.com"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.twilio.http;
+
+import com.twilio.rest.Domains;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectionPoolConfigTest {
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    private String target() {
+        return "http://" + server.getHostName() + ":" + server.getPort();
+    }
+
+    private static int evictorThreads() {
+        int count = 0;
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("Connection evictor")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testBuilderDefaults() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig.Builder().build();
+
+        assertEquals(20, config.getMaxTotal());
+        assertEquals(10, config.getDefaultMaxPerRoute());
+        assertTrue(config.getMaxPerHost().isEmpty());
+    }
+
+    @Test
+    public void testMaxPerDomain() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig.Builder()
+            .maxPerDomain(Domains.API, 50)
+            .maxPerDomain(Domains.API, "ie1", 5)
+            .build();
+
+        assertEquals(Integer.valueOf(50), config.getMaxPerHost().get("api.twilio.com"));
+        assertEquals(Integer.valueOf(5), config.getMaxPerHost().get("api.ie1.twilio.com"));
+    }
+
+    @Test
+    public void testStatsTrackLeases() {
+        server.enqueue(new MockResponse().setBody("one"));
+        server.enqueue(new MockResponse().setBody("two"));
+
+        NetworkHttpClient client = new NetworkHttpClient(
+            new ConnectionPoolConfig.Builder().maxTotal(4).defaultMaxPerRoute(2).build()
+        );
+
+        String url = server.url("/").toString();
+        assertEquals("one", client.makeRequest(new Request(HttpMethod.GET, url)).getContent());
+        assertEquals("two", client.makeRequest(new Request(HttpMethod.GET, url)).getContent());
+
+        ConnectionPoolStats total = client.getConnectionPoolStats();
+        assertEquals(2, total.getLeaseCount());
+        assertEquals(0, total.getLeased());
+        assertEquals(4, total.getMax());
+
+        Map<String, ConnectionPoolStats> routes = client.getConnectionPoolRouteStats();
+        ConnectionPoolStats route = routes.get(target());
+        assertNotNull(route);
+        assertEquals(2, route.getLeaseCount());
+        assertEquals(1, route.getAvailable());
+        assertEquals(2, route.getMax());
+    }
+
+    @Test
+    public void testMaxPerHostCapsConnections() throws Exception {
+        server.enqueue(new MockResponse().setBody("one"));
+        server.enqueue(new MockResponse().setBody("two"));
+
+        final NetworkHttpClient client = new NetworkHttpClient(
+            new ConnectionPoolConfig.Builder()
+                .maxTotal(10)
+                .defaultMaxPerRoute(5)
+                .maxPerHost(server.getHostName(), 1)
+                .build()
+        ).setStreaming(true);
+
+        final String url = server.url("/").toString();
+        Response first = client.makeRequest(new Request(HttpMethod.GET, url));
+        assertEquals(1, client.getConnectionPoolRouteStats().get(target()).getMax());
+
+        final Response[] second = new Response[1];
+        Thread waiting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                second[0] = client.makeRequest(new Request(HttpMethod.GET, url));
+            }
+        });
+        waiting.start();
+        waiting.join(500);
+
+        // The only connection allowed to the host is still held by the first response
+        assertTrue(waiting.isAlive());
+        assertEquals(1, client.getConnectionPoolRouteStats().get(target()).getPending());
+
+        assertEquals("one", first.getContent());
+        waiting.join(5000);
+        assertEquals("two", second[0].getContent());
+    }
+
+    @Test
+    public void testRouteStatsSeparateSchemes() {
+        server.enqueue(new MockResponse().setBody("one"));
+
+        NetworkHttpClient client = new NetworkHttpClient(new ConnectionPoolConfig.Builder().build());
+        client.makeRequest(new Request(HttpMethod.GET, server.url("/").toString()));
+
+        Map<String, ConnectionPoolStats> routes = client.getConnectionPoolRouteStats();
+        assertEquals(1, routes.size());
+        assertNotNull(routes.get(target()));
+        assertNull(routes.get("https://" + server.getHostName() + ":" + server.getPort()));
+    }
+
+    @Test
+    public void testCloseStopsIdleEvictor() throws Exception {
+        int before = evictorThreads();
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .connectionPoolConfig(new ConnectionPoolConfig.Builder().maxIdleMillis(60000).build())
+            .build();
+        assertEquals(before + 1, evictorThreads());
+
+        client.close();
+        for (int i = 0; i < 100 && evictorThreads() > before; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(before, evictorThreads());
+    }
+}
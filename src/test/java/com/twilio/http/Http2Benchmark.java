@@ -0,0 +1,119 @@
+package com.twilio.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compares request throughput of {@link Http2HttpClient} and {@link NetworkHttpClient} against a local server.
+ *
+ * <p>
+ *     Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.twilio.http.Http2Benchmark}.
+ * </p>
+ */
+public class Http2Benchmark {
+
+    private static final int[] CONCURRENCY = new int[]{50, 200, 1000};
+    private static final int REQUESTS_PER_THREAD = 5;
+    private static final long LATENCY_MILLIS = 20L;
+    private static final String BODY = "{\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\", \"status\": \"sent\"}";
+
+    private Http2Benchmark() {}
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args unused
+     * @throws Exception if the local servers fail
+     */
+    public static void main(final String[] args) throws Exception {
+        Logger.getLogger(MockWebServer.class.getName()).setLevel(Level.WARNING);
+
+        MockWebServer http2Server = server(Protocol.H2_PRIOR_KNOWLEDGE);
+        MockWebServer http11Server = server(Protocol.HTTP_1_1);
+
+        HttpClient http2Client = new Http2HttpClient(
+            new OkHttpClient.Builder().protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+        );
+        HttpClient networkClient = new NetworkHttpClient();
+
+        try {
+            for (final int concurrency : CONCURRENCY) {
+                run("http/2 ", http2Client, http2Server, concurrency);
+                run("http/1.1", networkClient, http11Server, concurrency);
+            }
+        } finally {
+            http2Server.shutdown();
+            http11Server.shutdown();
+        }
+    }
+
+    private static MockWebServer server(final Protocol protocol) throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.setProtocols(Collections.singletonList(protocol));
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                return new MockResponse()
+                    .setBody(BODY)
+                    .setHeadersDelay(LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static void run(
+        final String name,
+        final HttpClient client,
+        final MockWebServer server,
+        final int concurrency
+    ) throws Exception {
+        final String url = server.url("/2010-04-01/Accounts/AC123/Messages/SM123.json").toString();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        client.makeRequest(new Request(HttpMethod.GET, url)).getContent();
+                    }
+                    return null;
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (final Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        int requests = concurrency * REQUESTS_PER_THREAD;
+        System.out.println(String.format(
+            "%s concurrency %4d: %6.0f requests/s",
+            name,
+            concurrency,
+            requests / (elapsed / 1e9)
+        ));
+    }
+}
@@ -0,0 +1,112 @@
+package com.twilio.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class Http2HttpClientTest {
+
+    private final MockWebServer server = new MockWebServer();
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private HttpClient priorKnowledgeClient() {
+        server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        return new Http2HttpClient(
+            new OkHttpClient.Builder().protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+        );
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        HttpClient client = priorKnowledgeClient();
+        server.enqueue(new MockResponse().setBody("frobozz"));
+        server.start();
+
+        Request request = new Request(HttpMethod.GET, server.url("/uri").toString());
+        request.addQueryParam("PageSize", "50");
+        request.setAuth("AC123", "AUTH TOKEN");
+        Response response = client.makeRequest(request);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("frobozz", response.getContent());
+
+        RecordedRequest recorded = server.takeRequest();
+        assertEquals("GET", recorded.getMethod());
+        assertEquals("/uri?PageSize=50", recorded.getPath());
+        assertEquals(request.getAuthString(), recorded.getHeader("Authorization"));
+        assertEquals("application/json", recorded.getHeader("Accept"));
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        HttpClient client = priorKnowledgeClient();
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("{}"));
+        server.start();
+
+        Request request = new Request(HttpMethod.POST, server.url("/Messages.json").toString());
+        request.addPostParam("To", "+14155551234");
+        request.addPostParam("Body", "Hello world");
+        Response response = client.makeRequest(request);
+
+        assertEquals(201, response.getStatusCode());
+
+        RecordedRequest recorded = server.takeRequest();
+        assertEquals("POST", recorded.getMethod());
+        assertEquals("application/x-www-form-urlencoded", recorded.getHeader("Content-Type"));
+        assertEquals("To=%2B14155551234&Body=Hello%20world", recorded.getBody().readUtf8());
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        HttpClient client = priorKnowledgeClient();
+        server.enqueue(new MockResponse().setResponseCode(204));
+        server.start();
+
+        Response response = client.makeRequest(new Request(HttpMethod.DELETE, server.url("/uri").toString()));
+
+        assertEquals(204, response.getStatusCode());
+        assertEquals("", response.getContent());
+        assertEquals("DELETE", server.takeRequest().getMethod());
+    }
+
+    @Test
+    public void testReusesMultiplexedConnection() throws Exception {
+        HttpClient client = priorKnowledgeClient();
+        server.enqueue(new MockResponse().setBody("1"));
+        server.enqueue(new MockResponse().setBody("2"));
+        server.start();
+
+        client.makeRequest(new Request(HttpMethod.GET, server.url("/1").toString()));
+        client.makeRequest(new Request(HttpMethod.GET, server.url("/2").toString()));
+
+        server.takeRequest();
+        assertEquals(1, server.takeRequest().getSequenceNumber());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testFallsBackToHttp11() throws Exception {
+        HttpClient client = new Http2HttpClient();
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("womp"));
+        server.start();
+
+        Response response = client.makeRequest(new Request(HttpMethod.GET, server.url("/uri").toString()));
+
+        assertEquals(404, response.getStatusCode());
+        assertEquals("womp", response.getContent());
+        assertEquals("HTTP/1.1", server.takeRequest().getRequestLine().split(" ")[2]);
+    }
+}
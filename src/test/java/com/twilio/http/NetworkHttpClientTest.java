@@ -5,6 +5,7 @@ import mockit.Expectations;
 import mockit.Mocked;
 import mockit.NonStrictExpectations;
 import mockit.Tested;
+import mockit.Verifications;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
@@ -19,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -79,6 +81,9 @@ public class NetworkHttpClientTest {
                 result = "foo:bar";
             }
 
+            mockRequest.getHeaders();
+            result = Collections.emptyMap();
+
             if (method == HttpMethod.POST) {
                 mockRequest.getPostParams();
             }
@@ -104,6 +109,9 @@ public class NetworkHttpClientTest {
             mockStatusLine.getStatusCode();
             result = statusCode;
 
+            mockResponse.getAllHeaders();
+            result = new Header[0];
+
             mockResponse.getEntity();
             result = null;
         }};
@@ -120,6 +128,54 @@ public class NetworkHttpClientTest {
         assertEquals(resp.getContent(), "frobozz");
     }
 
+    @Test
+    public void testStreamingGet() throws IOException {
+        final InputStream stream = new ByteArrayInputStream("frobozz".getBytes("UTF-8"));
+
+        new NonStrictExpectations() {{
+            mockBuilder.setDefaultHeaders((Collection<Header>) any);
+            result = mockBuilder;
+
+            mockBuilder.build();
+            result = mockClient;
+
+            mockRequest.getMethod();
+            result = HttpMethod.GET;
+
+            mockRequest.constructURL();
+            result = mockUrl;
+
+            mockClient.execute((HttpUriRequest) any);
+            result = mockResponse;
+
+            mockResponse.getEntity();
+            result = mockEntity;
+
+            mockEntity.getContent();
+            result = stream;
+
+            mockResponse.getStatusLine();
+            result = mockStatusLine;
+
+            mockStatusLine.getStatusCode();
+            result = 200;
+        }};
+
+        client = new NetworkHttpClient(mockBuilder).setStreaming(true);
+        Response resp = client.makeRequest(mockRequest);
+
+        new Verifications() {{
+            mockResponse.close();
+            times = 0;
+
+            mockEntity.isRepeatable();
+            times = 0;
+        }};
+
+        assertEquals(resp.getStatusCode(), 200);
+        assertEquals(resp.getContent(), "frobozz");
+    }
+
     @Test(expected = ApiConnectionException.class)
     public void testMakeRequestIOException() throws IOException {
         new NonStrictExpectations() {{
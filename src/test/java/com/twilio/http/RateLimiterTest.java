@@ -0,0 +1,199 @@
+package com.twilio.http;
+
+import com.twilio.exception.RateLimitExceededException;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RateLimiterTest {
+
+    private static final String MESSAGES = "https://api.twilio.com/2010-04-01/Accounts/AC123/Messages.json";
+
+    private static Request message(final String from) {
+        Request request = new Request(HttpMethod.POST, MESSAGES);
+        request.addPostParam("From", from);
+        request.addPostParam("Body", "hello");
+        return request;
+    }
+
+    @Test
+    public void testKeyByAccountAndDomain() {
+        Request request = new Request(HttpMethod.GET, "https://api.twilio.com/2010-04-01/Accounts/AC123/Calls.json");
+        assertEquals("AC123|api.twilio.com|", RateLimiter.key(request));
+    }
+
+    @Test
+    public void testKeyFallsBackToUsername() {
+        Request request = new Request(HttpMethod.GET, "https://lookups.twilio.com/v1/PhoneNumbers/+15558675310");
+        request.setAuth("AC456", "token");
+        assertEquals("AC456|lookups.twilio.com|", RateLimiter.key(request));
+    }
+
+    @Test
+    public void testKeyBySender() {
+        assertEquals("AC123|api.twilio.com|+15558675310", RateLimiter.key(message("+15558675310")));
+
+        Request request = message("+15558675310");
+        request.addPostParam("MessagingServiceSid", "MG123");
+        assertEquals("AC123|api.twilio.com|MG123", RateLimiter.key(request));
+    }
+
+    @Test
+    public void testFailFast() {
+        // Senders also count against their account, whose rate is high enough not to interfere here
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(1e9).senderRatePerSecond(1).failFast().build();
+
+        limiter.acquire(message("+15558675310"));
+        assertTrue(limiter.tryAcquire(message("+15558675311")));
+        assertFalse(limiter.tryAcquire(message("+15558675310")));
+
+        try {
+            limiter.acquire(message("+15558675310"));
+            fail("Expected RateLimitExceededException");
+        } catch (final RateLimitExceededException e) {
+            assertEquals("AC123|api.twilio.com|+15558675310", e.getKey());
+            assertEquals(Integer.valueOf(429), e.getStatusCode());
+        }
+    }
+
+    @Test
+    public void testWaitForPermit() {
+        RateLimiter limiter = new RateLimiter.Builder().senderRatePerSecond(20).build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(message("+15558675310"));
+        }
+        assertTrue(System.nanoTime() - start >= 150000000L);
+    }
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() {
+        RateLimiter limiter = new RateLimiter.Builder()
+            .ratePerSecond(10)
+            .adapt(2, 0.5, 1)
+            .decreaseInterval(60000L)
+            .build();
+        Request request = new Request(HttpMethod.GET, MESSAGES);
+
+        limiter.record(request, new Response("", 429));
+        assertEquals(5.0, limiter.getRate(request), 0.001);
+
+        limiter.record(request, new Response("", 429));
+        assertEquals(5.0, limiter.getRate(request), 0.001);
+
+        limiter.record(request, new Response("", 200));
+        assertEquals(5.4, limiter.getRate(request), 0.001);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.record(request, new Response("", 200));
+        }
+        assertEquals(10.0, limiter.getRate(request), 0.001);
+    }
+
+    @Test
+    public void testMinimumRate() {
+        RateLimiter limiter = new RateLimiter.Builder()
+            .ratePerSecond(10)
+            .adapt(1, 0.01, 2)
+            .decreaseInterval(0L)
+            .build();
+        Request request = new Request(HttpMethod.GET, MESSAGES);
+
+        limiter.record(request, new Response("", 429));
+        assertEquals(2.0, limiter.getRate(request), 0.001);
+    }
+
+    @Test
+    public void testSendersCountAgainstAccount() {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(1).senderRatePerSecond(10).failFast().build();
+
+        assertTrue(limiter.tryAcquire(message("+15558675310")));
+        assertFalse(limiter.tryAcquire(message("+15558675311")));
+        assertFalse(limiter.tryAcquire(new Request(HttpMethod.GET, MESSAGES)));
+
+        try {
+            limiter.acquire(message("+15558675312"));
+            fail("Expected RateLimitExceededException");
+        } catch (final RateLimitExceededException e) {
+            assertEquals("AC123|api.twilio.com|", e.getKey());
+        }
+    }
+
+    @Test
+    public void testSenderThrottlingSlowsAccount() {
+        RateLimiter limiter = new RateLimiter.Builder()
+            .ratePerSecond(10)
+            .senderRatePerSecond(4)
+            .adapt(1, 0.5, 1)
+            .build();
+
+        limiter.record(message("+15558675310"), new Response("", 429));
+
+        assertEquals(2.0, limiter.getRate(message("+15558675310")), 0.001);
+        assertEquals(5.0, limiter.getRate(new Request(HttpMethod.GET, MESSAGES)), 0.001);
+    }
+
+    @Test
+    public void testRecordIgnoresMissingResponse() {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(10).build();
+        Request request = new Request(HttpMethod.GET, MESSAGES);
+
+        limiter.record(request, null);
+        assertEquals(10.0, limiter.getRate(request), 0.001);
+    }
+
+    @Test
+    public void testIdleBucketsExpire() {
+        RateLimiter limiter = new RateLimiter.Builder()
+            .senderRatePerSecond(4)
+            .adapt(1, 0.5, 1)
+            .expireAfterIdle(0L)
+            .build();
+
+        limiter.record(message("+15558675310"), new Response("", 429));
+        assertEquals(4.0, limiter.getRate(message("+15558675310")), 0.001);
+    }
+
+    @Test
+    public void testRefundsSenderPermitRefusedByAccount() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(5).senderRatePerSecond(0.5).failFast().build();
+
+        assertTrue(limiter.tryAcquire(message("+15558675310")));
+        assertFalse(limiter.tryAcquire(message("+15558675311")));
+
+        // The sender permit taken before the account refused is used once the account has room again
+        Thread.sleep(250);
+        assertTrue(limiter.tryAcquire(message("+15558675311")));
+    }
+
+    @Test
+    public void testAcquireAsync() throws Exception {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(1e9).senderRatePerSecond(10).maxWait(500).build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            limiter.acquire(message("+15558675310"));
+            long start = System.nanoTime();
+            limiter.acquireAsync(message("+15558675310"), scheduler).get();
+            assertTrue(System.nanoTime() - start >= 50000000L);
+
+            limiter = new RateLimiter.Builder().ratePerSecond(1e9).senderRatePerSecond(1).maxWait(50).build();
+            limiter.acquire(message("+15558675310"));
+            try {
+                limiter.acquireAsync(message("+15558675310"), scheduler).get();
+                fail("Expected RateLimitExceededException");
+            } catch (final ExecutionException e) {
+                assertTrue(e.getCause() instanceof RateLimitExceededException);
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
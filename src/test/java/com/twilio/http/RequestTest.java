@@ -174,5 +174,20 @@ public class RequestTest {
         assertFalse(request.equals(null));
     }
 
+    @Test
+    public void testHashCodeMatchesEquals() {
+        Request request = new Request(HttpMethod.GET, Domains.API.toString(), "/uri");
+        request.addQueryParam("To", "+14155551234");
+        request.setAuth("username", "password");
+        Request same = new Request(HttpMethod.GET, Domains.API.toString(), "/uri");
+        same.addQueryParam("To", "+14155551234");
+        same.setAuth("username", "password");
+        assertEquals(request, same);
+        assertEquals(request.hashCode(), same.hashCode());
+
+        same.setAuth("username", "other");
+        assertFalse(request.equals(same));
+    }
+
 }
 
@@ -5,8 +5,10 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class ResponseTest {
 
@@ -25,6 +27,17 @@ public class ResponseTest {
         assertEquals("Test", response.getContent());
     }
 
+    @Test
+    public void testGetHeader() {
+        Response response = new Response(
+            "Test",
+            TwilioRestClient.HTTP_STATUS_CODE_OK,
+            Collections.singletonMap("Retry-After", "10")
+        );
+        assertEquals("10", response.getHeader("retry-after"));
+        assertNull(response.getHeader("ETag"));
+    }
+
     @Test
     public void testGetStream(@Mocked final InputStream stream) {
         Response response = new Response(stream, TwilioRestClient.HTTP_STATUS_CODE_OK);
@@ -0,0 +1,263 @@
+package com.twilio.http;
+
+import com.google.common.collect.ImmutableMap;
+import com.twilio.exception.ApiException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RetryPolicyTest {
+
+    private static final Request GET = new Request(HttpMethod.GET, "https://api.twilio.com/uri");
+    private static final Request POST = new Request(HttpMethod.POST, "https://api.twilio.com/uri");
+
+    private static final Response RESET = new Response("", 0);
+
+    private static class QueuedHttpClient extends HttpClient {
+        private final Queue<Response> responses;
+        private int requests;
+
+        QueuedHttpClient(final Response... responses) {
+            this.responses = new ArrayDeque<>(Arrays.asList(responses));
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            requests++;
+            Response response = responses.remove();
+            if (response == RESET) {
+                throw new ApiException("Connection reset", new IOException("Connection reset"));
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Response body recording whether it was closed.
+     */
+    private static class TrackedStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        TrackedStream(final String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static RetryPolicy.Builder noDelay() {
+        return new RetryPolicy.Builder().backoff(0, 0);
+    }
+
+    @Test
+    public void testRetriesServerErrorsForIdempotentRequests() {
+        RetryPolicy policy = noDelay().build();
+        QueuedHttpClient client = new QueuedHttpClient(
+            new Response("", 500),
+            new Response("", 503),
+            new Response("{}", 200)
+        );
+
+        Response response = client.reliableRequest(GET, policy);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, client.requests);
+        assertEquals(3, policy.getAttemptedCount());
+        assertEquals(2, policy.getRetriedCount());
+    }
+
+    @Test
+    public void testDoesNotRetryServerErrorsForPost() {
+        RetryPolicy policy = noDelay().build();
+        QueuedHttpClient client = new QueuedHttpClient(new Response("", 500), new Response("{}", 201));
+
+        Response response = client.reliableRequest(POST, policy);
+
+        assertEquals(500, response.getStatusCode());
+        assertEquals(1, client.requests);
+        assertEquals(0, policy.getRetriedCount());
+    }
+
+    @Test
+    public void testRetriesTooManyRequestsForPost() {
+        RetryPolicy policy = noDelay().build();
+        QueuedHttpClient client = new QueuedHttpClient(new Response("", 429), new Response("{}", 201));
+
+        Response response = client.reliableRequest(POST, policy);
+
+        assertEquals(201, response.getStatusCode());
+        assertEquals(2, client.requests);
+    }
+
+    @Test
+    public void testStopsAfterMaxRetries() {
+        RetryPolicy policy = noDelay().maxRetries(2).build();
+        QueuedHttpClient client = new QueuedHttpClient(
+            new Response("", 500),
+            new Response("", 500),
+            new Response("", 502),
+            new Response("{}", 200)
+        );
+
+        Response response = client.reliableRequest(GET, policy);
+
+        assertEquals(502, response.getStatusCode());
+        assertEquals(3, client.requests);
+    }
+
+    @Test
+    public void testReleasesResponseBeforeWaiting() {
+        final TrackedStream stream = new TrackedStream("busy");
+        RetryPolicy policy = noDelay().build();
+        HttpClient client = new HttpClient() {
+            private int requests;
+
+            @Override
+            public Response makeRequest(final Request request) {
+                if (requests++ == 0) {
+                    return new Response(stream, 503);
+                }
+                assertTrue(stream.closed);
+                return new Response("{}", 200);
+            }
+        };
+
+        assertEquals(200, client.reliableRequest(GET, policy).getStatusCode());
+    }
+
+    @Test
+    public void testInterruptedWaitReturnsReadableResponse() {
+        TrackedStream stream = new TrackedStream("busy");
+        RetryPolicy policy = new RetryPolicy.Builder().backoff(10000, 10000).build();
+        QueuedHttpClient client = new QueuedHttpClient(new Response(stream, 503), new Response("{}", 200));
+
+        Thread.currentThread().interrupt();
+        Response response = client.reliableRequest(GET, policy);
+
+        assertTrue(Thread.interrupted());
+        assertTrue(stream.closed);
+        assertEquals(503, response.getStatusCode());
+        assertEquals("busy", response.getContent());
+        assertEquals(1, client.requests);
+    }
+
+    @Test
+    public void testBudgetExhausted() {
+        RetryPolicy policy = noDelay().retryBudget(1, 0).build();
+        QueuedHttpClient client = new QueuedHttpClient(
+            new Response("", 500),
+            new Response("", 500),
+            new Response("{}", 200)
+        );
+
+        Response response = client.reliableRequest(GET, policy);
+
+        assertEquals(500, response.getStatusCode());
+        assertEquals(2, client.requests);
+        assertEquals(1, policy.getRetriedCount());
+        assertEquals(1, policy.getBudgetExhaustedCount());
+    }
+
+    @Test
+    public void testHonorsRetryAfter() {
+        RetryPolicy policy = noDelay().build();
+        Response response = new Response("", 429, ImmutableMap.of("retry-after", "2"));
+
+        assertEquals(2000L, policy.nextRetryDelayMillis(POST, response, 0));
+    }
+
+    @Test
+    public void testRetryAfterAboveMaximum() {
+        RetryPolicy policy = noDelay().retryAfter(true, 1000L).build();
+        Response response = new Response("", 503, ImmutableMap.of("Retry-After", "120"));
+
+        assertEquals(RetryPolicy.NO_RETRY, policy.nextRetryDelayMillis(GET, response, 0));
+    }
+
+    @Test
+    public void testRetryAfterDate() {
+        long millis = RetryPolicy.retryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT");
+        assertEquals(0L, millis);
+        assertNull(RetryPolicy.retryAfterMillis("soon"));
+    }
+
+    @Test
+    public void testBackoffWithJitter() {
+        RetryPolicy policy = new RetryPolicy.Builder().backoff(100L, 1000L).maxRetries(10).build();
+        Response response = new Response("", 500);
+
+        for (int retries = 0; retries < 10; retries++) {
+            long delay = policy.nextRetryDelayMillis(GET, response, retries);
+            assertTrue(delay >= 0);
+            assertTrue(delay <= Math.min(1000L, 100L << retries));
+        }
+    }
+
+    @Test
+    public void testRateLimiterSeesEveryAttempt() {
+        RateLimiter limiter = new RateLimiter.Builder().ratePerSecond(100).decreaseInterval(0).build();
+        QueuedHttpClient client = new QueuedHttpClient(
+            new Response("", 429),
+            new Response("", 429),
+            new Response("{}", 200)
+        );
+
+        assertEquals(200, client.reliableRequest(GET, noDelay().build(), limiter).getStatusCode());
+        assertEquals(3, client.requests);
+        assertTrue(limiter.getRate(GET) < 30);
+    }
+
+    @Test
+    public void testRetriesConnectionFailuresForIdempotentRequests() {
+        RetryPolicy policy = noDelay().build();
+        QueuedHttpClient client = new QueuedHttpClient(RESET, new Response("{}", 200));
+
+        Response response = client.reliableRequest(GET, policy);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, client.requests);
+        assertEquals(1, policy.getRetriedCount());
+    }
+
+    @Test
+    public void testThrowsConnectionFailureForPost() {
+        RetryPolicy policy = noDelay().build();
+        QueuedHttpClient client = new QueuedHttpClient(RESET, new Response("{}", 201));
+
+        try {
+            client.reliableRequest(POST, policy);
+            fail("Expected the connection failure");
+        } catch (final ApiException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        assertEquals(1, client.requests);
+    }
+
+    @Test
+    public void testThrowsConnectionFailureAfterMaxRetries() {
+        RetryPolicy policy = noDelay().maxRetries(1).build();
+        QueuedHttpClient client = new QueuedHttpClient(RESET, RESET, new Response("{}", 200));
+
+        try {
+            client.reliableRequest(GET, policy);
+            fail("Expected the connection failure");
+        } catch (final ApiException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+        assertEquals(2, client.requests);
+    }
+}
@@ -0,0 +1,147 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.Domains;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    private static final String CALL_SID = "CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    /**
+     * Http client holding every request until released.
+     */
+    private static class GatedHttpClient extends HttpClient {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger requests = new AtomicInteger();
+        private final int status;
+
+        private GatedHttpClient(final int status) {
+            this.status = status;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            requests.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response("{\"sid\": \"" + CALL_SID + "\",\"status\": \"in-progress\"}", status);
+        }
+    }
+
+    private static TwilioRestClient client(final HttpClient httpClient) {
+        return new TwilioRestClient.Builder("AC123", "AUTH TOKEN")
+            .httpClient(httpClient)
+            .retryPolicy(new RetryPolicy.Builder().maxRetries(0).build())
+            .singleFlight(true)
+            .build();
+    }
+
+    private static void awaitShared(final SingleFlight singleFlight, final long shared) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getShared() < shared && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(shared, singleFlight.getShared());
+    }
+
+    @Test
+    public void testConcurrentFetchesShareOneRequestAndResult() throws Exception {
+        GatedHttpClient httpClient = new GatedHttpClient(200);
+        final TwilioRestClient client = client(httpClient);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Call>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(executor.submit(new Callable<Call>() {
+                    @Override
+                    public Call call() {
+                        return Call.fetcher(CALL_SID).fetch(client);
+                    }
+                }));
+            }
+
+            awaitShared(client.getSingleFlight(), 7);
+            httpClient.release.countDown();
+
+            Call first = calls.get(0).get();
+            for (Future<Call> call : calls) {
+                assertSame(first, call.get());
+            }
+            assertEquals(1, httpClient.requests.get());
+            assertEquals(1, client.getSingleFlight().getExecuted());
+            assertEquals(0, client.getSingleFlight().getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Call.fetcher(CALL_SID).fetch(client);
+        assertEquals(2, httpClient.requests.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareFailure() throws Exception {
+        GatedHttpClient httpClient = new GatedHttpClient(500);
+        final TwilioRestClient client = client(httpClient);
+
+        ListenableFuture<Call> first = Call.fetcher(CALL_SID).fetchAsync(client);
+        ListenableFuture<Call> second = Call.fetcher(CALL_SID).fetchAsync(client);
+        awaitShared(client.getSingleFlight(), 1);
+        httpClient.release.countDown();
+
+        for (ListenableFuture<Call> call : Arrays.asList(first, second)) {
+            try {
+                call.get(5, TimeUnit.SECONDS);
+                fail("Expected ApiException to be shared for 500");
+            } catch (final ExecutionException e) {
+                assertTrue(e.getCause() instanceof ApiException);
+            }
+        }
+        assertEquals(1, httpClient.requests.get());
+    }
+
+    @Test
+    public void testDifferentOrUnsafeRequestsAreNotShared() throws Exception {
+        GatedHttpClient httpClient = new GatedHttpClient(200);
+        httpClient.release.countDown();
+        TwilioRestClient client = client(httpClient);
+
+        Request get = new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json");
+        Request filtered = new Request(HttpMethod.GET, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json");
+        filtered.addQueryParam("Status", "completed");
+        Request post = new Request(HttpMethod.POST, Domains.API.toString(), "/2010-04-01/Accounts/AC123/Calls.json");
+
+        Response a = client.requestAsync(get).get();
+        Response b = client.requestAsync(filtered).get();
+        client.request(post);
+        client.request(post);
+
+        assertNotSame(a, b);
+        assertEquals(4, httpClient.requests.get());
+        assertEquals(2, client.getSingleFlight().getExecuted());
+        assertEquals(0, client.getSingleFlight().getShared());
+    }
+}
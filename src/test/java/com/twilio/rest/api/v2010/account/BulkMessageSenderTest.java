@@ -0,0 +1,208 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.type.PhoneNumber;
+import mockit.Delegate;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BulkMessageSenderTest {
+
+    private static final String INVALID = "+15005550001";
+    private static final String THROTTLED = "+15005550002";
+    private static final String UNAVAILABLE = "+15005550003";
+
+    @Mocked
+    private TwilioRestClient twilioRestClient;
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ListenableFuture<Response> respond(final Request request) {
+        String to = request.getPostParams().get("To").get(0);
+        AtomicInteger count = attempts.get(to);
+        if (count == null) {
+            attempts.put(to, count = new AtomicInteger());
+        }
+        count.incrementAndGet();
+
+        if (INVALID.equals(to)) {
+            return Futures.immediateFuture(new Response(
+                "{\"code\": 21211,\"message\": \"Invalid 'To' Phone Number\",\"more_info\": \"\",\"status\": 400}", 400
+            ));
+        }
+
+        if (UNAVAILABLE.equals(to)) {
+            return Futures.immediateFuture(new Response(
+                "{\"code\": 20500,\"message\": \"Internal Server Error\",\"more_info\": \"\",\"status\": 500}", 500
+            ));
+        }
+
+        if (THROTTLED.equals(to) && count.get() < 3) {
+            return Futures.immediateFuture(new Response(
+                "{\"code\": 20429,\"message\": \"Too Many Requests\",\"more_info\": \"\",\"status\": 429}", 429
+            ));
+        }
+
+        int current = inFlight.incrementAndGet();
+        int max;
+        while (current > (max = maxInFlight.get()) && !maxInFlight.compareAndSet(max, current)) {
+            continue;
+        }
+        try {
+            Thread.sleep(5);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+
+        return Futures.immediateFuture(new Response(
+            "{\"sid\": \"SM" + to.substring(1) + "\",\"to\": \"" + to + "\",\"status\": \"queued\"}", 201
+        ));
+    }
+
+    private void expectRequests() {
+        new NonStrictExpectations() {{
+            twilioRestClient.getAccountSid();
+            result = "AC123";
+            twilioRestClient.getObjectMapper();
+            result = new ObjectMapper();
+            twilioRestClient.requestAsync((Request) any);
+            result = new Delegate<ListenableFuture<Response>>() {
+                ListenableFuture<Response> requestAsync(final Request request) {
+                    return respond(request);
+                }
+            };
+        }};
+    }
+
+    @Test
+    public void testSendsAndReportsOutcomes() {
+        expectRequests();
+
+        List<OutboundMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            messages.add(OutboundMessage.from(new PhoneNumber("+1555000" + (1000 + i)), new PhoneNumber("+15017122661"), "Hi"));
+        }
+        messages.add(OutboundMessage.fromService(new PhoneNumber(INVALID), "MG123", "Hi"));
+        messages.add(OutboundMessage.fromService(new PhoneNumber(THROTTLED), "MG123", "Hi"));
+
+        final List<String> sent = Collections.synchronizedList(new ArrayList<String>());
+        final List<String> failed = Collections.synchronizedList(new ArrayList<String>());
+        BulkMessageSender sender = new BulkMessageSender.Builder(twilioRestClient)
+            .maxInFlight(4)
+            .retry(5, 1, 10)
+            .listener(new BulkMessageSender.Listener() {
+                @Override
+                public void onSent(final OutboundMessage outbound, final Message message) {
+                    sent.add(message.getSid());
+                }
+
+                @Override
+                public void onFailed(final OutboundMessage outbound, final Throwable cause, final int attempts) {
+                    failed.add(outbound.getTo() + "/" + attempts);
+                }
+            })
+            .build();
+
+        BulkMessageSender.Metrics metrics = sender.send(messages.iterator());
+
+        assertEquals(22, metrics.getSubmitted());
+        assertEquals(21, metrics.getSent());
+        assertEquals(1, metrics.getFailed());
+        assertEquals(2, metrics.getRetried());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(21, sent.size());
+        assertTrue(sent.contains("SM15005550002"));
+        assertEquals(Collections.singletonList(INVALID + "/1"), failed);
+        assertEquals(3, attempts.get(THROTTLED).get());
+        assertTrue(maxInFlight.get() <= 4);
+    }
+
+    @Test
+    public void testPacesEachSender() {
+        expectRequests();
+
+        List<OutboundMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            messages.add(OutboundMessage.from(new PhoneNumber("+1555000" + (1000 + i)), new PhoneNumber("+15017122661"), "Hi"));
+        }
+
+        BulkMessageSender.Metrics metrics = new BulkMessageSender.Builder(twilioRestClient)
+            .senderRatePerSecond(20)
+            .build()
+            .send(messages.iterator());
+
+        assertEquals(6, metrics.getSent());
+        assertTrue(metrics.getElapsedMillis() >= 200);
+    }
+
+    @Test
+    public void testDoesNotRetryServerErrors() {
+        expectRequests();
+
+        final List<String> failed = Collections.synchronizedList(new ArrayList<String>());
+        BulkMessageSender.Metrics metrics = new BulkMessageSender.Builder(twilioRestClient)
+            .retry(5, 1, 10)
+            .listener(new BulkMessageSender.Listener() {
+                @Override
+                public void onFailed(final OutboundMessage outbound, final Throwable cause, final int attempts) {
+                    failed.add(outbound.getTo() + "/" + attempts);
+                }
+            })
+            .build()
+            .send(Collections.singletonList(
+                OutboundMessage.fromService(new PhoneNumber(UNAVAILABLE), "MG123", "Hi")
+            ).iterator());
+
+        assertEquals(1, metrics.getFailed());
+        assertEquals(0, metrics.getRetried());
+        assertEquals(Collections.singletonList(UNAVAILABLE + "/1"), failed);
+        assertEquals(1, attempts.get(UNAVAILABLE).get());
+    }
+
+    @Test
+    public void testPacedSenderDoesNotHoldUpOthers() {
+        expectRequests();
+
+        List<OutboundMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            messages.add(OutboundMessage.from(new PhoneNumber("+1555000" + (1000 + i)), new PhoneNumber("+15017122661"), "Hi"));
+        }
+        messages.add(OutboundMessage.from(new PhoneNumber("+15550002000"), new PhoneNumber("+15017122662"), "Hi"));
+
+        final long start = System.nanoTime();
+        final Map<String, Long> sentMillis = new ConcurrentHashMap<>();
+        BulkMessageSender.Metrics metrics = new BulkMessageSender.Builder(twilioRestClient)
+            .senderRatePerSecond(2)
+            .listener(new BulkMessageSender.Listener() {
+                @Override
+                public void onSent(final OutboundMessage outbound, final Message message) {
+                    sentMillis.put(outbound.getTo().toString(), (System.nanoTime() - start) / 1000000L);
+                }
+            })
+            .build()
+            .send(messages.iterator());
+
+        assertEquals(4, metrics.getSent());
+        assertTrue(metrics.getElapsedMillis() >= 1000);
+        assertTrue(sentMillis.get("+15550002000") < 500);
+    }
+}
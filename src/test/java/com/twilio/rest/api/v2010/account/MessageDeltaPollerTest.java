@@ -0,0 +1,126 @@
+package com.twilio.rest.api.v2010.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import mockit.Verifications;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class MessageDeltaPollerTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    @Mocked
+    private TwilioRestClient twilioRestClient;
+
+    private static String message(final String sid, final String dateSent, final String status) {
+        return "{\"account_sid\": \"" + ACCOUNT_SID + "\",\"date_sent\": \"" + dateSent + "\",\"date_updated\": \""
+            + dateSent + "\",\"sid\": \"" + sid + "\",\"status\": \"" + status + "\"}";
+    }
+
+    private static Response page(final String... messages) {
+        StringBuilder json = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < messages.length; i++) {
+            json.append(i == 0 ? "" : ",").append(messages[i]);
+        }
+        json.append("],\"next_page_uri\": null,\"page_size\": 50,\"uri\": \"/2010-04-01/Accounts/")
+            .append(ACCOUNT_SID).append("/Messages.json\"}");
+        return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+    }
+
+    private static List<String> sids(final List<Message> messages) {
+        List<String> sids = new ArrayList<>();
+        for (Message message : messages) {
+            sids.add(message.getSid());
+        }
+        return sids;
+    }
+
+    @Test
+    public void testPollReturnsNewAndChangedMessages() {
+        new NonStrictExpectations() {{
+            twilioRestClient.request((Request) any);
+            returns(
+                page(
+                    message("SM1", "Fri, 04 Sep 2015 22:54:41 +0000", "sent"),
+                    message("SM2", "Fri, 04 Sep 2015 22:54:39 +0000", "sent")
+                ),
+                page(
+                    message("SM3", "Fri, 04 Sep 2015 22:55:00 +0000", "sent"),
+                    message("SM1", "Fri, 04 Sep 2015 22:54:41 +0000", "sent"),
+                    message("SM2", "Fri, 04 Sep 2015 22:54:39 +0000", "delivered")
+                ),
+                page()
+            );
+            twilioRestClient.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        MessageDeltaPoller poller = new MessageDeltaPoller(new DateTime(2015, 9, 4, 22, 50, DateTimeZone.UTC));
+        poller.overlap(60000L);
+
+        assertEquals(Arrays.asList("SM1", "SM2"), sids(poller.poll(ACCOUNT_SID, twilioRestClient)));
+        assertEquals(
+            new DateTime(2015, 9, 4, 22, 54, 41, DateTimeZone.UTC).getMillis(),
+            poller.getWatermark(ACCOUNT_SID).getMillis()
+        );
+
+        assertEquals(Arrays.asList("SM3", "SM2"), sids(poller.poll(ACCOUNT_SID, twilioRestClient)));
+        assertEquals(Collections.<String>emptyList(), sids(poller.poll(ACCOUNT_SID, twilioRestClient)));
+        assertEquals(
+            new DateTime(2015, 9, 4, 22, 55, 0, DateTimeZone.UTC).getMillis(),
+            poller.getWatermark(ACCOUNT_SID).getMillis()
+        );
+
+        new Verifications() {{
+            List<Request> requests = new ArrayList<>();
+            twilioRestClient.request(withCapture(requests));
+
+            assertEquals(3, requests.size());
+            assertEquals(
+                Collections.singletonList("2015-09-04T22:49:00"),
+                requests.get(0).getQueryParams().get("DateSent>")
+            );
+            assertEquals(
+                Collections.singletonList("2015-09-04T22:53:41"),
+                requests.get(1).getQueryParams().get("DateSent>")
+            );
+        }};
+    }
+
+    @Test
+    public void testBoundedSidSet() {
+        new NonStrictExpectations() {{
+            twilioRestClient.request((Request) any);
+            returns(
+                page(
+                    message("SM1", "Fri, 04 Sep 2015 22:54:41 +0000", "sent"),
+                    message("SM2", "Fri, 04 Sep 2015 22:54:39 +0000", "sent")
+                ),
+                page(
+                    message("SM2", "Fri, 04 Sep 2015 22:54:39 +0000", "sent"),
+                    message("SM1", "Fri, 04 Sep 2015 22:54:41 +0000", "sent")
+                )
+            );
+            twilioRestClient.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+
+        MessageDeltaPoller poller = new MessageDeltaPoller(new DateTime(2015, 9, 4, 22, 50, DateTimeZone.UTC), 1);
+
+        assertEquals(2, poller.poll(ACCOUNT_SID, twilioRestClient).size());
+        assertEquals(Arrays.asList("SM1"), sids(poller.poll(ACCOUNT_SID, twilioRestClient)));
+    }
+}
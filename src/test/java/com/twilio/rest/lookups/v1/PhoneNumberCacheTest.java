@@ -0,0 +1,218 @@
+package com.twilio.rest.lookups.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Charsets;
+import com.twilio.exception.ApiException;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import mockit.Verifications;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PhoneNumberCacheTest {
+
+    private static final String NUMBER = "+15108675309";
+    private static final String CARRIER = "{\"country_code\": \"US\",\"phone_number\": \"+15108675309\","
+        + "\"national_format\": \"(510) 867-5309\",\"carrier\": {\"name\": \"T-Mobile USA, Inc.\",\"type\": \"mobile\"},"
+        + "\"url\": \"https://lookups.twilio.com/v1/PhoneNumbers/+15108675309\"}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mocked
+    private TwilioRestClient twilioRestClient;
+
+    private Path path() {
+        return folder.getRoot().toPath().resolve("lookups.cache");
+    }
+
+    private void expectLookups(final Response response) {
+        new NonStrictExpectations() {{
+            twilioRestClient.request((Request) any);
+            result = response;
+            twilioRestClient.getObjectMapper();
+            result = new ObjectMapper();
+        }};
+    }
+
+    private static PhoneNumberFetcher carrier() {
+        return PhoneNumber.fetcher(new com.twilio.type.PhoneNumber(NUMBER)).setType("carrier");
+    }
+
+    @Test
+    public void testCachesLookupsAcrossRestarts() throws IOException {
+        expectLookups(new Response(CARRIER, 200));
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            assertEquals("mobile", cache.fetch(carrier(), twilioRestClient).getCarrier().get("type"));
+            assertEquals("mobile", cache.fetch(carrier(), twilioRestClient).getCarrier().get("type"));
+            assertEquals(1, cache.getHits());
+            assertEquals(1, cache.size());
+        }
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            PhoneNumber number = cache.fetch(carrier(), twilioRestClient);
+            assertEquals("(510) 867-5309", number.getNationalFormat());
+            assertEquals(1, cache.getHits());
+        }
+
+        new Verifications() {{
+            twilioRestClient.request((Request) any);
+            times = 1;
+        }};
+    }
+
+    @Test
+    public void testKeysIncludeTypeAndAddOns() throws IOException {
+        expectLookups(new Response(CARRIER, 200));
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            cache.fetch(carrier(), twilioRestClient);
+            cache.fetch(carrier().setType("caller-name"), twilioRestClient);
+            cache.fetch(carrier().setAddOns("payfone_tcpa_compliance"), twilioRestClient);
+            cache.fetch(PhoneNumber.fetcher(new com.twilio.type.PhoneNumber(NUMBER)), twilioRestClient);
+            assertEquals(4, cache.size());
+            assertEquals(0, cache.getHits());
+        }
+    }
+
+    @Test
+    public void testDoesNotCacheErrors() throws IOException {
+        expectLookups(new Response("{\"code\": 20404,\"message\": \"Not Found\",\"more_info\": \"\",\"status\": 404}", 404));
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            try {
+                cache.fetch(carrier(), twilioRestClient);
+                fail("Expected ApiException for 404");
+            } catch (final ApiException e) {
+                assertEquals(0, cache.size());
+            }
+        }
+    }
+
+    @Test
+    public void testExpiresEntries() throws IOException {
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            byte[] key = "key".getBytes(Charsets.UTF_8);
+            cache.put(key, CARRIER.getBytes(Charsets.UTF_8), System.currentTimeMillis() - 1);
+            assertNull(cache.get(key));
+
+            cache.put(key, CARRIER.getBytes(Charsets.UTF_8), System.currentTimeMillis() + 60000);
+            assertArrayEquals(CARRIER.getBytes(Charsets.UTF_8), cache.get(key));
+        }
+    }
+
+    @Test
+    public void testCompactsWhenFull() throws IOException {
+        byte[] value = new byte[100];
+        long now = System.currentTimeMillis();
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).maxEntries(100).dataCapacity(4096).build()) {
+            for (int i = 0; i < 1000; i++) {
+                byte[] key = ("+1510" + (i % 10)).getBytes(Charsets.UTF_8);
+                value[0] = (byte) i;
+                cache.put(key, value, now + 60000);
+            }
+
+            assertEquals(10, cache.size());
+            for (int i = 990; i < 1000; i++) {
+                value[0] = (byte) i;
+                assertArrayEquals(value, cache.get(("+1510" + (i % 10)).getBytes(Charsets.UTF_8)));
+            }
+
+            for (int i = 0; i < 100; i++) {
+                cache.put(("+1415" + i).getBytes(Charsets.UTF_8), value, now + 60000);
+            }
+            assertTrue(cache.size() <= 100);
+        }
+    }
+
+    @Test
+    public void testEvictsEntriesClosestToExpiryWhenFull() throws IOException {
+        byte[] value = new byte[200];
+        long now = System.currentTimeMillis();
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).maxEntries(6).dataCapacity(8192).build()) {
+            for (int i = 0; i < 6; i++) {
+                cache.put(("+1510" + i).getBytes(Charsets.UTF_8), value, now + 60000 + i);
+            }
+            cache.put("+14155".getBytes(Charsets.UTF_8), value, now + 60000);
+
+            assertEquals(6, cache.size());
+            assertNull(cache.get("+15100".getBytes(Charsets.UTF_8)));
+            for (int i = 1; i < 6; i++) {
+                assertArrayEquals(value, cache.get(("+1510" + i).getBytes(Charsets.UTF_8)));
+            }
+            assertArrayEquals(value, cache.get("+14155".getBytes(Charsets.UTF_8)));
+        }
+
+        Path small = folder.getRoot().toPath().resolve("small.cache");
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(small).maxEntries(100).dataCapacity(1024).build()) {
+            for (int i = 0; i < 4; i++) {
+                cache.put(("+1510" + i).getBytes(Charsets.UTF_8), value, now + 60000 - i);
+            }
+            cache.put("+14155".getBytes(Charsets.UTF_8), value, now + 60000);
+
+            assertEquals(4, cache.size());
+            assertNull(cache.get("+15103".getBytes(Charsets.UTF_8)));
+            assertArrayEquals(value, cache.get("+15100".getBytes(Charsets.UTF_8)));
+            assertArrayEquals(value, cache.get("+14155".getBytes(Charsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void testRejectsFileAlreadyOpen() throws IOException {
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            try {
+                new PhoneNumberCache.Builder(path()).build();
+                fail("Expected ApiException");
+            } catch (final ApiException e) {
+                assertTrue(e.getMessage().contains("already open"));
+            }
+            assertEquals(0, cache.size());
+        }
+
+        new PhoneNumberCache.Builder(path()).build().close();
+    }
+
+    @Test
+    public void testResetsCorruptFile() throws IOException {
+        expectLookups(new Response(CARRIER, 200));
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            cache.fetch(carrier(), twilioRestClient);
+        }
+
+        // Point the end of the data region past its capacity
+        try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE), 16);
+        }
+
+        try (PhoneNumberCache cache = new PhoneNumberCache.Builder(path()).build()) {
+            assertEquals(0, cache.size());
+            assertEquals("mobile", cache.fetch(carrier(), twilioRestClient).getCarrier().get("type"));
+            assertEquals(1, cache.size());
+        }
+
+        new Verifications() {{
+            twilioRestClient.request((Request) any);
+            times = 2;
+        }};
+    }
+}
@@ -0,0 +1,216 @@
+package com.twilio.rest.preview.bulkExports.export;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Message;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DayDownloaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+    private MockWebServer server;
+    private byte[] file;
+    private boolean supportsRanges = true;
+    private boolean truncated;
+
+    @Before
+    public void setUp() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            ndjson.append("{\"sid\": \"SM").append(i).append("\",\"body\": \"Message ").append(i)
+                .append("\",\"status\": \"delivered\"}\n");
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        file = bytes.toByteArray();
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                String range = request.getHeader("Range");
+                ranges.add(range == null ? "" : range);
+
+                if (truncated) {
+                    return new MockResponse().setBody(new Buffer().write(Arrays.copyOf(file, 100)));
+                }
+                if (range == null || !supportsRanges) {
+                    return new MockResponse().setBody(new Buffer().write(file));
+                }
+
+                int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                if (start >= file.length) {
+                    return new MockResponse().setResponseCode(416);
+                }
+                return new MockResponse()
+                    .setResponseCode(206)
+                    .setHeader("Content-Range", "bytes " + start + "-" + (file.length - 1) + "/" + file.length)
+                    .setBody(new Buffer().write(Arrays.copyOfRange(file, start, file.length)));
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private Day day(final String date) {
+        return Day.fromJson("{\"redirect_to\": \"" + server.url("/exports/" + date + ".json.gz") + "\",\"day\": \""
+            + date + "\",\"size\": " + file.length + ",\"resource_type\": \"Messages\"}", mapper);
+    }
+
+    @Test
+    public void testDownloadAll() throws Exception {
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath(), 2)) {
+            List<Path> paths = downloader.downloadAll(
+                Arrays.asList(day("2017-01-01"), day("2017-01-02"), day("2017-01-03"))
+            ).get();
+
+            assertEquals(3, paths.size());
+            assertEquals("Messages-2017-01-02.json.gz", paths.get(1).getFileName().toString());
+            for (Path path : paths) {
+                assertArrayEquals(file, Files.readAllBytes(path));
+            }
+            assertEquals(Arrays.asList("", "", ""), ranges);
+
+            downloader.download(day("2017-01-01")).get();
+            assertEquals(3, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testResumePartialDownload() throws Exception {
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Day day = day("2017-01-01");
+            Path target = downloader.fileFor(day);
+            Path part = target.resolveSibling(target.getFileName() + ".part");
+            Files.write(part, Arrays.copyOf(file, 100));
+
+            Path path = downloader.download(day).get();
+
+            assertArrayEquals(file, Files.readAllBytes(path));
+            assertEquals(Arrays.asList("bytes=100-"), ranges);
+            assertFalse(Files.exists(part));
+        }
+    }
+
+    @Test
+    public void testRestartWhenRangesUnsupported() throws Exception {
+        supportsRanges = false;
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Day day = day("2017-01-01");
+            Path target = downloader.fileFor(day);
+            Files.write(target.resolveSibling(target.getFileName() + ".part"), Arrays.copyOf(file, 100));
+
+            assertArrayEquals(file, Files.readAllBytes(downloader.download(day).get()));
+        }
+    }
+
+    @Test
+    public void testRejectTruncatedDownload() throws Exception {
+        truncated = true;
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Day day = day("2017-01-01");
+            Path target = downloader.fileFor(day);
+
+            try {
+                downloader.download(day).get();
+                fail("Expected the download to fail");
+            } catch (final ExecutionException e) {
+                assertTrue(e.getCause() instanceof ApiException);
+            }
+
+            assertFalse(Files.exists(target));
+            assertFalse(Files.exists(target.resolveSibling(target.getFileName() + ".part")));
+        }
+    }
+
+    @Test
+    public void testRejectRangeNotSatisfiableWithoutSize() throws Exception {
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Day day = Day.fromJson("{\"redirect_to\": \"" + server.url("/exports/2017-01-01.json.gz")
+                + "\",\"day\": \"2017-01-01\",\"resource_type\": \"Messages\"}", mapper);
+            Path target = downloader.fileFor(day);
+            Path part = target.resolveSibling(target.getFileName() + ".part");
+            Files.write(part, Arrays.copyOf(file, file.length + 10));
+
+            try {
+                downloader.download(day).get();
+                fail("Expected the download to fail");
+            } catch (final ExecutionException e) {
+                assertTrue(e.getCause() instanceof ApiException);
+            }
+
+            assertFalse(Files.exists(target));
+            assertFalse(Files.exists(part));
+        }
+    }
+
+    @Test
+    public void testRestartOversizedPartFile() throws Exception {
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Day day = day("2017-01-01");
+            Path target = downloader.fileFor(day);
+            Files.write(target.resolveSibling(target.getFileName() + ".part"), Arrays.copyOf(file, file.length + 10));
+
+            assertArrayEquals(file, Files.readAllBytes(downloader.download(day).get()));
+            assertEquals(Arrays.asList(""), ranges);
+        }
+    }
+
+    @Test
+    public void testStreamMessages() throws Exception {
+        try (DayDownloader downloader = new DayDownloader(folder.getRoot().toPath())) {
+            Path path = downloader.download(day("2017-01-01")).get();
+
+            List<String> sids = new ArrayList<>();
+            try (MappingIterator<Message> messages = DayDownloader.messages(path, mapper)) {
+                while (messages.hasNext()) {
+                    sids.add(messages.next().getSid());
+                }
+            }
+
+            assertEquals(500, sids.size());
+            assertEquals("SM0", sids.get(0));
+            assertEquals("SM499", sids.get(499));
+            assertTrue(Files.size(path) < 500 * 40);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.twilio.rest.pricing.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Supplier;
+import com.twilio.exception.ApiException;
+import org.junit.Test;
+
+import java.util.Currency;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PricingIndexTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private com.twilio.rest.pricing.v1.voice.Country voice(final String isoCountry, final String prices) {
+        return com.twilio.rest.pricing.v1.voice.Country.fromJson(
+            "{\"country\": \"" + isoCountry + "\",\"iso_country\": \"" + isoCountry + "\",\"price_unit\": \"USD\","
+                + "\"inbound_call_prices\": [],\"outbound_prefix_prices\": [" + prices + "]}",
+            mapper
+        );
+    }
+
+    private static String prefixPrice(final String prefixes, final double price) {
+        return "{\"prefixes\": [" + prefixes + "],\"friendly_name\": \"Test\",\"base_price\": " + price
+            + ",\"current_price\": " + price + "}";
+    }
+
+    private com.twilio.rest.pricing.v1.messaging.Country messaging(final String isoCountry, final String carriers) {
+        return com.twilio.rest.pricing.v1.messaging.Country.fromJson(
+            "{\"country\": \"" + isoCountry + "\",\"iso_country\": \"" + isoCountry + "\",\"price_unit\": \"USD\","
+                + "\"inbound_sms_prices\": [],\"outbound_sms_prices\": [" + carriers + "]}",
+            mapper
+        );
+    }
+
+    private static String carrier(final String mnc, final double price) {
+        return "{\"carrier\": \"Carrier " + mnc + "\",\"mcc\": \"234\",\"mnc\": \"" + mnc + "\",\"prices\": "
+            + "[{\"number_type\": \"mobile\",\"base_price\": " + price + ",\"current_price\": " + price + "}]}";
+    }
+
+    private PricingIndex index() {
+        return new PricingIndex.Builder()
+            .voice(voice("US", prefixPrice("\"1\"", 0.013) + "," + prefixPrice("\"1907\", \"1808\"", 0.02)))
+            .voice(voice("CA", prefixPrice("\"1204\", \"1226\"", 0.015)))
+            .voice(voice("GB", prefixPrice("\"44\"", 0.024) + "," + prefixPrice("\"447\"", 0.11)
+                + "," + prefixPrice("\"4475\"", 0.09)))
+            .messaging(messaging("GB", carrier("10", 0.04) + "," + carrier("15", 0.05)))
+            .messaging(messaging("US", carrier("", 0.0075)))
+            .build();
+    }
+
+    @Test
+    public void testMatchesLongestPrefix() {
+        PricingIndex index = index();
+
+        assertEquals(0.013, index.voicePrice("+14155551234"), DELTA);
+        assertEquals(0.02, index.voicePrice("+19075551234"), DELTA);
+        assertEquals(0.015, index.voicePrice("+12045551234"), DELTA);
+        assertEquals(0.024, index.voicePrice("+442071234567"), DELTA);
+        assertEquals(0.11, index.voicePrice("+447911123456"), DELTA);
+        assertEquals(0.09, index.voicePrice("+447511123456"), DELTA);
+        assertEquals(0.09, index.voicePrice("+44 (75) 1112-3456"), DELTA);
+
+        assertEquals("CA", index.isoCountry("+12045551234"));
+        assertEquals("US", index.isoCountry("+14155551234"));
+        assertEquals(Currency.getInstance("USD"), index.priceUnit("+447911123456"));
+    }
+
+    @Test
+    public void testUnknownNumbers() {
+        PricingIndex index = index();
+
+        assertTrue(Double.isNaN(index.voicePrice("+33612345678")));
+        assertTrue(Double.isNaN(index.messagingPrice("+33612345678")));
+        assertTrue(Double.isNaN(index.messagingPrice("+12045551234")));
+        assertTrue(Double.isNaN(index.voicePrice("")));
+        assertNull(index.isoCountry("+4"));
+    }
+
+    @Test
+    public void testMessagingPriceIsHighestOfCountry() {
+        PricingIndex index = index();
+
+        assertEquals(0.05, index.messagingPrice("+447911123456"), DELTA);
+        assertEquals(0.0075, index.messagingPrice("+14155551234"), DELTA);
+    }
+
+    @Test
+    public void testRefresherKeepsIndexOnFailure() {
+        final PricingIndex first = index();
+        final AtomicInteger loads = new AtomicInteger();
+        PricingIndex.Refresher refresher = new PricingIndex.Refresher(new Supplier<PricingIndex>() {
+            @Override
+            public PricingIndex get() {
+                switch (loads.incrementAndGet()) {
+                    case 1:
+                        return first;
+                    case 2:
+                        throw new ApiException("Server Error, no content");
+                    default:
+                        return index();
+                }
+            }
+        }, 60000);
+
+        try {
+            assertSame(first, refresher.get());
+            assertFalse(refresher.refresh());
+            assertSame(first, refresher.get());
+            assertEquals(1, refresher.getFailures());
+
+            assertTrue(refresher.refresh());
+            assertNotSame(first, refresher.get());
+            assertEquals(0.11, refresher.get().voicePrice("+447911123456"), DELTA);
+        } finally {
+            refresher.close();
+        }
+    }
+}
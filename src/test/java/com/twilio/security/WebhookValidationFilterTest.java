@@ -0,0 +1,214 @@
+package com.twilio.security;
+
+import com.google.common.io.CharStreams;
+import mockit.Mocked;
+import mockit.NonStrictExpectations;
+import mockit.Verifications;
+import org.junit.Test;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class WebhookValidationFilterTest {
+
+    private static final String FORM = "Digits=1234&CallSid=CA1234567890ABCDE&To=%2B18005551212"
+        + "&Caller=%2B14158675309&From=%2B14158675309";
+    private static final String BODY = "{\"property\": \"value\", \"boolean\": true}";
+    private static final String BODY_HASH_ENCODED = "Ch/3Y02as7ldtcmi3%2BlBbkFQKyg6gMfPGWMmMvluZiA%3D";
+
+    @Mocked
+    private HttpServletRequest request;
+
+    @Mocked
+    private HttpServletResponse response;
+
+    private final WebhookValidationFilter filter = new WebhookValidationFilter(new WebhookValidator("12345"), null);
+
+    private static ServletInputStream stream(final String body) {
+        final ByteArrayInputStream in = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(final ReadListener listener) {
+            }
+        };
+    }
+
+    private void expectPost(final String query, final String contentType, final String body, final String signature)
+        throws IOException {
+        new NonStrictExpectations() {{
+            request.getMethod();
+            result = "POST";
+            request.getRequestURL();
+            result = new StringBuffer("https://mycompany.com/myapp.php");
+            request.getQueryString();
+            result = query;
+            request.getContentType();
+            result = contentType;
+            request.getHeader(WebhookValidator.SIGNATURE_HEADER);
+            result = signature;
+            request.getInputStream();
+            result = stream(body);
+        }};
+    }
+
+    /**
+     * Chain recording the request passed down.
+     */
+    private static class RecordingChain implements FilterChain {
+        private HttpServletRequest request;
+
+        @Override
+        public void doFilter(final ServletRequest request, final ServletResponse response) {
+            this.request = (HttpServletRequest) request;
+        }
+    }
+
+    @Test
+    public void testPassesSignedFormPostsWithParameters() throws IOException, ServletException {
+        expectPost(
+            "foo=1&bar=2",
+            "application/x-www-form-urlencoded; charset=UTF-8",
+            FORM,
+            "RSOYDt4T1cUTdK1PDd93/VVr8B8="
+        );
+
+        RecordingChain chain = new RecordingChain();
+        filter.doFilter(request, response, chain);
+
+        assertEquals("1234", chain.request.getParameter("Digits"));
+        assertEquals("+18005551212", chain.request.getParameter("To"));
+        assertEquals("1", chain.request.getParameter("foo"));
+        assertEquals(FORM, CharStreams.toString(chain.request.getReader()));
+    }
+
+    @Test
+    public void testPassesSignedJsonPostsWithBody() throws IOException, ServletException {
+        expectPost("foo=1&bar=2&bodySHA256=" + BODY_HASH_ENCODED, "application/json", BODY, "afcFvPLPYT8mg/JyIVkdnqQKa2s=");
+
+        RecordingChain chain = new RecordingChain();
+        filter.doFilter(request, response, chain);
+
+        byte[] body = new byte[BODY.length()];
+        assertEquals(body.length, chain.request.getInputStream().read(body, 0, body.length));
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    @Test
+    public void testRejectsTamperedForms(@Mocked final FilterChain chain) throws IOException, ServletException {
+        expectPost("foo=1&bar=2", "application/x-www-form-urlencoded", FORM + "&Digits=9", "RSOYDt4T1cUTdK1PDd93/VVr8B8=");
+        filter.doFilter(request, response, chain);
+
+        new Verifications() {{
+            chain.doFilter((ServletRequest) any, (ServletResponse) any);
+            times = 0;
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        }};
+    }
+
+    @Test
+    public void testRejectsTamperedBodies(@Mocked final FilterChain chain) throws IOException, ServletException {
+        expectPost("foo=1&bar=2&bodySHA256=" + BODY_HASH_ENCODED, "application/json", BODY + " ", "afcFvPLPYT8mg/JyIVkdnqQKa2s=");
+        filter.doFilter(request, response, chain);
+
+        new Verifications() {{
+            chain.doFilter((ServletRequest) any, (ServletResponse) any);
+            times = 0;
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        }};
+    }
+
+    @Test
+    public void testRejectsDeclaredLargeBodies(@Mocked final FilterChain chain) throws IOException, ServletException {
+        expectPost("foo=1&bar=2", "application/x-www-form-urlencoded", FORM, "RSOYDt4T1cUTdK1PDd93/VVr8B8=");
+        new NonStrictExpectations() {{
+            request.getContentLengthLong();
+            result = (long) FORM.length();
+        }};
+
+        new WebhookValidationFilter(new WebhookValidator("12345"), null, 16).doFilter(request, response, chain);
+
+        new Verifications() {{
+            request.getInputStream();
+            times = 0;
+            chain.doFilter((ServletRequest) any, (ServletResponse) any);
+            times = 0;
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        }};
+    }
+
+    @Test
+    public void testRejectsStreamedLargeBodies(@Mocked final FilterChain chain) throws IOException, ServletException {
+        expectPost("foo=1&bar=2", "application/x-www-form-urlencoded", FORM, "RSOYDt4T1cUTdK1PDd93/VVr8B8=");
+        new NonStrictExpectations() {{
+            request.getContentLengthLong();
+            result = -1L;
+        }};
+
+        new WebhookValidationFilter(new WebhookValidator("12345"), null, 16).doFilter(request, response, chain);
+
+        new Verifications() {{
+            chain.doFilter((ServletRequest) any, (ServletResponse) any);
+            times = 0;
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        }};
+    }
+
+    @Test
+    public void testNotifiesReadListenerRightAway() throws IOException, ServletException {
+        expectPost("foo=1&bar=2&bodySHA256=" + BODY_HASH_ENCODED, "application/json", BODY, "afcFvPLPYT8mg/JyIVkdnqQKa2s=");
+
+        RecordingChain chain = new RecordingChain();
+        filter.doFilter(request, response, chain);
+
+        final List<String> events = new ArrayList<>();
+        chain.request.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                events.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertEquals(Arrays.asList("data", "done"), events);
+    }
+}
@@ -0,0 +1,110 @@
+package com.twilio.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares {@link RequestValidator} with {@link WebhookValidator} on a typical inbound SMS webhook and a JSON body.
+ *
+ * <p>
+ *     Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.twilio.security.WebhookValidatorBenchmark}.
+ * </p>
+ */
+public class WebhookValidatorBenchmark {
+
+    private static final int WARMUP = 50000;
+    private static final int ITERATIONS = 200000;
+
+    private static final String URL = "https://example.com/twilio/sms?tenant=42";
+    private static final String TOKEN = "12345";
+    private static final String BODY = "{\"event\": \"onMessageAdded\", \"body\": \"Hello from the other side\", "
+        + "\"conversation_sid\": \"CHaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\", \"index\": 42}";
+    private static final String BODY_HASH = "IPLlEE1zO4V5N/FKYCqUguMqa9UNcBdQj0n7A8oFsrI=";
+
+    private WebhookValidatorBenchmark() {}
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args unused
+     * @throws IOException never, bodies are read from memory
+     */
+    public static void main(final String[] args) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        params.put("AccountSid", "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+        params.put("ApiVersion", "2010-04-01");
+        params.put("Body", "Hello, is this the right number for the appointment tomorrow?");
+        params.put("From", "+14155550000");
+        params.put("FromCity", "SAN FRANCISCO");
+        params.put("FromCountry", "US");
+        params.put("FromState", "CA");
+        params.put("FromZip", "94103");
+        params.put("MessageSid", "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+        params.put("NumMedia", "0");
+        params.put("NumSegments", "1");
+        params.put("SmsMessageSid", "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+        params.put("SmsSid", "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+        params.put("SmsStatus", "received");
+        params.put("To", "+14155551212");
+
+        RequestValidator legacy = new RequestValidator(TOKEN);
+        WebhookValidator validator = new WebhookValidator(TOKEN);
+        WebhookValidator rotating = new WebhookValidator("67890", TOKEN);
+        String signature = "RSOYDt4T1cUTdK1PDd93/VVr8B8=";
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacy.validate(URL, params, signature);
+            validator.validate(URL, params, signature);
+            rotating.validate(URL, params, signature);
+            legacy.validateBody(BODY, BODY_HASH);
+            validator.validateBody(new ByteArrayInputStream(body), BODY_HASH);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacy.validate(URL, params, signature);
+        }
+        long legacyParams = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validator.validate(URL, params, signature);
+        }
+        long engineParams = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rotating.validate(URL, params, signature);
+        }
+        long rotatingParams = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacy.validateBody(BODY, BODY_HASH);
+        }
+        long legacyBody = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validator.validateBody(new ByteArrayInputStream(body), BODY_HASH);
+        }
+        long engineBody = System.nanoTime() - start;
+
+        System.out.println(String.format(
+            "form: RequestValidator %.2f us, WebhookValidator %.2f us, with two tokens %.2f us",
+            legacyParams / 1e3 / ITERATIONS,
+            engineParams / 1e3 / ITERATIONS,
+            rotatingParams / 1e3 / ITERATIONS
+        ));
+        System.out.println(String.format(
+            "body: RequestValidator %.2f us, WebhookValidator %.2f us",
+            legacyBody / 1e3 / ITERATIONS,
+            engineBody / 1e3 / ITERATIONS
+        ));
+    }
+}
@@ -0,0 +1,122 @@
+package com.twilio.security;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WebhookValidatorTest {
+
+    private static final String URL = "https://mycompany.com/myapp.php?foo=1&bar=2";
+    private static final String SIGNATURE = "RSOYDt4T1cUTdK1PDd93/VVr8B8=";
+    private static final String BODY = "{\"property\": \"value\", \"boolean\": true}";
+    private static final String BODY_HASH = "Ch/3Y02as7ldtcmi3+lBbkFQKyg6gMfPGWMmMvluZiA=";
+    private static final String BODY_HASH_ENCODED = BODY_HASH.replace("+", "%2B").replace("=", "%3D");
+
+    private final Map<String, String> params = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        params.put("Digits", "1234");
+        params.put("CallSid", "CA1234567890ABCDE");
+        params.put("To", "+18005551212");
+        params.put("Caller", "+14158675309");
+        params.put("From", "+14158675309");
+    }
+
+    private static InputStream body() {
+        return new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testValidatesLikeRequestValidator() {
+        WebhookValidator validator = new WebhookValidator("12345");
+
+        assertTrue(validator.validate(URL, params, SIGNATURE));
+        assertTrue(validator.validate(URL, new TreeMap<>(params), SIGNATURE));
+        assertFalse(validator.validate(URL, params, "NOTRSOYDt4T1cUTdK1PDd93/VVr8B8="));
+        assertFalse(validator.validate(URL, params, "SOYDt4T1cUTdK1PDd93/VVr8B8=="));
+        assertFalse(validator.validate(URL, params, null));
+        assertFalse(validator.validate(URL + "&baz=3", params, SIGNATURE));
+    }
+
+    @Test
+    public void testMatchesEveryTokenDuringRotation() {
+        WebhookValidator validator = new WebhookValidator("67890", "12345");
+
+        assertEquals(1, validator.matchToken(URL, params, SIGNATURE));
+        assertEquals(-1, new WebhookValidator("67890").matchToken(URL, params, SIGNATURE));
+
+        String url = "https://example.com/sms?\u00e9=\ud83d\udca9";
+        params.put("Body", "Caf\u00e9 \u4e2d\u6587 \ud83d\udca9");
+        for (final String token : new String[] {"67890", "12345"}) {
+            String signature = signature(token, url, params);
+            assertTrue(new RequestValidator(token).validate(url, params, signature));
+            assertTrue(validator.validate(url, params, signature));
+        }
+    }
+
+    @Test
+    public void testReusesStateAcrossRequests() {
+        WebhookValidator validator = new WebhookValidator("12345");
+
+        validator.begin("https://mycompany.com/abandoned").param("Digits", "1");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(validator.validate(URL, params, SIGNATURE));
+            assertFalse(validator.validate(URL, params, "AAAAAAAAAAAAAAAAAAAAAAAAAAA="));
+        }
+    }
+
+    @Test
+    public void testValidatesBodyFromStream() throws IOException {
+        WebhookValidator validator = new WebhookValidator("12345");
+
+        assertTrue(validator.validateBody(body(), BODY_HASH));
+        assertFalse(validator.validateBody(body(), "WRONG"));
+        assertTrue(validator.validate(URL + "&bodySHA256=" + BODY_HASH_ENCODED, body(), "afcFvPLPYT8mg/JyIVkdnqQKa2s="));
+        assertTrue(validator.validate(
+            "https://mycompany.com/myapp.php?bodySHA256=" + BODY_HASH_ENCODED,
+            body(),
+            "DXnNFCj8DJ/hZmiSg4UzaDHw5Og="
+        ));
+        assertFalse(validator.validate(URL, body(), SIGNATURE));
+    }
+
+    @Test
+    public void testFindsQueryParams() {
+        assertEquals(BODY_HASH, WebhookValidator.queryParam("https://x.com/?a=1&bodySHA256=" + BODY_HASH_ENCODED, "bodySHA256"));
+        assertEquals(null, WebhookValidator.queryParam("https://x.com/?xbodySHA256=1&bodySHA2567=2", "bodySHA256"));
+        assertEquals(null, WebhookValidator.queryParam("https://x.com/bodySHA256=1", "bodySHA256"));
+    }
+
+    /**
+     * Signature computed independently, by concatenating the url and the sorted parameters.
+     */
+    private static String signature(final String token, final String url, final Map<String, String> params) {
+        StringBuilder data = new StringBuilder(url);
+        for (final Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            data.append(param.getKey()).append(param.getValue());
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA1");
+            mac.init(new SecretKeySpec(token.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+            return Base64.encodeBase64String(mac.doFinal(data.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.twilio.twiml;
+
+/**
+ * Compares the DOM based TwiML serializer with {@link TwiMLWriter} on typical voice and messaging responses.
+ *
+ * <p>
+ *     Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.twilio.twiml.TwiMLBenchmark}.
+ * </p>
+ */
+@SuppressWarnings("checkstyle:abbreviationaswordinname")
+public class TwiMLBenchmark {
+
+    private static final int WARMUP = 5000;
+    private static final int ITERATIONS = 20000;
+
+    private TwiMLBenchmark() {}
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args unused
+     * @throws Exception if the DOM path fails to serialize
+     */
+    public static void main(final String[] args) throws Exception {
+        run("voice", TwiMLWriterTest.voiceResponse("Thanks for calling, please hold while we connect you"));
+        run("messaging", TwiMLWriterTest.messagingResponse("Your verification code is 123456"));
+    }
+
+    private static void run(final String name, final TwiML twiml) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            TwiMLWriterTest.domXml(twiml);
+            TwiMLWriter.toXml(twiml);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            TwiMLWriterTest.domXml(twiml);
+        }
+        long dom = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            TwiMLWriter.toXml(twiml);
+        }
+        long streaming = System.nanoTime() - start;
+
+        System.out.println(String.format(
+            "%s: dom %.2f us/document, streaming %.2f us/document",
+            name,
+            dom / 1e3 / ITERATIONS,
+            streaming / 1e3 / ITERATIONS
+        ));
+    }
+}
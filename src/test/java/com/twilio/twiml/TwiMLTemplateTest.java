@@ -0,0 +1,145 @@
+package com.twilio.twiml;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.twilio.twiml.messaging.Message;
+import com.twilio.twiml.voice.Dial;
+import com.twilio.twiml.voice.Gather;
+import com.twilio.twiml.voice.Play;
+import com.twilio.twiml.voice.Redirect;
+import com.twilio.twiml.voice.Say;
+import com.twilio.twiml.voice.Sip;
+import com.twilio.twiml.voice.SsmlProsody;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TwiMLTemplateTest {
+
+    private static final TwiMLTemplate VOICE = TwiMLTemplate.compile(new VoiceResponse.Builder()
+        .say(new Say.Builder(TwiMLTemplate.var("greeting")).voice(Say.Voice.ALICE).build())
+        .gather(new Gather.Builder()
+            .action("https://example.com/gather?call=" + TwiMLTemplate.var("call") + "&step=1")
+            .say(new Say.Builder()
+                .ssmlProsody(new SsmlProsody.Builder(TwiMLTemplate.var("prompt")).rate(TwiMLTemplate.var("rate")).build())
+                .build())
+            .build())
+        .dial(new Dial.Builder(TwiMLTemplate.var("number")).callerId(TwiMLTemplate.var("callerId")).build())
+        .play(new Play.Builder(TwiMLTemplate.var("music")).build())
+        .redirect(new Redirect.Builder(TwiMLTemplate.var("call")).build())
+        .build());
+
+    private static VoiceResponse voice(final String greeting, final String call, final String prompt,
+                                       final String number, final String music) {
+        return new VoiceResponse.Builder()
+            .say(new Say.Builder(greeting).voice(Say.Voice.ALICE).build())
+            .gather(new Gather.Builder()
+                .action("https://example.com/gather?call=" + call + "&step=1")
+                .say(new Say.Builder()
+                    .ssmlProsody(new SsmlProsody.Builder(prompt).rate("90%").build())
+                    .build())
+                .build())
+            .dial(new Dial.Builder(number).callerId("+14155551212").build())
+            .play(new Play.Builder(music).build())
+            .redirect(new Redirect.Builder(call).build())
+            .build();
+    }
+
+    private static Map<String, String> values(final String greeting, final String call, final String prompt,
+                                              final String number, final String music) {
+        return ImmutableMap.<String, String>builder()
+            .put("greeting", greeting)
+            .put("call", call)
+            .put("prompt", prompt)
+            .put("rate", "90%")
+            .put("number", number)
+            .put("callerId", "+14155551212")
+            .put("music", music)
+            .build();
+    }
+
+    @Test
+    public void testRendersSameAsTwiML() {
+        assertEquals(
+            voice("Hello", "CA123", "Press 1", "+14155550000", "https://example.com/hold.mp3").toXml(),
+            VOICE.render(values("Hello", "CA123", "Press 1", "+14155550000", "https://example.com/hold.mp3"))
+        );
+    }
+
+    @Test
+    public void testEscapesValuesForTextAndAttributes() {
+        TwiMLTemplate template = TwiMLTemplate.compile(new VoiceResponse.Builder()
+            .say(new Say.Builder(TwiMLTemplate.var("text")).option("name", TwiMLTemplate.var("attribute")).build())
+            .build());
+        String value = "Tom & \"Jerry\" <3\t\n\r\u0085 \ud83d\udca9";
+
+        assertEquals(
+            new VoiceResponse.Builder().say(new Say.Builder(value).option("name", value).build()).build().toXml(),
+            template.render(ImmutableMap.of("text", value, "attribute", value))
+        );
+    }
+
+    @Test
+    public void testRendersUtf8Bytes() throws IOException {
+        Map<String, String> values = values("Caf\u00e9 \ud83d\udca9", "CA123", "\u0431", "+14155550000", "/hold.mp3");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VOICE.render(values, out);
+
+        assertArrayEquals(VOICE.render(values).getBytes(Charsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testWorksWithMessagingAndUriAttributes() {
+        TwiMLTemplate template = TwiMLTemplate.compile(new MessagingResponse.Builder()
+            .message(new Message.Builder(TwiMLTemplate.var("body"))
+                .to(TwiMLTemplate.var("to"))
+                .statusCallback(TwiMLTemplate.var("callback"))
+                .build())
+            .build());
+
+        assertEquals(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?><Response>"
+                + "<Message statusCallback=\"https://example.com/status?a=1&amp;b=2\" to=\"+14155550000\">"
+                + "Code: &lt;1234&gt;</Message></Response>",
+            template.render(ImmutableMap.of(
+                "body", "Code: <1234>",
+                "to", "+14155550000",
+                "callback", "https://example.com/status?a=1&b=2"
+            ))
+        );
+        assertEquals(ImmutableSet.of("body", "to", "callback"), ImmutableSet.copyOf(template.getNames()));
+    }
+
+    @Test
+    public void testCompilesWithoutPlaceholders() {
+        VoiceResponse response = new VoiceResponse.Builder()
+            .dial(new Dial.Builder().sip(new Sip.Builder("sip:twimlvar@example.com").build()).build())
+            .build();
+
+        TwiMLTemplate template = TwiMLTemplate.compile(response);
+        assertEquals(0, template.getNames().size());
+        assertEquals(response.toXml(), template.render(ImmutableMap.<String, String>of()));
+    }
+
+    @Test
+    public void testRejectsMissingValues() {
+        try {
+            VOICE.render(ImmutableMap.of("greeting", "Hello"));
+            fail("Expected TwiMLException for missing values");
+        } catch (final TwiMLException e) {
+            assertEquals("Missing value for TwiML placeholder: call", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsInvalidNames() {
+        TwiMLTemplate.var("not a name");
+    }
+}
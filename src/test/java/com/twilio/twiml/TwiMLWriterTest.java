@@ -0,0 +1,190 @@
+package com.twilio.twiml;
+
+import com.google.common.base.Charsets;
+import com.twilio.http.HttpMethod;
+import com.twilio.twiml.messaging.Media;
+import com.twilio.twiml.messaging.Message;
+import com.twilio.twiml.voice.Dial;
+import com.twilio.twiml.voice.Gather;
+import com.twilio.twiml.voice.Hangup;
+import com.twilio.twiml.voice.Number;
+import com.twilio.twiml.voice.Pause;
+import com.twilio.twiml.voice.Play;
+import com.twilio.twiml.voice.Say;
+import com.twilio.twiml.voice.SsmlBreak;
+import com.twilio.twiml.voice.SsmlLang;
+import com.twilio.twiml.voice.SsmlProsody;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TwiMLWriterTest {
+
+    /**
+     * The previous serialization path: build a DOM and run it through the JDK transformer.
+     */
+    static String domXml(final TwiML twiml) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        doc.setXmlStandalone(true);
+        doc.appendChild(twiml.buildXmlElement(doc));
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "no");
+        StreamResult output = new StreamResult(new StringWriter());
+        transformer.transform(new DOMSource(doc), output);
+        return output.getWriter().toString().trim();
+    }
+
+    static VoiceResponse voiceResponse(final String message) {
+        return new VoiceResponse.Builder()
+            .say(new Say.Builder(message)
+                .voice(Say.Voice.ALICE)
+                .language(Say.Language.EN_GB)
+                .loop(2)
+                .ssmlBreak(new SsmlBreak.Builder().strength(SsmlBreak.Strength.X_STRONG).time("1s").build())
+                .ssmlProsody(new SsmlProsody.Builder("slowly & <softly>").rate("80%").pitch("low").build())
+                .ssmlLang(new SsmlLang.Builder("bonjour").xmlLang(SsmlLang.XmlLang.FR_FR).build())
+                .build())
+            .gather(new Gather.Builder()
+                .inputs(Arrays.asList(Gather.Input.DTMF, Gather.Input.SPEECH))
+                .action("https://example.com/gather?a=1&b=\"2\"")
+                .method(HttpMethod.POST)
+                .numDigits(4)
+                .hints("yes, no")
+                .play(new Play.Builder("https://example.com/hold.mp3").loop(0).build())
+                .pause(new Pause.Builder().length(2).build())
+                .build())
+            .dial(new Dial.Builder()
+                .callerId("+14155551212")
+                .timeout(30)
+                .number(new Number.Builder("+14155550000").sendDigits("wwww1928").build())
+                .build())
+            .hangup(new Hangup.Builder().option("reason", "done").build())
+            .option("xmlns:custom", "urn:custom")
+            .build();
+    }
+
+    static MessagingResponse messagingResponse(final String body) {
+        return new MessagingResponse.Builder()
+            .message(new Message.Builder()
+                .to("+14155550000")
+                .from("+14155551212")
+                .statusCallback("https://example.com/status")
+                .body(new com.twilio.twiml.messaging.Body.Builder(body).build())
+                .media(new Media.Builder("https://example.com/cat.jpg").build())
+                .build())
+            .build();
+    }
+
+    private static void assertSameAsDom(final TwiML twiml) throws Exception {
+        assertEquals(domXml(twiml), TwiMLWriter.toXml(twiml));
+    }
+
+    @Test
+    public void testMatchesDomSerializer() throws Exception {
+        assertSameAsDom(voiceResponse("Hello \"caller\", you owe $5 & more"));
+        assertSameAsDom(messagingResponse("Your code is <1234>"));
+        assertSameAsDom(new VoiceResponse.Builder().build());
+        assertSameAsDom(new VoiceResponse.Builder().option("b", "2").option("a", "1").build());
+    }
+
+    @Test
+    public void testMatchesDomSerializerForEmptyContent() throws Exception {
+        assertSameAsDom(new VoiceResponse.Builder().say(new Say.Builder("").build()).build());
+        assertSameAsDom(new VoiceResponse.Builder().say(new Say.Builder().addText("").build()).build());
+        assertSameAsDom(new VoiceResponse.Builder().say(new Say.Builder().addText("a").addText("b").build()).build());
+        assertSameAsDom(new VoiceResponse.Builder()
+            .addChild(new GenericNode.Builder("Custom").option("attr", null).addText("text").build())
+            .build());
+    }
+
+    @Test
+    public void testEscapesLikeDomSerializer() throws Exception {
+        StringBuilder chars = new StringBuilder();
+        for (char c = 1; c < Character.MIN_SURROGATE; c++) {
+            chars.append(c);
+        }
+        for (char c = (char) (Character.MAX_SURROGATE + 1); c != 0; c++) {
+            chars.append(c);
+        }
+        chars.append("\ud83d\udca9").append('\udc00');
+
+        assertSameAsDom(new VoiceResponse.Builder()
+            .say(new Say.Builder(chars.toString()).option("text", chars.toString()).build())
+            .build());
+    }
+
+    @Test
+    public void testRejectsUnpairedHighSurrogate() {
+        try {
+            TwiMLWriter.toXml(new VoiceResponse.Builder().say(new Say.Builder("\ud83d").build()).build());
+            fail("Expected TwiMLException for an unpaired surrogate");
+        } catch (final TwiMLException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWritesUtf8Bytes() throws IOException {
+        VoiceResponse response = voiceResponse("Caf\u00e9 \ud83d\udca9");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TwiMLWriter.write(response, out);
+
+        assertArrayEquals(response.toXml().getBytes(Charsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testWritesToStreamsAndChannels() throws IOException {
+        StringBuilder say = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            say.append("Line ").append(i).append(" \u00e9\u4e2d\ud83d\udca9 & <more>. ");
+        }
+        VoiceResponse response = voiceResponse(say.toString());
+        byte[] expected = response.toXml().getBytes(Charsets.UTF_8);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        response.writeTo(stream);
+        assertArrayEquals(expected, stream.toByteArray());
+
+        ByteArrayOutputStream channel = new ByteArrayOutputStream();
+        response.writeTo(Channels.newChannel(channel));
+        assertArrayEquals(expected, channel.toByteArray());
+
+        StringWriter writer = new StringWriter();
+        response.writeTo(writer);
+        assertEquals(response.toXml(), writer.toString());
+    }
+
+    @Test
+    public void testUrlEncodesLikeUrlEncoder() throws IOException {
+        StringBuilder chars = new StringBuilder();
+        for (char c = 1; c < 0x3000; c++) {
+            chars.append(c);
+        }
+        chars.append("\ud83d\udca9");
+
+        VoiceResponse response = voiceResponse(chars.toString());
+        assertEquals(URLEncoder.encode(response.toXml(), "UTF-8"), response.toUrl());
+
+        StringWriter writer = new StringWriter();
+        messagingResponse("Hello world").writeUrlTo(writer);
+        assertEquals(URLEncoder.encode(messagingResponse("Hello world").toXml(), "UTF-8"), writer.toString());
+    }
+}
@@ -0,0 +1,121 @@
+package com.twilio.webhook;
+
+import com.twilio.security.RequestValidator;
+import com.twilio.security.WebhookValidator;
+import org.apache.commons.codec.binary.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares decoding an inbound SMS webhook with {@link URLDecoder} and validating it with {@link RequestValidator}
+ * against {@link WebhookParser}.
+ *
+ * <p>
+ *     Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.twilio.webhook.WebhookParserBenchmark}.
+ * </p>
+ */
+public class WebhookParserBenchmark {
+
+    private static final int WARMUP = 50000;
+    private static final int ITERATIONS = 200000;
+
+    private static final String URL = "https://mycompany.com/myapp.php?foo=1&bar=2";
+    private static final String TOKEN = "12345";
+    private static final String BODY = "ToCountry=US&ToState=CA&SmsMessageSid=SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"
+        + "&NumMedia=0&ToCity=SAN+FRANCISCO&FromZip=94103&SmsSid=SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"
+        + "&FromState=CA&SmsStatus=received&FromCity=SAN+FRANCISCO"
+        + "&Body=Hello%2C+is+this+the+right+number+for+the+appointment+tomorrow%3F&FromCountry=US"
+        + "&To=%2B14155551212&ToZip=94103&NumSegments=1&MessageSid=SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"
+        + "&AccountSid=ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa&From=%2B14155550000&ApiVersion=2010-04-01";
+
+    private WebhookParserBenchmark() {}
+
+    private static Map<String, String> decode(final String body) throws UnsupportedEncodingException {
+        Map<String, String> params = new HashMap<>();
+        for (final String param : body.split("&")) {
+            int equals = param.indexOf('=');
+            params.put(
+                URLDecoder.decode(param.substring(0, equals), "UTF-8"),
+                URLDecoder.decode(param.substring(equals + 1), "UTF-8")
+            );
+        }
+        return params;
+    }
+
+    private static String sign(final Map<String, String> params) throws GeneralSecurityException {
+        StringBuilder data = new StringBuilder(URL);
+        for (final Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            data.append(param.getKey()).append(param.getValue());
+        }
+
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(TOKEN.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        return Base64.encodeBase64String(mac.doFinal(data.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args unused
+     * @throws Exception never, the body is valid and UTF-8 and HMAC-SHA1 are always supported
+     */
+    public static void main(final String[] args) throws Exception {
+        String signature = sign(decode(BODY));
+        RequestValidator legacy = new RequestValidator(TOKEN);
+        WebhookParser parser = new WebhookParser(new WebhookValidator(TOKEN));
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        int valid = 0;
+
+        for (int i = 0; i < WARMUP; i++) {
+            valid += legacy.validate(URL, decode(new String(body, StandardCharsets.UTF_8)), signature) ? 1 : 0;
+            valid += ((InboundMessageEvent) parser.parse(body)).getNumMedia() == 0 ? 1 : 0;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Map<String, String> params = decode(new String(body, StandardCharsets.UTF_8));
+            valid += params.get("Body") != null ? 1 : 0;
+        }
+        long legacyDecode = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            valid += ((InboundMessageEvent) parser.parse(body)).getBody() != null ? 1 : 0;
+        }
+        long parserDecode = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Map<String, String> params = decode(new String(body, StandardCharsets.UTF_8));
+            valid += legacy.validate(URL, params, signature) ? 1 : 0;
+        }
+        long legacyValidate = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            valid += ((InboundMessageEvent) parser.parse(URL, body, signature)).getBody() != null ? 1 : 0;
+        }
+        long parserValidate = System.nanoTime() - start;
+
+        System.out.println(String.format(
+            "decode: URLDecoder %.2f us, WebhookParser %.2f us",
+            legacyDecode / 1e3 / ITERATIONS,
+            parserDecode / 1e3 / ITERATIONS
+        ));
+        System.out.println(String.format(
+            "decode and validate: URLDecoder and RequestValidator %.2f us, WebhookParser %.2f us (%d)",
+            legacyValidate / 1e3 / ITERATIONS,
+            parserValidate / 1e3 / ITERATIONS,
+            valid
+        ));
+    }
+}
@@ -0,0 +1,249 @@
+package com.twilio.webhook;
+
+import com.twilio.exception.InvalidRequestException;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.Recording;
+import com.twilio.security.WebhookValidator;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WebhookParserTest {
+
+    private static final String URL = "https://mycompany.com/myapp.php?foo=1&bar=2";
+    private static final String FORM = "Digits=1234&CallSid=CA1234567890ABCDE&To=%2B18005551212"
+        + "&Caller=%2B14158675309&From=%2B14158675309";
+    private static final String SIGNATURE = "RSOYDt4T1cUTdK1PDd93/VVr8B8=";
+
+    private final WebhookParser parser = new WebhookParser(new WebhookValidator("12345"));
+
+    private static byte[] bytes(final String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testParseInboundMessage() {
+        WebhookEvent event = parser.parse(bytes(
+            "ToCountry=US&SmsMessageSid=SM123&NumMedia=1&SmsSid=SM123&SmsStatus=received&Body=Hello+there%21"
+                + "&FromCity=SAN+FRANCISCO&To=%2B14155551212&NumSegments=1&MessageSid=SM123&AccountSid=AC123"
+                + "&From=%2B14155550000&MediaUrl0=https%3A%2F%2Fapi.twilio.com%2Fmedia%2FME123"
+                + "&MediaContentType0=image%2Fjpeg&ApiVersion=2010-04-01"
+        ));
+
+        assertTrue(event instanceof InboundMessageEvent);
+        InboundMessageEvent message = (InboundMessageEvent) event;
+        assertEquals("SM123", message.getMessageSid());
+        assertEquals("AC123", message.getAccountSid());
+        assertEquals("2010-04-01", message.getApiVersion());
+        assertEquals("+14155550000", message.getFrom());
+        assertEquals("+14155551212", message.getTo());
+        assertEquals("Hello there!", message.getBody());
+        assertEquals(Message.Status.RECEIVED, message.getStatus());
+        assertEquals("SAN FRANCISCO", message.getFromCity());
+        assertEquals("US", message.getToCountry());
+        assertEquals(1, message.getNumMedia());
+        assertEquals(Integer.valueOf(1), message.getNumSegments());
+        assertEquals("https://api.twilio.com/media/ME123", message.getMediaUrl(0));
+        assertEquals("image/jpeg", message.getMediaContentType(0));
+        assertNull(message.getMediaUrl(1));
+        assertEquals(2, message.getOtherParameters().size());
+        assertEquals("image/jpeg", message.getParameter("MediaContentType0"));
+        assertEquals("SM123", message.getParameter("SmsSid"));
+    }
+
+    @Test
+    public void testParseMessageStatus() {
+        WebhookEvent event = parser.parse(bytes(
+            "MessageSid=SM123&MessageStatus=undelivered&ErrorCode=30003&AccountSid=AC123&SmsStatus=undelivered"
+        ));
+
+        assertTrue(event instanceof MessageStatusEvent);
+        MessageStatusEvent status = (MessageStatusEvent) event;
+        assertEquals("SM123", status.getMessageSid());
+        assertEquals(Message.Status.UNDELIVERED, status.getMessageStatus());
+        assertEquals(Integer.valueOf(30003), status.getErrorCode());
+        assertNull(status.getErrorMessage());
+    }
+
+    @Test
+    public void testParseCallStatus() {
+        WebhookEvent event = parser.parse(bytes(
+            "CallSid=CA123&CallStatus=completed&Direction=outbound-api&CallDuration=42&SequenceNumber=2"
+                + "&Timestamp=Wed%2C+18+Oct+2017+10%3A00%3A00+%2B0000&CallbackSource=call-progress-events"
+        ));
+
+        assertTrue(event instanceof CallStatusEvent);
+        CallStatusEvent call = (CallStatusEvent) event;
+        assertEquals("CA123", call.getCallSid());
+        assertEquals(Call.Status.COMPLETED, call.getCallStatus());
+        assertEquals("outbound-api", call.getDirection());
+        assertEquals(Integer.valueOf(42), call.getCallDuration());
+        assertEquals(Integer.valueOf(2), call.getSequenceNumber());
+        assertEquals("call-progress-events", call.getCallbackSource());
+        assertEquals(2017, call.getTimestamp().getYear());
+    }
+
+    @Test
+    public void testParseRecordingStatus() {
+        WebhookEvent event = parser.parse(bytes(
+            "AccountSid=AC123&CallSid=CA123&RecordingSid=RE123&RecordingUrl=https%3A%2F%2Fapi.twilio.com%2FRE123"
+                + "&RecordingStatus=completed&RecordingDuration=7&RecordingChannels=1&RecordingSource=DialVerb"
+        ));
+
+        assertTrue(event instanceof RecordingStatusEvent);
+        RecordingStatusEvent recording = (RecordingStatusEvent) event;
+        assertEquals("RE123", recording.getRecordingSid());
+        assertEquals("https://api.twilio.com/RE123", recording.getRecordingUrl());
+        assertEquals(Recording.Status.COMPLETED, recording.getRecordingStatus());
+        assertEquals(Integer.valueOf(7), recording.getRecordingDuration());
+        assertEquals(Integer.valueOf(1), recording.getRecordingChannels());
+        assertEquals("CA123", recording.getCallSid());
+    }
+
+    @Test
+    public void testParseTaskRouterEvent() {
+        WebhookEvent event = parser.parse(bytes(
+            "EventType=task.created&WorkspaceSid=WS123&ResourceType=task&ResourceSid=WT123&TaskSid=WT123"
+                + "&TaskAttributes=%7B%22language%22%3A%22fr%22%7D&Timestamp=1508320800&TaskAge=3"
+        ));
+
+        assertTrue(event instanceof TaskRouterEvent);
+        TaskRouterEvent task = (TaskRouterEvent) event;
+        assertEquals("task.created", task.getEventType());
+        assertEquals("WS123", task.getWorkspaceSid());
+        assertEquals("WT123", task.getTaskSid());
+        assertEquals("{\"language\":\"fr\"}", task.getTaskAttributes());
+        assertEquals(Integer.valueOf(3), task.getTaskAge());
+        assertEquals(1508320800000L, task.getTimestamp().getMillis());
+    }
+
+    @Test
+    public void testParseUnknownEvent() {
+        WebhookEvent event = parser.parse(bytes("Digits=1234&AccountSid=AC123"));
+
+        assertEquals(WebhookEvent.class, event.getClass());
+        assertEquals("AC123", event.getAccountSid());
+        assertEquals("1234", event.getParameter("Digits"));
+    }
+
+    @Test
+    public void testParseDecodesUtf8() {
+        WebhookEvent event = parser.parse(bytes(
+            "MessageSid=SM123&Body=Caf%C3%A9+%E2%82%AC+%F0%9F%98%80&"
+                + "Caf\u00E9=%E6%97%A5%E6%9C%AC"
+        ));
+
+        assertEquals("Caf\u00E9 \u20AC \uD83D\uDE00", ((InboundMessageEvent) event).getBody());
+        assertEquals("\u65E5\u672C", event.getParameter("Caf\u00E9"));
+    }
+
+    @Test
+    public void testParseReplacesMalformedInput() {
+        WebhookEvent event = parser.parse(bytes("MessageSid=SM123&Body=a%C3b%E2%82&From=100%&To=%zz"));
+
+        assertEquals("a\ufffdb\ufffd", ((InboundMessageEvent) event).getBody());
+        assertEquals("100%", event.getFrom());
+        assertEquals("%zz", event.getTo());
+    }
+
+    @Test
+    public void testParseKeepsFirstValue() {
+        WebhookEvent event = parser.parse(bytes("&From=1&&From=2&Other&Other=3&=4"));
+
+        assertEquals("1", event.getFrom());
+        assertEquals("", event.getParameter("Other"));
+        assertEquals("4", event.getParameter(""));
+    }
+
+    @Test
+    public void testParseRange() {
+        byte[] body = bytes("xxMessageSid=SM123&Body=Hixx");
+
+        WebhookEvent event = parser.parse(body, 2, body.length - 4);
+        assertEquals("Hi", ((InboundMessageEvent) event).getBody());
+    }
+
+    @Test
+    public void testParseValidatesSignature() throws IOException {
+        WebhookEvent event = parser.parse(URL, bytes(FORM), SIGNATURE);
+        assertEquals("CA1234567890ABCDE", event.get(WebhookField.CALL_SID));
+
+        event = parser.parse(URL, new ByteArrayInputStream(bytes(FORM)), SIGNATURE);
+        assertEquals("1234", event.getParameter("Digits"));
+    }
+
+    @Test
+    public void testParseValidatesSignatureWithRotatedTokens() {
+        WebhookParser rotating = new WebhookParser(new WebhookValidator("67890", "12345"));
+
+        WebhookEvent event = rotating.parse(URL, bytes(FORM), SIGNATURE);
+        assertEquals("+14158675309", event.getFrom());
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testParseRejectsTamperedBody() {
+        parser.parse(URL, bytes(FORM.replace("1234", "9999")), SIGNATURE);
+    }
+
+    @Test(expected = InvalidRequestException.class)
+    public void testParseRejectsAddedParameters() {
+        parser.parse(URL, bytes(FORM + "&Digits=9"), SIGNATURE);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testParseWithoutValidator() {
+        new WebhookParser().parse(URL, bytes(FORM), SIGNATURE);
+    }
+
+    @Test
+    public void testParseRejectsLargeBodies() throws IOException {
+        WebhookParser limited = new WebhookParser(null, FORM.length());
+        assertEquals("CA1234567890ABCDE", limited.parse(new ByteArrayInputStream(bytes(FORM))).get(WebhookField.CALL_SID));
+
+        try {
+            limited.parse(new ByteArrayInputStream(bytes(FORM + "&Digits=9")));
+            fail("Expected the body to be rejected");
+        } catch (final InvalidRequestException e) {
+            assertTrue(e.getMessage().contains(String.valueOf(FORM.length())));
+        }
+
+        try {
+            limited.parse(bytes(FORM + "&Digits=9"));
+            fail("Expected the body to be rejected");
+        } catch (final InvalidRequestException e) {
+            assertTrue(e.getMessage().contains(String.valueOf(FORM.length())));
+        }
+    }
+
+    @Test
+    public void testParseAfterLargeBody() throws IOException {
+        StringBuilder large = new StringBuilder(FORM);
+        for (int i = 0; i < 20000; i++) {
+            large.append("&Param").append(i).append("=value");
+        }
+
+        WebhookEvent event = parser.parse(new ByteArrayInputStream(bytes(large.toString())));
+        assertEquals(20002, event.getOtherParameters().size());
+        assertEquals("value", event.getParameter("Param19999"));
+
+        assertEquals("CA1234567890ABCDE", parser.parse(URL, new ByteArrayInputStream(bytes(FORM)), SIGNATURE)
+            .get(WebhookField.CALL_SID));
+    }
+
+    @Test
+    public void testFindField() {
+        for (final WebhookField field : WebhookField.values()) {
+            char[] chars = ("x" + field.getName() + "x").toCharArray();
+            assertEquals(field, WebhookField.find(chars, 1, chars.length - 1));
+        }
+        assertNull(WebhookField.find("MediaUrl0".toCharArray(), 0, 9));
+    }
+}